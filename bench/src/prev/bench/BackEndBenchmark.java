@@ -0,0 +1,116 @@
+package prev.bench;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import prev.data.asm.*;
+import prev.phase.livean.*;
+
+/**
+ * Benchmarks of the back end: liveness analysis, register allocation with
+ * different numbers of registers, and putting it all together.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class BackEndBenchmark {
+
+	/** An input. */
+	@State(Scope.Thread)
+	public static class Input {
+
+		/** The name of the input (see {@link Inputs}). */
+		@Param({ "prg:avl", "prg:bst", "prg:knight", "prg:queens", "prg:quicksort", "prg:permutations",
+				"prg:stdlib", "combined", "synthetic:4", "synthetic:16", "generated:stmts=10000,live=16" })
+		public String input;
+
+	}
+
+	/** An input translated to machine code. */
+	@State(Scope.Thread)
+	public static class Generated extends Input {
+
+		/** The compilation. */
+		public Pipeline pipeline;
+
+		@Setup(Level.Trial)
+		public void generate() {
+			pipeline = new Pipeline(input, 8).through("asmgen");
+		}
+
+	}
+
+	/**
+	 * An input translated to machine code using a number of registers with
+	 * liveness analysis done.
+	 */
+	@State(Scope.Thread)
+	public static class Analysed extends Input {
+
+		/** The number of registers. */
+		@Param({ "4", "8", "16", "32" })
+		public int nregs;
+
+		/** The compilation. */
+		public Pipeline pipeline;
+
+		@Setup(Level.Trial)
+		public void linearize() {
+			pipeline = new Pipeline(input, nregs).through("imclin");
+		}
+
+		@Setup(Level.Invocation)
+		public void analyse() {
+			pipeline.asmgen();
+			pipeline.livean();
+		}
+
+	}
+
+	/** An input with registers allocated. */
+	@State(Scope.Thread)
+	public static class Allocated extends Input {
+
+		/** The compilation. */
+		public Pipeline pipeline;
+
+		/** The file the program is written to. */
+		public File dstFile;
+
+		@Setup(Level.Trial)
+		public void allocate() throws IOException {
+			pipeline = new Pipeline(input, 8).through("regall");
+			dstFile = File.createTempFile("prev-bench-", ".mms");
+			dstFile.deleteOnExit();
+		}
+
+	}
+
+	@Benchmark
+	public Object compLifetimesFun(Generated generated) {
+		generated.pipeline.compilation.run(() -> {
+			try (LiveAn livean = new LiveAn()) {
+				for (Code code : generated.pipeline.compilation.codes)
+					livean.compLifetimesFun(code);
+			}
+		});
+		return generated.pipeline.compilation.codes;
+	}
+
+	@Benchmark
+	public Object allocate(Analysed analysed) {
+		analysed.pipeline.regall();
+		return analysed.pipeline.compilation.tempToReg;
+	}
+
+	@Benchmark
+	public long createFile(Allocated allocated) {
+		allocated.pipeline.all(allocated.dstFile.getPath());
+		return allocated.dstFile.length();
+	}
+
+}
@@ -0,0 +1,153 @@
+package prev.bench;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * A check that erroneous programs are rejected with the expected errors.
+ *
+ * Each program {@code NAME.p22} in directory {@code error_tests} of the
+ * {@code prg} directory (see {@link Inputs#prgDir()}) or given on the command
+ * line is compiled up to phase {@code memory}, once with the fused and once
+ * with the separate semantic analysis, and the error messages printed are
+ * compared with the lines of file {@code NAME.err}. If the first line of the
+ * program is a comment {@code # import: LIB.lib.p22,...}, the listed sources
+ * (relative to the program) are first compiled as modules and imported by the
+ * program. Each compilation runs in a process of its own. The check exits with
+ * status 1 if any program is rejected differently.
+ */
+public class ErrorCheck {
+
+	/** The working directory of the compiler for modules and assembly files. */
+	private static File tmpDir;
+
+	/**
+	 * Runs the compiler in a new process.
+	 *
+	 * @param args Command line arguments of the compiler.
+	 * @return Error messages printed by the compiler (one per line).
+	 */
+	private static Vector<String> compile(Vector<String> args) throws IOException, InterruptedException {
+		Vector<String> cmd = new Vector<String>();
+		cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		cmd.add("--enable-preview");
+		cmd.add("-cp");
+		String classPath = "";
+		for (String path : System.getProperty("java.class.path").split(File.pathSeparator))
+			classPath += (classPath.isEmpty() ? "" : File.pathSeparator) + new File(path).getAbsolutePath();
+		cmd.add(classPath);
+		cmd.add("prev.Compiler");
+		cmd.add("--nregs=8");
+		cmd.addAll(args);
+		Process process = new ProcessBuilder(cmd).directory(tmpDir)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+		Vector<String> errors = new Vector<String>();
+		try (BufferedReader err = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
+			String line;
+			while ((line = err.readLine()) != null)
+				if (line.startsWith(":-("))
+					errors.add(line);
+		}
+		process.waitFor();
+		return errors;
+	}
+
+	/**
+	 * Compiles an erroneous program and compares its errors with the expected
+	 * ones.
+	 *
+	 * @param srcFile The source file.
+	 * @return {@code true} if the errors are as expected, {@code false}
+	 *         otherwise.
+	 */
+	private static boolean check(File srcFile) throws IOException, InterruptedException {
+		String srcFileName = srcFile.getAbsolutePath();
+		File errFile = new File(srcFileName.substring(0, srcFileName.length() - ".p22".length()) + ".err");
+		if (!errFile.exists()) {
+			System.out.println(srcFile.getPath() + ": file '" + errFile.getPath() + "' not found");
+			return false;
+		}
+		List<String> expected = Files.readAllLines(errFile.toPath());
+
+		String imports = "";
+		List<String> lines = Files.readAllLines(srcFile.toPath());
+		if (lines.size() > 0 && lines.get(0).startsWith("# import:")) {
+			for (String libName : lines.get(0).substring("# import:".length()).trim().split(",")) {
+				String modName = libName.replace(".p22", ".pmo");
+				Vector<String> args = new Vector<String>();
+				args.add("--module");
+				args.add("--dst-file-name=" + modName);
+				args.add(new File(srcFile.getAbsoluteFile().getParentFile(), libName).getPath());
+				Vector<String> errors = compile(args);
+				if (errors.size() > 0) {
+					System.out.println(srcFile.getPath() + ": module " + libName);
+					System.out.println("> " + errors.get(0));
+					return false;
+				}
+				imports += (imports.isEmpty() ? "" : ",") + modName;
+			}
+		}
+
+		boolean passed = true;
+		for (String seman : new String[] { "fused", "separate" }) {
+			Vector<String> args = new Vector<String>();
+			args.add("--seman=" + seman);
+			args.add("--target-phase=memory");
+			args.add("--dst-file-name=out.mms");
+			if (!imports.isEmpty())
+				args.add("--import=" + imports);
+			args.add(srcFileName);
+			Vector<String> errors = compile(args);
+			int numLines = Math.max(expected.size(), errors.size());
+			for (int line = 0; line < numLines; line++) {
+				String expectedError = line < expected.size() ? expected.get(line) : "(none)";
+				String error = line < errors.size() ? errors.get(line) : "(none)";
+				if (!expectedError.equals(error)) {
+					System.out.println(srcFile.getPath() + " (--seman=" + seman + "): error " + (line + 1));
+					System.out.println("< " + expectedError);
+					System.out.println("> " + error);
+					passed = false;
+					break;
+				}
+			}
+		}
+		return passed;
+	}
+
+	/**
+	 * Runs the check.
+	 *
+	 * @param args Names of source files.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length == 0) {
+			File tests = new File(Inputs.prgDir(), "error_tests");
+			File[] files = tests
+					.listFiles((dir, name) -> name.endsWith(".p22") && !name.endsWith(".lib.p22"));
+			if (files == null) {
+				System.out.println("Directory '" + tests.getPath() + "' not found (set -Dprev.bench.prg=dir).");
+				System.exit(1);
+			}
+			Arrays.sort(files);
+			args = new String[files.length];
+			for (int f = 0; f < files.length; f++)
+				args[f] = files[f].getPath();
+		}
+
+		tmpDir = Files.createTempDirectory("prev-errcheck").toFile();
+		int numFailed = 0;
+		try {
+			for (String srcFileName : args)
+				if (!check(new File(srcFileName)))
+					numFailed++;
+		} finally {
+			for (File file : tmpDir.listFiles())
+				file.delete();
+			tmpDir.delete();
+		}
+		System.out.printf("%d programs, %d failed%n", args.length, numFailed);
+		System.exit(numFailed > 0 ? 1 : 0);
+	}
+
+}
@@ -0,0 +1,114 @@
+package prev.bench;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import prev.data.ast.tree.*;
+import prev.phase.imcgen.*;
+import prev.phase.imclin.*;
+
+/**
+ * Benchmarks of the front end: parsing, name resolution and type checking,
+ * intermediate code generation and linearization.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class FrontEndBenchmark {
+
+	/** An input. */
+	@State(Scope.Thread)
+	public static class Input {
+
+		/** The name of the input (see {@link Inputs}). */
+		@Param({ "prg:avl", "prg:bst", "prg:knight", "prg:queens", "prg:quicksort", "prg:permutations",
+				"prg:stdlib", "combined", "synthetic:4", "synthetic:16", "generated:stmts=10000,live=16" })
+		public String input;
+
+	}
+
+	/** An input parsed into an abstract syntax tree. */
+	@State(Scope.Thread)
+	public static class Parsed extends Input {
+
+		/** The compilation the abstract syntax tree is taken from. */
+		public Pipeline parsed;
+
+		/** A fresh compilation starting with the abstract syntax tree. */
+		public Pipeline pipeline;
+
+		@Setup(Level.Trial)
+		public void parse() {
+			parsed = new Pipeline(input, 8).through("synan");
+		}
+
+		@Setup(Level.Invocation)
+		public void fork() {
+			pipeline = new Pipeline(parsed);
+		}
+
+	}
+
+	/** An input with memory layout computed. */
+	@State(Scope.Thread)
+	public static class Laidout extends Input {
+
+		/** The compilation. */
+		public Pipeline pipeline;
+
+		@Setup(Level.Trial)
+		public void layout() {
+			pipeline = new Pipeline(input, 8).through("memory");
+		}
+
+	}
+
+	/** An input translated to intermediate code. */
+	@State(Scope.Thread)
+	public static class Translated extends Input {
+
+		/** The compilation. */
+		public Pipeline pipeline;
+
+		@Setup(Level.Trial)
+		public void translate() {
+			pipeline = new Pipeline(input, 8).through("imcgen");
+		}
+
+		@Setup(Level.Invocation)
+		public void clear() {
+			pipeline.compilation.dataChunks.clear();
+			pipeline.compilation.codeChunks.clear();
+		}
+
+	}
+
+	@Benchmark
+	public AstTree synan(Input input) {
+		Pipeline pipeline = new Pipeline(input.input, 8);
+		pipeline.parse();
+		return pipeline.compilation.ast;
+	}
+
+	@Benchmark
+	public Object nameAndTypeResolver(Parsed parsed) {
+		parsed.pipeline.resolve();
+		return parsed.pipeline.compilation.ofType;
+	}
+
+	@Benchmark
+	public Object codeGenerator(Laidout laidout) {
+		laidout.pipeline.compilation.run(() -> laidout.pipeline.compilation.ast.accept(new CodeGenerator(), null));
+		return laidout.pipeline.compilation.exprImc;
+	}
+
+	@Benchmark
+	public Object chunkGenerator(Translated translated) {
+		translated.pipeline.compilation.run(() -> translated.pipeline.compilation.ast.accept(new ChunkGenerator(), null));
+		return translated.pipeline.compilation.codeChunks;
+	}
+
+}
@@ -0,0 +1,192 @@
+package prev.bench;
+
+import java.util.*;
+
+/**
+ * A generator of valid synthetic programs of a given shape.
+ * 
+ * Each generated function initializes its local variables, runs a number of
+ * straight-line assignments within nested loops and returns the sum of all its
+ * local variables, so all of them are live throughout the function. Each
+ * function calls the previous one and contains a chain of nested functions
+ * declared in nested {@code where} blocks.
+ */
+public class Generator {
+
+	/** The number of top-level functions. */
+	public int funs = 1;
+
+	/** The nesting depth of {@code where} blocks within each function. */
+	public int whereDepth = 0;
+
+	/** The depth of expression trees. */
+	public int exprDepth = 3;
+
+	/** The number of straight-line statements in each function. */
+	public int stmts = 100;
+
+	/** The number of local variables live throughout each function. */
+	public int live = 8;
+
+	/** The nesting depth of loops around the straight-line statements. */
+	public int loops = 0;
+
+	/** The seed of the pseudo-random number generator. */
+	public long seed = 0;
+
+	/** The pseudo-random number generator. */
+	private Random random;
+
+	/** The program being generated. */
+	private StringBuilder program;
+
+	/**
+	 * Constructs a new generator of programs of the default shape.
+	 */
+	public Generator() {
+	}
+
+	/**
+	 * Constructs a new generator of programs of the specified shape.
+	 * 
+	 * @param spec The shape as a comma separated list of {@code key=value}
+	 *             pairs, where keys are {@code funs}, {@code where},
+	 *             {@code expr}, {@code stmts}, {@code live}, {@code loops} and
+	 *             {@code seed}.
+	 */
+	public Generator(String spec) {
+		for (String pair : spec.split(",")) {
+			if (pair.isEmpty())
+				continue;
+			String[] keyValue = pair.split("=", 2);
+			if (keyValue.length != 2)
+				throw new IllegalArgumentException("Illegal shape '" + pair + "'.");
+			long value = Long.parseLong(keyValue[1]);
+			switch (keyValue[0]) {
+			case "funs" -> funs = (int) value;
+			case "where" -> whereDepth = (int) value;
+			case "expr" -> exprDepth = (int) value;
+			case "stmts" -> stmts = (int) value;
+			case "live" -> live = (int) value;
+			case "loops" -> loops = (int) value;
+			case "seed" -> seed = value;
+			default -> throw new IllegalArgumentException("Illegal shape '" + pair + "'.");
+			}
+		}
+		if (funs < 1 || whereDepth < 0 || exprDepth < 0 || stmts < 0 || live < 1 || loops < 0)
+			throw new IllegalArgumentException("Illegal shape '" + spec + "'.");
+	}
+
+	/**
+	 * Generates a program.
+	 * 
+	 * @return The program.
+	 */
+	public String generate() {
+		random = new Random(seed);
+		program = new StringBuilder();
+		for (int fun = 0; fun < funs; fun++)
+			function("f" + fun, fun == 0 ? null : "f" + (fun - 1), whereDepth, 0);
+		program.append("fun main() : void = {\n");
+		program.append("\tresult = f").append(funs - 1).append("(1);\n");
+		program.append("\tnone;\n");
+		program.append("} where {\n");
+		program.append("\tvar result : int\n");
+		program.append("}\n");
+		return program.toString();
+	}
+
+	/**
+	 * Generates a function.
+	 * 
+	 * @param name       The name of the function.
+	 * @param callee     The name of the function called by this function or
+	 *                   {@code null}.
+	 * @param whereDepth The nesting depth of {@code where} blocks within this
+	 *                   function.
+	 * @param indent     The indentation.
+	 */
+	private void function(String name, String callee, int whereDepth, int indent) {
+		String nested = whereDepth == 0 ? null : name + "w";
+		String tabs = "\t".repeat(indent);
+		program.append(tabs).append("fun ").append(name).append("(p : int) : int = {\n");
+
+		// Initialization of all variables.
+		for (int var = 0; var < live; var++)
+			program.append(tabs).append("\tv").append(var).append(" = p + ").append(var).append(";\n");
+		if (callee != null)
+			program.append(tabs).append("\tv0 = v0 + ").append(callee).append("(p);\n");
+		if (nested != null)
+			program.append(tabs).append("\tv0 = v0 + ").append(nested).append("(p);\n");
+
+		// Straight-line statements within nested loops.
+		for (int loop = 0; loop < loops; loop++) {
+			String in = tabs + "\t".repeat(loop + 1);
+			program.append(in).append("i").append(loop).append(" = 0;\n");
+			program.append(in).append("while i").append(loop).append(" < 2 do {\n");
+		}
+		String in = tabs + "\t".repeat(loops + 1);
+		for (int stmt = 0; stmt < stmts; stmt++) {
+			program.append(in).append("v").append(random.nextInt(live)).append(" = ");
+			expr(exprDepth);
+			program.append(";\n");
+		}
+		for (int loop = loops - 1; loop >= 0; loop--) {
+			String out = tabs + "\t".repeat(loop + 1);
+			program.append(out).append("\ti").append(loop).append(" = i").append(loop).append(" + 1;\n");
+			program.append(out).append("};\n");
+		}
+
+		// The sum of all variables.
+		program.append(tabs).append("\tv0");
+		for (int var = 1; var < live; var++)
+			program.append(" + v").append(var);
+		program.append(";\n");
+
+		program.append(tabs).append("} where {\n");
+		for (int var = 0; var < live; var++)
+			program.append(tabs).append("\tvar v").append(var).append(" : int\n");
+		for (int loop = 0; loop < loops; loop++)
+			program.append(tabs).append("\tvar i").append(loop).append(" : int\n");
+		if (nested != null)
+			function(nested, null, whereDepth - 1, indent + 1);
+		program.append(tabs).append("}\n");
+	}
+
+	/**
+	 * Generates an expression.
+	 * 
+	 * @param depth The depth of the expression tree.
+	 */
+	private void expr(int depth) {
+		if (depth == 0) {
+			if (random.nextInt(4) == 0)
+				program.append(random.nextInt(100));
+			else
+				program.append("v").append(random.nextInt(live));
+			return;
+		}
+		String oper = random.nextInt(3) == 0 ? " - " : (random.nextInt(2) == 0 ? " + " : " * ");
+		program.append("(");
+		if (random.nextBoolean()) {
+			expr(depth - 1);
+			program.append(oper);
+			expr(0);
+		} else {
+			expr(0);
+			program.append(oper);
+			expr(depth - 1);
+		}
+		program.append(")");
+	}
+
+	/**
+	 * Prints out a generated program.
+	 * 
+	 * @param args The shape of the program (see {@link #Generator(String)}).
+	 */
+	public static void main(String[] args) {
+		System.out.print(new Generator(args.length == 0 ? "" : args[0]).generate());
+	}
+
+}
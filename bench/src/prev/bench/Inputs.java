@@ -0,0 +1,204 @@
+package prev.bench;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * Source programs used as inputs of benchmarks.
+ * 
+ * An input is named either {@code prg:<name>} for a program from the
+ * {@code prg} directory, {@code combined} for the programs {@link #PROGRAMS}
+ * concatenated into a single program, {@code synthetic:<n>} for {@code n}
+ * copies of the combined program concatenated into a single program, or
+ * {@code generated:<shape>} for a program generated by {@link Generator} (e.g.,
+ * {@code generated:funs=4,stmts=1000,live=16}). The
+ * {@code prg} directory is taken from system property {@code prev.bench.prg}
+ * and defaults to the {@code prg} directory of the repository the benchmarks
+ * are compiled in (see {@link #prgDir()}).
+ */
+public class Inputs {
+
+	/** Programs that make up the combined program. */
+	public static final String[] PROGRAMS = { "avl", "bst", "knight", "queens", "quicksort", "permutations",
+			"stdlib" };
+
+	/** Tokens of a program relevant to renaming. */
+	private static final Pattern tokens = Pattern
+			.compile("\"(\\\\\"|[^\"])*\"|'(\\\\'|[^'])'|#[^\\n]*|[A-Za-z_][A-Za-z_0-9]*");
+
+	/** A top-level declaration. */
+	private static final Pattern topLevelDecl = Pattern.compile("^(fun|var|typ)\\s+([A-Za-z_][A-Za-z_0-9]*)",
+			Pattern.MULTILINE);
+
+	/** A declaration of an external function. */
+	private static final Pattern externDecl = Pattern.compile("^fun\\s+[A-Za-z_][A-Za-z_0-9]*\\s*\\([^=\\n]*$",
+			Pattern.MULTILINE);
+
+	/** Cache of files already written for inputs. */
+	private static final HashMap<String, String> files = new HashMap<String, String>();
+
+	/**
+	 * Returns the name of the source file of an input.
+	 * 
+	 * @param input The name of the input.
+	 * @return The name of the source file.
+	 */
+	public static synchronized String srcFileName(String input) {
+		String srcFileName = files.get(input);
+		if (srcFileName != null)
+			return srcFileName;
+		try {
+			if (input.startsWith("prg:")) {
+				srcFileName = prgFileName(input.substring(4));
+			} else if (input.equals("combined")) {
+				srcFileName = write(input, combined(1));
+			} else if (input.startsWith("synthetic:")) {
+				srcFileName = write(input, combined(Integer.parseInt(input.substring(10))));
+			} else if (input.startsWith("generated:")) {
+				srcFileName = write(input, new Generator(input.substring(10)).generate());
+			} else
+				throw new IllegalArgumentException("Unknown input '" + input + "'.");
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		files.put(input, srcFileName);
+		return srcFileName;
+	}
+
+	/**
+	 * Returns the name of the source file of a program from the {@code prg}
+	 * directory.
+	 * 
+	 * @param name The name of the program.
+	 * @return The name of the source file.
+	 */
+	private static String prgFileName(String name) {
+		return prgDir().getPath() + File.separator + name + ".p22";
+	}
+
+	/**
+	 * Returns the {@code prg} directory: the value of system property
+	 * {@code prev.bench.prg} if set, otherwise the directory {@code prg} next to
+	 * the {@code bench} directory the classes of benchmarks are loaded from (or
+	 * {@code ../prg} if their location is not known).
+	 *
+	 * @return The {@code prg} directory.
+	 */
+	public static File prgDir() {
+		String dirName = System.getProperty("prev.bench.prg");
+		if (dirName != null)
+			return new File(dirName);
+		try {
+			// Classes are loaded from bench/bin.
+			File bin = new File(Inputs.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+			File root = bin.getAbsoluteFile().getParentFile().getParentFile();
+			if (root != null)
+				return new File(root, "prg");
+		} catch (URISyntaxException | RuntimeException __) {
+		}
+		return new File("../prg");
+	}
+
+	/**
+	 * Writes a program to a temporary source file.
+	 * 
+	 * @param input  The name of the input.
+	 * @param source The program.
+	 * @return The name of the source file.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private static String write(String input, String source) throws IOException {
+		Path file = Files.createTempFile("prev-bench-" + input.replaceAll("[^A-Za-z0-9]", "-") + "-", ".p22");
+		file.toFile().deleteOnExit();
+		Files.writeString(file, source);
+		return file.toString();
+	}
+
+	/**
+	 * Concatenates several copies of programs {@link #PROGRAMS} into a single
+	 * program. Top-level names of each copy of each program are prefixed to keep
+	 * them apart, while identical declarations of external functions are shared.
+	 * 
+	 * @param copies The number of copies.
+	 * @return The combined program.
+	 * @throws IOException If a program cannot be read.
+	 */
+	public static String combined(int copies) throws IOException {
+		StringBuilder combined = new StringBuilder();
+		StringBuilder main = new StringBuilder();
+		HashMap<String, String> externs = new HashMap<String, String>();
+		for (int copy = 0; copy < copies; copy++) {
+			for (String program : PROGRAMS) {
+				String prefix = program + (copies == 1 ? "" : Integer.toString(copy)) + "_";
+				String source = Files.readString(Paths.get(prgFileName(program))).replace("\r\n", "\n");
+
+				// External functions declared the same way as before are shared.
+				HashSet<String> shared = new HashSet<String>();
+				StringBuilder body = new StringBuilder();
+				for (String line : source.split("\n", -1)) {
+					if (externDecl.matcher(line).matches()) {
+						String name = line.replaceFirst("^fun\\s+([A-Za-z_][A-Za-z_0-9]*).*$", "$1");
+						String decl = line.trim();
+						if (externs.get(name) == null) {
+							externs.put(name, decl);
+							combined.append(decl).append("\n");
+						}
+						if (externs.get(name).equals(decl)) {
+							shared.add(name);
+							continue;
+						}
+					}
+					body.append(line).append("\n");
+				}
+
+				// All other top-level names are prefixed.
+				HashSet<String> names = new HashSet<String>();
+				Matcher declMatcher = topLevelDecl.matcher(body);
+				while (declMatcher.find())
+					if (!shared.contains(declMatcher.group(2)))
+						names.add(declMatcher.group(2));
+				combined.append(rename(body.toString(), names, prefix));
+				main.append("\t").append(prefix).append("main();\n");
+			}
+		}
+		combined.append("fun main() : void = {\n").append(main).append("\tnone;\n}\n");
+		return combined.toString();
+	}
+
+	/**
+	 * Prefixes all occurrences of the specified names outside of comments and
+	 * character and string constants.
+	 * 
+	 * @param source The program.
+	 * @param names  The names to be prefixed.
+	 * @param prefix The prefix.
+	 * @return The program with names prefixed.
+	 */
+	private static String rename(String source, Set<String> names, String prefix) {
+		StringBuilder renamed = new StringBuilder();
+		Matcher matcher = tokens.matcher(source);
+		int pos = 0;
+		while (matcher.find()) {
+			renamed.append(source, pos, matcher.start());
+			String token = matcher.group();
+			renamed.append(names.contains(token) ? prefix + token : token);
+			pos = matcher.end();
+		}
+		renamed.append(source.substring(pos));
+		return renamed.toString();
+	}
+
+	/**
+	 * Prints out an input (for inspection).
+	 * 
+	 * @param args The name of the input.
+	 * @throws IOException If the input cannot be read.
+	 */
+	public static void main(String[] args) throws IOException {
+		System.out.print(Files.readString(Paths.get(srcFileName(args[0]))));
+	}
+
+}
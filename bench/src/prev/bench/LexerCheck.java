@@ -0,0 +1,106 @@
+package prev.bench;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import prev.Compilation;
+import prev.common.report.*;
+import prev.data.sym.Token;
+import prev.phase.lexan.*;
+
+/**
+ * A check that the hand-written lexer ({@link FastLexer}) produces the same
+ * tokens and the same errors as the ANTLR lexer ({@link PrevLexer}).
+ *
+ * Each source file given on the command line (all programs in the {@code prg}
+ * directory and its subdirectories by default, see {@link Inputs#prgDir()}) is
+ * lexed by both lexers, and the type, text and location of every token and the
+ * error message (if any) are compared. The time each lexer needs for all files
+ * is printed out. The check exits with status 1 if any file is lexed
+ * differently.
+ */
+public class LexerCheck {
+
+	/**
+	 * Lexes a source file.
+	 *
+	 * @param srcFileName The name of the source file.
+	 * @param lexer       The lexer ({@code antlr} or {@code fast}).
+	 * @return Tokens (one per line) followed by the error message (if any).
+	 */
+	private static Vector<String> lex(String srcFileName, String lexer) {
+		ByteArrayOutputStream err = new ByteArrayOutputStream();
+		Compilation compilation = new Compilation(new PrintStream(OutputStream.nullOutputStream()),
+				new PrintStream(err));
+		compilation.cmdLine.put("--src-file-name", srcFileName);
+		compilation.cmdLine.put("--lexer", lexer);
+		Vector<String> tokens = new Vector<String>();
+		compilation.run(() -> {
+			try (LexAn lexan = new LexAn()) {
+				while (true) {
+					Token token = lexan.tokens.LT(1);
+					tokens.add(token.getType() + " " + token.getText() + " " + token.location());
+					if (token.getType() == Token.EOF)
+						break;
+					lexan.tokens.consume();
+				}
+			} catch (Report.Error __) {
+			}
+		});
+		if (err.size() > 0)
+			tokens.add(err.toString());
+		return tokens;
+	}
+
+	/**
+	 * Runs the check.
+	 *
+	 * @param args Names of source files.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			File prg = Inputs.prgDir();
+			if (!prg.isDirectory()) {
+				System.out.println("Directory '" + prg.getPath() + "' not found (set -Dprev.bench.prg=dir).");
+				System.exit(1);
+			}
+			try (Stream<Path> paths = Files.walk(prg.toPath())) {
+				args = paths.filter(path -> path.toString().endsWith(".p22")).map(Path::toString).sorted()
+						.toArray(String[]::new);
+			}
+		}
+
+		boolean failed = false;
+		long antlrTime = 0;
+		long fastTime = 0;
+		long numTokens = 0;
+		for (String srcFileName : args) {
+			long begin = System.nanoTime();
+			Vector<String> antlrTokens = lex(srcFileName, "antlr");
+			antlrTime += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			Vector<String> fastTokens = lex(srcFileName, "fast");
+			fastTime += System.nanoTime() - begin;
+			numTokens += antlrTokens.size();
+
+			int numLines = Math.max(antlrTokens.size(), fastTokens.size());
+			for (int line = 0; line < numLines; line++) {
+				String antlrToken = line < antlrTokens.size() ? antlrTokens.get(line) : "(none)";
+				String fastToken = line < fastTokens.size() ? fastTokens.get(line) : "(none)";
+				if (!antlrToken.equals(fastToken)) {
+					System.out.println(srcFileName + ": token " + (line + 1));
+					System.out.println("< " + antlrToken.trim());
+					System.out.println("> " + fastToken.trim());
+					failed = true;
+					break;
+				}
+			}
+		}
+		System.out.printf("%d files, %d tokens: antlr %.3f ms, fast %.3f ms%n", args.length, numTokens,
+				antlrTime / 1e6, fastTime / 1e6);
+		System.exit(failed ? 1 : 0);
+	}
+
+}
@@ -0,0 +1,181 @@
+package prev.bench;
+
+import java.io.*;
+
+import prev.Compilation;
+import prev.phase.lexan.*;
+import prev.phase.synan.*;
+import prev.phase.seman.*;
+import prev.phase.memory.*;
+import prev.phase.imcgen.*;
+import prev.phase.imclin.*;
+import prev.phase.asmgen.*;
+import prev.phase.livean.*;
+import prev.phase.regall.*;
+import prev.phase.all.*;
+import prev.data.asm.*;
+
+/**
+ * A compilation of a single input carried out phase by phase on request, so
+ * that each phase can be measured separately.
+ */
+public class Pipeline {
+
+	/** The compilation. */
+	public final Compilation compilation;
+
+	/** The number of registers. */
+	public final int nregs;
+
+	/**
+	 * Constructs a new compilation of an input.
+	 * 
+	 * @param input The name of the input (see {@link Inputs}).
+	 * @param nregs The number of registers.
+	 */
+	public Pipeline(String input, int nregs) {
+		this.compilation = new Compilation(new PrintStream(OutputStream.nullOutputStream()), System.err);
+		this.nregs = nregs;
+		String srcFileName = Inputs.srcFileName(input);
+		compilation.cmdLine.put("--src-file-name", srcFileName);
+		compilation.cmdLine.put("--dst-file-name", srcFileName.replaceFirst("\\.[^./]*$", "") + ".mms");
+		compilation.cmdLine.put("--target-phase", "all");
+		compilation.cmdLine.put("--nregs", Integer.toString(nregs));
+	}
+
+	/**
+	 * Constructs a new compilation that starts with the abstract syntax tree of
+	 * another compilation and none of its later results.
+	 * 
+	 * @param parsed The compilation the abstract syntax tree is taken from.
+	 */
+	public Pipeline(Pipeline parsed) {
+		this.compilation = new Compilation(parsed.compilation.out, parsed.compilation.err);
+		this.nregs = parsed.nregs;
+		compilation.cmdLine.putAll(parsed.compilation.cmdLine);
+		compilation.numNodes = parsed.compilation.numNodes;
+		compilation.ast = parsed.compilation.ast;
+	}
+
+	/** Syntax analysis and abstract syntax tree construction. */
+	public void parse() {
+		compilation.run(() -> {
+			try (LexAn lexan = new LexAn(); SynAn synan = new SynAn(lexan)) {
+				compilation.ast = synan.parse().ast;
+			}
+		});
+	}
+
+	/** Name resolution and type checking. */
+	public void resolve() {
+		compilation.run(() -> {
+			try (SemAn seman = new SemAn()) {
+				compilation.ast.accept(new NameResolver(), null);
+				compilation.ast.accept(new TypeResolver(), null);
+			}
+		});
+	}
+
+	/** Lvalue resolution and memory layout. */
+	public void layout() {
+		compilation.run(() -> {
+			try (SemAn seman = new SemAn()) {
+				compilation.ast.accept(new AddrResolver(), null);
+			}
+			try (Memory memory = new Memory()) {
+				compilation.ast.accept(new MemEvaluator(), null);
+			}
+		});
+	}
+
+	/** Intermediate code generation. */
+	public void imcgen() {
+		compilation.run(() -> {
+			try (ImcGen imcgen = new ImcGen()) {
+				compilation.ast.accept(new CodeGenerator(), null);
+			}
+		});
+	}
+
+	/** Linearization of intermediate code. */
+	public void imclin() {
+		compilation.run(() -> {
+			compilation.dataChunks.clear();
+			compilation.codeChunks.clear();
+			try (ImcLin imclin = new ImcLin()) {
+				compilation.ast.accept(new ChunkGenerator(), null);
+			}
+		});
+	}
+
+	/** Machine code generation. */
+	public void asmgen() {
+		compilation.run(() -> {
+			compilation.codes.clear();
+			compilation.tempToReg.clear();
+			try (AsmGen asmgen = new AsmGen()) {
+				asmgen.genAsmCodes();
+			}
+		});
+	}
+
+	/** Liveness analysis of each function separately. */
+	public void livean() {
+		compilation.run(() -> {
+			try (LiveAn livean = new LiveAn()) {
+				for (Code code : compilation.codes)
+					livean.compLifetimesFun(code);
+			}
+		});
+	}
+
+	/** Register allocation. */
+	public void regall() {
+		compilation.run(() -> {
+			try (RegAll regall = new RegAll(nregs)) {
+				regall.allocate();
+			}
+		});
+	}
+
+	/**
+	 * Putting it all together.
+	 * 
+	 * @param dstFileName The name of the file the program is written to.
+	 */
+	public void all(String dstFileName) {
+		compilation.run(() -> {
+			All all = new All();
+			all.finishFuns();
+			all.createFile(dstFileName);
+		});
+	}
+
+	/**
+	 * Carries out all phases up to and including the specified one.
+	 * 
+	 * @param phaseName The name of the last phase carried out.
+	 * @return This compilation.
+	 */
+	public Pipeline through(String phaseName) {
+		String phases = "synan|seman|memory|imcgen|imclin|asmgen|livean|regall";
+		if (!phaseName.matches(phases))
+			throw new IllegalArgumentException("Unknown phase '" + phaseName + "'.");
+		for (String phase : phases.split("\\|")) {
+			switch (phase) {
+			case "synan" -> parse();
+			case "seman" -> resolve();
+			case "memory" -> layout();
+			case "imcgen" -> imcgen();
+			case "imclin" -> imclin();
+			case "asmgen" -> asmgen();
+			case "livean" -> livean();
+			case "regall" -> regall();
+			}
+			if (phase.equals(phaseName))
+				break;
+		}
+		return this;
+	}
+
+}
@@ -0,0 +1,160 @@
+package prev.bench;
+
+import java.util.*;
+
+import prev.common.stats.*;
+import prev.data.asm.*;
+import prev.phase.livean.*;
+import prev.phase.regall.*;
+
+/**
+ * A guard against superlinear growth of time and memory of liveness analysis,
+ * interference graph construction and register allocation.
+ * 
+ * The guard compiles generated programs (see {@link Generator}) with the number
+ * of straight-line statements doubled at each step, measures each of the three
+ * parts of the back end and estimates the exponent of growth of time and
+ * allocated memory with the size of the program. It exits with status 1 if
+ * any exponent exceeds the limit.
+ * 
+ * Options: {@code --shape=<shape>} is the shape of the smallest program,
+ * {@code --steps=<n>} the number of sizes, {@code --reps=<n>} the number of
+ * repetitions of each measurement (the median is used), {@code --nregs=<n>}
+ * the number of registers and {@code --max-exponent=<x>} the limit.
+ */
+public class ScalingGuard {
+
+	/** Parts of the back end being measured. */
+	private static final String[] parts = { "livean", "graph", "regall" };
+
+	/**
+	 * Measures a single part of the back end of a compilation.
+	 * 
+	 * @param pipeline The compilation with machine code generated.
+	 * @param part     The part of the back end.
+	 * @return The wall time in nanoseconds and the number of allocated bytes.
+	 */
+	private static long[] measure(Pipeline pipeline, String part) {
+		long[][] result = new long[1][];
+		pipeline.compilation.run(() -> {
+			switch (part) {
+			case "livean" -> {
+				long[] begin = Stats.begin();
+				pipeline.livean();
+				result[0] = since(begin);
+			}
+			case "graph" -> {
+				pipeline.livean();
+				long[] begin = Stats.begin();
+				for (Code code : pipeline.compilation.codes)
+					new Graph(code);
+				result[0] = since(begin);
+			}
+			case "regall" -> {
+				pipeline.livean();
+				long[] begin = Stats.begin();
+				pipeline.regall();
+				result[0] = since(begin);
+			}
+			}
+		});
+		return result[0];
+	}
+
+	/**
+	 * Returns the wall time and the number of bytes allocated by the current
+	 * thread since a mark.
+	 * 
+	 * @param begin The mark (see {@link Stats#begin()}).
+	 * @return The wall time in nanoseconds and the number of allocated bytes.
+	 */
+	private static long[] since(long[] begin) {
+		long[] end = Stats.begin();
+		return new long[] { end[0] - begin[0], end[1] - begin[1] };
+	}
+
+	/**
+	 * Returns the median of values.
+	 * 
+	 * @param values The values.
+	 * @return The median.
+	 */
+	private static long median(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	/**
+	 * Runs the guard.
+	 * 
+	 * @param args Command line arguments.
+	 */
+	public static void main(String[] args) {
+		String shape = "stmts=250,live=16,expr=3";
+		int steps = 4;
+		int reps = 5;
+		int nregs = 8;
+		double maxExponent = 1.4;
+		for (String arg : args) {
+			String value = arg.replaceFirst("^[^=]*=", "");
+			if (arg.startsWith("--shape="))
+				shape = value;
+			else if (arg.startsWith("--steps="))
+				steps = Integer.parseInt(value);
+			else if (arg.startsWith("--reps="))
+				reps = Integer.parseInt(value);
+			else if (arg.startsWith("--nregs="))
+				nregs = Integer.parseInt(value);
+			else if (arg.startsWith("--max-exponent="))
+				maxExponent = Double.parseDouble(value);
+			else
+				throw new IllegalArgumentException("Unknown option '" + arg + "'.");
+		}
+		Generator base = new Generator(shape);
+
+		// Warm up the JIT compiler on the smallest size.
+		for (String part : parts)
+			measure(new Pipeline("generated:" + shape, nregs).through("asmgen"), part);
+
+		// Measure each part of the back end at each size.
+		long[] sizes = new long[steps];
+		long[][] times = new long[parts.length][steps];
+		long[][] bytes = new long[parts.length][steps];
+		for (int step = 0; step < steps; step++) {
+			int stmts = base.stmts << step;
+			String input = "generated:" + shape + ",stmts=" + stmts;
+			for (int part = 0; part < parts.length; part++) {
+				long[] partTimes = new long[reps];
+				long[] partBytes = new long[reps];
+				for (int rep = 0; rep < reps; rep++) {
+					Pipeline pipeline = new Pipeline(input, nregs).through("asmgen");
+					long[] result = measure(pipeline, parts[part]);
+					partTimes[rep] = result[0];
+					partBytes[rep] = result[1];
+					sizes[step] = 0;
+					for (Code code : pipeline.compilation.codes)
+						sizes[step] += code.instrs.size();
+				}
+				times[part][step] = median(partTimes);
+				bytes[part][step] = median(partBytes);
+				System.out.printf("%-8s %8d stmts %8d instrs %10.3f ms %14d B%n", parts[part], stmts, sizes[step],
+						times[part][step] / 1e6, bytes[part][step]);
+			}
+		}
+
+		// Estimate exponents of growth between the smallest and the largest size.
+		boolean failed = false;
+		double sizeRatio = Math.log((double) sizes[steps - 1] / sizes[0]);
+		for (int part = 0; part < parts.length; part++) {
+			double timeExponent = Math.log((double) times[part][steps - 1] / times[part][0]) / sizeRatio;
+			double bytesExponent = Math.log((double) bytes[part][steps - 1] / bytes[part][0]) / sizeRatio;
+			boolean partFailed = timeExponent > maxExponent || bytesExponent > maxExponent;
+			System.out.printf("%-8s time ~ n^%.2f, memory ~ n^%.2f%s%n", parts[part], timeExponent, bytesExponent,
+					partFailed ? " (superlinear)" : "");
+			failed = failed || partFailed;
+		}
+		System.exit(failed ? 1 : 0);
+	}
+
+}
@@ -0,0 +1,214 @@
+package prev;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import prev.common.report.*;
+import prev.common.stats.*;
+import prev.data.ast.attribute.*;
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.*;
+import prev.data.ast.tree.expr.*;
+import prev.data.ast.tree.stmt.*;
+import prev.data.ast.tree.type.*;
+import prev.data.asm.*;
+import prev.data.imc.code.expr.*;
+import prev.data.imc.code.stmt.*;
+import prev.data.lin.*;
+import prev.data.mem.*;
+import prev.data.sym.*;
+import prev.data.typ.*;
+import prev.phase.all.*;
+
+/**
+ * A single compilation of a single source file.
+ *
+ * A compilation holds the command line arguments it has been started with and
+ * the results of all phases of the compiler computed so far. The compilation
+ * carried out by a thread is available through {@link #current()}, so several
+ * independent compilations can be carried out at the same time within a single
+ * process.
+ */
+public class Compilation {
+
+	/** The compilation carried out by the current thread. */
+	private static final ThreadLocal<Compilation> current = new ThreadLocal<Compilation>();
+
+	/**
+	 * Returns the compilation carried out by the current thread.
+	 *
+	 * @return The compilation carried out by the current thread.
+	 */
+	public static Compilation current() {
+		Compilation compilation = current.get();
+		if (compilation == null)
+			throw new Report.InternalError();
+		return compilation;
+	}
+
+	/**
+	 * Returns the compilation carried out by the current thread if there is one.
+	 *
+	 * @return The compilation carried out by the current thread or {@code null}.
+	 */
+	public static Compilation currentOrNull() {
+		return current.get();
+	}
+
+	/**
+	 * Carries out a task as a part of this compilation, i.e., with this
+	 * compilation being the current compilation of the current thread.
+	 *
+	 * @param task The task.
+	 */
+	public void run(Runnable task) {
+		Compilation outer = current.get();
+		current.set(this);
+		try {
+			task.run();
+		} finally {
+			if (outer == null)
+				current.remove();
+			else
+				current.set(outer);
+		}
+	}
+
+	// COMMAND LINE ARGUMENTS
+
+	/** Values of command line arguments. */
+	public final HashMap<String, String> cmdLine = new HashMap<String, String>();
+
+	// REPORTING
+
+	/** The stream information messages are printed to. */
+	public final PrintStream out;
+
+	/** The stream warnings and errors are printed to. */
+	public final PrintStream err;
+
+	/** Whether messages are printed out (cleared during tentative analyses). */
+	public boolean reporting = true;
+
+	// STATISTICS
+
+	/** Statistics of this compilation or {@code null} if not being collected. */
+	public Stats stats = null;
+
+	// COUNTERS
+
+	/** The number of abstract syntax tree nodes constructed so far. */
+	public int numNodes = 0;
+
+	/** The number of temporary variables created so far. */
+	public final AtomicLong numTemps = new AtomicLong();
+
+	/** The number of anonymous labels created so far. */
+	public final AtomicLong numLabels = new AtomicLong();
+
+	// LEXICAL ANALYSIS
+
+	/** Symbols of all identifiers of the program. */
+	public final Symbols symbols = new Symbols();
+
+	// SYNTAX ANALYSIS AND ABSTRACT SYNTAX TREE CONSTRUCTION
+
+	/** The abstract syntax tree. */
+	public AstTree ast = null;
+
+	/** Locations that do not fit into positions (see {@link Location#pack}). */
+	public final Vector<Location> locations = new Vector<Location>();
+
+	// SEMANTIC ANALYSIS
+
+	/** Maps names to declarations. */
+	public final AstAttribute<AstName, AstDecl> declaredAt = new AstAttribute<AstName, AstDecl>(0);
+
+	/** Maps type declarations to semantic representations of types. */
+	public final AstAttribute<AstTypeDecl, SemName> declaresType = new AstAttribute<AstTypeDecl, SemName>(0);
+
+	/** Maps syntax types to semantic representations of types. */
+	public final AstAttribute<AstType, SemType> isType = new AstAttribute<AstType, SemType>(0);
+
+	/** Maps syntax expressions to semantic representations of types. */
+	public final AstAttribute<AstExec, SemType> ofType = new AstAttribute<AstExec, SemType>(0);
+
+	/** Indicates which syntax expressions denote lvalues. */
+	public final AstBoolAttribute<AstExpr> isAddr = new AstBoolAttribute<AstExpr>(0);
+
+	// MEMORY LAYOUT
+
+	/** Whether values of types char and bool take a single byte (option --packed). */
+	public boolean packed = false;
+
+	/** Maps function declarations to frames. */
+	public final AstAttribute<AstFunDecl, MemFrame> frames = new AstAttribute<AstFunDecl, MemFrame>(0);
+
+	/** Maps variable declarations to accesses. */
+	public final AstAttribute<AstMemDecl, MemAccess> accesses = new AstAttribute<AstMemDecl, MemAccess>(0);
+
+	/** Maps string constants to accesses. */
+	public final AstAttribute<AstAtomExpr, MemAbsAccess> strings = new AstAttribute<AstAtomExpr, MemAbsAccess>(0);
+
+	// DEAD CODE ELIMINATION
+
+	/** The call graph of the program or {@code null} if not built yet. */
+	public CallGraph callGraph = null;
+
+	// INCREMENTAL COMPILATION
+
+	/** The function cache or {@code null} if the cache is not used. */
+	public FunCache funCache = null;
+
+	// SEPARATE COMPILATION
+
+	/** Modules the program is linked with. */
+	public final Vector<CompiledModule> modules = new Vector<CompiledModule>();
+
+	// INTERMEDIATE CODE GENERATION
+
+	/** Maps statements to intermediate code. */
+	public final AstAttribute<AstStmt, ImcStmt> stmtImc = new AstAttribute<AstStmt, ImcStmt>(0);
+
+	/** Maps expressions to intermediate code. */
+	public final AstAttribute<AstExpr, ImcExpr> exprImc = new AstAttribute<AstExpr, ImcExpr>(0);
+
+	// LINEARIZATION OF INTERMEDIATE CODE
+
+	/** All data chunks of the program. */
+	public final Vector<LinDataChunk> dataChunks = new Vector<LinDataChunk>();
+
+	/** All code chunks of the program. */
+	public final Vector<LinCodeChunk> codeChunks = new Vector<LinCodeChunk>();
+
+	// MACHINE CODE GENERATION
+
+	/** Machine code of all functions of the program. */
+	public final Vector<Code> codes = new Vector<Code>();
+
+	// REGISTER ALLOCATION
+
+	/** Mapping of temporary variables to registers. */
+	public final HashMap<MemTemp, Integer> tempToReg = new HashMap<MemTemp, Integer>();
+
+	/**
+	 * Constructs a new compilation reporting to the standard output and error
+	 * streams.
+	 */
+	public Compilation() {
+		this(System.out, System.err);
+	}
+
+	/**
+	 * Constructs a new compilation.
+	 *
+	 * @param out The stream information messages are printed to.
+	 * @param err The stream warnings and errors are printed to.
+	 */
+	public Compilation(PrintStream out, PrintStream err) {
+		this.out = out;
+		this.err = err;
+	}
+
+}
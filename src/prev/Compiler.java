@@ -1,10 +1,17 @@
 package prev;
 
+import java.io.*;
+import java.net.*;
 import java.util.*;
-
-import org.antlr.v4.runtime.*;
+import java.util.concurrent.*;
 
 import prev.common.report.*;
+import prev.common.dump.*;
+import prev.common.stats.*;
+import prev.data.asm.*;
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.*;
+import prev.data.lin.*;
 import prev.phase.lexan.*;
 import prev.phase.synan.*;
 import prev.phase.abstr.*;
@@ -27,18 +34,88 @@ public class Compiler {
 	/** All valid phases of the compiler. */
 	private static final String phases = "none|lexan|synan|abstr|seman|memory|imcgen|imclin|asmgen|livean|regall|all";
 
-	/** Values of command line arguments. */
-	private static HashMap<String, String> cmdLine = new HashMap<String, String>();
-
 	/**
-	 * Returns the value of a command line argument.
+	 * Returns the value of a command line argument of the current compilation.
 	 *
 	 * @param cmdLineArgName The name of the command line argument.
 	 * @return The value of the specified command line argument or {@code null} if
 	 *         the specified command line argument has not been used.
 	 */
 	public static String cmdLineArgValue(String cmdLineArgName) {
-		return cmdLine.get(cmdLineArgName);
+		return Compilation.current().cmdLine.get(cmdLineArgName);
+	}
+
+	// STACK
+
+	/**
+	 * The stack size of threads carrying out compilations (in bytes). As all
+	 * phases of the compiler recurse once per nesting level of the program, the
+	 * stack size limits the depth of programs that can be compiled; it is set by
+	 * {@code --stack=<size>[k|m|g]}. The stack is only reserved, so it takes
+	 * memory only as deep as it is actually used.
+	 */
+	private static long stackSize = parseSize("1g");
+
+	/**
+	 * Returns the number of bytes denoted by a size with an optional unit.
+	 *
+	 * @param size The size, e.g., {@code 512m}.
+	 * @return The number of bytes.
+	 */
+	private static long parseSize(String size) {
+		long shift = switch (size.charAt(size.length() - 1)) {
+			case 'k' -> 10;
+			case 'm' -> 20;
+			case 'g' -> 30;
+			default -> 0;
+		};
+		return Long.parseLong(size.replaceFirst("[kmg]$", "")) << shift;
+	}
+
+	/**
+	 * Returns the stack size requested by {@code --stack=<size>[k|m|g]}.
+	 *
+	 * @param args Command line arguments (see {@link prev.Compiler}).
+	 * @return The requested stack size or {@link #stackSize} if none is
+	 *         requested.
+	 */
+	private static long requestedStackSize(String[] args) {
+		for (int argc = 0; argc < args.length; argc++) {
+			if (args[argc].matches("--stack=[0-9]+[kmg]?"))
+				return parseSize(args[argc].replaceFirst("^[^=]*=", ""));
+		}
+		return stackSize;
+	}
+
+	/**
+	 * Carries out a task on a new thread with a stack of the specified size and
+	 * waits for it to finish. Errors and runtime exceptions thrown by the task are
+	 * rethrown.
+	 *
+	 * @param task The task.
+	 * @param size The stack size (in bytes).
+	 */
+	private static void runOnStack(Runnable task, long size) {
+		Throwable[] failure = { null };
+		Thread thread = new Thread(null, () -> {
+			try {
+				task.run();
+			} catch (RuntimeException | Error ex) {
+				failure[0] = ex;
+			}
+		}, "prev", size);
+		thread.start();
+		while (true) {
+			try {
+				thread.join();
+				break;
+			} catch (InterruptedException __) {
+			}
+		}
+		if (failure[0] instanceof RuntimeException)
+			throw (RuntimeException) failure[0];
+		if (failure[0] != null)
+			throw (Error) failure[0];
 	}
 
 	// THE COMPILER'S STARTUP METHOD
@@ -52,181 +129,572 @@ public class Compiler {
 		try {
 			Report.info("This is PREV'22 compiler:");
 
-			// Scan the command line.
+			// Set the stack size of threads carrying out compilations.
+			stackSize = requestedStackSize(args);
+
+			// Check whether the compiler should run as a compile server or compile
+			// a batch of source files.
 			for (int argc = 0; argc < args.length; argc++) {
-				if (args[argc].startsWith("--")) {
-					// Command-line switch.
-					if (args[argc].matches("--src-file-name=.*")) {
-						if (cmdLine.get("--src-file-name") == null) {
-							cmdLine.put("--src-file-name", args[argc]);
+				if (args[argc].matches("--server=[0-9]+")) {
+					serve(Integer.parseInt(args[argc].replaceFirst("^[^=]*=", "")));
+					Report.info("Done.");
+					return;
+				}
+				if (args[argc].matches("--batch=.+")) {
+					if (!batch(args))
+						throw new Report.Error("Compilation of some source files failed.");
+					Report.info("Done.");
+					return;
+				}
+			}
+
+			runOnStack(() -> new Compilation().run(() -> compile(args)), stackSize);
+
+			Report.info("Done.");
+		} catch (Report.Error __) {
+			System.exit(1);
+		}
+	}
+
+	// THE COMPILE SERVER
+
+	/**
+	 * Runs the compiler as a long-lived compile server listening on a local port.
+	 * Each line received over a connection is a single compile request written in
+	 * the same form as the command line, e.g.,
+	 * {@code --nregs=8 --target-phase=all --dst-file-name=prg.mms prg.p22}, and
+	 * is answered by a single line, either {@code OK} or {@code ERROR}. Request
+	 * {@code --shutdown} stops the server.
+	 *
+	 * @param port The local port the server listens on.
+	 */
+	private static void serve(int port) {
+		try (ServerSocket server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+			Report.info("Listening on port " + server.getLocalPort() + ".");
+			while (true) {
+				try (Socket client = server.accept();
+						BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream()));
+						PrintWriter out = new PrintWriter(client.getOutputStream(), true)) {
+					String request;
+					while ((request = in.readLine()) != null) {
+						request = request.trim();
+						if (request.isEmpty())
 							continue;
+						if (request.equals("--shutdown")) {
+							out.println("OK");
+							return;
 						}
+						out.println(serveRequest(request.split("\\s+")) ? "OK" : "ERROR");
 					}
-					if (args[argc].matches("--dst-file-name=.*")) {
-						if (cmdLine.get("--dst-file-name") == null) {
-							cmdLine.put("--dst-file-name", args[argc]);
-							continue;
-						}
+				} catch (IOException ex) {
+					Report.warning("Connection to the client lost.");
+				}
+			}
+		} catch (IOException ex) {
+			throw new Report.Error("Cannot listen on port " + port + ".");
+		}
+	}
+
+	/**
+	 * Carries out a single compile request of the compile server. The request is
+	 * compiled on a thread with the stack size it requests by {@code --stack}, if
+	 * any, or with the stack size of the server otherwise.
+	 *
+	 * @param args Command line arguments of the request.
+	 * @return {@code true} if the compilation succeeded, {@code false} otherwise.
+	 */
+	private static boolean serveRequest(String[] args) {
+		try {
+			runOnStack(() -> new Compilation().run(() -> compile(args)), requestedStackSize(args));
+			return true;
+		} catch (Report.Error __) {
+			return false;
+		} catch (RuntimeException | StackOverflowError ex) {
+			ex.printStackTrace();
+			return false;
+		}
+	}
+
+	// BATCH COMPILATION
+
+	/**
+	 * Compiles a batch of source files in parallel. The batch is specified by
+	 * {@code --batch=<dir|list>}: either a directory, in which case all
+	 * {@code .p22} files within it are compiled, or a file listing one source file
+	 * per line. The number of worker threads is specified by
+	 * {@code --threads=<n>} and defaults to the number of available processors.
+	 * All other command line arguments apply to each source file. Messages of each
+	 * compilation are printed out once it is done, in the order of source files.
+	 *
+	 * @param args Command line arguments (see {@link prev.Compiler}).
+	 * @return {@code true} if all compilations succeeded, {@code false} otherwise.
+	 */
+	private static boolean batch(String[] args) {
+		String batchName = null;
+		int numThreads = Runtime.getRuntime().availableProcessors();
+		Vector<String> commonArgs = new Vector<String>();
+		for (int argc = 0; argc < args.length; argc++) {
+			if (args[argc].matches("--batch=.+") && (batchName == null)) {
+				batchName = args[argc].replaceFirst("^[^=]*=", "");
+				continue;
+			}
+			if (args[argc].matches("--threads=[1-9][0-9]*")) {
+				numThreads = Integer.parseInt(args[argc].replaceFirst("^[^=]*=", ""));
+				continue;
+			}
+			commonArgs.add(args[argc]);
+		}
+
+		// Collect the source files.
+		Vector<String> srcFileNames = new Vector<String>();
+		File batchFile = new File(batchName);
+		if (batchFile.isDirectory()) {
+			File[] files = batchFile.listFiles((dir, name) -> name.endsWith(".p22"));
+			Arrays.sort(files);
+			for (File file : files)
+				srcFileNames.add(file.getPath());
+		} else {
+			try (BufferedReader listReader = new BufferedReader(new FileReader(batchFile))) {
+				String line;
+				while ((line = listReader.readLine()) != null) {
+					line = line.trim();
+					if (!line.isEmpty())
+						srcFileNames.add(line);
+				}
+			} catch (IOException __) {
+				throw new Report.Error("Cannot read batch '" + batchName + "'.");
+			}
+		}
+
+		// Compile the source files, each within its own compilation.
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads,
+				task -> new Thread(null, task, "prev-batch", stackSize));
+		Vector<Future<Boolean>> results = new Vector<Future<Boolean>>();
+		Vector<ByteArrayOutputStream> outs = new Vector<ByteArrayOutputStream>();
+		Vector<ByteArrayOutputStream> errs = new Vector<ByteArrayOutputStream>();
+		for (String srcFileName : srcFileNames) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ByteArrayOutputStream err = new ByteArrayOutputStream();
+			outs.add(out);
+			errs.add(err);
+			String[] srcArgs = commonArgs.toArray(new String[commonArgs.size() + 1]);
+			srcArgs[commonArgs.size()] = srcFileName;
+			Compilation compilation = new Compilation(new PrintStream(out, true), new PrintStream(err, true));
+			results.add(executor.submit(() -> {
+				try {
+					compilation.run(() -> compile(srcArgs));
+					return true;
+				} catch (Report.Error __) {
+					return false;
+				} catch (RuntimeException | StackOverflowError ex) {
+					ex.printStackTrace(compilation.err);
+					return false;
+				}
+			}));
+		}
+		executor.shutdown();
+
+		// Print out the messages of all compilations in order.
+		boolean succeeded = true;
+		for (int file = 0; file < srcFileNames.size(); file++) {
+			boolean fileSucceeded;
+			try {
+				fileSucceeded = results.get(file).get();
+			} catch (InterruptedException | ExecutionException __) {
+				fileSucceeded = false;
+			}
+			System.out.print(outs.get(file).toString());
+			System.err.print(errs.get(file).toString());
+			if (fileSucceeded)
+				Report.info("Compiled '" + srcFileNames.get(file) + "'.");
+			else
+				Report.warning("Compilation of '" + srcFileNames.get(file) + "' failed.");
+			succeeded = succeeded && fileSucceeded;
+		}
+		return succeeded;
+	}
+
+	// THE COMPILATION
+
+	/**
+	 * Compiles a single source file within the current compilation.
+	 *
+	 * @param args Command line arguments (see {@link prev.Compiler}).
+	 */
+	private static void compile(String[] args) {
+		HashMap<String, String> cmdLine = Compilation.current().cmdLine;
+
+		// Scan the command line.
+		for (int argc = 0; argc < args.length; argc++) {
+			if (args[argc].startsWith("--")) {
+				// Command-line switch.
+				if (args[argc].matches("--src-file-name=.*")) {
+					if (cmdLine.get("--src-file-name") == null) {
+						cmdLine.put("--src-file-name", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
 					}
-					if (args[argc].matches("--target-phase=(" + phases + "|all)")) {
-						if (cmdLine.get("--target-phase") == null) {
-							cmdLine.put("--target-phase", args[argc].replaceFirst("^[^=]*=", ""));
-							continue;
-						}
+				}
+				if (args[argc].matches("--dst-file-name=.*")) {
+					if (cmdLine.get("--dst-file-name") == null) {
+						cmdLine.put("--dst-file-name", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
 					}
-					if (args[argc].matches("--logged-phase=(" + phases + "|all)")) {
-						if (cmdLine.get("--logged-phase") == null) {
-							cmdLine.put("--logged-phase", args[argc].replaceFirst("^[^=]*=", ""));
-							continue;
-						}
+				}
+				if (args[argc].matches("--target-phase=(" + phases + "|all)")) {
+					if (cmdLine.get("--target-phase") == null) {
+						cmdLine.put("--target-phase", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
 					}
-					if (args[argc].matches("--xml=.*")) {
-						if (cmdLine.get("--xml") == null) {
-							cmdLine.put("--xml", args[argc].replaceFirst("^[^=]*=", ""));
-							continue;
-						}
+				}
+				if (args[argc].matches("--logged-phase=(" + phases + "|all)")) {
+					if (cmdLine.get("--logged-phase") == null) {
+						cmdLine.put("--logged-phase", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
 					}
-					if (args[argc].matches("--xsl=.*")) {
-						if (cmdLine.get("--xsl") == null) {
-							cmdLine.put("--xsl", args[argc].replaceFirst("^[^=]*=", ""));
-							continue;
-						}
+				}
+				if (args[argc].matches("--xml=.*")) {
+					if (cmdLine.get("--xml") == null) {
+						cmdLine.put("--xml", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
 					}
-						if (args[argc].matches("--nregs=[0-9]+")) {
-							if (cmdLine.get("--nregs") == null) {
-								cmdLine.put("--nregs", args[argc].replaceFirst("^[^=]*=", ""));
-								continue;
-							}
-						}
-						Report.warning("Command line argument '" + args[argc] + "' ignored.");
-					} else {
-						// Source file name.
-						if (cmdLine.get("--src-file-name") == null) {
-							cmdLine.put("--src-file-name", args[argc]);
-						} else {
-							Report.warning("Source file '" + args[argc] + "' ignored.");
-						}
+				}
+				if (args[argc].matches("--xsl=.*")) {
+					if (cmdLine.get("--xsl") == null) {
+						cmdLine.put("--xsl", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
+					}
+				}
+				if (args[argc].matches("--nregs=[0-9]+")) {
+					if (cmdLine.get("--nregs") == null) {
+						cmdLine.put("--nregs", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
 					}
 				}
+				if (args[argc].matches("--stats(=json)?")) {
+					if (cmdLine.get("--stats") == null) {
+						cmdLine.put("--stats", args[argc].equals("--stats") ? "text" : "json");
+						continue;
+					}
+				}
+				if (args[argc].matches("--cache=.+")) {
+					if (cmdLine.get("--cache") == null) {
+						cmdLine.put("--cache", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
+					}
+				}
+				if (args[argc].matches("--module")) {
+					if (cmdLine.get("--module") == null) {
+						cmdLine.put("--module", "");
+						continue;
+					}
+				}
+				if (args[argc].matches("--import=.+")) {
+					if (cmdLine.get("--import") == null) {
+						cmdLine.put("--import", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
+					}
+				}
+				if (args[argc].matches("--lexer=(antlr|fast)")) {
+					if (cmdLine.get("--lexer") == null) {
+						cmdLine.put("--lexer", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
+					}
+				}
+				if (args[argc].matches("--stack=[0-9]+[kmg]?")) {
+					if (cmdLine.get("--stack") == null) {
+						cmdLine.put("--stack", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
+					}
+				}
+				if (args[argc].matches("--seman=(fused|separate)")) {
+					if (cmdLine.get("--seman") == null) {
+						cmdLine.put("--seman", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
+					}
+				}
+				if (args[argc].matches("--packed")) {
+					if (cmdLine.get("--packed") == null) {
+						cmdLine.put("--packed", "");
+						continue;
+					}
+				}
+				if (args[argc].matches("--dump=.+")) {
+					if (cmdLine.get("--dump") == null) {
+						cmdLine.put("--dump", args[argc].replaceFirst("^[^=]*=", ""));
+						continue;
+					}
+				}
+				Report.warning("Command line argument '" + args[argc] + "' ignored.");
+			} else {
+				// Source file name.
 				if (cmdLine.get("--src-file-name") == null) {
-					throw new Report.Error("Source file not specified.");
+					cmdLine.put("--src-file-name", args[argc]);
+				} else {
+					Report.warning("Source file '" + args[argc] + "' ignored.");
+				}
+			}
+		}
+		if (cmdLine.get("--src-file-name") == null) {
+			throw new Report.Error("Source file not specified.");
+		}
+		if (cmdLine.get("--dst-file-name") == null) {
+			cmdLine.put("--dst-file-name", cmdLine.get("--src-file-name").replaceFirst("\\.[^./]*$", "")
+					+ (cmdLine.get("--module") == null ? ".mms" : ".pmo"));
+		}
+		if ((cmdLine.get("--target-phase") == null) || (cmdLine.get("--target-phase").equals("all"))) {
+			cmdLine.put("--target-phase", phases.replaceFirst("^.*\\|", ""));
+		}
+		if (cmdLine.get("--stats") != null) {
+			Compilation.current().stats = new Stats();
+		}
+		Compilation.current().packed = cmdLine.get("--packed") != null;
+
+		// Compilation process carried out phase by phase.
+		while (true) {
+
+			// Lexical analysis.
+			if (Compiler.cmdLineArgValue("--target-phase").equals("lexan")) {
+				long[] lexanMark = Stats.begin();
+				try (LexAn lexan = new LexAn()) {
+					lexan.tokens.fill();
 				}
-				if (cmdLine.get("--dst-file-name") == null) {
-					cmdLine.put("--dst-file-name",
-							cmdLine.get("--src-file-name").replaceFirst("\\.[^./]*$", "") + ".mms");
+				Stats.end("lexan", lexanMark);
+				break;
+			}
+
+			// Lexical and syntax analysis (the source file is lexed ahead of parsing
+			// unless the lexer finds an error or logs tokens).
+			long[] lexanMark = Stats.begin();
+			try (LexAn lexan = new LexAn()) {
+				boolean read = lexan.read();
+				if (read)
+					Stats.end("lexan", lexanMark);
+				long[] synanMark = read ? Stats.begin() : lexanMark;
+				try (SynAn synan = new SynAn(lexan)) {
+					PrevParser.SourceContext tree = synan.parse();
+					synan.log(tree);
+					Compilation.current().ast = tree.ast;
 				}
-				if ((cmdLine.get("--target-phase") == null) || (cmdLine.get("--target-phase").equals("all"))) {
-					cmdLine.put("--target-phase", phases.replaceFirst("^.*\\|", ""));
+				Stats.end("synan", synanMark);
+			}
+			if (Compiler.cmdLineArgValue("--target-phase").equals("synan"))
+				break;
+
+			// Abstract syntax tree construction.
+			long[] abstrMark = Stats.begin();
+			try (Abstr abstr = new Abstr()) {
+				AbsLogger logger = new AbsLogger(abstr.logger);
+				Abstr.tree().accept(logger, "Decls");
+			}
+			Stats.end("abstr", abstrMark);
+			if (Compiler.cmdLineArgValue("--target-phase").equals("abstr"))
+				break;
+
+			// Imports of separately compiled modules.
+			if (cmdLine.get("--import") != null) {
+				long[] importMark = Stats.begin();
+				for (String fileName : cmdLine.get("--import").split(","))
+					Compilation.current().modules.add(CompiledModule.read(fileName));
+				@SuppressWarnings("unchecked")
+				AstTrees<AstDecl> program = (AstTrees<AstDecl>) Abstr.tree();
+				Compilation.current().ast = CompiledModule.importDecls(program, Compilation.current().modules);
+				Stats.end("import", importMark);
+			}
+
+			// Semantic analysis.
+			long[] semanMark = Stats.begin();
+			try (SemAn seman = new SemAn()) {
+				// Separate passes also report errors found by the fused resolver.
+				if ("separate".equals(cmdLine.get("--seman")) || !FusedResolver.resolve(Abstr.tree())) {
+					Abstr.tree().accept(new NameResolver(), null);
+					Abstr.tree().accept(new TypeResolver(), null);
+					Abstr.tree().accept(new AddrResolver(), null);
 				}
+				AbsLogger logger = new AbsLogger(seman.logger);
+				logger.addSubvisitor(new SemLogger(seman.logger));
+				Abstr.tree().accept(logger, "Decls");
+			}
+			Stats.end("seman", semanMark);
+			if (Compiler.cmdLineArgValue("--target-phase").equals("seman"))
+				break;
 
-				// Compilation process carried out phase by phase.
-				while (true) {
+			// Memory layout.
+			long[] memoryMark = Stats.begin();
+			try (Memory memory = new Memory()) {
+				Abstr.tree().accept(new MemEvaluator(), null);
+				AbsLogger logger = new AbsLogger(memory.logger);
+				logger.addSubvisitor(new SemLogger(memory.logger));
+				logger.addSubvisitor(new MemLogger(memory.logger));
+				Abstr.tree().accept(logger, "Decls");
+			}
+			Stats.end("memory", memoryMark);
+			if (Compiler.cmdLineArgValue("--target-phase").equals("memory"))
+				break;
 
-					// Lexical analysis.
-					if (Compiler.cmdLineArgValue("--target-phase").equals("lexan"))
-						try (LexAn lexan = new LexAn()) {
-							while (lexan.lexer.nextToken().getType() != Token.EOF) {
-							}
-							break;
-						}
+			// Functions and global variables never used by the program.
+			long[] callsMark = Stats.begin();
+			Compilation.current().callGraph = new CallGraph((AstTrees<?>) Abstr.tree(), cmdLine.get("--module") != null);
+			Stats.end("calls", callsMark);
+
+			// Lookup of unchanged functions in the function cache unless the code
+			// of all functions is needed.
+			if (cmdLine.get("--cache") != null && cmdLine.get("--target-phase").equals("all")
+					&& !(cmdLine.get("--logged-phase") != null && cmdLine.get("--logged-phase").matches("imcgen|imclin|asmgen|livean|regall|all"))) {
+				long[] cacheMark = Stats.begin();
+				FunCache cache = new FunCache(cmdLine.get("--cache"), Integer.decode(cmdLine.get("--nregs")));
+				cache.lookup((AstTrees<?>) Abstr.tree());
+				Compilation.current().funCache = cache;
+				Stats.end("cache", cacheMark);
+			}
+
+			// Intermediate code generation.
+			long[] imcgenMark = Stats.begin();
+			try (ImcGen imcgen = new ImcGen()) {
+				Abstr.tree().accept(new CodeGenerator(), null);
+				AbsLogger logger = new AbsLogger(imcgen.logger);
+				logger.addSubvisitor(new SemLogger(imcgen.logger));
+				logger.addSubvisitor(new MemLogger(imcgen.logger));
+				logger.addSubvisitor(new ImcLogger(imcgen.logger));
+				Abstr.tree().accept(logger, "Decls");
+			}
+			Stats.end("imcgen", imcgenMark);
+			if (Compiler.cmdLineArgValue("--target-phase").equals("imcgen"))
+				break;
+
+			// Linearization of intermediate code.
+			long[] imclinMark = Stats.begin();
+			try (ImcLin imclin = new ImcLin()) {
+				Abstr.tree().accept(new ChunkGenerator(), null);
+				imclin.log();
 
-					// Syntax analysis.
-					try (LexAn lexan = new LexAn(); SynAn synan = new SynAn(lexan)) {
-						SynAn.tree = synan.parser.source();
-						synan.log(SynAn.tree);
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("synan"))
-						break;
-
-					// Abstract syntax tree construction.
-					try (Abstr abstr = new Abstr()) {
-						Abstr.tree = SynAn.tree.ast;
-						AbsLogger logger = new AbsLogger(abstr.logger);
-						Abstr.tree.accept(logger, "Decls");
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("abstr"))
-						break;
-
-					// Semantic analysis.
-					try (SemAn seman = new SemAn()) {
-						Abstr.tree.accept(new NameResolver(), null);
-						Abstr.tree.accept(new TypeResolver(), null);
-						Abstr.tree.accept(new AddrResolver(), null);
-						AbsLogger logger = new AbsLogger(seman.logger);
-						logger.addSubvisitor(new SemLogger(seman.logger));
-						Abstr.tree.accept(logger, "Decls");
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("seman"))
-						break;
-
-					// Memory layout.
-					try (Memory memory = new Memory()) {
-						Abstr.tree.accept(new MemEvaluator(), null);
-						AbsLogger logger = new AbsLogger(memory.logger);
-						logger.addSubvisitor(new SemLogger(memory.logger));
-						logger.addSubvisitor(new MemLogger(memory.logger));
-						Abstr.tree.accept(logger, "Decls");
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("memory"))
-						break;
-
-					// Intermediate code generation.
-					try (ImcGen imcgen = new ImcGen()) {
-						Abstr.tree.accept(new CodeGenerator(), null);
-						AbsLogger logger = new AbsLogger(imcgen.logger);
-						logger.addSubvisitor(new SemLogger(imcgen.logger));
-						logger.addSubvisitor(new MemLogger(imcgen.logger));
-						logger.addSubvisitor(new ImcLogger(imcgen.logger));
-						Abstr.tree.accept(logger, "Decls");
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("imcgen"))
-						break;
-
-					// Linearization of intermediate code.
-					try (ImcLin imclin = new ImcLin()) {
-						Abstr.tree.accept(new ChunkGenerator(), null);
-						imclin.log();
-
-						// Interpreter interpreter = new Interpreter(ImcLin.dataChunks(), ImcLin.codeChunks());
-						// System.out.println("EXIT CODE: " + interpreter.run("_main"));
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("imclin"))
-						break;
-
-					// Machine code generation.
-					try (AsmGen asmgen = new AsmGen()) {
-						asmgen.genAsmCodes();
-						asmgen.log();
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("asmgen"))
-						break;
-
-					// Liveness analysis.
-					try (LiveAn livean = new LiveAn()) {
-						livean.compLifetimes();
-						livean.log();
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("livean"))
-						break;
-
-					// Register allocation.
-					try (RegAll regall = new RegAll(Integer.decode(cmdLine.get("--nregs")))) {
-						regall.allocate();
-						regall.log();
-					}
-					if (Compiler.cmdLineArgValue("--target-phase").equals("regall"))
-						break;
-
-					// Putting it all together.
-					All all = new All();
-					all.finishFuns();
-					all.createFile(Compiler.cmdLineArgValue("--dst-file-name"));
+				// Interpreter interpreter = new Interpreter(ImcLin.dataChunks(), ImcLin.codeChunks());
+				// System.out.println("EXIT CODE: " + interpreter.run("_main"));
+			}
+			Stats.end("imclin", imclinMark);
+			if (Compiler.cmdLineArgValue("--target-phase").equals("imclin"))
+				break;
+
+			// Machine code generation, liveness analysis and register allocation
+			// carried out for each function separately unless logged.
+			if (cmdLine.get("--target-phase").matches("regall|all")
+					&& !(cmdLine.get("--logged-phase") != null && cmdLine.get("--logged-phase").matches("asmgen|livean|regall|all"))) {
+				compileFuns(Integer.decode(cmdLine.get("--nregs")));
+				if (Compiler.cmdLineArgValue("--target-phase").equals("regall"))
 					break;
+			} else {
+				// Machine code generation.
+				long[] asmgenMark = Stats.begin();
+				try (AsmGen asmgen = new AsmGen()) {
+					asmgen.genAsmCodes();
+					asmgen.log();
 				}
+				Stats.end("asmgen", asmgenMark);
+				if (Compiler.cmdLineArgValue("--target-phase").equals("asmgen"))
+					break;
 
-			Report.info("Done.");
-		} catch (Report.Error __) {
-			System.exit(1);
+				// Liveness analysis.
+				long[] liveanMark = Stats.begin();
+				try (LiveAn livean = new LiveAn()) {
+					livean.compLifetimes();
+					livean.log();
+				}
+				Stats.end("livean", liveanMark);
+				if (Compiler.cmdLineArgValue("--target-phase").equals("livean"))
+					break;
+
+				// Register allocation.
+				long[] regallMark = Stats.begin();
+				try (RegAll regall = new RegAll(Integer.decode(cmdLine.get("--nregs")))) {
+					regall.allocate();
+					regall.log();
+				}
+				Stats.end("regall", regallMark);
+				if (Compiler.cmdLineArgValue("--target-phase").equals("regall"))
+					break;
+			}
+
+			// Putting it all together.
+			long[] allMark = Stats.begin();
+			All all = new All();
+			all.finishFuns();
+			if (cmdLine.get("--module") == null)
+				all.createFile(Compiler.cmdLineArgValue("--dst-file-name"));
+			else
+				all.createModule(Compiler.cmdLineArgValue("--dst-file-name"));
+			Stats.end("all", allMark);
+			break;
+		}
+
+		// Binary dump of the intermediate code, machine code and registers.
+		if (cmdLine.get("--dump") != null)
+			DumpWriter.write(cmdLine.get("--dump"));
+
+		// Statistics.
+		Stats stats = Compilation.current().stats;
+		if (stats != null) {
+			stats.addCounter("astNodes", Compilation.current().numNodes);
+			stats.addCounter("temps", Compilation.current().numTemps.get());
+			if (cmdLine.get("--stats").equals("json"))
+				stats.printJson(Compilation.current().out);
+			else
+				stats.print(Compilation.current().out);
+		}
+	}
+
+	/**
+	 * Generates machine code, carries out liveness analysis and allocates
+	 * registers for each function of the current compilation as a separate task.
+	 * Tasks are carried out by a pool of threads with stacks of the size requested
+	 * by the compilation, so a function compiles on a thread of the pool whenever
+	 * it compiles on the current thread. The resulting machine code of all
+	 * functions is stored in the same order as code chunks. Statistics of these
+	 * phases are summed over all functions.
+	 *
+	 * @param nregs The number of registers.
+	 */
+	private static void compileFuns(int nregs) {
+		try (AsmGen asmgen = new AsmGen(); LiveAn livean = new LiveAn(); RegAll regall = new RegAll(nregs)) {
+			Compilation compilation = Compilation.current();
+			Vector<LinCodeChunk> codeChunks = ImcLin.codeChunks();
+			Code[] codes = new Code[codeChunks.size()];
+			Vector<Callable<Object>> tasks = new Vector<Callable<Object>>();
+			for (int chunk = 0; chunk < codeChunks.size(); chunk++) {
+				int fun = chunk;
+				tasks.add(Executors.callable(() -> compilation.run(() -> {
+					long[] asmgenMark = Stats.begin();
+					Code code = asmgen.genAsmCode(codeChunks.get(fun));
+					Stats.end("asmgen", asmgenMark);
+					long[] liveanMark = Stats.begin();
+					livean.compLifetimesFun(code);
+					Stats.end("livean", liveanMark);
+					long[] regallMark = Stats.begin();
+					regall.allocate(code);
+					Stats.end("regall", regallMark);
+					codes[fun] = code;
+				})));
+			}
+			String stack = compilation.cmdLine.get("--stack");
+			long funStackSize = stack == null ? stackSize : parseSize(stack);
+			int numThreads = Math.min(tasks.size(), Runtime.getRuntime().availableProcessors());
+			ExecutorService executor = Executors.newFixedThreadPool(Math.max(numThreads, 1),
+					task -> new Thread(null, task, "prev-fun", funStackSize));
+			try {
+				// Rethrow the failure of the first function that failed.
+				for (Future<Object> result : executor.invokeAll(tasks)) {
+					try {
+						result.get();
+					} catch (ExecutionException ex) {
+						if (ex.getCause() instanceof RuntimeException)
+							throw (RuntimeException) ex.getCause();
+						throw (Error) ex.getCause();
+					}
+				}
+			} catch (InterruptedException ex) {
+				throw new Report.InternalError();
+			} finally {
+				executor.shutdown();
+			}
+			AsmGen.codes().addAll(Arrays.asList(codes));
 		}
 	}
 
@@ -0,0 +1,295 @@
+package prev.common.dump;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+import prev.data.imc.code.expr.*;
+
+/**
+ * A binary dump of the linearized intermediate code, machine code and register
+ * allocation of all functions of a single compilation (see
+ * {@link DumpWriter}).
+ *
+ * Each function is represented by lines of text: intermediate code statements,
+ * machine code instructions and registers of temporaries.
+ */
+public class Dump {
+
+	/** The first value of every dump ("PRVD"). */
+	public static final long magic = 0x50525644L;
+
+	/** The version of the dump format. */
+	public static final long version = 1;
+
+	// Tags of intermediate code and machine code instructions.
+	static final int BINOP = 1;
+	static final int CALL = 2;
+	static final int CONST = 3;
+	static final int MEM = 4;
+	static final int NAME = 5;
+	static final int SEXPR = 6;
+	static final int TEMP = 7;
+	static final int UNOP = 8;
+	static final int CJUMP = 9;
+	static final int ESTMT = 10;
+	static final int JUMP = 11;
+	static final int LABEL = 12;
+	static final int MOVE = 13;
+	static final int STMTS = 14;
+	static final int OPER = 15;
+	static final int MEM1 = 16;
+
+	/**
+	 * A single function.
+	 */
+	public static class Fun {
+
+		/** The label of the function's frame. */
+		public final String label;
+
+		/** Linearized intermediate code. */
+		public final Vector<String> imc = new Vector<String>();
+
+		/** Machine code or {@code null} if not generated. */
+		public Vector<String> asm = null;
+
+		/** Register allocation or {@code null} if not generated. */
+		public Vector<String> regs = null;
+
+		private Fun(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * Returns the function with temporaries and anonymous labels renamed in the
+		 * order of their first occurrence.
+		 *
+		 * @return The renamed function.
+		 */
+		public Fun canonical() {
+			HashMap<String, String> names = new HashMap<String, String>();
+			Fun fun = new Fun(rename(label, names));
+			for (String line : imc)
+				fun.imc.add(rename(line, names));
+			if (asm != null) {
+				fun.asm = new Vector<String>();
+				for (String line : asm)
+					fun.asm.add(rename(line, names));
+			}
+			if (regs != null) {
+				fun.regs = new Vector<String>();
+				for (String line : regs)
+					fun.regs.add(rename(line, names));
+			}
+			return fun;
+		}
+
+		private static String rename(String line, HashMap<String, String> names) {
+			Matcher matcher = renamed.matcher(line);
+			StringBuilder text = new StringBuilder();
+			while (matcher.find()) {
+				String kind = matcher.group(1);
+				String name = names.computeIfAbsent(matcher.group(),
+						__ -> (kind.equals("T") ? "t" : "l") + names.size());
+				matcher.appendReplacement(text, name);
+			}
+			matcher.appendTail(text);
+			return text.toString();
+		}
+
+	}
+
+	/** Temporaries and anonymous labels. */
+	private static final Pattern renamed = Pattern.compile("\\b([TL])[0-9]+\\b");
+
+	/** All functions. */
+	public final Vector<Fun> funs = new Vector<Fun>();
+
+	/** The dump being read. */
+	private final byte[] bytes;
+
+	/** The position within the dump being read. */
+	private int pos = 0;
+
+	/** Strings read so far. */
+	private final Vector<String> strings = new Vector<String>();
+
+	/**
+	 * Reads a dump.
+	 *
+	 * @param fileName The name of the dump file.
+	 * @throws IOException If the dump cannot be read.
+	 */
+	public Dump(String fileName) throws IOException {
+		bytes = Files.readAllBytes(Paths.get(fileName));
+		try {
+			if (readLong() != magic || readLong() != version)
+				throw new IOException("File '" + fileName + "' is not a dump.");
+			long numFuns = readLong();
+			for (long f = 0; f < numFuns; f++)
+				funs.add(readFun());
+		} catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
+			throw new IOException("Dump '" + fileName + "' is malformed.");
+		}
+	}
+
+	private Fun readFun() {
+		Fun fun = new Fun(readString());
+
+		// Intermediate code.
+		fun.imc.add("ENTRY " + readString());
+		fun.imc.add("EXIT " + readString());
+		long numStmts = readLong();
+		for (long s = 0; s < numStmts; s++) {
+			StringBuilder stmt = new StringBuilder();
+			readImc(stmt);
+			fun.imc.add(stmt.toString());
+		}
+
+		// Machine code.
+		long numInstrs = readLong();
+		if (numInstrs < 0)
+			return fun;
+		fun.asm = new Vector<String>();
+		for (long i = 0; i < numInstrs; i++) {
+			int kind = readByte();
+			if (kind == LABEL) {
+				fun.asm.add(readString() + ":");
+				continue;
+			}
+			String instr = readString().trim();
+			long numUses = readLong();
+			for (int use = 0; use < numUses; use++)
+				instr = instr.replace("`s" + use, "T" + readLong());
+			long numDefs = readLong();
+			for (int def = 0; def < numDefs; def++)
+				instr = instr.replace("`d" + def, "T" + readLong());
+			StringBuilder line = new StringBuilder(kind == MOVE ? "MOVE " : "").append(instr);
+			long numJumps = readLong();
+			for (long jump = 0; jump < numJumps; jump++)
+				line.append(jump == 0 ? " -> " : ",").append(readString());
+			fun.asm.add(line.toString());
+		}
+
+		// Register allocation.
+		fun.regs = new Vector<String>();
+		fun.regs.add("TEMPSIZE " + readLong());
+		long numTemps = readLong();
+		for (long t = 0; t < numTemps; t++)
+			fun.regs.add("T" + readLong() + " $" + readLong());
+		return fun;
+	}
+
+	private void readImc(StringBuilder imc) {
+		int tag = readByte();
+		switch (tag) {
+		case BINOP:
+			imc.append("BINOP(").append(ImcBINOP.Oper.values()[readByte()]).append(',');
+			readImc(imc);
+			imc.append(',');
+			readImc(imc);
+			break;
+		case CALL:
+			imc.append("CALL(").append(readString());
+			long numArgs = readLong();
+			for (long arg = 0; arg < numArgs; arg++) {
+				imc.append(',').append(readLong()).append(':');
+				readImc(imc);
+			}
+			break;
+		case CONST:
+			imc.append("CONST(").append(readLong());
+			break;
+		case MEM:
+			imc.append("MEM(");
+			readImc(imc);
+			break;
+		case MEM1:
+			imc.append("MEM1(");
+			readImc(imc);
+			break;
+		case NAME:
+			imc.append("NAME(").append(readString());
+			break;
+		case SEXPR:
+			imc.append("SEXPR(");
+			readImc(imc);
+			imc.append(',');
+			readImc(imc);
+			break;
+		case TEMP:
+			imc.append("TEMP(T").append(readLong());
+			break;
+		case UNOP:
+			imc.append("UNOP(").append(ImcUNOP.Oper.values()[readByte()]).append(',');
+			readImc(imc);
+			break;
+		case CJUMP:
+			imc.append("CJUMP(");
+			readImc(imc);
+			imc.append(',').append(readString()).append(',').append(readString());
+			break;
+		case ESTMT:
+			imc.append("ESTMT(");
+			readImc(imc);
+			break;
+		case JUMP:
+			imc.append("JUMP(").append(readString());
+			break;
+		case LABEL:
+			imc.append("LABEL(").append(readString());
+			break;
+		case MOVE:
+			imc.append("MOVE(");
+			readImc(imc);
+			imc.append(',');
+			readImc(imc);
+			break;
+		case STMTS:
+			imc.append("STMTS(");
+			long numStmts = readLong();
+			for (long stmt = 0; stmt < numStmts; stmt++) {
+				if (stmt > 0)
+					imc.append(',');
+				readImc(imc);
+			}
+			break;
+		default:
+			throw new IllegalArgumentException();
+		}
+		imc.append(')');
+	}
+
+	// PRIMITIVES
+
+	private int readByte() {
+		return bytes[pos++] & 0xFF;
+	}
+
+	private long readLong() {
+		long bits = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = readByte();
+			bits |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return (bits >>> 1) ^ -(bits & 1);
+	}
+
+	private String readString() {
+		long index = readLong();
+		if (index > 0)
+			return strings.get((int) index - 1);
+		int length = (int) readLong();
+		String value = new String(bytes, pos, length, StandardCharsets.UTF_8);
+		pos += length;
+		strings.add(value);
+		return value;
+	}
+
+}
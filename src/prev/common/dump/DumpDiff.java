@@ -0,0 +1,109 @@
+package prev.common.dump;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Compares dumps (see {@link Dump}) ignoring the numbering of temporaries and
+ * anonymous labels.
+ *
+ * Usage: {@code java prev.common.dump.DumpDiff old new}, where {@code old} and
+ * {@code new} are either two dump files or two directories; in the latter case
+ * all {@code .dump} files of directory {@code old} are compared with the files
+ * of the same name in directory {@code new}. The first difference of each
+ * section (intermediate code, machine code, registers) of each function is
+ * printed out. The exit status is 0 if there are no differences, 1 otherwise.
+ */
+public class DumpDiff {
+
+	/** The number of differences found so far. */
+	private int numDiffs = 0;
+
+	/**
+	 * The startup method.
+	 *
+	 * @param args Two dump files or two directories containing dump files.
+	 */
+	public static void main(String[] args) {
+		if (args.length != 2) {
+			System.err.println("Usage: java prev.common.dump.DumpDiff old new");
+			System.exit(2);
+		}
+		DumpDiff diff = new DumpDiff();
+		try {
+			File oldFile = new File(args[0]);
+			File newFile = new File(args[1]);
+			if (oldFile.isDirectory()) {
+				String[] names = oldFile.list((dir, name) -> name.endsWith(".dump"));
+				Arrays.sort(names);
+				for (String name : names)
+					diff.compare(new File(oldFile, name).getPath(), new File(newFile, name).getPath());
+			} else
+				diff.compare(args[0], args[1]);
+		} catch (IOException ex) {
+			System.err.println(ex.getMessage());
+			System.exit(2);
+		}
+		System.exit(diff.numDiffs == 0 ? 0 : 1);
+	}
+
+	/**
+	 * Compares two dumps.
+	 *
+	 * @param oldName The name of the old dump file.
+	 * @param newName The name of the new dump file.
+	 * @throws IOException If a dump cannot be read.
+	 */
+	private void compare(String oldName, String newName) throws IOException {
+		if (!new File(newName).exists()) {
+			report(oldName, newName, "missing", null, null);
+			return;
+		}
+		Dump oldDump = new Dump(oldName);
+		Dump newDump = new Dump(newName);
+		int numFuns = Math.max(oldDump.funs.size(), newDump.funs.size());
+		for (int f = 0; f < numFuns; f++) {
+			if (f >= oldDump.funs.size() || f >= newDump.funs.size()) {
+				report(oldName, newName, "function " + f, f < oldDump.funs.size() ? oldDump.funs.get(f).label : null,
+						f < newDump.funs.size() ? newDump.funs.get(f).label : null);
+				continue;
+			}
+			Dump.Fun oldFun = oldDump.funs.get(f).canonical();
+			Dump.Fun newFun = newDump.funs.get(f).canonical();
+			String where = "function " + f + " (" + oldDump.funs.get(f).label + ")";
+			if (!oldFun.label.equals(newFun.label)) {
+				report(oldName, newName, where, oldFun.label, newFun.label);
+				continue;
+			}
+			compare(oldName, newName, where + " imc", oldFun.imc, newFun.imc);
+			compare(oldName, newName, where + " asm", oldFun.asm, newFun.asm);
+			compare(oldName, newName, where + " regs", oldFun.regs, newFun.regs);
+		}
+	}
+
+	private void compare(String oldName, String newName, String where, Vector<String> oldLines,
+			Vector<String> newLines) {
+		if (oldLines == null || newLines == null) {
+			if (oldLines != newLines)
+				report(oldName, newName, where, oldLines == null ? null : "", newLines == null ? null : "");
+			return;
+		}
+		int numLines = Math.max(oldLines.size(), newLines.size());
+		for (int line = 0; line < numLines; line++) {
+			String oldLine = line < oldLines.size() ? oldLines.get(line) : null;
+			String newLine = line < newLines.size() ? newLines.get(line) : null;
+			if (!Objects.equals(oldLine, newLine)) {
+				report(oldName, newName, where + " line " + (line + 1), oldLine, newLine);
+				return;
+			}
+		}
+	}
+
+	private void report(String oldName, String newName, String where, String oldLine, String newLine) {
+		numDiffs++;
+		System.out.println(oldName + " " + newName + ": " + where);
+		System.out.println("< " + (oldLine == null ? "(none)" : oldLine));
+		System.out.println("> " + (newLine == null ? "(none)" : newLine));
+	}
+
+}
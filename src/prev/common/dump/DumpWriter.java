@@ -0,0 +1,268 @@
+package prev.common.dump;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import prev.common.report.*;
+import prev.data.asm.*;
+import prev.data.imc.code.expr.*;
+import prev.data.imc.code.stmt.*;
+import prev.data.imc.visitor.*;
+import prev.data.lin.*;
+import prev.data.mem.*;
+import prev.phase.asmgen.*;
+import prev.phase.imclin.*;
+import prev.phase.regall.*;
+
+/**
+ * Writes a compact binary dump of the linearized intermediate code, machine
+ * code and register allocation of all functions of the current compilation.
+ *
+ * The dump starts with {@link Dump#magic} and {@link Dump#version} followed by
+ * the number of functions. Each function is written as its frame label, its
+ * linearized intermediate code (entry label, exit label and statements), its
+ * machine code (instructions with their uses, definitions and jumps) and its
+ * register allocation (the size of temporaries in the frame and registers of
+ * all temporaries). Integers are written as variable-length quantities and
+ * strings are written only once and later referred to by their index.
+ */
+public class DumpWriter implements ImcVisitor<Object, Object> {
+
+	/** The dump. */
+	private byte[] bytes = new byte[1 << 16];
+
+	/** The size of the dump. */
+	private int size = 0;
+
+	/** Indices of strings written so far. */
+	private final HashMap<String, Integer> strings = new HashMap<String, Integer>();
+
+	/**
+	 * Writes out the dump of the current compilation.
+	 *
+	 * @param fileName The name of the dump file.
+	 */
+	public static void write(String fileName) {
+		DumpWriter dump = new DumpWriter();
+		dump.writeFuns();
+		try {
+			Files.write(Paths.get(fileName), Arrays.copyOf(dump.bytes, dump.size));
+		} catch (IOException ex) {
+			throw new Report.Error("Cannot write dump file '" + fileName + "'.");
+		}
+	}
+
+	private void writeFuns() {
+		HashMap<MemFrame, Code> codes = new HashMap<MemFrame, Code>();
+		for (Code code : AsmGen.codes())
+			codes.put(code.frame, code);
+		HashMap<MemTemp, Integer> tempToReg = RegAll.tempToReg();
+
+		writeLong(Dump.magic);
+		writeLong(Dump.version);
+		writeLong(ImcLin.codeChunks().size());
+		for (LinCodeChunk chunk : ImcLin.codeChunks()) {
+			writeString(chunk.frame.label.name);
+
+			// Intermediate code.
+			writeString(chunk.entryLabel.name);
+			writeString(chunk.exitLabel.name);
+			writeLong(chunk.stmts().size());
+			for (ImcStmt stmt : chunk.stmts())
+				stmt.accept(this, null);
+
+			// Machine code.
+			Code code = codes.get(chunk.frame);
+			if (code == null) {
+				writeLong(-1);
+				continue;
+			}
+			writeLong(code.instrs.size());
+			LinkedHashSet<MemTemp> temps = new LinkedHashSet<MemTemp>();
+			for (AsmInstr instr : code.instrs) {
+				if (instr instanceof AsmLABEL) {
+					writeByte(Dump.LABEL);
+					writeString(instr.toString());
+					continue;
+				}
+				writeByte(instr instanceof AsmMOVE ? Dump.MOVE : Dump.OPER);
+				writeString(((AsmOPER) instr).instr());
+				writeTemps(instr.uses(), temps);
+				writeTemps(instr.defs(), temps);
+				Vector<MemLabel> jumps = instr.jumps();
+				writeLong(jumps.size());
+				for (MemLabel label : jumps)
+					writeString(label.name);
+			}
+
+			// Register allocation.
+			writeLong(code.tempSize);
+			Vector<MemTemp> allocated = new Vector<MemTemp>();
+			for (MemTemp temp : temps)
+				if (tempToReg.containsKey(temp))
+					allocated.add(temp);
+			writeLong(allocated.size());
+			for (MemTemp temp : allocated) {
+				writeLong(temp.temp);
+				writeLong(tempToReg.get(temp));
+			}
+		}
+	}
+
+	private void writeTemps(Vector<MemTemp> temps, LinkedHashSet<MemTemp> allTemps) {
+		writeLong(temps.size());
+		for (MemTemp temp : temps) {
+			writeLong(temp.temp);
+			allTemps.add(temp);
+		}
+	}
+
+	// PRIMITIVES
+
+	private void writeByte(int value) {
+		if (size == bytes.length)
+			bytes = Arrays.copyOf(bytes, 2 * bytes.length);
+		bytes[size++] = (byte) value;
+	}
+
+	private void writeLong(long value) {
+		// Zig-zag encoding followed by 7 bits per byte.
+		long bits = (value << 1) ^ (value >> 63);
+		while ((bits & ~0x7FL) != 0) {
+			writeByte((int) ((bits & 0x7F) | 0x80));
+			bits >>>= 7;
+		}
+		writeByte((int) bits);
+	}
+
+	private void writeString(String value) {
+		Integer index = strings.get(value);
+		if (index != null) {
+			writeLong(index + 1);
+			return;
+		}
+		strings.put(value, strings.size());
+		byte[] chars = value.getBytes(StandardCharsets.UTF_8);
+		writeLong(0);
+		writeLong(chars.length);
+		for (byte b : chars)
+			writeByte(b);
+	}
+
+	// INTERMEDIATE CODE
+
+	@Override
+	public Object visit(ImcBINOP binOp, Object visArg) {
+		writeByte(Dump.BINOP);
+		writeByte(binOp.oper.ordinal());
+		binOp.fstExpr.accept(this, visArg);
+		binOp.sndExpr.accept(this, visArg);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcCALL call, Object visArg) {
+		writeByte(Dump.CALL);
+		writeString(call.label.name);
+		writeLong(call.args.size());
+		for (int arg = 0; arg < call.args.size(); arg++) {
+			writeLong(call.offs.get(arg));
+			call.args.get(arg).accept(this, visArg);
+		}
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcCJUMP cjump, Object visArg) {
+		writeByte(Dump.CJUMP);
+		cjump.cond.accept(this, visArg);
+		writeString(cjump.posLabel.name);
+		writeString(cjump.negLabel.name);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcCONST constant, Object visArg) {
+		writeByte(Dump.CONST);
+		writeLong(constant.value);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcESTMT eStmt, Object visArg) {
+		writeByte(Dump.ESTMT);
+		eStmt.expr.accept(this, visArg);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcJUMP jump, Object visArg) {
+		writeByte(Dump.JUMP);
+		writeString(jump.label.name);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcLABEL label, Object visArg) {
+		writeByte(Dump.LABEL);
+		writeString(label.label.name);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcMEM mem, Object visArg) {
+		writeByte(mem.width == 1 ? Dump.MEM1 : Dump.MEM);
+		mem.addr.accept(this, visArg);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcMOVE move, Object visArg) {
+		writeByte(Dump.MOVE);
+		move.dst.accept(this, visArg);
+		move.src.accept(this, visArg);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcNAME name, Object visArg) {
+		writeByte(Dump.NAME);
+		writeString(name.label.name);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcSEXPR sExpr, Object visArg) {
+		writeByte(Dump.SEXPR);
+		sExpr.stmt.accept(this, visArg);
+		sExpr.expr.accept(this, visArg);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcSTMTS stmts, Object visArg) {
+		writeByte(Dump.STMTS);
+		writeLong(stmts.stmts.size());
+		for (ImcStmt stmt : stmts.stmts)
+			stmt.accept(this, visArg);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcTEMP temp, Object visArg) {
+		writeByte(Dump.TEMP);
+		writeLong(temp.temp.temp);
+		return null;
+	}
+
+	@Override
+	public Object visit(ImcUNOP unOp, Object visArg) {
+		writeByte(Dump.UNOP);
+		writeByte(unOp.oper.ordinal());
+		unOp.subExpr.accept(this, visArg);
+		return null;
+	}
+
+}
@@ -1,35 +1,48 @@
 package prev.common.logger;
 
 import java.io.*;
+import java.nio.charset.*;
 import java.util.*;
-import javax.xml.parsers.*;
-import javax.xml.transform.*;
-import javax.xml.transform.dom.*;
-import javax.xml.transform.stream.*;
-import org.w3c.dom.*;
+import java.util.zip.*;
 import prev.common.report.*;
 
 /**
  * A logger used for producing XML/XSL logs of compiler internal data
  * structures.
+ *
+ * The log is written out while it is being constructed, so the memory needed
+ * does not depend on the size of the log. The start tag of an XML element is
+ * written out once its first child element starts or once the element ends,
+ * whichever comes first; hence all attributes of an element must be added
+ * before its first child element. If the name of the XML file ends with
+ * {@code .gz}, the log is compressed using gzip.
  */
 public class Logger implements AutoCloseable {
 
+	/** The size of the output buffer. */
+	private static final int bufferSize = 1 << 16;
+
 	/** The name of the XML file to be produced. */
 	private final String xmlFileName;
 
 	/** The name of the relating XSL file (to be included in the XML header). */
 	private final String xslFileName;
 
-	/** The entire XML document being constructed. */
-	private final Document doc;
+	/** The stream the XML document is written to or {@code null} if it cannot be written. */
+	private Writer xml;
+
+	/** The stack of tag names of the open XML elements. */
+	private final Stack<String> elements = new Stack<String>();
 
-	/** The stack of the XML documents (used during construction). */
-	private final Stack<Element> elements = new Stack<Element>();
+	/** Attributes of the active XML element whose start tag has not been written yet. */
+	private final TreeMap<String, String> attributes = new TreeMap<String, String>();
+
+	/** Whether the start tag of the active XML element has not been written yet. */
+	private boolean pending = false;
 
 	/**
 	 * Constructs a new logger.
-	 * 
+	 *
 	 * @param phaseName   The name of the phase being logged.
 	 * @param xmlFileName The name of the XML file to be produced.
 	 * @param xslFileName The name of the relating XSL file.
@@ -38,60 +51,52 @@ public class Logger implements AutoCloseable {
 		this.xmlFileName = xmlFileName;
 		this.xslFileName = xslFileName;
 
-		// Prepare a new log document.
+		// Open the log document.
 		try {
-			doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
-		} catch (ParserConfigurationException ex) {
-			throw new Report.InternalError();
+			OutputStream stream = new FileOutputStream(xmlFileName);
+			if (xmlFileName.endsWith(".gz"))
+				stream = new GZIPOutputStream(stream, bufferSize);
+			xml = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), bufferSize);
+		} catch (IOException ex) {
+			Report.warning("Cannot open log file '" + xmlFileName + "'.");
+			xml = null;
 		}
 
+		// Add XML and XSL declarations.
+		write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>");
+		write("<?xml-stylesheet type=\"text/xsl\" href=\"" + this.xslFileName + "\"?>");
+
 		// Create the root element representing the entire phase.
-		Element phase = doc.createElement(phaseName);
-		doc.appendChild(phase);
-		elements.push(phase);
-
-		// Add XSL declaration.
-		ProcessingInstruction xsl = doc.createProcessingInstruction("xml-stylesheet",
-				"type=\"text/xsl\" href=\"" + this.xslFileName + "\"");
-		doc.insertBefore(xsl, phase);
+		begElement(phaseName);
 	}
 
 	@Override
 	public void close() {
-		try {
-			elements.pop();
-		} catch (EmptyStackException ex) {
-			throw new InternalError();
-		}
+		endElement();
 		if (!elements.empty())
 			throw new InternalError();
 
-		// Dump the log document out.
+		// Finish the log document.
+		if (xml == null)
+			return;
 		try {
-			TransformerFactory transformerFactory = TransformerFactory.newInstance();
-			javax.xml.transform.Transformer transformer = transformerFactory.newTransformer();
-			DOMSource source = new DOMSource(doc);
-			StreamResult result = new StreamResult(new File(xmlFileName));
-			transformer.transform(source, result);
-		} catch (TransformerException ex) {
-			Report.warning("Cannot open log file '" + xmlFileName + "'.");
+			xml.close();
+		} catch (IOException ex) {
+			Report.warning("Cannot write log file '" + xmlFileName + "'.");
 		}
+		xml = null;
 	}
 
 	/**
 	 * Starts a new XML element (within the active XML element) and makes it active.
 	 * Only one XML element can be active at each moment.
-	 * 
+	 *
 	 * @param tagName The tag name of a new XML element.
 	 */
 	public void begElement(String tagName) {
-		try {
-			Element element = doc.createElement(tagName);
-			elements.peek().appendChild(element);
-			elements.push(element);
-		} catch (EmptyStackException ex) {
-			throw new InternalError();
-		}
+		flush(">");
+		elements.push(tagName);
+		pending = true;
 	}
 
 	/**
@@ -100,6 +105,10 @@ public class Logger implements AutoCloseable {
 	 */
 	public void endElement() {
 		try {
+			if (pending)
+				flush("/>");
+			else
+				write("</" + elements.peek() + ">");
 			elements.pop();
 		} catch (EmptyStackException ex) {
 			throw new InternalError();
@@ -108,15 +117,78 @@ public class Logger implements AutoCloseable {
 
 	/**
 	 * Adds an attribute to the active XML element.
-	 * 
+	 *
 	 * @param attrName  The name of an attribute.
 	 * @param attrValue The value of an attribute.
 	 */
 	public void addAttribute(String attrName, String attrValue) {
-		try {
-			elements.peek().setAttribute(attrName, attrValue);
-		} catch (EmptyStackException ex) {
+		if (elements.empty() || !pending)
 			throw new InternalError();
+		attributes.put(attrName, attrValue == null ? "" : attrValue);
+	}
+
+	/**
+	 * Writes out the start tag of the active XML element if it has not been
+	 * written yet.
+	 *
+	 * @param end The end of the start tag.
+	 */
+	private void flush(String end) {
+		if (!pending)
+			return;
+		StringBuilder tag = new StringBuilder();
+		tag.append('<').append(elements.peek());
+		for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+			tag.append(' ').append(attribute.getKey()).append("=\"");
+			escape(attribute.getValue(), tag);
+			tag.append('"');
+		}
+		tag.append(end);
+		attributes.clear();
+		pending = false;
+		write(tag.toString());
+	}
+
+	/**
+	 * Escapes an attribute value.
+	 *
+	 * @param value The attribute value.
+	 * @param tag   The tag the escaped value is appended to.
+	 */
+	private static void escape(String value, StringBuilder tag) {
+		for (int c = 0; c < value.length(); c++) {
+			char ch = value.charAt(c);
+			switch (ch) {
+			case '&':
+				tag.append("&amp;");
+				break;
+			case '<':
+				tag.append("&lt;");
+				break;
+			case '>':
+				tag.append("&gt;");
+				break;
+			case '"':
+				tag.append("&quot;");
+				break;
+			default:
+				if (ch < ' ')
+					tag.append("&#").append((int) ch).append(';');
+				else
+					tag.append(ch);
+				break;
+			}
+		}
+	}
+
+	private void write(String text) {
+		if (xml == null)
+			return;
+		try {
+			xml.write(text);
+		} catch (IOException ex) {
+			Report.warning("Cannot write log file '" + xmlFileName + "'.");
+			xml = null;
 		}
 	}
 
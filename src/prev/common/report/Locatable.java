@@ -13,12 +13,22 @@ public interface Locatable {
 	 */
 	public Location location();
 
+	/**
+	 * Returns the position of the part of the source file, i.e., its location
+	 * packed into a {@code long} (see {@link Location#pack(int, int, int, int)}).
+	 *
+	 * @return The position of the part of the source file.
+	 */
+	public default long position() {
+		return location().position();
+	}
+
 	/**
 	 * Modifies the location.
 	 * 
-	 * @param location The new location.
+	 * @param position The position of the new location.
 	 */
-	public default void relocate(Location location) {
+	public default void relocate(long position) {
 		throw new Report.InternalError();
 	}
 
@@ -1,12 +1,29 @@
 package prev.common.report;
 
+import java.util.*;
+
+import prev.Compilation;
 import prev.common.logger.*;
 
 /**
  * Description of a location of a part of a source file.
+ *
+ * Tokens and nodes of abstract syntax trees do not hold locations but their
+ * positions, i.e., locations packed into a {@code long} (see
+ * {@link #pack(int, int, int, int)}), and a location is constructed from a
+ * position only when it is reported or logged (see {@link #of(long)}).
  */
 public class Location implements Locatable, Loggable {
 
+	/** The number of bits of a line number within a position. */
+	private static final int LINE_BITS = 19;
+
+	/** The number of bits of a column number within a position. */
+	private static final int COLUMN_BITS = 12;
+
+	/** The flag of a position denoting a location stored by the compilation. */
+	private static final long STORED = 1L << 63;
+
 	/**
 	 * The line number of the first character of the specified part of the source
 	 * file.
@@ -88,11 +105,108 @@ public class Location implements Locatable, Loggable {
 				end == null ? 0 : end.location().endLine, end == null ? 0 : end.location().endColumn);
 	}
 
+	/**
+	 * Packs a location into a position. Line numbers below 2^19 and column
+	 * numbers below 2^12 are packed into the position itself, while any other
+	 * location is stored by the current compilation and the position holds its
+	 * index.
+	 *
+	 * @param begLine   The line number of the first character of the specified part
+	 *                  of the source file.
+	 * @param begColumn The column number of the first character of the specified
+	 *                  part of the source file.
+	 * @param endLine   The line number of the last character of the specified part
+	 *                  of the source file.
+	 * @param endColumn The column number of the last character of the specified
+	 *                  part of the source file.
+	 * @return The position.
+	 */
+	public static long pack(int begLine, int begColumn, int endLine, int endColumn) {
+		int packedBegLine = begLine != 0 ? begLine : endLine;
+		int packedBegColumn = begColumn != 0 ? begColumn : endColumn;
+		int packedEndLine = endLine != 0 ? endLine : begLine;
+		int packedEndColumn = endColumn != 0 ? endColumn : begColumn;
+		if (fits(packedBegLine, LINE_BITS) && fits(packedBegColumn, COLUMN_BITS) && fits(packedEndLine, LINE_BITS)
+				&& fits(packedEndColumn, COLUMN_BITS)) {
+			long position = packedBegLine;
+			position = (position << COLUMN_BITS) | packedBegColumn;
+			position = (position << LINE_BITS) | packedEndLine;
+			position = (position << COLUMN_BITS) | packedEndColumn;
+			return position;
+		}
+		Vector<Location> locations = Compilation.current().locations;
+		synchronized (locations) {
+			locations.add(new Location(begLine, begColumn, endLine, endColumn));
+			return STORED | (locations.size() - 1);
+		}
+	}
+
+	/**
+	 * Returns the position spanning from the beginning of one position to the end
+	 * of another.
+	 *
+	 * @param beg The position of the beginning (or 0 if not known).
+	 * @param end The position of the end (or 0 if not known).
+	 * @return The position.
+	 */
+	public static long span(long beg, long end) {
+		return pack(begLine(beg), begColumn(beg), endLine(end), endColumn(end));
+	}
+
+	/**
+	 * Returns the location packed into a position.
+	 *
+	 * @param position The position.
+	 * @return The location.
+	 */
+	public static Location of(long position) {
+		if ((position & STORED) != 0)
+			return stored(position);
+		return new Location(begLine(position), begColumn(position), endLine(position), endColumn(position));
+	}
+
+	private static boolean fits(int number, int bits) {
+		return number >= 0 && number < (1 << bits);
+	}
+
+	private static Location stored(long position) {
+		return Compilation.current().locations.get((int) (position & ~STORED));
+	}
+
+	private static int begLine(long position) {
+		if ((position & STORED) != 0)
+			return stored(position).begLine;
+		return (int) (position >>> (2 * COLUMN_BITS + LINE_BITS));
+	}
+
+	private static int begColumn(long position) {
+		if ((position & STORED) != 0)
+			return stored(position).begColumn;
+		return (int) ((position >>> (COLUMN_BITS + LINE_BITS)) & ((1L << COLUMN_BITS) - 1));
+	}
+
+	private static int endLine(long position) {
+		if ((position & STORED) != 0)
+			return stored(position).endLine;
+		return (int) ((position >>> COLUMN_BITS) & ((1L << LINE_BITS) - 1));
+	}
+
+	private static int endColumn(long position) {
+		if ((position & STORED) != 0)
+			return stored(position).endColumn;
+		return (int) (position & ((1L << COLUMN_BITS) - 1));
+	}
+
 	@Override
 	public Location location() {
 		return this;
 	}
 
+	@Override
+	public long position() {
+		return pack(begLine, begColumn, endLine, endColumn);
+	}
+
 	@Override
 	public void log(Logger logger) {
 		if (logger == null)
@@ -1,10 +1,93 @@
 package prev.common.report;
 
+import java.io.*;
+
+import prev.Compilation;
+
 /**
  * Reporting.
  */
 public class Report {
 
+	/**
+	 * Returns the stream information messages of the current compilation are
+	 * printed to.
+	 * 
+	 * @return The stream information messages are printed to.
+	 */
+	private static PrintStream out() {
+		if (capturedOut.get() != null)
+			return capturedOut.get();
+		Compilation compilation = Compilation.currentOrNull();
+		if (compilation != null && !compilation.reporting)
+			return muted;
+		return compilation == null ? System.out : compilation.out;
+	}
+
+	/**
+	 * Returns the stream warnings and errors of the current compilation are
+	 * printed to.
+	 * 
+	 * @return The stream warnings and errors are printed to.
+	 */
+	private static PrintStream err() {
+		if (capturedErr.get() != null)
+			return capturedErr.get();
+		Compilation compilation = Compilation.currentOrNull();
+		if (compilation != null && !compilation.reporting)
+			return muted;
+		return compilation == null ? System.err : compilation.err;
+	}
+
+	/** The stream messages are printed to while reporting is turned off. */
+	private static final PrintStream muted = new PrintStream(OutputStream.nullOutputStream());
+
+	/** The stream information messages of the current thread are captured by. */
+	private static final ThreadLocal<PrintStream> capturedOut = new ThreadLocal<PrintStream>();
+
+	/** The stream warnings and errors of the current thread are captured by. */
+	private static final ThreadLocal<PrintStream> capturedErr = new ThreadLocal<PrintStream>();
+
+	/**
+	 * Carries out a task with all messages printed out by the current thread
+	 * captured by the specified streams instead of being printed out to the
+	 * streams of the current compilation. Used by tasks carried out in parallel
+	 * so that their messages can be printed out later in a deterministic order.
+	 * 
+	 * @param out  The stream information messages are captured by.
+	 * @param err  The stream warnings and errors are captured by.
+	 * @param task The task.
+	 */
+	public static void capture(PrintStream out, PrintStream err, Runnable task) {
+		PrintStream outerOut = capturedOut.get();
+		PrintStream outerErr = capturedErr.get();
+		capturedOut.set(out);
+		capturedErr.set(err);
+		try {
+			task.run();
+		} finally {
+			if (outerOut == null) {
+				capturedOut.remove();
+				capturedErr.remove();
+			} else {
+				capturedOut.set(outerOut);
+				capturedErr.set(outerErr);
+			}
+		}
+	}
+
+	/**
+	 * Prints out messages captured earlier (see
+	 * {@link #capture(PrintStream, PrintStream, Runnable)}).
+	 * 
+	 * @param out The captured information messages.
+	 * @param err The captured warnings and errors.
+	 */
+	public static void print(String out, String err) {
+		out().print(out);
+		err().print(err);
+	}
+
 	/** Counter of information messages printed out. */
 	private static int numOfInfos = 0;
 
@@ -24,8 +107,8 @@ public class Report {
 	 */
 	public static void info(String message) {
 		numOfInfos++;
-		System.out.print(":-) ");
-		System.out.println(message);
+		out().print(":-) ");
+		out().println(message);
 	}
 
 	/**
@@ -37,9 +120,9 @@ public class Report {
 	 */
 	public static void info(Locatable location, String message) {
 		numOfInfos++;
-		System.out.print(":-) ");
-		System.out.print("[" + location.location() + "] ");
-		System.out.println(message);
+		out().print(":-) ");
+		out().print("[" + location.location() + "] ");
+		out().println(message);
 	}
 
 	/** Counter of warnings printed out. */
@@ -61,8 +144,8 @@ public class Report {
 	 */
 	public static void warning(String message) {
 		numOfWarnings++;
-		System.err.print(":-o ");
-		System.err.println(message);
+		err().print(":-o ");
+		err().println(message);
 	}
 
 	/**
@@ -73,9 +156,9 @@ public class Report {
 	 */
 	public static void warning(Locatable location, String message) {
 		numOfWarnings++;
-		System.err.print(":-o ");
-		System.err.print("[" + location.location() + "] ");
-		System.err.println(message);
+		err().print(":-o ");
+		err().print("[" + location.location() + "] ");
+		err().println(message);
 	}
 
 	/**
@@ -94,8 +177,8 @@ public class Report {
 		 */
 		public Error(String message) {
 			super(message);
-			System.err.print(":-( ");
-			System.err.println(message);
+			err().print(":-( ");
+			err().println(message);
 		}
 
 		/**
@@ -105,9 +188,9 @@ public class Report {
 		 * @param message  The error message.
 		 */
 		public Error(Locatable location, String message) {
-			System.err.print(":-( ");
-			System.err.print("[" + location.location() + "] ");
-			System.err.println(message);
+			err().print(":-( ");
+			err().print("[" + location.location() + "] ");
+			err().println(message);
 		}
 
 	}
@@ -125,7 +208,7 @@ public class Report {
 		 */
 		public InternalError() {
 			super("Internal error.");
-			this.printStackTrace();
+			this.printStackTrace(err());
 		}
 
 	}
@@ -0,0 +1,191 @@
+package prev.common.stats;
+
+import java.io.*;
+import java.lang.management.*;
+import java.util.*;
+
+import prev.Compilation;
+
+/**
+ * Statistics of a single compilation: wall time and bytes allocated by each
+ * phase and structural counters of the compiler's internal data structures.
+ * 
+ * All methods may be called from several threads at the same time.
+ */
+public class Stats {
+
+	// === STATIC ===
+
+	/** The thread management bean used to obtain allocation counters. */
+	private static final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+
+	/**
+	 * Returns the statistics of the current compilation.
+	 * 
+	 * @return The statistics of the current compilation or {@code null} if
+	 *         statistics are not being collected.
+	 */
+	public static Stats current() {
+		Compilation compilation = Compilation.currentOrNull();
+		return compilation == null ? null : compilation.stats;
+	}
+
+	/**
+	 * Marks the beginning of a phase (or its part) carried out by the current
+	 * thread.
+	 * 
+	 * @return The wall time and the number of bytes allocated by the current
+	 *         thread so far.
+	 */
+	public static long[] begin() {
+		return new long[] { System.nanoTime(), threadMXBean.getCurrentThreadAllocatedBytes() };
+	}
+
+	/**
+	 * Marks the end of a phase (or its part) carried out by the current thread
+	 * and adds its wall time and allocated bytes to the statistics of the current
+	 * compilation.
+	 * 
+	 * @param phaseName The name of the phase.
+	 * @param begin     The mark obtained at the beginning of the phase.
+	 */
+	public static void end(String phaseName, long[] begin) {
+		Stats stats = current();
+		if (stats == null)
+			return;
+		long time = System.nanoTime() - begin[0];
+		long bytes = threadMXBean.getCurrentThreadAllocatedBytes() - begin[1];
+		stats.addPhase(phaseName, time, bytes);
+	}
+
+	/**
+	 * Adds a value to a counter of the current compilation.
+	 * 
+	 * @param counterName The name of the counter.
+	 * @param value       The value to be added.
+	 */
+	public static void count(String counterName, long value) {
+		Stats stats = current();
+		if (stats == null)
+			return;
+		stats.addCounter(counterName, value);
+	}
+
+	/**
+	 * Records the number of machine instructions of a function of the current
+	 * compilation.
+	 * 
+	 * @param funName   The name of the function.
+	 * @param numInstrs The number of machine instructions.
+	 */
+	public static void codeSize(String funName, long numInstrs) {
+		Stats stats = current();
+		if (stats == null)
+			return;
+		stats.setCodeSize(funName, numInstrs);
+	}
+
+	// ==============
+
+	/** Wall times (in nanoseconds) of phases. */
+	private final LinkedHashMap<String, Long> phaseTimes = new LinkedHashMap<String, Long>();
+
+	/** Bytes allocated by phases. */
+	private final LinkedHashMap<String, Long> phaseBytes = new LinkedHashMap<String, Long>();
+
+	/** Structural counters. */
+	private final TreeMap<String, Long> counters = new TreeMap<String, Long>();
+
+	/** Numbers of machine instructions of functions. */
+	private final TreeMap<String, Long> codeSizes = new TreeMap<String, Long>();
+
+	/**
+	 * Adds wall time and allocated bytes to a phase.
+	 * 
+	 * @param phaseName The name of the phase.
+	 * @param time      The wall time in nanoseconds.
+	 * @param bytes     The number of allocated bytes.
+	 */
+	public synchronized void addPhase(String phaseName, long time, long bytes) {
+		phaseTimes.merge(phaseName, time, Long::sum);
+		phaseBytes.merge(phaseName, bytes, Long::sum);
+	}
+
+	/**
+	 * Adds a value to a counter.
+	 * 
+	 * @param counterName The name of the counter.
+	 * @param value       The value to be added.
+	 */
+	public synchronized void addCounter(String counterName, long value) {
+		counters.merge(counterName, value, Long::sum);
+	}
+
+	/**
+	 * Records the number of machine instructions of a function.
+	 * 
+	 * @param funName   The name of the function.
+	 * @param numInstrs The number of machine instructions.
+	 */
+	public synchronized void setCodeSize(String funName, long numInstrs) {
+		codeSizes.put(funName, numInstrs);
+	}
+
+	/**
+	 * Prints out the statistics in a human readable form.
+	 * 
+	 * @param out The stream the statistics are printed to.
+	 */
+	public synchronized void print(PrintStream out) {
+		out.println("Statistics:");
+		for (String phaseName : phaseTimes.keySet())
+			out.printf("  phase %-8s %10.3f ms %14d B%n", phaseName, phaseTimes.get(phaseName) / 1e6,
+					phaseBytes.get(phaseName));
+		for (String counterName : counters.keySet())
+			out.printf("  %-22s %10d%n", counterName, counters.get(counterName));
+		for (String funName : codeSizes.keySet())
+			out.printf("  instrs %-15s %10d%n", funName, codeSizes.get(funName));
+	}
+
+	/**
+	 * Prints out the statistics as a single JSON object on a single line.
+	 * 
+	 * @param out The stream the statistics are printed to.
+	 */
+	public synchronized void printJson(PrintStream out) {
+		StringBuilder json = new StringBuilder();
+		json.append("{\"phases\":{");
+		String sep = "";
+		for (String phaseName : phaseTimes.keySet()) {
+			json.append(sep).append(quote(phaseName)).append(":{\"timeNs\":").append(phaseTimes.get(phaseName))
+					.append(",\"allocatedBytes\":").append(phaseBytes.get(phaseName)).append("}");
+			sep = ",";
+		}
+		json.append("},\"counters\":{");
+		sep = "";
+		for (String counterName : counters.keySet()) {
+			json.append(sep).append(quote(counterName)).append(":").append(counters.get(counterName));
+			sep = ",";
+		}
+		json.append("},\"instrs\":{");
+		sep = "";
+		for (String funName : codeSizes.keySet()) {
+			json.append(sep).append(quote(funName)).append(":").append(codeSizes.get(funName));
+			sep = ",";
+		}
+		json.append("}}");
+		out.println(json);
+	}
+
+	/**
+	 * Quotes a string as a JSON string.
+	 * 
+	 * @param string The string.
+	 * @return The quoted string.
+	 */
+	private static String quote(String string) {
+		return "\"" + string.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+}
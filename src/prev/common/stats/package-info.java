@@ -0,0 +1,4 @@
+/**
+ * Infrastructure for collecting statistics of individual compiler phases.
+ */
+package prev.common.stats;
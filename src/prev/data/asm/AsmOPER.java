@@ -59,8 +59,8 @@ public class AsmOPER extends AsmInstr {
 		this.uses = uses == null ? new Vector<MemTemp>() : uses;
 		this.defs = defs == null ? new Vector<MemTemp>() : defs;
 		this.jumps = jumps == null ? new Vector<MemLabel>() : jumps;
-		this.in = new HashSet<MemTemp>();
-		this.out = new HashSet<MemTemp>();
+		this.in = new LinkedHashSet<MemTemp>();
+		this.out = new LinkedHashSet<MemTemp>();
 	}
 
 	/**
@@ -125,12 +125,12 @@ public class AsmOPER extends AsmInstr {
 
 	@Override
 	public HashSet<MemTemp> in() {
-		return new HashSet<MemTemp>(in);
+		return new LinkedHashSet<MemTemp>(in);
 	}
 
 	@Override
 	public HashSet<MemTemp> out() {
-		return new HashSet<MemTemp>(out);
+		return new LinkedHashSet<MemTemp>(out);
 	}
 
 	@Override
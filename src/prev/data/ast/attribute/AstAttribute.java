@@ -2,50 +2,92 @@ package prev.data.ast.attribute;
 
 import java.util.*;
 
+import prev.Compilation;
 import prev.data.ast.tree.*;
 
 /**
  * An attribute of the abstract syntax tree node.
  *
+ * Values are stored in an array indexed by IDs of nodes. As IDs of nodes are
+ * assigned by each compilation from 0 up, the array is no larger than the
+ * number of nodes of the compilation (see {@link #capacity(int, int)}).
+ *
  * @param <Node>  Nodes that values are associated with.
  * @param <Value> Values associated with nodes.
  */
 public class AstAttribute<Node extends AstTree, Value> {
 
-	/** Mapping of nodes to values. */
-	private Vector<Value> mapping;
+	/** Values associated with nodes. */
+	private Object[] values;
 
-	/** Constructs a new attribute. */
+	/**
+	 * Constructs a new attribute.
+	 *
+	 * @param numNodes The expected number of nodes (or 0 if not known yet).
+	 */
 	public AstAttribute(int numNodes) {
-		mapping = new Vector<Value>();
+		values = new Object[numNodes];
 	}
 
 	/**
 	 * Associates a value with the specified abstract syntax tree node.
-	 * 
+	 *
 	 * @param node  The specified abstract syntax tree node.
 	 * @param value The value.
 	 * @return The value.
 	 */
 	public Value put(Node node, Value value) {
 		int id = node.id();
-		if (id >= mapping.size())
-			mapping.setSize(id + 1000);
-		mapping.set(id, value);
+		if (id >= values.length)
+			values = Arrays.copyOf(values, capacity(values.length, id));
+		values[id] = value;
 		return value;
 	}
 
 	/**
 	 * Returns a value associated with the specified abstract syntax tree node.
-	 * 
+	 *
 	 * @param node The specified abstract syntax tree node.
 	 * @return The value (or {@code null} if the value is not found).
 	 */
+	@SuppressWarnings("unchecked")
 	public Value get(Node node) {
 		int id = node.id();
-		if (id >= mapping.size())
+		if (id >= values.length)
 			return null;
-		return mapping.get(id);
+		return (Value) values[id];
+	}
+
+	/**
+	 * Removes all values associated with abstract syntax tree nodes.
+	 */
+	public void clear() {
+		Arrays.fill(values, null);
+	}
+
+	/**
+	 * Enlarges the attribute to accommodate all nodes constructed so far, so that
+	 * values can afterwards be associated with distinct nodes concurrently.
+	 */
+	public void reserve() {
+		Compilation compilation = Compilation.currentOrNull();
+		if (compilation != null && compilation.numNodes > values.length)
+			values = Arrays.copyOf(values, compilation.numNodes);
+	}
+
+	/**
+	 * Returns the new capacity of an attribute that must be enlarged to store a
+	 * value of a node. An attribute is first enlarged to accommodate all nodes
+	 * constructed so far and then at least doubles its capacity each time.
+	 *
+	 * @param capacity The current capacity.
+	 * @param id       The ID of the node.
+	 * @return The new capacity.
+	 */
+	static int capacity(int capacity, int id) {
+		Compilation compilation = Compilation.currentOrNull();
+		int numNodes = compilation == null ? 0 : compilation.numNodes;
+		return Math.max(Math.max(2 * capacity, id + 1), numNodes);
 	}
 
 }
@@ -0,0 +1,87 @@
+package prev.data.ast.attribute;
+
+import java.lang.invoke.*;
+import java.util.*;
+
+import prev.Compilation;
+import prev.data.ast.tree.*;
+
+/**
+ * A boolean attribute of the abstract syntax tree node.
+ *
+ * Values are stored as bits of a bitset indexed by IDs of nodes. A node with no
+ * value associated with it is treated as if it were associated with
+ * {@code false}. Bits are set and cleared atomically, so once the attribute
+ * has been enlarged to accommodate all nodes (see {@link #reserve()}), values
+ * can be associated with distinct nodes concurrently.
+ *
+ * @param <Node> Nodes that values are associated with.
+ */
+public class AstBoolAttribute<Node extends AstTree> {
+
+	/** Access to words of the bitset. */
+	private static final VarHandle words = MethodHandles.arrayElementVarHandle(long[].class);
+
+	/** Values associated with nodes, 64 nodes per word. */
+	private long[] bits;
+
+	/**
+	 * Constructs a new attribute.
+	 *
+	 * @param numNodes The expected number of nodes (or 0 if not known yet).
+	 */
+	public AstBoolAttribute(int numNodes) {
+		bits = new long[(numNodes + 63) >> 6];
+	}
+
+	/**
+	 * Associates a value with the specified abstract syntax tree node.
+	 *
+	 * @param node  The specified abstract syntax tree node.
+	 * @param value The value.
+	 * @return The value.
+	 */
+	public boolean put(Node node, boolean value) {
+		int id = node.id();
+		int word = id >> 6;
+		if (word >= bits.length)
+			bits = Arrays.copyOf(bits, (AstAttribute.capacity(bits.length << 6, id) + 63) >> 6);
+		if (value)
+			words.getAndBitwiseOr(bits, word, 1L << id);
+		else
+			words.getAndBitwiseAnd(bits, word, ~(1L << id));
+		return value;
+	}
+
+	/**
+	 * Returns a value associated with the specified abstract syntax tree node.
+	 *
+	 * @param node The specified abstract syntax tree node.
+	 * @return The value (or {@code false} if the value is not found).
+	 */
+	public boolean get(Node node) {
+		int id = node.id();
+		int word = id >> 6;
+		if (word >= bits.length)
+			return false;
+		return (bits[word] & (1L << id)) != 0;
+	}
+
+	/**
+	 * Removes all values associated with abstract syntax tree nodes.
+	 */
+	public void clear() {
+		Arrays.fill(bits, 0);
+	}
+
+	/**
+	 * Enlarges the attribute to accommodate all nodes constructed so far, so that
+	 * values can afterwards be associated with distinct nodes concurrently.
+	 */
+	public void reserve() {
+		Compilation compilation = Compilation.currentOrNull();
+		if (compilation != null && (compilation.numNodes + 63) >> 6 > bits.length)
+			bits = Arrays.copyOf(bits, (compilation.numNodes + 63) >> 6);
+	}
+
+}
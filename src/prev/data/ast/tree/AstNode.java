@@ -1,5 +1,6 @@
 package prev.data.ast.tree;
 
+import prev.Compilation;
 import prev.common.report.*;
 
 /**
@@ -7,23 +8,20 @@ import prev.common.report.*;
  */
 public abstract class AstNode implements AstTree {
 
-	/** The number of nodes constructed so far. */
-	private static int numNodes = 0;
-
 	/** The unique id of this node. */
 	public final int id;
 
-	/** The location of this node. */
-	private Location location;
+	/** The position of this node (see {@link Location#pack}). */
+	private long position;
 
 	/**
 	 * Constructs an abstract node of an abstract syntax tree.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 */
-	public AstNode(Location location) {
-		id = numNodes++;
-		this.location = location;
+	public AstNode(long position) {
+		id = Compilation.current().numNodes++;
+		this.position = position;
 	}
 
 	@Override
@@ -32,13 +30,18 @@ public abstract class AstNode implements AstTree {
 	}
 
 	@Override
-	public final void relocate(Location location) {
-		this.location = location;
+	public final void relocate(long position) {
+		this.position = position;
+	}
+
+	@Override
+	public final long position() {
+		return position;
 	}
 
 	@Override
 	public final Location location() {
-		return location;
+		return Location.of(position);
 	}
 
 }
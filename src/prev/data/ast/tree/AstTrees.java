@@ -20,7 +20,7 @@ public class AstTrees<Tree extends AstTree> extends AstNode implements AstTree,
 	 * Constructs a sequence of abstract syntax trees.
 	 */
 	public AstTrees() {
-		this(new Location(0, 0), new Vector<Tree>());
+		this(0, new Vector<Tree>());
 	}
 
 	/**
@@ -30,26 +30,24 @@ public class AstTrees<Tree extends AstTree> extends AstNode implements AstTree,
 	 */
 	@SuppressWarnings("unchecked")
 	public AstTrees(Collection<Tree> trees) {
-		super(null);
+		super(0);
 		this.trees = (Tree[]) (new AstTree[trees.size()]);
 		int index = 0;
 		for (Tree t : trees)
 			this.trees[index++] = t;
-		if (this.trees.length == 0)
-			relocate(new Location(0, 0));
-		else
-			relocate(new Location(this.trees[0], this.trees[this.trees.length - 1]));
+		if (this.trees.length != 0)
+			relocate(Location.span(this.trees[0].position(), this.trees[this.trees.length - 1].position()));
 	}
 
 	/**
 	 * Constructs a sequence of abstract syntax trees.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param trees    The abstract syntax trees stored in this sequence.
 	 */
 	@SuppressWarnings("unchecked")
-	public AstTrees(Location location, Collection<Tree> trees) {
-		super(location);
+	public AstTrees(long position, Collection<Tree> trees) {
+		super(position);
 		this.trees = (Tree[]) (new AstTree[trees.size()]);
 		int index = 0;
 		for (Tree t : trees)
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.decl;
 
-import prev.common.report.*;
 import prev.data.ast.tree.type.*;
 import prev.data.ast.visitor.*;
 
@@ -12,12 +11,13 @@ public class AstCompDecl extends AstMemDecl {
 	/**
 	 * Constructs a component declaration.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name of this component.
+	 * @param symbol   The symbol of the name.
 	 * @param type     The type of this component.
 	 */
-	public AstCompDecl(Location location, String name, AstType type) {
-		super(location, name, type);
+	public AstCompDecl(long position, String name, int symbol, AstType type) {
+		super(position, name, symbol, type);
 	}
 
 	@Override
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.decl;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.tree.type.*;
@@ -23,14 +22,16 @@ public class AstFunDecl extends AstNameDecl {
 	/**
 	 * Constructs a function declaration.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name of this function.
+	 * @param symbol   The symbol of the name.
 	 * @param pars     The parameters of this function.
 	 * @param type     The type of this function.
 	 * @param expr     The expression of this function.
 	 */
-	public AstFunDecl(Location location, String name, AstTrees<AstParDecl> pars, AstType type, AstExpr expr) {
-		super(location, name);
+	public AstFunDecl(long position, String name, int symbol, AstTrees<AstParDecl> pars, AstType type,
+			AstExpr expr) {
+		super(position, name, symbol);
 		this.pars = pars;
 		this.type = type;
 		this.expr = expr;
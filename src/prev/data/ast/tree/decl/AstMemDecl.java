@@ -1,6 +1,5 @@
 package prev.data.ast.tree.decl;
 
-import prev.common.report.*;
 import prev.data.ast.tree.type.*;
 
 /**
@@ -14,12 +13,13 @@ public abstract class AstMemDecl extends AstNameDecl {
 	/**
 	 * Constructs a variable declaration.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name of this variable.
+	 * @param symbol   The symbol of the name.
 	 * @param type     The type of this variable.
 	 */
-	protected AstMemDecl(Location location, String name, AstType type) {
-		super(location, name);
+	protected AstMemDecl(long position, String name, int symbol, AstType type) {
+		super(position, name, symbol);
 		this.type = type;
 	}
 
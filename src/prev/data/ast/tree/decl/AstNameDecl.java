@@ -1,6 +1,5 @@
 package prev.data.ast.tree.decl;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 
 /**
@@ -11,15 +10,20 @@ public abstract class AstNameDecl extends AstNode implements AstDecl {
 	/** The declared name. */
 	public final String name;
 
+	/** The symbol of the declared name. */
+	public final int symbol;
+
 	/**
 	 * Constructs an abstract declaration of a name.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The declared name.
+	 * @param symbol   The symbol of the name.
 	 */
-	public AstNameDecl(Location location, String name) {
-		super(location);
+	public AstNameDecl(long position, String name, int symbol) {
+		super(position);
 		this.name = name;
+		this.symbol = symbol;
 	}
 
 }
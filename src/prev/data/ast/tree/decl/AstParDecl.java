@@ -1,6 +1,5 @@
 package prev.data.ast.tree.decl;
 
-import prev.common.report.*;
 import prev.data.ast.tree.type.*;
 import prev.data.ast.visitor.*;
 
@@ -12,12 +11,13 @@ public class AstParDecl extends AstMemDecl {
 	/**
 	 * Constructs a parameter declaration.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name of this parameter.
+	 * @param symbol   The symbol of the name.
 	 * @param type     The type of this parameter.
 	 */
-	public AstParDecl(Location location, String name, AstType type) {
-		super(location, name, type);
+	public AstParDecl(long position, String name, int symbol, AstType type) {
+		super(position, name, symbol, type);
 	}
 
 	@Override
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.decl;
 
-import prev.common.report.*;
 import prev.data.ast.tree.type.*;
 import prev.data.ast.visitor.*;
 
@@ -15,12 +14,13 @@ public class AstTypeDecl extends AstNameDecl {
 	/**
 	 * Constructs a type declaration.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name of this type.
+	 * @param symbol   The symbol of the name.
 	 * @param type     The representation of this type.
 	 */
-	public AstTypeDecl(Location location, String name, AstType type) {
-		super(location, name);
+	public AstTypeDecl(long position, String name, int symbol, AstType type) {
+		super(position, name, symbol);
 		this.type = type;
 	}
 
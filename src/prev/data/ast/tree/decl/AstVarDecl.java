@@ -1,6 +1,5 @@
 package prev.data.ast.tree.decl;
 
-import prev.common.report.*;
 import prev.data.ast.tree.type.*;
 import prev.data.ast.visitor.*;
 
@@ -12,12 +11,13 @@ public class AstVarDecl extends AstMemDecl implements AstDecl {
 	/**
 	 * Constructs a variable declaration.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name of this variable.
+	 * @param symbol   The symbol of the name.
 	 * @param type     The type of this variable.
 	 */
-	public AstVarDecl(Location location, String name, AstType type) {
-		super(location, name, type);
+	public AstVarDecl(long position, String name, int symbol, AstType type) {
+		super(position, name, symbol, type);
 	}
 	
 	@Override
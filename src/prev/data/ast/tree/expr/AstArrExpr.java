@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -18,12 +17,12 @@ public class AstArrExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs an array access expression.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param arr      The array.
 	 * @param index The index.
 	 */
-	public AstArrExpr(Location location, AstExpr arr, AstExpr idx) {
-		super(location);
+	public AstArrExpr(long position, AstExpr arr, AstExpr idx) {
+		super(position);
 		this.arr = arr;
 		this.idx = idx;
 	}
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -23,12 +22,12 @@ public class AstAtomExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs an atom expression, i.e., a constant.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param type     The type of a constant.
 	 * @param value    The value of a constant.
 	 */
-	public AstAtomExpr(Location location, Type type, String value) {
-		super(location);
+	public AstAtomExpr(long position, Type type, String value) {
+		super(position);
 		this.type = type;
 		this.value = value;
 	}
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -26,13 +25,13 @@ public class AstBinExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs a binary expression.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param oper     The operator.
 	 * @param fstExpr  The first subexpression.
 	 * @param sndExpr  The second subexpression.
 	 */
-	public AstBinExpr(Location location, Oper oper, AstExpr fstExpr, AstExpr sndExpr) {
-		super(location);
+	public AstBinExpr(long position, Oper oper, AstExpr fstExpr, AstExpr sndExpr) {
+		super(position);
 		this.oper = oper;
 		this.fstExpr = fstExpr;
 		this.sndExpr = sndExpr;
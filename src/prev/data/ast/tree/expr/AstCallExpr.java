@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -15,12 +14,13 @@ public class AstCallExpr extends AstNameExpr {
 	/**
 	 * Constructs a function call.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name.
+	 * @param symbol   The symbol of the name.
 	 * @param args     The arguments.
 	 */
-	public AstCallExpr(Location location, String name, AstTrees<AstExpr> args) {
-		super(location, name);
+	public AstCallExpr(long position, String name, int symbol, AstTrees<AstExpr> args) {
+		super(position, name, symbol);
 		this.args = args;
 	}
 
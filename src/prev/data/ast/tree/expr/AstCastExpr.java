@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.type.*;
 import prev.data.ast.visitor.*;
@@ -19,12 +18,12 @@ public class AstCastExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs a cast expression.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param expr     The expression.
 	 * @param type     The type.
 	 */
-	public AstCastExpr(Location location, AstExpr expr, AstType type) {
-		super(location);
+	public AstCastExpr(long position, AstExpr expr, AstType type) {
+		super(position);
 		this.expr = expr;
 		this.type = type;
 	}
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -12,15 +11,20 @@ public class AstNameExpr extends AstNode implements AstExpr, AstName {
 	/** The name. */
 	public final String name;
 
+	/** The symbol of the name. */
+	public final int symbol;
+
 	/**
 	 * Constructs a variable access or a parameterless subprogram call.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param name     The name.
+	 * @param symbol   The symbol of the name.
 	 */
-	public AstNameExpr(Location location, String name) {
-		super(location);
+	public AstNameExpr(long position, String name, int symbol) {
+		super(position);
 		this.name = name;
+		this.symbol = symbol;
 	}
 
 	@Override
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -23,12 +22,12 @@ public class AstPfxExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs a prefix expression.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param oper     The operator.
 	 * @param expr     The subexpression.
 	 */
-	public AstPfxExpr(Location location, Oper oper, AstExpr expr) {
-		super(location);
+	public AstPfxExpr(long position, Oper oper, AstExpr expr) {
+		super(position);
 		this.oper = oper;
 		this.expr = expr;
 	}
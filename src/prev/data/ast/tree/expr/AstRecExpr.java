@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -18,12 +17,12 @@ public class AstRecExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs a record component access expression.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param rec      The record.
 	 * @param comp     The component.
 	 */
-	public AstRecExpr(Location location, AstExpr rec, AstNameExpr comp) {
-		super(location);
+	public AstRecExpr(long position, AstExpr rec, AstNameExpr comp) {
+		super(position);
 		this.rec = rec;
 		this.comp = comp;
 	}
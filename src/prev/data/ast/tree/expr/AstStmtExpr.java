@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.stmt.*;
 import prev.data.ast.visitor.*;
@@ -16,11 +15,11 @@ public class AstStmtExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs a where expression.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param stmts    The statements.
 	 */
-	public AstStmtExpr(Location location, AstTrees<AstStmt> stmts) {
-		super(location);
+	public AstStmtExpr(long position, AstTrees<AstStmt> stmts) {
+		super(position);
 		this.stmts = stmts;
 	}
 
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.expr;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.decl.*;
 import prev.data.ast.visitor.*;
@@ -19,12 +18,12 @@ public class AstWhereExpr extends AstNode implements AstExpr {
 	/**
 	 * Constructs a where expression.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param expr     The expression.
 	 * @param decls    The declarations.
 	 */
-	public AstWhereExpr(Location location, AstExpr expr, AstTrees<AstDecl> decls) {
-		super(location);
+	public AstWhereExpr(long position, AstExpr expr, AstTrees<AstDecl> decls) {
+		super(position);
 		this.expr = expr;
 		this.decls = decls;
 	}
@@ -1,6 +1,5 @@
 package prev.data.ast.tree.stmt;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.visitor.*;
@@ -19,12 +18,12 @@ public class AstAssignStmt extends AstNode implements AstStmt {
 	/**
 	 * Construct an assignment statement.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param dst      The destination.
 	 * @param src      The source.
 	 */
-	public AstAssignStmt(Location location, AstExpr dst, AstExpr src) {
-		super(location);
+	public AstAssignStmt(long position, AstExpr dst, AstExpr src) {
+		super(position);
 		this.dst = dst;
 		this.src = src;
 	}
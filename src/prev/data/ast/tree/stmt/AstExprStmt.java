@@ -1,6 +1,5 @@
 package prev.data.ast.tree.stmt;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.visitor.*;
@@ -16,11 +15,11 @@ public class AstExprStmt extends AstNode implements AstStmt {
 	/**
 	 * Constructs an expression statement.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param expr     The expression.
 	 */
-	public AstExprStmt(Location location, AstExpr expr) {
-		super(location);
+	public AstExprStmt(long position, AstExpr expr) {
+		super(position);
 		this.expr = expr;
 	}
 
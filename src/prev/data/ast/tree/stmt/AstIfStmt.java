@@ -1,6 +1,5 @@
 package prev.data.ast.tree.stmt;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.visitor.*;
@@ -22,13 +21,13 @@ public class AstIfStmt extends AstNode implements AstStmt {
 	/**
 	 * Constructs an if statement.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param cond     The condition.
 	 * @param thenStmt The statement in the then branch.
 	 * @param elseStmt The statement in the else branch.
 	 */
-	public AstIfStmt(Location location, AstExpr cond, AstStmt thenStmts, AstStmt elseStmts) {
-		super(location);
+	public AstIfStmt(long position, AstExpr cond, AstStmt thenStmts, AstStmt elseStmts) {
+		super(position);
 		this.cond = cond;
 		this.thenStmt = thenStmts;
 		this.elseStmt = elseStmts;
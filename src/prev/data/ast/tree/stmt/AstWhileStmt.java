@@ -1,6 +1,5 @@
 package prev.data.ast.tree.stmt;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.visitor.*;
@@ -19,12 +18,12 @@ public class AstWhileStmt extends AstNode implements AstStmt {
 	/**
 	 * Constructs a while statement.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param cond     The condition.
 	 * @param bodyStmt The body statement.
 	 */
-	public AstWhileStmt(Location location, AstExpr cond, AstStmt bodyStmt) {
-		super(location);
+	public AstWhileStmt(long position, AstExpr cond, AstStmt bodyStmt) {
+		super(position);
 		this.cond = cond;
 		this.bodyStmt = bodyStmt;
 	}
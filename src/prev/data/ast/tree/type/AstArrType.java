@@ -1,6 +1,5 @@
 package prev.data.ast.tree.type;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.visitor.*;
@@ -19,12 +18,12 @@ public class AstArrType extends AstNode implements AstType {
 	/**
 	 * Constructs an array type.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param elemType The element type.
 	 * @param numElems The number of elements.
 	 */
-	public AstArrType(Location location, AstType elemType, AstExpr numElems) {
-		super(location);
+	public AstArrType(long position, AstType elemType, AstExpr numElems) {
+		super(position);
 		this.elemType = elemType;
 		this.numElems = numElems;
 	}
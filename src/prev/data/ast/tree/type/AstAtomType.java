@@ -1,6 +1,5 @@
 package prev.data.ast.tree.type;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -20,11 +19,11 @@ public class AstAtomType extends AstNode implements AstType {
 	/**
 	 * Constructs an atom type.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param type     The type.
 	 */
-	public AstAtomType(Location location, Type type) {
-		super(location);
+	public AstAtomType(long position, Type type) {
+		super(position);
 		this.type = type;
 	}
 
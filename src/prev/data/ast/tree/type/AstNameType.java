@@ -1,6 +1,5 @@
 package prev.data.ast.tree.type;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -12,15 +11,20 @@ public class AstNameType extends AstNode implements AstType, AstName {
 	/** The name. */
 	public final String name;
 
+	/** The symbol of the name. */
+	public final int symbol;
+
 	/**
 	 * Constructs a type name.
 	 * 
-	 * @param location the Location.
+	 * @param position The position.
 	 * @param name     The name.
+	 * @param symbol   The symbol of the name.
 	 */
-	public AstNameType(Location location, String name) {
-		super(location);
+	public AstNameType(long position, String name, int symbol) {
+		super(position);
 		this.name = name;
+		this.symbol = symbol;
 	}
 
 	@Override
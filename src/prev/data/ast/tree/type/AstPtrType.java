@@ -1,6 +1,5 @@
 package prev.data.ast.tree.type;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.visitor.*;
 
@@ -15,11 +14,11 @@ public class AstPtrType extends AstNode implements AstType {
 	/**
 	 * Constructs a pointer type.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param baseType The base type.
 	 */
-	public AstPtrType(Location location, AstType baseType) {
-		super(location);
+	public AstPtrType(long position, AstType baseType) {
+		super(position);
 		this.baseType = baseType;
 	}
 
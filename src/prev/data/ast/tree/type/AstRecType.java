@@ -1,6 +1,5 @@
 package prev.data.ast.tree.type;
 
-import prev.common.report.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.decl.*;
 import prev.data.ast.visitor.*;
@@ -16,11 +15,11 @@ public class AstRecType extends AstNode implements AstType {
 	/**
 	 * Constructs a record type.
 	 * 
-	 * @param location The location.
+	 * @param position The position.
 	 * @param comps    The components.
 	 */
-	public AstRecType(Location location, AstTrees<AstCompDecl> comps) {
-		super(location);
+	public AstRecType(long position, AstTrees<AstCompDecl> comps) {
+		super(position);
 		this.comps = comps;
 	}
 
@@ -15,13 +15,27 @@ public class ImcMEM extends ImcExpr {
 	/** The memory address. */
 	public final ImcExpr addr;
 
+	/** The number of bytes read or written (1 or 8). */
+	public final long width;
+
 	/**
 	 * Constucts a memory access.
 	 * 
 	 * @param addr The memory address.
 	 */
 	public ImcMEM(ImcExpr addr) {
+		this(addr, 8);
+	}
+
+	/**
+	 * Constucts a memory access of a given width.
+	 * 
+	 * @param addr  The memory address.
+	 * @param width The number of bytes read or written (1 or 8).
+	 */
+	public ImcMEM(ImcExpr addr, long width) {
 		this.addr = addr;
+		this.width = width;
 	}
 
 	@Override
@@ -32,14 +46,14 @@ public class ImcMEM extends ImcExpr {
 	@Override
 	public void log(Logger logger) {
 		logger.begElement("imc");
-		logger.addAttribute("instruction", "MEM");
+		logger.addAttribute("instruction", width == 8 ? "MEM" : "MEM" + width);
 		addr.log(logger);
 		logger.endElement();
 	}
 
 	@Override
 	public String toString() {
-		return "MEM(" + addr.toString() + ")";
+		return (width == 8 ? "MEM(" : "MEM" + width + "(") + addr.toString() + ")";
 	}
 
 }
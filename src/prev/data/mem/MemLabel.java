@@ -1,5 +1,7 @@
 package prev.data.mem;
 
+import prev.Compilation;
+
 /**
  * A label.
  */
@@ -8,13 +10,9 @@ public class MemLabel {
 	/** The name of a label. */
 	public final String name;
 
-	/** Counter of anonymous labels. */
-	private static long count = 0;
-
 	/** Creates a new anonymous label. */
 	public MemLabel() {
-		this.name = "L" + count;
-		count++;
+		this.name = "L" + Compilation.current().numLabels.getAndIncrement();
 	}
 
 	/**
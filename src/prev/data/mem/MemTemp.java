@@ -1,5 +1,7 @@
 package prev.data.mem;
 
+import prev.Compilation;
+
 /**
  * A temporary variable.
  */
@@ -8,13 +10,14 @@ public class MemTemp {
 	/** The name of a temporary variable. */
 	public final long temp;
 
-	/** Counter of temporary variables. */
-	private static long count = 0;
-
 	/** Creates a new temporary variable. */
 	public MemTemp() {
-		this.temp = count;
-		count++;
+		this.temp = Compilation.current().numTemps.getAndIncrement();
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(temp);
 	}
 
 	@Override
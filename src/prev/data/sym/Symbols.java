@@ -0,0 +1,123 @@
+package prev.data.sym;
+
+import java.util.*;
+
+import org.antlr.v4.runtime.misc.*;
+
+import prev.phase.lexan.*;
+
+/**
+ * Interned identifiers.
+ *
+ * Each distinct identifier of a compilation is given a symbol, i.e., a dense
+ * integer ID starting at 0, as soon as it is lexed. Later phases identify names
+ * by their symbols and can thus index arrays by them instead of hashing names.
+ * The name of each symbol is stored only once.
+ */
+public class Symbols {
+
+	/** Names of symbols. */
+	private String[] names = new String[1024];
+
+	/** Hash codes of names of symbols. */
+	private int[] hashes = new int[1024];
+
+	/** The number of symbols. */
+	private int size = 0;
+
+	/**
+	 * An open addressing hash table of symbols (each one increased by 1 so that 0
+	 * denotes an empty slot).
+	 */
+	private int[] table = new int[2048];
+
+	/**
+	 * Returns the symbol of an identifier stored in a source file.
+	 *
+	 * @param input The source file.
+	 * @param start The index of the first character of the identifier.
+	 * @param stop  The index of the last character of the identifier.
+	 * @return The symbol.
+	 */
+	public int intern(MappedCharStream input, int start, int stop) {
+		// Identifiers are ASCII, so the hash code is the same as of the name.
+		int hash = 0;
+		for (int i = start; i <= stop; i++)
+			hash = 31 * hash + input.byteAt(i);
+		int length = stop - start + 1;
+		int slot = hash & (table.length - 1);
+		symbols: while (table[slot] != 0) {
+			int symbol = table[slot] - 1;
+			if (hashes[symbol] == hash && names[symbol].length() == length) {
+				String name = names[symbol];
+				for (int c = 0; c < length; c++)
+					if (name.charAt(c) != input.byteAt(start + c)) {
+						slot = (slot + 1) & (table.length - 1);
+						continue symbols;
+					}
+				return symbol;
+			}
+			slot = (slot + 1) & (table.length - 1);
+		}
+		return add(slot, input.getText(Interval.of(start, stop)), hash);
+	}
+
+	/**
+	 * Returns the symbol of a name.
+	 *
+	 * @param name The name.
+	 * @return The symbol.
+	 */
+	public int intern(String name) {
+		int hash = name.hashCode();
+		int slot = hash & (table.length - 1);
+		while (table[slot] != 0) {
+			int symbol = table[slot] - 1;
+			if (hashes[symbol] == hash && names[symbol].equals(name))
+				return symbol;
+			slot = (slot + 1) & (table.length - 1);
+		}
+		return add(slot, name, hash);
+	}
+
+	/**
+	 * Returns the name of a symbol.
+	 *
+	 * @param symbol The symbol.
+	 * @return The name.
+	 */
+	public String name(int symbol) {
+		return names[symbol];
+	}
+
+	/**
+	 * Returns the number of symbols, i.e., the symbol the next new name will get.
+	 *
+	 * @return The number of symbols.
+	 */
+	public int size() {
+		return size;
+	}
+
+	private int add(int slot, String name, int hash) {
+		if (size == names.length) {
+			names = Arrays.copyOf(names, 2 * size);
+			hashes = Arrays.copyOf(hashes, 2 * size);
+		}
+		int symbol = size++;
+		names[symbol] = name;
+		hashes[symbol] = hash;
+		table[slot] = symbol + 1;
+		if (2 * size > table.length) {
+			table = new int[2 * table.length];
+			for (int s = 0; s < size; s++) {
+				int free = hashes[s] & (table.length - 1);
+				while (table[free] != 0)
+					free = (free + 1) & (table.length - 1);
+				table[free] = s + 1;
+			}
+		}
+		return symbol;
+	}
+
+}
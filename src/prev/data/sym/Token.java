@@ -1,7 +1,6 @@
 package prev.data.sym;
 
 import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.misc.*;
 
 import prev.common.logger.*;
 import prev.common.report.*;
@@ -9,31 +8,96 @@ import prev.phase.lexan.*;
 
 /**
  * A customized token that is 'locatable' and 'loggable'.
+ *
+ * A token is a view of a token stored in a token buffer (see
+ * {@link TokenBuffer}); its text and location are computed on demand.
  */
-@SuppressWarnings("serial")
-public class Token extends CommonToken implements Locatable, Loggable {
+public class Token implements org.antlr.v4.runtime.Token, Locatable, Loggable {
 
-	/** The location of this token. */
-	private final Location location;
+	/** The token buffer containing this token. */
+	private final TokenBuffer tokens;
 
-	public Token(int type, String text) {
-		super(type, text);
-		setLine(0);
-		setCharPositionInLine(0);
-		location = new Location(getLine(), getCharPositionInLine(), getLine(),
-				getCharPositionInLine() + getText().length() - 1);
+	/** The index of this token within the token buffer. */
+	private final int index;
+
+	/**
+	 * Constructs a view of a token within a token buffer.
+	 *
+	 * @param tokens The token buffer.
+	 * @param index  The index of the token within the token buffer.
+	 */
+	public Token(TokenBuffer tokens, int index) {
+		this.tokens = tokens;
+		this.index = index;
+	}
+
+	/**
+	 * Returns the symbol of this identifier.
+	 *
+	 * @return The symbol of this identifier.
+	 */
+	public int symbol() {
+		return tokens.symbol(index);
+	}
+
+	@Override
+	public String getText() {
+		return tokens.text(index);
 	}
 
-	public Token(Pair<TokenSource, CharStream> source, int type, int channel, int start, int stop) {
-		super(source, type, channel, start, stop);
-		setCharPositionInLine(getCharPositionInLine() - getText().length() + 1);
-		location = new Location(getLine(), getCharPositionInLine(), getLine(),
-				getCharPositionInLine() + getText().length() - 1);
+	@Override
+	public int getType() {
+		return tokens.type(index);
+	}
+
+	@Override
+	public int getLine() {
+		return tokens.line(index);
+	}
+
+	@Override
+	public int getCharPositionInLine() {
+		return tokens.column(index);
+	}
+
+	@Override
+	public int getChannel() {
+		return DEFAULT_CHANNEL;
+	}
+
+	@Override
+	public int getTokenIndex() {
+		return index;
+	}
+
+	@Override
+	public int getStartIndex() {
+		return tokens.start(index);
+	}
+
+	@Override
+	public int getStopIndex() {
+		return tokens.stop(index);
+	}
+
+	@Override
+	public TokenSource getTokenSource() {
+		return tokens.getTokenSource();
+	}
+
+	@Override
+	public CharStream getInputStream() {
+		return tokens.getTokenSource().getInputStream();
 	}
 
 	@Override
 	public Location location() {
-		return location;
+		return tokens.location(index);
+	}
+
+	@Override
+	public long position() {
+		return tokens.position(index);
 	}
 
 	@Override
@@ -47,9 +111,15 @@ public class Token extends CommonToken implements Locatable, Loggable {
 		} else {
 			logger.addAttribute("token", PrevLexer.VOCABULARY.getSymbolicName(getType()));
 			logger.addAttribute("lexeme", getText());
-			location.log(logger);
+			location().log(logger);
 		}
 		logger.endElement();
 	}
 
+	@Override
+	public String toString() {
+		return "[@" + index + "," + getStartIndex() + ":" + getStopIndex() + "='" + getText() + "',<" + getType()
+				+ ">," + getLine() + ":" + getCharPositionInLine() + "]";
+	}
+
 }
@@ -13,6 +13,9 @@ public class SemArr extends SemType {
 	/** Number of elements. */
 	public final long numElems;
 
+	/** The size of values of this type (or -1 if not computed yet). */
+	private long size = -1;
+
 	/**
 	 * Constructs a new array type.
 	 * 
@@ -26,7 +29,14 @@ public class SemArr extends SemType {
 
 	@Override
 	public long size() {
-		return numElems * elemType.size();
+		if (size == -1)
+			size = numElems * elemType.size();
+		return size;
+	}
+
+	@Override
+	public long alignment() {
+		return elemType.alignment();
 	}
 
 	@Override
@@ -9,7 +9,12 @@ public class SemBool extends SemType {
 	
 	@Override
 	public long size() {
-		return 8;
+		return packed() ? 1 : 8;
+	}
+
+	@Override
+	public long alignment() {
+		return size();
 	}
 
 	@Override
@@ -0,0 +1,323 @@
+package prev.data.typ;
+
+import java.util.*;
+
+import prev.common.report.*;
+
+/**
+ * Structural equivalence classes of types.
+ *
+ * Two types are structurally equivalent if they are of the same kind (arrays
+ * with the same number of elements, records with the same number of
+ * components) and their element, base or component types are structurally
+ * equivalent, where a named type stands for its actual type. Each class is
+ * given a dense ID that is cached in all types belonging to it, so once both
+ * types are classified, checking their equivalence is a comparison of two
+ * integers.
+ *
+ * Named types declared together, which may be recursive, are classified at
+ * once by partition refinement of the graph of types (see
+ * {@link #classify(Collection)}). Any other type is classified by its
+ * signature, i.e., its kind and the classes of its subtypes (see
+ * {@link #classOf(SemType)}).
+ *
+ * Classes can be computed by several threads at the same time: classes are
+ * created while holding the lock of this object, while classes already cached
+ * in types are read without locking.
+ */
+public class SemEquivalence {
+
+	// Kinds of types; the classes of atomic types are their kinds.
+	private static final int VOID = 0;
+	private static final int BOOL = 1;
+	private static final int CHAR = 2;
+	private static final int INT = 3;
+	private static final int PTR = 4;
+	private static final int ARR = 5;
+	private static final int REC = 6;
+
+	/**
+	 * The signature of a class: its kind, the number of elements or components
+	 * and the classes of its subtypes.
+	 */
+	private record Signature(int kind, long param, int[] subclasses) {
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Signature that && kind == that.kind && param == that.param
+					&& Arrays.equals(subclasses, that.subclasses);
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * kind + Long.hashCode(param)) * 31 + Arrays.hashCode(subclasses);
+		}
+
+	}
+
+	/** Signatures of all classes (indexed by classes). */
+	private final Vector<Signature> signatures = new Vector<Signature>();
+
+	/** Classes of all signatures. */
+	private final HashMap<Signature, Integer> classes = new HashMap<Signature, Integer>();
+
+	/** Classes of pointers (indexed by classes of their base types, or -1). */
+	private int[] ptrClasses = new int[64];
+
+	/**
+	 * Constructs a new set of equivalence classes containing classes of atomic
+	 * types only.
+	 */
+	public SemEquivalence() {
+		Arrays.fill(ptrClasses, -1);
+		for (int kind = VOID; kind <= INT; kind++)
+			newClass(new Signature(kind, 0, new int[0]));
+	}
+
+	/**
+	 * Returns the number of classes.
+	 *
+	 * @return The number of classes.
+	 */
+	public int numClasses() {
+		return signatures.size();
+	}
+
+	/**
+	 * Checks whether two types are structurally equivalent.
+	 *
+	 * @param type1 The first type.
+	 * @param type2 The second type.
+	 * @return {@code true} if the types are equivalent, {@code false} otherwise.
+	 */
+	public boolean same(SemType type1, SemType type2) {
+		return classOf(type1) == classOf(type2);
+	}
+
+	/**
+	 * Returns the class of a type. All named types the type refers to must have
+	 * been classified already.
+	 *
+	 * @param type The type.
+	 * @return The class of the type.
+	 */
+	public int classOf(SemType type) {
+		if (type.equivClass != -1)
+			return type.equivClass;
+		synchronized (this) {
+			return classOfLocked(type);
+		}
+	}
+
+	/**
+	 * Returns the class of a type while holding the lock of this object.
+	 *
+	 * @param type The type.
+	 * @return The class of the type.
+	 */
+	private int classOfLocked(SemType type) {
+		if (type.equivClass != -1)
+			return type.equivClass;
+		int equivClass;
+		if (type instanceof SemName)
+			equivClass = classOfLocked(type.actualType());
+		else if (type instanceof SemPtr) {
+			int baseClass = classOfLocked(((SemPtr) type).baseType);
+			if (baseClass >= ptrClasses.length) {
+				int length = ptrClasses.length;
+				ptrClasses = Arrays.copyOf(ptrClasses, Math.max(2 * length, baseClass + 1));
+				Arrays.fill(ptrClasses, length, ptrClasses.length, -1);
+			}
+			if (ptrClasses[baseClass] == -1)
+				ptrClasses[baseClass] = classOf(new Signature(PTR, 0, new int[] { baseClass }));
+			equivClass = ptrClasses[baseClass];
+		} else if (type instanceof SemArr) {
+			SemArr arr = (SemArr) type;
+			equivClass = classOf(new Signature(ARR, arr.numElems, new int[] { classOfLocked(arr.elemType) }));
+		} else if (type instanceof SemRec) {
+			SemRec rec = (SemRec) type;
+			int[] compClasses = new int[rec.numComps()];
+			for (int comp = 0; comp < compClasses.length; comp++)
+				compClasses[comp] = classOfLocked(rec.compType(comp));
+			equivClass = classOf(new Signature(REC, compClasses.length, compClasses));
+		} else
+			equivClass = kind(type);
+		type.equivClass = equivClass;
+		return equivClass;
+	}
+
+	/**
+	 * Classifies named types declared together and all types they are defined
+	 * with. Named types must have been defined already and must not form cycles
+	 * of synonyms.
+	 *
+	 * The graph of types consists of all types not classified yet that are
+	 * reachable from the named types (with edges to named types leading to their
+	 * actual types) and of one node per existing class. The graph is refined
+	 * starting with a partition by kinds until nodes within each block have edges
+	 * to the same blocks. As existing classes are never equivalent to each other,
+	 * each block containing an existing class denotes that class, while all other
+	 * blocks become new classes.
+	 *
+	 * @param names The named types.
+	 */
+	public synchronized void classify(Collection<SemName> names) {
+		if (names.isEmpty())
+			return;
+
+		// Collect the types not classified yet.
+		Vector<SemType> types = new Vector<SemType>();
+		IdentityHashMap<SemType, Integer> nodes = new IdentityHashMap<SemType, Integer>();
+		Stack<SemType> pending = new Stack<SemType>();
+		for (SemName name : names)
+			pending.push(name.actualType());
+		while (!pending.isEmpty()) {
+			SemType type = pending.pop();
+			if (type.equivClass != -1 || nodes.containsKey(type))
+				continue;
+			nodes.put(type, signatures.size() + types.size());
+			types.add(type);
+			for (SemType subtype : subtypes(type))
+				pending.push(subtype.actualType());
+		}
+
+		// Build the graph.
+		int numOld = signatures.size();
+		int numNodes = numOld + types.size();
+		int[] kinds = new int[numNodes];
+		long[] params = new long[numNodes];
+		int[][] edges = new int[numNodes][];
+		for (int node = 0; node < numOld; node++) {
+			Signature signature = signatures.get(node);
+			kinds[node] = signature.kind;
+			params[node] = signature.param;
+			edges[node] = signature.subclasses;
+		}
+		for (int node = numOld; node < numNodes; node++) {
+			SemType type = types.get(node - numOld);
+			SemType[] subtypes = subtypes(type);
+			kinds[node] = kind(type);
+			params[node] = type instanceof SemArr ? ((SemArr) type).numElems
+					: type instanceof SemRec ? subtypes.length : 0;
+			edges[node] = new int[subtypes.length];
+			for (int edge = 0; edge < subtypes.length; edge++) {
+				SemType subtype = subtypes[edge].actualType();
+				edges[node][edge] = subtype.equivClass != -1 ? subtype.equivClass : nodes.get(subtype);
+			}
+		}
+
+		// Refine the partition.
+		int[] blocks = new int[numNodes];
+		int numBlocks = 0;
+		HashMap<Signature, Integer> blockOf = new HashMap<Signature, Integer>();
+		for (int node = 0; node < numNodes; node++) {
+			Signature key = new Signature(kinds[node], params[node], new int[0]);
+			Integer block = blockOf.get(key);
+			if (block == null)
+				blockOf.put(key, block = numBlocks++);
+			blocks[node] = block;
+		}
+		while (true) {
+			int[] refined = new int[numNodes];
+			int numRefined = 0;
+			blockOf.clear();
+			for (int node = 0; node < numNodes; node++) {
+				int[] targets = new int[edges[node].length];
+				for (int edge = 0; edge < targets.length; edge++)
+					targets[edge] = blocks[edges[node][edge]];
+				Signature key = new Signature(blocks[node], 0, targets);
+				Integer block = blockOf.get(key);
+				if (block == null)
+					blockOf.put(key, block = numRefined++);
+				refined[node] = block;
+			}
+			blocks = refined;
+			if (numRefined == numBlocks)
+				break;
+			numBlocks = numRefined;
+		}
+
+		// Turn blocks into classes.
+		int[] classOfBlock = new int[numBlocks];
+		Arrays.fill(classOfBlock, -1);
+		for (int node = 0; node < numOld; node++) {
+			if (classOfBlock[blocks[node]] != -1)
+				throw new Report.InternalError();
+			classOfBlock[blocks[node]] = node;
+		}
+		int numClasses = numOld;
+		for (int node = numOld; node < numNodes; node++)
+			if (classOfBlock[blocks[node]] == -1)
+				classOfBlock[blocks[node]] = numClasses++;
+		for (int node = numOld; node < numNodes; node++)
+			types.get(node - numOld).equivClass = classOfBlock[blocks[node]];
+		for (int equivClass = numOld; equivClass < numClasses; equivClass++)
+			signatures.add(null);
+		for (int node = numOld; node < numNodes; node++) {
+			int equivClass = classOfBlock[blocks[node]];
+			if (signatures.get(equivClass) != null)
+				continue;
+			int[] subclasses = new int[edges[node].length];
+			for (int edge = 0; edge < subclasses.length; edge++)
+				subclasses[edge] = classOfBlock[blocks[edges[node][edge]]];
+			Signature signature = new Signature(kinds[node], params[node], subclasses);
+			signatures.set(equivClass, signature);
+			classes.put(signature, equivClass);
+		}
+		for (SemName name : names)
+			classOfLocked(name);
+	}
+
+	/**
+	 * Returns the class with the specified signature, creating a new class if
+	 * there is none.
+	 *
+	 * @param signature The signature.
+	 * @return The class.
+	 */
+	private int classOf(Signature signature) {
+		Integer equivClass = classes.get(signature);
+		return equivClass != null ? equivClass : newClass(signature);
+	}
+
+	private int newClass(Signature signature) {
+		int equivClass = signatures.size();
+		signatures.add(signature);
+		classes.put(signature, equivClass);
+		return equivClass;
+	}
+
+	private static int kind(SemType type) {
+		if (type instanceof SemVoid)
+			return VOID;
+		if (type instanceof SemBool)
+			return BOOL;
+		if (type instanceof SemChar)
+			return CHAR;
+		if (type instanceof SemInt)
+			return INT;
+		if (type instanceof SemPtr)
+			return PTR;
+		if (type instanceof SemArr)
+			return ARR;
+		if (type instanceof SemRec)
+			return REC;
+		throw new Report.InternalError();
+	}
+
+	private static SemType[] subtypes(SemType type) {
+		if (type instanceof SemPtr)
+			return new SemType[] { ((SemPtr) type).baseType };
+		if (type instanceof SemArr)
+			return new SemType[] { ((SemArr) type).elemType };
+		if (type instanceof SemRec) {
+			SemRec rec = (SemRec) type;
+			SemType[] compTypes = new SemType[rec.numComps()];
+			for (int comp = 0; comp < compTypes.length; comp++)
+				compTypes[comp] = rec.compType(comp);
+			return compTypes;
+		}
+		return new SemType[0];
+	}
+
+}
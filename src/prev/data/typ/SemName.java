@@ -14,6 +14,12 @@ public class SemName extends SemType {
 	/** Type this named type represents. */
 	private SemType type = null;
 
+	/** The actual type (once computed). */
+	private SemType actualType = null;
+
+	/** The size of values of this type (or -1 if not computed yet). */
+	private long size = -1;
+
 	/**
 	 * Constructs a new named type.
 	 * 
@@ -50,12 +56,21 @@ public class SemName extends SemType {
 	 */
 	@Override
 	public SemType actualType() {
-		return type.actualType();
+		if (actualType == null)
+			actualType = type.actualType();
+		return actualType;
 	}
 
 	@Override
 	public long size() {
-		return type.size();
+		if (size == -1)
+			size = type.size();
+		return size;
+	}
+
+	@Override
+	public long alignment() {
+		return type.alignment();
 	}
 
 	@Override
@@ -12,6 +12,9 @@ public class SemRec extends SemType {
 	/** Component types. */
 	private final SemType[] compTypes;
 
+	/** The size of values of this type (or -1 if not computed yet). */
+	private long size = -1;
+
 	public SemRec(Collection<SemType> compTypes) {
 		this.compTypes = new SemType[compTypes.size()];
 		int index = 0;
@@ -41,13 +44,26 @@ public class SemRec extends SemType {
 
 	@Override
 	public long size() {
-		long size = 0;
-		for (int index = 0; index < compTypes.length; index++) {
-			size += compTypes[index].size();
+		if (size == -1) {
+			long size = 0;
+			for (int index = 0; index < compTypes.length; index++) {
+				size = align(size, compTypes[index].alignment());
+				size += compTypes[index].size();
+			}
+			this.size = align(size, alignment());
 		}
 		return size;
 	}
 
+	@Override
+	public long alignment() {
+		long alignment = 1;
+		for (SemType compType : compTypes) {
+			alignment = Math.max(alignment, compType.alignment());
+		}
+		return alignment;
+	}
+
 	@Override
 	public void log(Logger logger) {
 		if (logger == null)
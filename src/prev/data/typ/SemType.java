@@ -1,5 +1,6 @@
 package prev.data.typ;
 
+import prev.Compilation;
 import prev.common.logger.*;
 
 /**
@@ -7,6 +8,12 @@ import prev.common.logger.*;
  */
 public abstract class SemType implements Loggable {
 
+	/**
+	 * The structural equivalence class of this type (or -1 if not classified yet,
+	 * see {@link SemEquivalence}).
+	 */
+	int equivClass = -1;
+
 	/**
 	 * Returns the actual type (not a synonym).
 	 * 
@@ -23,4 +30,38 @@ public abstract class SemType implements Loggable {
 	 */
 	public abstract long size();
 
+	/**
+	 * Returns the alignment of values of this type, i.e., the number their
+	 * addresses must be a multiple of.
+	 *
+	 * @return The alignment of values of this type.
+	 */
+	public long alignment() {
+		return 8;
+	}
+
+	/**
+	 * Rounds a size or an offset up to a multiple of an alignment.
+	 *
+	 * @param size      The size or the offset.
+	 * @param alignment The alignment.
+	 * @return The smallest multiple of the alignment not smaller than the size.
+	 */
+	public static long align(long size, long alignment) {
+		return (size + alignment - 1) / alignment * alignment;
+	}
+
+	/**
+	 * Checks whether values of types {@code char} and {@code bool} take a single
+	 * byte in the current compilation (option {@code --packed}) rather than an
+	 * octabyte.
+	 *
+	 * @return {@code true} if values of types {@code char} and {@code bool} are
+	 *         packed, {@code false} otherwise.
+	 */
+	public static boolean packed() {
+		Compilation compilation = Compilation.currentOrNull();
+		return compilation != null && compilation.packed;
+	}
+
 }
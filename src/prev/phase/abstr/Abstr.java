@@ -1,5 +1,6 @@
 package prev.phase.abstr;
 
+import prev.Compilation;
 import prev.phase.*;
 import prev.data.ast.tree.*;
 
@@ -10,8 +11,14 @@ public class Abstr extends Phase {
 
 	// === STATIC ===
 
-	/** The abstract syntax tree. */
-	public static AstTree tree;
+	/**
+	 * Returns the abstract syntax tree of the current compilation.
+	 * 
+	 * @return The abstract syntax tree.
+	 */
+	public static AstTree tree() {
+		return Compilation.current().ast;
+	}
 	
 	// ==============
 	
@@ -3,15 +3,23 @@ package prev.phase.all;
 import java.util.List;
 import java.util.LinkedList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.io.PrintWriter;
 import java.io.IOException;
 
 import prev.data.asm.*;
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.AstFunDecl;
+import prev.data.mem.MemFrame;
 import prev.data.lin.LinDataChunk;
+import prev.data.typ.SemType;
 import prev.phase.asmgen.AsmGen;
 import prev.phase.regall.RegAll;
 import prev.phase.imclin.ImcLin;
+import prev.phase.abstr.Abstr;
+import prev.phase.memory.Memory;
 import prev.Compiler;
+import prev.Compilation;
 import prev.common.report.Report;
 
 /**
@@ -19,7 +27,7 @@ import prev.common.report.Report;
  */
 public class All {
 
-	public static List<Fun> funs = new LinkedList<>();
+	private final List<Fun> funs = new LinkedList<>();
 
     private long dataSize = 0L;
 
@@ -50,31 +58,11 @@ public class All {
             writer.println();
 
             // Functions
-            for (Fun fun : funs) {
-                for (String instr : fun.prologue) {
-                    writer.println(instr);
-                }
-
-                for (int i = 0; i < fun.body.instrs.size(); ++i) {
-                    AsmInstr instr = fun.body.instrs.get(i);
-                    if (instr instanceof AsmLABEL) {
-                        if (i < fun.body.instrs.size() + 1 &&
-                                fun.body.instrs.get(i + 1) instanceof AsmLABEL) {
-                            writer.print(instr.toString(RegAll.tempToReg));
-                            writer.println("\t\tSWYM");
-                        } else {
-                            writer.print(instr.toString(RegAll.tempToReg));
-                        }
-                    } else {
-                        writer.println(instr.toString(RegAll.tempToReg));
-                    }
-                }
+            writer.print(createFuns());
 
-                for (String instr : fun.epilogue) {
-                    writer.println(instr);
-                }
-
-                writer.println();
+            // Functions of linked modules
+            for (CompiledModule module : Compilation.current().modules) {
+                writer.print(module.linkCode());
             }
 
             // Stdlib
@@ -87,6 +75,86 @@ public class All {
         }
    }
 
+    /* Create module file with the compiled functions and static data */
+    public void createModule(String filename) {
+        List<String> data = createDataChunks();
+        CompiledModule.write(filename, data, dataSize, createFuns());
+    }
+
+    /* Create assembly code of all compiled functions */
+    private String createFuns() {
+        FunCache cache = FunCache.current();
+        if (cache == null) {
+            StringBuilder code = new StringBuilder();
+            for (Fun fun : funs) {
+                code.append(createFun(fun));
+            }
+            return code.toString();
+        }
+        return createFuns(cache);
+    }
+
+    /* Create functions in the order of top-level declarations using the cache */
+    private String createFuns(FunCache cache) {
+        StringBuilder funsCode = new StringBuilder();
+        Iterator<Fun> compiled = funs.iterator();
+        for (AstTree tree : (AstTrees<?>) Abstr.tree()) {
+            if (!(tree instanceof AstFunDecl) || ((AstFunDecl) tree).expr == null
+                    || !CallGraph.isLive((AstFunDecl) tree)) {
+                continue;
+            }
+            AstFunDecl funDecl = (AstFunDecl) tree;
+
+            if (FunCache.isCached(funDecl)) {
+                funsCode.append(cache.code(funDecl));
+                continue;
+            }
+
+            // Nested functions precede the top-level function
+            MemFrame frame = Memory.frames().get(funDecl);
+            StringBuilder code = new StringBuilder();
+            Fun fun;
+            do {
+                fun = compiled.next();
+                code.append(createFun(fun));
+            } while (fun.body.frame != frame);
+
+            funsCode.append(code);
+            cache.store(funDecl, code.toString());
+        }
+        return funsCode.toString();
+    }
+
+    /* Create assembly code of a single function */
+    private String createFun(Fun fun) {
+        StringBuilder code = new StringBuilder();
+        for (String instr : fun.prologue) {
+            code.append(instr).append('\n');
+        }
+
+        for (int i = 0; i < fun.body.instrs.size(); ++i) {
+            AsmInstr instr = fun.body.instrs.get(i);
+            if (instr instanceof AsmLABEL) {
+                if (i < fun.body.instrs.size() + 1 &&
+                        fun.body.instrs.get(i + 1) instanceof AsmLABEL) {
+                    code.append(instr.toString(RegAll.tempToReg()));
+                    code.append("\t\tSWYM\n");
+                } else {
+                    code.append(instr.toString(RegAll.tempToReg()));
+                }
+            } else {
+                code.append(instr.toString(RegAll.tempToReg())).append('\n');
+            }
+        }
+
+        for (String instr : fun.epilogue) {
+            code.append(instr).append('\n');
+        }
+
+        code.append('\n');
+        return code.toString();
+    }
+
     private List<String> createStartCode() {
         List<String> instrs = new LinkedList<>();
 
@@ -134,6 +202,11 @@ public class All {
         // new
         instrs.add("_new\t\tSTO\t$252,$254,0");
         instrs.add("\t\tLDO\t$0,$254,8");
+        if (SemType.packed()) {
+            // Keep the heap pointer aligned to an octabyte
+            instrs.add("\t\tADD\t$0,$0,7");
+            instrs.add("\t\tANDN\t$0,$0,7");
+        }
         instrs.add("\t\tADD\t$252,$252,$0");
         instrs.add("\t\tPOP\t0,0");
 
@@ -157,24 +230,48 @@ public class All {
         staticData.add("Arg\t\tOCTA\tInBuf,2");
         dataSize += 24;
 
+        staticData.addAll(createDataChunks());
+
+        // Static data of linked modules
+        for (CompiledModule module : Compilation.current().modules) {
+            staticData.addAll(module.linkData());
+            dataSize += module.dataSize;
+        }
+
+        return staticData;
+    }
+
+    private List<String> createDataChunks() {
+        List<String> staticData = new LinkedList<>();
+
         for (LinDataChunk data : ImcLin.dataChunks()) {
             if (data.init != null) {
                 // String
-                String fixedString = Arrays.toString(data.init.getBytes())
-                                        .replaceAll("[\\[\\] ]", "");
-                staticData.add(String.format("%s\t\tOCTA\t%s,0",
-                                            data.label.name, fixedString));
-                dataSize += data.size;
+                if (SemType.packed()) {
+                    // Packed string, one byte per character
+                    StringBuilder bytes = new StringBuilder();
+                    for (byte b : data.init.getBytes()) {
+                        bytes.append(b & 0xFF).append(',');
+                    }
+                    staticData.add(String.format("%s\t\tBYTE\t%s0",
+                                                data.label.name, bytes));
+                } else {
+                    String fixedString = Arrays.toString(data.init.getBytes())
+                                            .replaceAll("[\\[\\] ]", "");
+                    staticData.add(String.format("%s\t\tOCTA\t%s,0",
+                                                data.label.name, fixedString));
+                }
+                dataSize += SemType.align(data.size, 8);
             } else if (data.size > 8) {
                 // Non primitive
                 staticData.add(data.label.name + "\t\tOCTA");
-                dataSize += data.size;
+                dataSize += SemType.align(data.size, 8);
                 staticData.add(String.format("\t\tLOC\t%s+%d",
                                             data.label.name, data.size));
             } else {
                 // Primitive
                 staticData.add(data.label.name + "\t\tOCTA");
-                dataSize += data.size;
+                dataSize += SemType.align(data.size, 8);
             }
         }
 
@@ -183,7 +280,7 @@ public class All {
 
     /* Add prologue and epilogue to every compiled function */
     public void finishFuns() {
-        for (Code fun : AsmGen.codes) {
+        for (Code fun : AsmGen.codes()) {
             funs.add(new Fun(fun, createPrologue(fun), createEpilogue(fun)));
         }
     }
@@ -222,7 +319,7 @@ public class All {
         epilogue.add(fun.exitLabel.name + "\t\tSWYM");
 
         // Save return value to FP
-        int RV = RegAll.tempToReg.get(fun.frame.RV);
+        int RV = RegAll.tempToReg().get(fun.frame.RV);
         epilogue.add(String.format("\t\tSTO\t$%d,$253,0", RV));
 
         // Restore SP, FP and return address
@@ -0,0 +1,248 @@
+package prev.phase.all;
+
+import java.util.*;
+
+import prev.Compilation;
+import prev.common.stats.*;
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.*;
+import prev.data.ast.tree.expr.*;
+import prev.data.ast.visitor.*;
+import prev.data.mem.*;
+import prev.phase.memory.*;
+import prev.phase.seman.*;
+
+/**
+ * The call graph of a program.
+ *
+ * Nodes of the call graph are all functions of the program (including nested
+ * ones) and all global variables. There is an edge from a function to every
+ * function it calls and to every global variable it refers to, where a
+ * function calls the functions called within its body but not within bodies
+ * of functions nested in it. Functions and global variables that cannot be
+ * reached from the roots of the program are dead: no code or data is
+ * generated for them.
+ *
+ * The roots are function {@code main} or, if the program is compiled as a
+ * module or does not define {@code main}, all top-level functions and global
+ * variables. Recursive functions are handled by computing strongly connected
+ * components of the call graph first (see {@link #components()}), so that
+ * liveness is propagated in a single pass over components in topological
+ * order.
+ */
+public class CallGraph extends AstFullVisitor<Object, Integer> {
+
+	/**
+	 * Checks whether a function or a global variable is live in the current
+	 * compilation.
+	 *
+	 * @param decl The declaration of the function or the global variable.
+	 * @return {@code true} if code or data must be generated for the
+	 *         declaration, {@code false} if it is dead.
+	 */
+	public static boolean isLive(AstDecl decl) {
+		CallGraph callGraph = Compilation.current().callGraph;
+		return (callGraph == null) || callGraph.live(decl);
+	}
+
+	/** Declarations of all nodes. */
+	private final Vector<AstDecl> decls = new Vector<AstDecl>();
+
+	/** Indices of nodes of all declarations. */
+	private final HashMap<AstDecl, Integer> nodes = new HashMap<AstDecl, Integer>();
+
+	/** Edges leaving each node. */
+	private final Vector<Vector<Integer>> edges = new Vector<Vector<Integer>>();
+
+	/** The strongly connected component of each node. */
+	private int[] component;
+
+	/** Whether each node is live. */
+	private boolean[] live;
+
+	/**
+	 * Constructs the call graph of a program and determines which of its
+	 * functions and global variables are live.
+	 *
+	 * @param decls  Top-level declarations of the program.
+	 * @param module Whether the program is compiled as a module.
+	 */
+	public CallGraph(AstTrees<? extends AstTree> decls, boolean module) {
+		decls.accept(this, null);
+
+		Vector<Integer> roots = new Vector<Integer>();
+		for (AstTree decl : decls)
+			if (!module && decl instanceof AstFunDecl && ((AstFunDecl) decl).name.equals("main"))
+				roots.add(node((AstDecl) decl));
+		if (roots.isEmpty()) {
+			for (AstTree decl : decls)
+				if (nodes.containsKey(decl))
+					roots.add(nodes.get(decl));
+		}
+
+		int[] order = components();
+		boolean[] liveComponents = new boolean[order.length];
+		for (int root : roots)
+			liveComponents[component[root]] = true;
+		// Components are numbered in reverse topological order.
+		for (int i = order.length - 1; i >= 0; i--) {
+			int node = order[i];
+			if (!liveComponents[component[node]])
+				continue;
+			for (int succ : edges.get(node))
+				liveComponents[component[succ]] = true;
+		}
+
+		live = new boolean[order.length];
+		int numDeadFuns = 0;
+		for (int node = 0; node < live.length; node++) {
+			live[node] = liveComponents[component[node]];
+			if (!live[node] && this.decls.get(node) instanceof AstFunDecl
+					&& ((AstFunDecl) this.decls.get(node)).expr != null)
+				numDeadFuns++;
+		}
+		Stats.count("deadFuns", numDeadFuns);
+	}
+
+	/**
+	 * Checks whether a function or a global variable is live.
+	 *
+	 * @param decl The declaration of the function or the global variable.
+	 * @return {@code true} if the declaration is live, {@code false} otherwise.
+	 */
+	public boolean live(AstDecl decl) {
+		Integer node = nodes.get(decl);
+		return (node == null) || live[node];
+	}
+
+	/**
+	 * Returns the node of a declaration, adding a new node if there is none.
+	 *
+	 * @param decl The declaration.
+	 * @return The index of the node.
+	 */
+	private int node(AstDecl decl) {
+		Integer node = nodes.get(decl);
+		if (node == null) {
+			node = decls.size();
+			decls.add(decl);
+			nodes.put(decl, node);
+			edges.add(new Vector<Integer>());
+		}
+		return node;
+	}
+
+	/**
+	 * Computes strongly connected components of the call graph using Tarjan's
+	 * algorithm with an explicit stack, so that long chains of calls do not
+	 * exhaust the stack of the compiler. Components are numbered in the order
+	 * they are completed, i.e., in reverse topological order.
+	 *
+	 * @return All nodes ordered by their components.
+	 */
+	private int[] components() {
+		int numNodes = decls.size();
+		component = new int[numNodes];
+		int[] index = new int[numNodes];
+		int[] lowlink = new int[numNodes];
+		int[] nextEdge = new int[numNodes];
+		boolean[] onStack = new boolean[numNodes];
+		Arrays.fill(index, -1);
+
+		int[] stack = new int[numNodes];
+		int stackSize = 0;
+		int[] path = new int[numNodes];
+		int[] order = new int[numNodes];
+		int orderSize = 0;
+		int numIndices = 0;
+		int numComponents = 0;
+		for (int start = 0; start < numNodes; start++) {
+			if (index[start] != -1)
+				continue;
+			int pathSize = 0;
+			path[pathSize++] = start;
+			index[start] = lowlink[start] = numIndices++;
+			stack[stackSize++] = start;
+			onStack[start] = true;
+			while (pathSize > 0) {
+				int node = path[pathSize - 1];
+				Vector<Integer> succs = edges.get(node);
+				if (nextEdge[node] < succs.size()) {
+					int succ = succs.get(nextEdge[node]++);
+					if (index[succ] == -1) {
+						path[pathSize++] = succ;
+						index[succ] = lowlink[succ] = numIndices++;
+						stack[stackSize++] = succ;
+						onStack[succ] = true;
+					} else if (onStack[succ])
+						lowlink[node] = Math.min(lowlink[node], index[succ]);
+					continue;
+				}
+				pathSize--;
+				if (pathSize > 0)
+					lowlink[path[pathSize - 1]] = Math.min(lowlink[path[pathSize - 1]], lowlink[node]);
+				if (lowlink[node] == index[node]) {
+					int member;
+					do {
+						member = stack[--stackSize];
+						onStack[member] = false;
+						component[member] = numComponents;
+						order[orderSize++] = member;
+					} while (member != node);
+					numComponents++;
+				}
+			}
+		}
+		return order;
+	}
+
+	// GENERAL PURPOSE
+
+	@Override
+	public Object visit(AstTrees<? extends AstTree> trees, Integer from) {
+		for (AstTree t : trees) {
+			if (t instanceof AstVarDecl && Memory.accesses().get((AstVarDecl) t) instanceof MemAbsAccess)
+				node((AstVarDecl) t);
+			t.accept(this, from);
+		}
+		return null;
+	}
+
+	// DECLARATIONS
+
+	@Override
+	public Object visit(AstFunDecl funDecl, Integer from) {
+		return super.visit(funDecl, node(funDecl));
+	}
+
+	// EXPRESSIONS
+
+	@Override
+	public Object visit(AstCallExpr callExpr, Integer from) {
+		edge(from, SemAn.declaredAt().get(callExpr));
+		return super.visit(callExpr, from);
+	}
+
+	@Override
+	public Object visit(AstNameExpr nameExpr, Integer from) {
+		edge(from, SemAn.declaredAt().get(nameExpr));
+		return super.visit(nameExpr, from);
+	}
+
+	/**
+	 * Adds an edge from a function to a function or a global variable it refers
+	 * to.
+	 *
+	 * @param from The node of the function (or {@code null} if outside of any
+	 *             function).
+	 * @param decl The declaration referred to.
+	 */
+	private void edge(Integer from, AstDecl decl) {
+		if (from == null)
+			return;
+		if (decl instanceof AstFunDecl
+				|| (decl instanceof AstVarDecl && Memory.accesses().get((AstVarDecl) decl) instanceof MemAbsAccess))
+			edges.get(from).add(node(decl));
+	}
+
+}
@@ -0,0 +1,420 @@
+package prev.phase.all;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+import org.antlr.v4.runtime.*;
+
+import prev.common.report.*;
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.*;
+import prev.data.ast.tree.expr.*;
+import prev.data.ast.tree.type.*;
+import prev.data.ast.visitor.*;
+import prev.data.mem.*;
+import prev.data.typ.*;
+import prev.phase.abstr.*;
+import prev.phase.lexan.*;
+import prev.phase.memory.*;
+import prev.phase.seman.*;
+import prev.phase.synan.*;
+
+/**
+ * A separately compiled module.
+ *
+ * A module consists of its interface, i.e., signatures of all functions
+ * defined by the module (written in PREV'22 together with the types they
+ * refer to), its static data and its final assembly code. All labels of the
+ * module except the labels of its functions are relocatable: they are written
+ * as placeholders {@code {L<k>}} and replaced by fresh labels of the program
+ * the module is linked with.
+ */
+public class CompiledModule {
+
+	/** The first line of every module file. */
+	private static final String header = "prev22 module 1";
+
+	/** Placeholders of relocatable labels. */
+	private static final Pattern placeholders = Pattern.compile("\\{L([0-9]+)\\}");
+
+	/** The name of the module file. */
+	public final String fileName;
+
+	/** The interface of the module. */
+	public final String signatures;
+
+	/** Static data of the module. */
+	public final List<String> data;
+
+	/** The size of static data of the module. */
+	public final long dataSize;
+
+	/** Assembly code of all functions of the module. */
+	public final String code;
+
+	/** Fresh labels replacing relocatable labels of the module. */
+	private final HashMap<String, MemLabel> labels = new HashMap<String, MemLabel>();
+
+	private CompiledModule(String fileName, String signatures, List<String> data, long dataSize, String code) {
+		this.fileName = fileName;
+		this.signatures = signatures;
+		this.data = data;
+		this.dataSize = dataSize;
+		this.code = code;
+	}
+
+	// WRITING
+
+	/**
+	 * Writes the current compilation as a module.
+	 *
+	 * @param fileName The name of the module file.
+	 * @param data     Static data of the module.
+	 * @param dataSize The size of static data of the module.
+	 * @param code     Assembly code of all functions of the module.
+	 */
+	public static void write(String fileName, List<String> data, long dataSize, String code) {
+		AstTrees<?> decls = (AstTrees<?>) Abstr.tree();
+
+		// Labels of global variables and anonymous labels are relocatable.
+		StringBuilder relocatable = new StringBuilder("\\b(L[0-9]+");
+		for (AstTree decl : decls) {
+			if (decl instanceof AstVarDecl) {
+				MemAccess access = Memory.accesses().get((AstVarDecl) decl);
+				if (access instanceof MemAbsAccess)
+					relocatable.append('|').append(Pattern.quote(((MemAbsAccess) access).label.name));
+			}
+		}
+		Pattern labels = Pattern.compile(relocatable.append(")\\b").toString());
+		HashMap<String, String> relocated = new HashMap<String, String>();
+
+		StringBuilder module = new StringBuilder(header).append(SemType.packed() ? " packed" : "").append('\n');
+		String signatures = new Signatures(decls).toString();
+		module.append("interface ").append(lines(signatures)).append('\n').append(signatures);
+		StringBuilder dataText = new StringBuilder();
+		for (String line : data)
+			dataText.append(line).append('\n');
+		String dataCode = relocate(dataText.toString(), labels, relocated);
+		module.append("data ").append(lines(dataCode)).append(' ').append(dataSize).append('\n').append(dataCode);
+		String funCode = relocate(code, labels, relocated);
+		module.append("code ").append(lines(funCode)).append('\n').append(funCode);
+
+		try {
+			Files.write(Paths.get(fileName), module.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException ex) {
+			throw new Report.Error("Cannot write to file.");
+		}
+	}
+
+	private static int lines(String text) {
+		int lines = 0;
+		for (int c = 0; c < text.length(); c++)
+			if (text.charAt(c) == '\n')
+				lines++;
+		return lines;
+	}
+
+	private static String relocate(String text, Pattern labels, HashMap<String, String> relocated) {
+		Matcher matcher = labels.matcher(text);
+		StringBuilder code = new StringBuilder();
+		while (matcher.find()) {
+			String placeholder = relocated.computeIfAbsent(matcher.group(), __ -> "{L" + relocated.size() + "}");
+			matcher.appendReplacement(code, Matcher.quoteReplacement(placeholder));
+		}
+		matcher.appendTail(code);
+		return code.toString();
+	}
+
+	// READING
+
+	/**
+	 * Reads a module.
+	 *
+	 * @param fileName The name of the module file.
+	 * @return The module.
+	 */
+	public static CompiledModule read(String fileName) {
+		try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			String firstLine = reader.readLine();
+			if (firstLine == null || !(firstLine.equals(header) || firstLine.equals(header + " packed")))
+				throw new Report.Error("File '" + fileName + "' is not a module.");
+			if (firstLine.endsWith(" packed") != SemType.packed())
+				throw new Report.Error("Module '" + fileName + "' is compiled with a different layout of chars and bools.");
+			String[] section = section(reader, "interface", fileName);
+			String signatures = String.join("\n", read(reader, Integer.parseInt(section[1]), fileName));
+			section = section(reader, "data", fileName);
+			List<String> data = read(reader, Integer.parseInt(section[1]), fileName);
+			long dataSize = Long.parseLong(section[2]);
+			section = section(reader, "code", fileName);
+			List<String> code = read(reader, Integer.parseInt(section[1]), fileName);
+			StringBuilder codeText = new StringBuilder();
+			for (String line : code)
+				codeText.append(line).append('\n');
+			return new CompiledModule(fileName, signatures, data, dataSize, codeText.toString());
+		} catch (IOException | NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+			throw new Report.Error("Cannot read module '" + fileName + "'.");
+		}
+	}
+
+	private static String[] section(BufferedReader reader, String name, String fileName) throws IOException {
+		String line = reader.readLine();
+		if (line == null || !line.startsWith(name + " "))
+			throw new Report.Error("Cannot read module '" + fileName + "'.");
+		return line.split(" ");
+	}
+
+	private static List<String> read(BufferedReader reader, int numLines, String fileName) throws IOException {
+		List<String> lines = new LinkedList<String>();
+		for (int line = 0; line < numLines; line++) {
+			String text = reader.readLine();
+			if (text == null)
+				throw new Report.Error("Cannot read module '" + fileName + "'.");
+			lines.add(text);
+		}
+		return lines;
+	}
+
+	// IMPORTING AND LINKING
+
+	/**
+	 * Adds declarations of all modules to the declarations of a program. A
+	 * declaration of the program takes precedence over an imported declaration
+	 * of the same name, but a function must not be defined both by the program
+	 * and by a module or by two modules, and a type must not be declared
+	 * differently by the program and by a module or by two modules (as the
+	 * imported signatures would refer to the wrong type).
+	 *
+	 * @param program The declarations of the program.
+	 * @param modules The modules.
+	 * @return The declarations of the program and of all modules.
+	 */
+	public static AstTrees<AstDecl> importDecls(AstTrees<AstDecl> program, List<CompiledModule> modules) {
+		HashMap<String, AstDecl> declared = new HashMap<String, AstDecl>();
+		for (AstDecl decl : program)
+			if (decl instanceof AstNameDecl)
+				declared.put(((AstNameDecl) decl).name, decl);
+		HashSet<String> programNames = new HashSet<String>(declared.keySet());
+
+		List<AstDecl> decls = new LinkedList<AstDecl>();
+		HashMap<String, CompiledModule> defined = new HashMap<String, CompiledModule>();
+		HashMap<String, CompiledModule> typed = new HashMap<String, CompiledModule>();
+		for (CompiledModule module : modules) {
+			for (AstDecl decl : module.decls()) {
+				AstNameDecl nameDecl = (AstNameDecl) decl;
+				if (nameDecl instanceof AstTypeDecl && declared.containsKey(nameDecl.name)
+						&& !Signatures.text(declared.get(nameDecl.name)).equals(Signatures.text(nameDecl))) {
+					if (!typed.containsKey(nameDecl.name) || programNames.contains(nameDecl.name))
+						throw new Report.Error(declared.get(nameDecl.name), "Type '" + nameDecl.name
+								+ "' is also declared differently in module '" + module.fileName + "'.");
+					throw new Report.Error("Type '" + nameDecl.name + "' is declared differently in modules '"
+							+ typed.get(nameDecl.name).fileName + "' and '" + module.fileName + "'.");
+				}
+				if (nameDecl instanceof AstTypeDecl && !typed.containsKey(nameDecl.name))
+					typed.put(nameDecl.name, module);
+				if (nameDecl instanceof AstFunDecl) {
+					AstDecl programDecl = declared.get(nameDecl.name);
+					if (programDecl instanceof AstFunDecl && ((AstFunDecl) programDecl).expr != null)
+						throw new Report.Error(programDecl, "Function '" + nameDecl.name
+								+ "' is also defined in module '" + module.fileName + "'.");
+					if (defined.containsKey(nameDecl.name))
+						throw new Report.Error("Function '" + nameDecl.name + "' is defined in modules '"
+								+ defined.get(nameDecl.name).fileName + "' and '" + module.fileName + "'.");
+					defined.put(nameDecl.name, module);
+				}
+				if (declared.containsKey(nameDecl.name))
+					continue;
+				declared.put(nameDecl.name, decl);
+				decls.add(decl);
+			}
+		}
+
+		for (AstDecl decl : program)
+			decls.add(decl);
+		return new AstTrees<AstDecl>(decls);
+	}
+
+	/**
+	 * Parses the interface of the module.
+	 *
+	 * @return Declarations of types and functions exported by the module.
+	 */
+	private AstTrees<AstDecl> decls() {
+		PrevLexer lexer = new PrevLexer(CharStreams.fromString(signatures, fileName));
+		PrevParser parser = new PrevParser(new TokenBuffer(lexer, null));
+		parser.removeErrorListeners();
+		parser.addErrorListener(new BaseErrorListener() {
+			public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+					int charPositionInLine, String msg, RecognitionException e) {
+				throw new Report.Error("Interface of module '" + fileName + "' is malformed.");
+			}
+		});
+		return parser.source().ast;
+	}
+
+	/**
+	 * Returns the static data of the module relocated to the current compilation.
+	 *
+	 * @return Static data of the module.
+	 */
+	public List<String> linkData() {
+		List<String> linked = new LinkedList<String>();
+		for (String line : data)
+			linked.add(link(line));
+		return linked;
+	}
+
+	/**
+	 * Returns the assembly code of the module relocated to the current
+	 * compilation.
+	 *
+	 * @return Assembly code of all functions of the module.
+	 */
+	public String linkCode() {
+		return link(code);
+	}
+
+	private String link(String text) {
+		Matcher matcher = placeholders.matcher(text);
+		StringBuilder linked = new StringBuilder();
+		while (matcher.find()) {
+			MemLabel label = labels.computeIfAbsent(matcher.group(1), __ -> new MemLabel());
+			matcher.appendReplacement(linked, label.name);
+		}
+		matcher.appendTail(linked);
+		return linked.toString();
+	}
+
+	// INTERFACE
+
+	/**
+	 * The interface of a module: signatures of functions defined by the module
+	 * and declarations of types they refer to.
+	 */
+	private static class Signatures extends AstNullVisitor<Object, StringBuilder> {
+
+		/** Type declarations the signatures refer to. */
+		private final LinkedHashSet<AstTypeDecl> typeDecls = new LinkedHashSet<AstTypeDecl>();
+
+		/** The interface. */
+		private final StringBuilder signatures = new StringBuilder();
+
+		/** Whether type declarations the signatures refer to are collected. */
+		private final boolean collect;
+
+		/**
+		 * Returns the text of a declaration as it appears in an interface.
+		 *
+		 * @param decl The declaration.
+		 * @return The text of the declaration.
+		 */
+		public static String text(AstDecl decl) {
+			StringBuilder text = new StringBuilder();
+			decl.accept(new Signatures(), text);
+			return text.toString();
+		}
+
+		private Signatures() {
+			collect = false;
+		}
+
+		public Signatures(AstTrees<?> decls) {
+			collect = true;
+			StringBuilder funs = new StringBuilder();
+			for (AstTree decl : decls)
+				if (decl instanceof AstFunDecl && ((AstFunDecl) decl).expr != null)
+					decl.accept(this, funs);
+
+			HashSet<AstTypeDecl> printed = new HashSet<AstTypeDecl>();
+			while (!printed.containsAll(typeDecls)) {
+				for (AstTypeDecl typeDecl : new Vector<AstTypeDecl>(typeDecls))
+					if (printed.add(typeDecl))
+						typeDecl.accept(this, signatures);
+			}
+			signatures.append(funs);
+		}
+
+		@Override
+		public String toString() {
+			return signatures.toString();
+		}
+
+		@Override
+		public Object visit(AstFunDecl funDecl, StringBuilder text) {
+			text.append("fun ").append(funDecl.name).append('(');
+			if (funDecl.pars != null) {
+				for (int par = 0; par < funDecl.pars.size(); par++) {
+					if (par > 0)
+						text.append(", ");
+					funDecl.pars.get(par).accept(this, text);
+				}
+			}
+			text.append(") : ");
+			funDecl.type.accept(this, text);
+			return text.append('\n');
+		}
+
+		@Override
+		public Object visit(AstParDecl parDecl, StringBuilder text) {
+			text.append(parDecl.name).append(" : ");
+			return parDecl.type.accept(this, text);
+		}
+
+		@Override
+		public Object visit(AstCompDecl compDecl, StringBuilder text) {
+			text.append(compDecl.name).append(" : ");
+			return compDecl.type.accept(this, text);
+		}
+
+		@Override
+		public Object visit(AstTypeDecl typeDecl, StringBuilder text) {
+			text.append("typ ").append(typeDecl.name).append(" = ");
+			typeDecl.type.accept(this, text);
+			return text.append('\n');
+		}
+
+		@Override
+		public Object visit(AstArrType arrType, StringBuilder text) {
+			// The size may be prefixed by a +
+			AstExpr numElems = arrType.numElems;
+			while (numElems instanceof AstPfxExpr)
+				numElems = ((AstPfxExpr) numElems).expr;
+			text.append('[').append(((AstAtomExpr) numElems).value).append(']');
+			return arrType.elemType.accept(this, text);
+		}
+
+		@Override
+		public Object visit(AstAtomType atomType, StringBuilder text) {
+			return text.append(atomType.type.toString().toLowerCase());
+		}
+
+		@Override
+		public Object visit(AstNameType nameType, StringBuilder text) {
+			AstDecl decl = collect ? SemAn.declaredAt().get(nameType) : null;
+			if (decl instanceof AstTypeDecl)
+				typeDecls.add((AstTypeDecl) decl);
+			return text.append(nameType.name);
+		}
+
+		@Override
+		public Object visit(AstPtrType ptrType, StringBuilder text) {
+			text.append('^');
+			return ptrType.baseType.accept(this, text);
+		}
+
+		@Override
+		public Object visit(AstRecType recType, StringBuilder text) {
+			text.append('{');
+			for (int comp = 0; comp < recType.comps.size(); comp++) {
+				if (comp > 0)
+					text.append(", ");
+				recType.comps.get(comp).accept(this, text);
+			}
+			return text.append('}');
+		}
+
+	}
+
+}
@@ -0,0 +1,298 @@
+package prev.phase.all;
+
+import java.util.*;
+
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.*;
+import prev.data.ast.tree.expr.*;
+import prev.data.ast.tree.stmt.*;
+import prev.data.ast.tree.type.*;
+import prev.data.ast.visitor.*;
+import prev.phase.seman.*;
+
+/**
+ * A canonical textual representation of a function declaration and of
+ * everything its machine code depends on.
+ *
+ * The fingerprint of a function consists of the function's abstract syntax
+ * tree (without source locations) followed by the declarations of all types
+ * and global variables it refers to and the signatures of all functions it
+ * calls, including the declarations these refer to in turn.
+ */
+public class Fingerprint extends AstFullVisitor<Object, StringBuilder> {
+
+	/** Declarations found within the function. */
+	private final HashSet<AstDecl> innerDecls = new HashSet<AstDecl>();
+
+	/** Declarations the function refers to. */
+	private final LinkedHashSet<AstDecl> usedDecls = new LinkedHashSet<AstDecl>();
+
+	/** String constants of the function in the order of traversal. */
+	private final Vector<AstAtomExpr> strings = new Vector<AstAtomExpr>();
+
+	/** Whether only the signature of the next function is to be printed. */
+	private boolean signature = false;
+
+	/** The fingerprint. */
+	private final StringBuilder text = new StringBuilder();
+
+	/**
+	 * Computes the fingerprint of a function declaration.
+	 *
+	 * @param funDecl The function declaration.
+	 */
+	public Fingerprint(AstFunDecl funDecl) {
+		funDecl.accept(this, text);
+
+		// Declarations outside the function in the order they are first referred to.
+		Vector<AstDecl> outerDecls = new Vector<AstDecl>();
+		HashSet<AstDecl> printed = new HashSet<AstDecl>(innerDecls);
+		while (true) {
+			for (AstDecl decl : usedDecls)
+				if (printed.add(decl))
+					outerDecls.add(decl);
+			if (outerDecls.isEmpty())
+				break;
+			for (AstDecl decl : outerDecls) {
+				text.append('\n');
+				signature = true;
+				decl.accept(this, text);
+				signature = false;
+			}
+			outerDecls.clear();
+		}
+	}
+
+	/**
+	 * Returns the fingerprint.
+	 *
+	 * @return The fingerprint.
+	 */
+	public String text() {
+		return text.toString();
+	}
+
+	/**
+	 * Returns string constants of the function in the order they are linearized.
+	 *
+	 * @return String constants of the function.
+	 */
+	public Vector<AstAtomExpr> strings() {
+		return strings;
+	}
+
+	private void name(AstName name) {
+		AstDecl decl = SemAn.declaredAt().get(name);
+		if (decl != null)
+			usedDecls.add(decl);
+	}
+
+	private StringBuilder atom(String value, StringBuilder text) {
+		return text.append(' ').append(value.length()).append(':').append(value);
+	}
+
+	// GENERAL PURPOSE
+
+	@Override
+	public Object visit(AstTrees<? extends AstTree> trees, StringBuilder text) {
+		text.append('[');
+		super.visit(trees, text);
+		return text.append(']');
+	}
+
+	// DECLARATIONS
+
+	@Override
+	public Object visit(AstCompDecl compDecl, StringBuilder text) {
+		innerDecls.add(compDecl);
+		atom(compDecl.name, text.append("(comp"));
+		super.visit(compDecl, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstFunDecl funDecl, StringBuilder text) {
+		innerDecls.add(funDecl);
+		atom(funDecl.name, text.append("(fun"));
+		if (signature) {
+			signature = false;
+			if (funDecl.pars != null)
+				funDecl.pars.accept(this, text);
+			if (funDecl.type != null)
+				funDecl.type.accept(this, text);
+		} else
+			super.visit(funDecl, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstParDecl parDecl, StringBuilder text) {
+		innerDecls.add(parDecl);
+		atom(parDecl.name, text.append("(par"));
+		super.visit(parDecl, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstTypeDecl typeDecl, StringBuilder text) {
+		innerDecls.add(typeDecl);
+		atom(typeDecl.name, text.append("(typ"));
+		super.visit(typeDecl, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstVarDecl varDecl, StringBuilder text) {
+		innerDecls.add(varDecl);
+		atom(varDecl.name, text.append("(var"));
+		super.visit(varDecl, text);
+		return text.append(')');
+	}
+
+	// EXPRESSIONS
+
+	@Override
+	public Object visit(AstArrExpr arrExpr, StringBuilder text) {
+		text.append("(arr");
+		super.visit(arrExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstAtomExpr atomExpr, StringBuilder text) {
+		if (atomExpr.type == AstAtomExpr.Type.STRING)
+			strings.add(atomExpr);
+		atom(atomExpr.value, text.append("(atom ").append(atomExpr.type));
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstBinExpr binExpr, StringBuilder text) {
+		text.append("(bin ").append(binExpr.oper);
+		super.visit(binExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstCallExpr callExpr, StringBuilder text) {
+		name(callExpr);
+		atom(callExpr.name, text.append("(call"));
+		super.visit(callExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstCastExpr castExpr, StringBuilder text) {
+		text.append("(cast");
+		super.visit(castExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstNameExpr nameExpr, StringBuilder text) {
+		name(nameExpr);
+		atom(nameExpr.name, text.append("(name"));
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstPfxExpr pfxExpr, StringBuilder text) {
+		text.append("(pfx ").append(pfxExpr.oper);
+		super.visit(pfxExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstRecExpr recExpr, StringBuilder text) {
+		text.append("(rec");
+		super.visit(recExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstSfxExpr sfxExpr, StringBuilder text) {
+		text.append("(sfx ").append(sfxExpr.oper);
+		super.visit(sfxExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstStmtExpr stmtExpr, StringBuilder text) {
+		text.append("(stmts");
+		super.visit(stmtExpr, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstWhereExpr whereExpr, StringBuilder text) {
+		text.append("(where");
+		super.visit(whereExpr, text);
+		return text.append(')');
+	}
+
+	// STATEMENTS
+
+	@Override
+	public Object visit(AstAssignStmt assignStmt, StringBuilder text) {
+		text.append("(assign");
+		super.visit(assignStmt, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstExprStmt exprStmt, StringBuilder text) {
+		text.append("(expr");
+		super.visit(exprStmt, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstIfStmt ifStmt, StringBuilder text) {
+		text.append(ifStmt.elseStmt == null ? "(if" : "(ifelse");
+		super.visit(ifStmt, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstWhileStmt whileStmt, StringBuilder text) {
+		text.append("(while");
+		super.visit(whileStmt, text);
+		return text.append(')');
+	}
+
+	// TYPES
+
+	@Override
+	public Object visit(AstArrType arrType, StringBuilder text) {
+		text.append("(arrtyp");
+		super.visit(arrType, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstAtomType atomType, StringBuilder text) {
+		return text.append("(atomtyp ").append(atomType.type).append(')');
+	}
+
+	@Override
+	public Object visit(AstNameType nameType, StringBuilder text) {
+		name(nameType);
+		atom(nameType.name, text.append("(nametyp"));
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstPtrType ptrType, StringBuilder text) {
+		text.append("(ptrtyp");
+		super.visit(ptrType, text);
+		return text.append(')');
+	}
+
+	@Override
+	public Object visit(AstRecType recType, StringBuilder text) {
+		text.append("(rectyp");
+		super.visit(recType, text);
+		return text.append(')');
+	}
+
+}
@@ -0,0 +1,226 @@
+package prev.phase.all;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.regex.*;
+
+import prev.Compilation;
+import prev.common.report.*;
+import prev.common.stats.*;
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.*;
+import prev.data.ast.tree.expr.*;
+import prev.data.mem.*;
+import prev.data.typ.*;
+import prev.phase.memory.*;
+
+/**
+ * On-disk cache of the final assembly code of top-level functions.
+ *
+ * Each top-level function is stored under the SHA-256 hash of its fingerprint
+ * (see {@link Fingerprint}), the version of the code generator (see
+ * {@link #version}), the number of registers and the layout of chars and bools
+ * (see {@link SemType#packed()}). The assembly code of
+ * a function includes the code of all functions nested within it. Anonymous
+ * labels are stored as placeholders: {@code {S<k>}} stands for the label of
+ * the {@code k}-th string constant of the function and {@code {L<k>}} stands
+ * for the {@code k}-th label internal to the function, which is replaced by a
+ * fresh label whenever the code is reused.
+ */
+public class FunCache {
+
+	/**
+	 * Returns the function cache of the current compilation.
+	 *
+	 * @return The function cache or {@code null} if the cache is not used.
+	 */
+	public static FunCache current() {
+		return Compilation.current().funCache;
+	}
+
+	/**
+	 * Checks whether the code of a function is taken from the function cache of
+	 * the current compilation.
+	 *
+	 * @param funDecl The function declaration.
+	 * @return {@code true} if the code of the function is taken from the cache,
+	 *         {@code false} otherwise.
+	 */
+	public static boolean isCached(AstFunDecl funDecl) {
+		FunCache cache = current();
+		return (cache != null) && cache.hits.containsKey(funDecl);
+	}
+
+	/**
+	 * The version of memory layout and code generation. The fingerprint of a
+	 * function covers its source only, so the version must be increased whenever
+	 * a change of the compiler changes the code generated for the same source.
+	 */
+	public static final int version = 4;
+
+	/** The first line of every cache entry. */
+	private static final String header = "prev22 function cache " + version;
+
+	/** Anonymous labels within the assembly code. */
+	private static final Pattern labels = Pattern.compile("\\bL[0-9]+\\b");
+
+	/** Placeholders within the cached assembly code. */
+	private static final Pattern placeholders = Pattern.compile("\\{([SL])([0-9]+)\\}");
+
+	/** The directory containing cache entries. */
+	private final Path dir;
+
+	/** The number of registers. */
+	private final int nregs;
+
+	/** Cache keys of top-level functions. */
+	private final HashMap<AstFunDecl, String> keys = new HashMap<AstFunDecl, String>();
+
+	/** String constants of top-level functions. */
+	private final HashMap<AstFunDecl, Vector<AstAtomExpr>> strings = new HashMap<AstFunDecl, Vector<AstAtomExpr>>();
+
+	/** Cached assembly code of top-level functions found in the cache. */
+	private final HashMap<AstFunDecl, String> hits = new HashMap<AstFunDecl, String>();
+
+	/**
+	 * Constructs a new function cache.
+	 *
+	 * @param dirName The name of the directory containing cache entries.
+	 * @param nregs   The number of registers.
+	 */
+	public FunCache(String dirName, int nregs) {
+		this.dir = Paths.get(dirName);
+		this.nregs = nregs;
+	}
+
+	/**
+	 * Looks up all top-level functions of a program in the cache.
+	 *
+	 * @param decls Top-level declarations of the program.
+	 */
+	public void lookup(AstTrees<? extends AstTree> decls) {
+		int numHits = 0;
+		int numMisses = 0;
+		for (AstTree decl : decls) {
+			if (!(decl instanceof AstFunDecl) || ((AstFunDecl) decl).expr == null
+					|| !CallGraph.isLive((AstFunDecl) decl))
+				continue;
+			AstFunDecl funDecl = (AstFunDecl) decl;
+			Fingerprint fingerprint = new Fingerprint(funDecl);
+			String key = hash("version=" + version + "\nnregs=" + nregs + "\npacked=" + SemType.packed() + "\n"
+					+ fingerprint.text());
+			keys.put(funDecl, key);
+			strings.put(funDecl, fingerprint.strings());
+			String code = read(key);
+			if (code != null) {
+				hits.put(funDecl, code);
+				numHits++;
+			} else
+				numMisses++;
+		}
+		Stats.count("cacheHits", numHits);
+		Stats.count("cacheMisses", numMisses);
+		Report.info("Function cache: " + numHits + " hit(s), " + numMisses + " miss(es).");
+	}
+
+	/**
+	 * Returns the assembly code of a top-level function found in the cache.
+	 *
+	 * @param funDecl The function declaration.
+	 * @return The assembly code of the function and all functions nested within.
+	 */
+	public String code(AstFunDecl funDecl) {
+		Vector<AstAtomExpr> strings = this.strings.get(funDecl);
+		HashMap<String, MemLabel> freshLabels = new HashMap<String, MemLabel>();
+		Matcher matcher = placeholders.matcher(hits.get(funDecl));
+		StringBuilder code = new StringBuilder();
+		while (matcher.find()) {
+			int index = Integer.parseInt(matcher.group(2));
+			String label;
+			if (matcher.group(1).equals("S"))
+				label = Memory.strings().get(strings.get(index)).label.name;
+			else
+				label = freshLabels.computeIfAbsent(matcher.group(2), __ -> new MemLabel()).name;
+			matcher.appendReplacement(code, label);
+		}
+		matcher.appendTail(code);
+		return code.toString();
+	}
+
+	/**
+	 * Stores the assembly code of a top-level function into the cache.
+	 *
+	 * @param funDecl The function declaration.
+	 * @param code    The assembly code of the function and all functions nested
+	 *                within.
+	 */
+	public void store(AstFunDecl funDecl, String code) {
+		HashMap<String, String> placeholders = new HashMap<String, String>();
+		Vector<AstAtomExpr> strings = this.strings.get(funDecl);
+		for (int index = 0; index < strings.size(); index++)
+			placeholders.put(Memory.strings().get(strings.get(index)).label.name, "{S" + index + "}");
+		Matcher matcher = labels.matcher(code);
+		StringBuilder entry = new StringBuilder(header).append('\n');
+		while (matcher.find()) {
+			String placeholder = placeholders.get(matcher.group());
+			if (placeholder == null) {
+				placeholder = "{L" + placeholders.size() + "}";
+				placeholders.put(matcher.group(), placeholder);
+			}
+			matcher.appendReplacement(entry, Matcher.quoteReplacement(placeholder));
+		}
+		matcher.appendTail(entry);
+
+		try {
+			Files.createDirectories(dir);
+			Path tmp = Files.createTempFile(dir, keys.get(funDecl), ".tmp");
+			Files.write(tmp, entry.toString().getBytes(StandardCharsets.UTF_8));
+			Files.move(tmp, dir.resolve(keys.get(funDecl)), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ex) {
+			Report.warning("Cannot store function '" + funDecl.name + "' into the function cache.");
+		}
+	}
+
+	/**
+	 * Reads a cache entry.
+	 *
+	 * @param key The cache key.
+	 * @return The cached assembly code or {@code null} if there is no valid entry.
+	 */
+	private String read(String key) {
+		Path file = dir.resolve(key);
+		if (!Files.isRegularFile(file))
+			return null;
+		try {
+			String entry = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+			if (!entry.startsWith(header + "\n"))
+				return null;
+			return entry.substring(header.length() + 1);
+		} catch (IOException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Computes the cache key of a fingerprint.
+	 *
+	 * @param text The fingerprint.
+	 * @return Hexadecimal SHA-256 hash of the fingerprint.
+	 */
+	private static String hash(String text) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			StringBuilder key = new StringBuilder();
+			for (byte b : digest.digest(text.getBytes(StandardCharsets.UTF_8)))
+				key.append(String.format("%02x", b));
+			return key.toString();
+		} catch (NoSuchAlgorithmException ex) {
+			throw new Report.InternalError();
+		}
+	}
+
+}
@@ -2,6 +2,8 @@ package prev.phase.asmgen;
 
 import java.util.*;
 
+import prev.Compilation;
+import prev.common.stats.*;
 import prev.data.imc.code.stmt.*;
 import prev.data.lin.*;
 import prev.data.asm.*;
@@ -13,7 +15,14 @@ import prev.phase.imclin.*;
  */
 public class AsmGen extends Phase {
 
-	public static Vector<Code> codes = new Vector<Code>();
+	/**
+	 * Returns machine code of all functions of the program.
+	 *
+	 * @return Machine code of all functions of the program.
+	 */
+	public static Vector<Code> codes() {
+		return Compilation.current().codes;
+	}
 
 	public AsmGen() {
 		super("asmgen");
@@ -22,7 +31,7 @@ public class AsmGen extends Phase {
 	public void genAsmCodes() {
 		for (LinCodeChunk codeChunk : ImcLin.codeChunks()) {
 			Code code = genAsmCode(codeChunk);
-			codes.add(code);
+			codes().add(code);
 		}
 	}
 
@@ -31,13 +40,14 @@ public class AsmGen extends Phase {
 		for (ImcStmt stmt : codeChunk.stmts()) {
 			instrs.addAll(stmt.accept(new StmtGenerator(), null));
 		}
+		Stats.codeSize(codeChunk.frame.label.name, instrs.size());
 		return new Code(codeChunk.frame, codeChunk.entryLabel, codeChunk.exitLabel, instrs);
 	}
 
 	public void log() {
 		if (logger == null)
 			return;
-		for (Code code : AsmGen.codes) {
+		for (Code code : AsmGen.codes()) {
 			logger.begElement("code");
 			logger.addAttribute("entrylabel", code.entryLabel.name);
 			logger.addAttribute("exitlabel", code.exitLabel.name);
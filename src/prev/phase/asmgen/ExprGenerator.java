@@ -135,7 +135,7 @@ public class ExprGenerator implements ImcVisitor<MemTemp, Vector<AsmInstr>> {
         // Create instructions for evaluation addr expression
         MemTemp src = mem.addr.accept(this, instrs);
 
-        // Load octabyte from [addr] address in memory
+        // Load octabyte (or unsigned byte) from [addr] address in memory
         MemTemp dst = new MemTemp();
         Vector<MemTemp> uses = new Vector<>(
             Arrays.asList(new MemTemp[]{ src }));
@@ -143,7 +143,8 @@ public class ExprGenerator implements ImcVisitor<MemTemp, Vector<AsmInstr>> {
             Arrays.asList(new MemTemp[]{ dst }));
 
         // TEMP(dst) <- M[TEMP(src) + 0]
-        instrs.add(new AsmOPER("\t\tLDO\t`d0,`s0,0", uses, defs, null));
+        String load = mem.width == 1 ? "LDBU" : "LDO";
+        instrs.add(new AsmOPER("\t\t" + load + "\t`d0,`s0,0", uses, defs, null));
 
         return dst;
     }
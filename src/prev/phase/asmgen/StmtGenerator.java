@@ -71,7 +71,8 @@ public class StmtGenerator implements ImcVisitor<Vector<AsmInstr>, Object> {
         if (move.dst instanceof ImcMEM) {
             Vector<MemTemp> uses = new Vector<>(
                 Arrays.asList(new MemTemp[]{ src, dst }));
-            instrs.add(new AsmOPER("\t\tSTO\t`s0,`s1,0", uses, null, null));
+            String store = ((ImcMEM) move.dst).width == 1 ? "STB" : "STO";
+            instrs.add(new AsmOPER("\t\t" + store + "\t`s0,`s1,0", uses, null, null));
         } else {
             Vector<MemTemp> uses = new Vector<>(
                 Arrays.asList(new MemTemp[]{ src }));
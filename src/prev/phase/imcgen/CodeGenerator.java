@@ -12,6 +12,8 @@ import prev.data.imc.code.expr.*;
 import prev.data.imc.code.stmt.*;
 import prev.data.typ.*;
 import prev.phase.memory.*;
+import prev.phase.all.CallGraph;
+import prev.phase.all.FunCache;
 import prev.phase.seman.SemAn;
 import prev.common.report.*;
 
@@ -40,8 +42,14 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
 
 	@Override
 	public Object visit(AstFunDecl funDecl, Stack<MemFrame> frames) {
+        // Skip functions whose code is taken from the function cache or that
+        // are never called
+        if (FunCache.isCached(funDecl) || !CallGraph.isLive(funDecl)) {
+            return null;
+        }
+
         // Add function's frame onto the stack
-        frames.push(Memory.frames.get(funDecl));
+        frames.push(Memory.frames().get(funDecl));
 
         // Generate intermediate code for function body
         if (funDecl.expr != null) {
@@ -79,13 +87,13 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
             }
             case STRING -> {
                 // Get label of the string ...
-                MemLabel label = Memory.strings.get(atomExpr).label;
+                MemLabel label = Memory.strings().get(atomExpr).label;
                 // ... and map it to an andress
                 yield new ImcNAME(label);
             }
         };
 
-        ImcGen.exprImc.put(atomExpr, imc);
+        ImcGen.exprImc().put(atomExpr, imc);
         return imc;
 	}
 
@@ -119,7 +127,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
                 yield new ImcCALL(new MemLabel("del"), offsets, args);
             }
         };
-        ImcGen.exprImc.put(pfxExpr, imc);
+        ImcGen.exprImc().put(pfxExpr, imc);
 		return imc;
 	}
 
@@ -134,7 +142,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
         ImcBINOP.Oper oper = ImcBINOP.Oper.values()[binExpr.oper.ordinal()];
 
         ImcBINOP imc = new ImcBINOP(oper, lhs, rhs);
-        ImcGen.exprImc.put(binExpr, imc);
+        ImcGen.exprImc().put(binExpr, imc);
 		return imc;
 	}
 
@@ -142,20 +150,20 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
 	@Override
 	public Object visit(AstSfxExpr sfxExpr, Stack<MemFrame> frames) {
         ImcExpr expr = (ImcExpr) sfxExpr.expr.accept(this, frames);
-        ImcMEM imc = new ImcMEM(expr);
-        ImcGen.exprImc.put(sfxExpr, imc);
+        ImcMEM imc = new ImcMEM(expr, width(sfxExpr));
+        ImcGen.exprImc().put(sfxExpr, imc);
 		return imc;
 	}
 
     // EX9
 	@Override
 	public Object visit(AstNameExpr nameExpr, Stack<MemFrame> frames) {
-        AstDecl decl = SemAn.declaredAt.get(nameExpr);
+        AstDecl decl = SemAn.declaredAt().get(nameExpr);
 
         // Parameterless function
         if (decl instanceof AstFunDecl) {
             // Called function
-            MemFrame frame = Memory.frames.get((AstFunDecl) decl);
+            MemFrame frame = Memory.frames().get((AstFunDecl) decl);
 
             // Get SL
             ImcExpr SL = new ImcTEMP(frames.peek().FP);
@@ -171,7 +179,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
             Vector<Long> offsets = new Vector<>(Arrays.asList(new Long[]{ 0L }));
             Vector<ImcExpr> args = new Vector<>(Arrays.asList(new ImcExpr[]{ SL }));
             ImcCALL imc = new ImcCALL(frame.label, offsets, args);
-            ImcGen.exprImc.put(nameExpr, imc);
+            ImcGen.exprImc().put(nameExpr, imc);
             return imc;
         }
 
@@ -181,12 +189,13 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
 
         // Generate access for variables and parameters
         AstMemDecl memDecl = (AstMemDecl) decl;
-        MemAccess access = Memory.accesses.get(memDecl);
+        MemAccess access = Memory.accesses().get(memDecl);
 
+        long width = width(nameExpr);
         ImcMEM imc = null;
         if (access instanceof MemAbsAccess) {
             // Global variable
-            imc = new ImcMEM(new ImcNAME(((MemAbsAccess) access).label));
+            imc = new ImcMEM(new ImcNAME(((MemAbsAccess) access).label), width);
         } else if (access instanceof MemRelAccess) {
             // Local variable of parameter
             MemRelAccess relAccess = (MemRelAccess) access;
@@ -197,15 +206,22 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
                 fpExpr = new ImcMEM(fpExpr);
             }
 
+            // A byte parameter is the lowest byte of its octabyte slot
+            long offset = relAccess.offset;
+            if (width < 8) {
+                offset += relAccess.size - width;
+            }
+
             imc = new ImcMEM(
                 new ImcBINOP(
                     ImcBINOP.Oper.ADD,
                     fpExpr,
-                    new ImcCONST(relAccess.offset)
-                )
+                    new ImcCONST(offset)
+                ),
+                width
             );
         }
-        ImcGen.exprImc.put(nameExpr, imc);
+        ImcGen.exprImc().put(nameExpr, imc);
 		return imc;
 	}
 
@@ -215,7 +231,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
         // Get base address, index and element size
         ImcMEM base = (ImcMEM) arrExpr.arr.accept(this, frames);
         ImcExpr idx = (ImcExpr) arrExpr.idx.accept(this, frames);
-        long size = SemAn.ofType.get(arrExpr).size();
+        long size = SemAn.ofType().get(arrExpr).size();
 
         // base + idx * size
         ImcMEM imc = new ImcMEM(
@@ -223,9 +239,10 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
                 ImcBINOP.Oper.ADD,
                 base.addr,
                 new ImcBINOP(ImcBINOP.Oper.MUL, idx, new ImcCONST(size))
-            )
+            ),
+            width(arrExpr)
         );
-        ImcGen.exprImc.put(arrExpr, imc);
+        ImcGen.exprImc().put(arrExpr, imc);
 		return imc;
 	}
 
@@ -236,8 +253,8 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
         ImcMEM record = (ImcMEM) recExpr.rec.accept(this, frames);
 
         // Get declaration of component and its access
-        AstCompDecl compDecl = (AstCompDecl) SemAn.declaredAt.get(recExpr.comp);
-        MemRelAccess access = (MemRelAccess) Memory.accesses.get(compDecl);
+        AstCompDecl compDecl = (AstCompDecl) SemAn.declaredAt().get(recExpr.comp);
+        MemRelAccess access = (MemRelAccess) Memory.accesses().get(compDecl);
 
         // record + comp offset
         ImcMEM imc = new ImcMEM(
@@ -245,9 +262,10 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
                 ImcBINOP.Oper.ADD,
                 record.addr,
                 new ImcCONST(access.offset)
-            )
+            ),
+            width(recExpr)
         );
-        ImcGen.exprImc.put(recExpr, imc);
+        ImcGen.exprImc().put(recExpr, imc);
 		return imc;
 	}
 
@@ -255,10 +273,10 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
 	@Override
 	public Object visit(AstCallExpr callExpr, Stack<MemFrame> frames) {
         // Get function declaration for offsets
-        AstFunDecl funDecl = (AstFunDecl) SemAn.declaredAt.get(callExpr);
+        AstFunDecl funDecl = (AstFunDecl) SemAn.declaredAt().get(callExpr);
 
         // Called function
-        MemFrame frame = Memory.frames.get(funDecl);
+        MemFrame frame = Memory.frames().get(funDecl);
 
         // Get SL
         ImcExpr SL = new ImcTEMP(frames.peek().FP);
@@ -277,13 +295,13 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
         // Generate code for arguments and save offsets
         for (int i = 0; i < callExpr.args.size(); ++i) {
             AstParDecl parDecl = funDecl.pars.get(i);
-            MemRelAccess access = (MemRelAccess) Memory.accesses.get(parDecl);
+            MemRelAccess access = (MemRelAccess) Memory.accesses().get(parDecl);
             offsets.add(access.offset);
             args.add((ImcExpr) callExpr.args.get(i).accept(this, frames));
         }
 
         ImcCALL imc = new ImcCALL(frame.label, offsets, args);
-        ImcGen.exprImc.put(callExpr, imc);
+        ImcGen.exprImc().put(callExpr, imc);
 		return imc;
 	}
 
@@ -311,7 +329,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
             imc = new ImcSEXPR(new ImcSTMTS(stmts), new ImcCONST(0));
         }
 
-        ImcGen.exprImc.put(stmtExpr, imc);
+        ImcGen.exprImc().put(stmtExpr, imc);
 		return imc;
 	}
 
@@ -322,7 +340,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
         ImcExpr expr = (ImcExpr) castExpr.expr.accept(this, frames);
 
         // Check if cast type is bool
-        SemType type = SemAn.isType.get(castExpr.type);
+        SemType type = SemAn.isType().get(castExpr.type);
         boolean charCast = type.actualType() instanceof SemChar;
 
         ImcExpr imc;
@@ -335,7 +353,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
         } else {
             imc = expr;
         }
-        ImcGen.exprImc.put(castExpr, imc);
+        ImcGen.exprImc().put(castExpr, imc);
 		return imc;
 	}
 
@@ -347,7 +365,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
 
         // Generate expression
         ImcExpr imc = (ImcExpr) whereExpr.expr.accept(this, frames);
-        ImcGen.exprImc.put(whereExpr, imc);
+        ImcGen.exprImc().put(whereExpr, imc);
 		return imc;
 	}
 
@@ -358,7 +376,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
 	public Object visit(AstExprStmt exprStmt, Stack<MemFrame> frames) {
         ImcExpr expr = (ImcExpr) exprStmt.expr.accept(this, frames);
         ImcESTMT imc = new ImcESTMT(expr);
-        ImcGen.stmtImc.put(exprStmt, imc);
+        ImcGen.stmtImc().put(exprStmt, imc);
 		return imc;
 	}
 
@@ -372,7 +390,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
         // Save [src] value into [dst] address
         ImcMOVE imc = new ImcMOVE(dst, src);
 
-        ImcGen.stmtImc.put(assignStmt, imc);
+        ImcGen.stmtImc().put(assignStmt, imc);
 		return imc;
 	}
 
@@ -399,7 +417,7 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
             new ImcLABEL(endLabel)
         }));
         ImcSTMTS imc = new ImcSTMTS(stmts);
-        ImcGen.stmtImc.put(ifStmt, imc);
+        ImcGen.stmtImc().put(ifStmt, imc);
 		return imc;
 	}
 
@@ -425,8 +443,19 @@ public class CodeGenerator extends AstNullVisitor<Object, Stack<MemFrame>> {
             new ImcLABEL(endLabel)
         }));
         ImcSTMTS imc = new ImcSTMTS(stmts);
-        ImcGen.stmtImc.put(whileStmt, imc);
+        ImcGen.stmtImc().put(whileStmt, imc);
 		return imc;
 	}
 
+    // Width of memory accesses to the value of an expression: values of types
+    // char and bool take a single byte if packed, all other values are
+    // accessed as octabytes
+	private static long width(AstExpr expr) {
+        SemType type = SemAn.ofType().get(expr).actualType();
+        if (type instanceof SemChar || type instanceof SemBool) {
+            return type.size();
+        }
+        return 8;
+	}
+
 }
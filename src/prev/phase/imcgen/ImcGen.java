@@ -1,5 +1,6 @@
 package prev.phase.imcgen;
 
+import prev.Compilation;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.tree.stmt.*;
 import prev.data.ast.attribute.*;
@@ -13,11 +14,23 @@ import prev.phase.*;
  */
 public class ImcGen extends Phase implements AstVisitor<Object, Object> {
 
-	/** Maps statements to intermediate code. */
-	public static final AstAttribute<AstStmt, ImcStmt> stmtImc = new AstAttribute<AstStmt, ImcStmt>(0);
+	/**
+	 * Maps statements to intermediate code.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstStmt, ImcStmt> stmtImc() {
+		return Compilation.current().stmtImc;
+	}
 
-	/** Maps expressions to intermediate code. */
-	public static final AstAttribute<AstExpr, ImcExpr> exprImc = new AstAttribute<AstExpr, ImcExpr>(0);
+	/**
+	 * Maps expressions to intermediate code.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstExpr, ImcExpr> exprImc() {
+		return Compilation.current().exprImc;
+	}
 
 	/**
 	 * Constructs a new phase for intermediate code generation.
@@ -2,6 +2,8 @@ package prev.phase.imclin;
 
 import java.util.*;
 
+import prev.common.stats.*;
+
 import prev.data.ast.tree.decl.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.visitor.*;
@@ -11,14 +13,19 @@ import prev.data.imc.code.stmt.*;
 import prev.data.lin.*;
 import prev.phase.imcgen.*;
 import prev.phase.memory.*;
+import prev.phase.all.CallGraph;
+import prev.phase.all.FunCache;
 
 public class ChunkGenerator extends AstFullVisitor<Object, Object> {
 
+	/** Whether the code is taken from the function cache (only data is needed). */
+	private boolean cached = false;
+
 	@Override
 	public Object visit(AstAtomExpr atomExpr, Object arg) {
 		switch (atomExpr.type) {
 		case STRING:
-			MemAbsAccess absAccess = Memory.strings.get(atomExpr);
+			MemAbsAccess absAccess = Memory.strings().get(atomExpr);
 			ImcLin.addDataChunk(new LinDataChunk(absAccess));
 			break;
 		default:
@@ -29,20 +36,29 @@ public class ChunkGenerator extends AstFullVisitor<Object, Object> {
 
 	@Override
 	public Object visit(AstFunDecl funDecl, Object arg) {
-		if (funDecl.expr == null) return null;
+		if (funDecl.expr == null || !CallGraph.isLive(funDecl)) return null;
+
+		if (cached || FunCache.isCached(funDecl)) {
+			boolean outer = cached;
+			cached = true;
+			funDecl.expr.accept(this, arg);
+			cached = outer;
+			return null;
+		}
 		
 		funDecl.expr.accept(this, arg);
 
-		MemFrame frame = Memory.frames.get(funDecl);
+		MemFrame frame = Memory.frames().get(funDecl);
 		MemLabel entryLabel = new MemLabel();
 		MemLabel exitLabel = new MemLabel();
 		
 		Vector<ImcStmt> canonStmts = new Vector<ImcStmt>();
 		canonStmts.add(new ImcLABEL(entryLabel));
-		ImcExpr bodyExpr = ImcGen.exprImc.get(funDecl.expr);
+		ImcExpr bodyExpr = ImcGen.exprImc().get(funDecl.expr);
 		ImcStmt bodyStmt = new ImcMOVE(new ImcTEMP(frame.RV), bodyExpr);
 		canonStmts.addAll(bodyStmt.accept(new StmtCanonizer(), null));
 		canonStmts.add(new ImcJUMP(exitLabel));
+		Stats.count("imcStmts", canonStmts.size());
 		
 		Vector<ImcStmt> linearStmts = linearize (canonStmts);
 		ImcLin.addCodeChunk(new LinCodeChunk(frame, linearStmts, entryLabel, exitLabel));
@@ -52,8 +68,8 @@ public class ChunkGenerator extends AstFullVisitor<Object, Object> {
 
 	@Override
 	public Object visit(AstVarDecl varDecl, Object arg) {
-		MemAccess access = Memory.accesses.get(varDecl);
-		if (access instanceof MemAbsAccess) {
+		MemAccess access = Memory.accesses().get(varDecl);
+		if (access instanceof MemAbsAccess && CallGraph.isLive(varDecl)) {
 			MemAbsAccess absAccess = (MemAbsAccess) access;
 			ImcLin.addDataChunk(new LinDataChunk(absAccess));
 		}
@@ -61,7 +61,7 @@ public class ExprCanonizer implements ImcVisitor<ImcExpr, Vector<ImcStmt>> {
 
     public ImcExpr visit(ImcMEM mem, Vector<ImcStmt> stmts) {
         // Make sure addr is in canonical form
-        return new ImcMEM(mem.addr.accept(this, stmts));
+        return new ImcMEM(mem.addr.accept(this, stmts), mem.width);
     }
 
     public ImcExpr visit(ImcNAME name, Vector<ImcStmt> stmts) {
@@ -2,6 +2,7 @@ package prev.phase.imclin;
 
 import java.util.*;
 
+import prev.Compilation;
 import prev.data.lin.*;
 import prev.phase.*;
 
@@ -10,12 +11,6 @@ import prev.phase.*;
  */
 public class ImcLin extends Phase {
 
-	/** All data chunks of the program. */
-	private final static Vector<LinDataChunk> dataChunks = new Vector<LinDataChunk>();
-
-	/** All code chinks of the program. */
-	private final static Vector<LinCodeChunk> codeChunks = new Vector<LinCodeChunk>();
-
 	/**
 	 * Constructs a new phase for the linearization of intermediate code.
 	 */
@@ -25,9 +20,9 @@ public class ImcLin extends Phase {
 
 	public void log() {
 		LinLogger linLogger = new LinLogger(logger);
-		for (LinDataChunk dataChunk : dataChunks)
+		for (LinDataChunk dataChunk : Compilation.current().dataChunks)
 			linLogger.log(dataChunk);
-		for (LinCodeChunk codeChunk : codeChunks)
+		for (LinCodeChunk codeChunk : Compilation.current().codeChunks)
 			linLogger.log(codeChunk);
 	}
 
@@ -37,7 +32,7 @@ public class ImcLin extends Phase {
 	 * @param dataChunk A data chunk.
 	 */
 	public static void addDataChunk(LinDataChunk dataChunk) {
-		dataChunks.add(dataChunk);
+		Compilation.current().dataChunks.add(dataChunk);
 	}
 
 	/**
@@ -46,7 +41,7 @@ public class ImcLin extends Phase {
 	 * @return A collection of all data chunks of the program.
 	 */
 	public static Vector<LinDataChunk> dataChunks() {
-		return new Vector<LinDataChunk>(dataChunks);
+		return new Vector<LinDataChunk>(Compilation.current().dataChunks);
 	}
 
 	/**
@@ -55,7 +50,7 @@ public class ImcLin extends Phase {
 	 * @param codeChunk A code chunk.
 	 */
 	public static void addCodeChunk(LinCodeChunk codeChunk) {
-		codeChunks.add(codeChunk);
+		Compilation.current().codeChunks.add(codeChunk);
 	}
 
 	/**
@@ -64,7 +59,7 @@ public class ImcLin extends Phase {
 	 * @return A collection of all code chunks of the program.
 	 */
 	public static Vector<LinCodeChunk> codeChunks() {
-		return new Vector<LinCodeChunk>(codeChunks);
+		return new Vector<LinCodeChunk>(Compilation.current().codeChunks);
 	}
 
 }
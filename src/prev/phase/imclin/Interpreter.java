@@ -7,6 +7,7 @@ import prev.data.imc.code.expr.*;
 import prev.data.imc.code.stmt.*;
 import prev.data.imc.visitor.*;
 import prev.data.lin.*;
+import prev.data.typ.*;
 
 /**
  * Interpreter - for testing purposes only.
@@ -53,11 +54,12 @@ public class Interpreter {
 			}
 			this.dataMemLabels.put(dataChunk.label, tempLD(HP, false));
 			if (dataChunk.init != null) {
+				long charSize = dataChunk.size / (dataChunk.init.length() + 1);
 				for (int c = 0; c < dataChunk.init.length() /* - 2 */; c++)
-					memST(tempLD(HP, false) + 8 * c, (long) dataChunk.init.charAt(c /* + 1 */), false);
-				memST(tempLD(HP, false) + 8 * (dataChunk.init.length() /* - 2 */), 0L, false);
+					memST(tempLD(HP, false) + charSize * c, (long) dataChunk.init.charAt(c /* + 1 */), charSize, false);
+				memST(tempLD(HP, false) + charSize * (dataChunk.init.length() /* - 2 */), 0L, charSize, false);
 			}
-			tempST(HP, tempLD(HP, false) + dataChunk.size, debug);
+			tempST(HP, tempLD(HP, false) + SemType.align(dataChunk.size, 8), debug);
 		}
 		if (debug)
 			System.out.printf("###\n");
@@ -79,9 +81,14 @@ public class Interpreter {
 	}
 
 	private void memST(Long address, Long value, boolean debug) {
+		memST(address, value, 8, debug);
+	}
+
+	private void memST(Long address, Long value, long width, boolean debug) {
 		if (debug)
 			System.out.printf("### [%d] <- %d\n", address, value);
-		for (int b = 0; b <= 7; b++) {
+		// Big-endian, as in MMIX.
+		for (long b = width - 1; b >= 0; b--) {
 			long longval = value % 0x100;
 			byte byteval = (byte) longval;
 			memory.put(address + b, byteval);
@@ -94,8 +101,13 @@ public class Interpreter {
 	}
 
 	private Long memLD(Long address, boolean debug) {
+		return memLD(address, 8, debug);
+	}
+
+	private Long memLD(Long address, long width, boolean debug) {
 		Long value = 0L;
-		for (int b = 7; b >= 0; b--) {
+		// Big-endian, as in MMIX.
+		for (long b = 0; b < width; b++) {
 			Byte byteval = memory.get(address + b);
 			if (byteval == null) {
 				byteval = (byte) (random.nextLong() / 0x100);
@@ -220,7 +232,7 @@ public class Interpreter {
 
 		@Override
 		public Long visit(ImcMEM imcMem, Object arg) {
-			return memLD(imcMem.addr.accept(this, null));
+			return memLD(imcMem.addr.accept(this, null), imcMem.width, debug);
 		}
 
 		@Override
@@ -300,7 +312,7 @@ public class Interpreter {
 					src = memLD(tempLD(SP));
 				} else
 					src = imcMove.src.accept(new ExprInterpreter(), null);
-				memST(dst, src);
+				memST(dst, src, ((ImcMEM) (imcMove.dst)).width, debug);
 				return null;
 			}
 			if (imcMove.dst instanceof ImcTEMP) {
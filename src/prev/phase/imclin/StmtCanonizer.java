@@ -60,7 +60,7 @@ public class StmtCanonizer implements ImcVisitor<Vector<ImcStmt>, Object> {
 
             // Store to memory address
             stmts.add(new ImcMOVE(
-                new ImcMEM(new ImcTEMP(dstTemp)),
+                new ImcMEM(new ImcTEMP(dstTemp), ((ImcMEM) move.dst).width),
                 move.src.accept(new ExprCanonizer(), stmts)
             ));
         } else if (move.dst instanceof ImcTEMP) {
@@ -0,0 +1,395 @@
+package prev.phase.lexan;
+
+import java.io.*;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+
+import prev.common.report.*;
+
+/**
+ * A hand-written lexer producing the same tokens and the same errors as
+ * {@link PrevLexer}.
+ *
+ * The source file is read byte by byte from a memory-mapped character stream
+ * (see {@link MappedCharStream}). Each token is recognized by a single pass
+ * over its characters: the class of the first character (looked up in a table)
+ * selects the kind of the token, and the longest match rules of
+ * {@link PrevLexer}, including its error rules, are decided by looking at the
+ * characters following the token only. Lines and columns are counted exactly as
+ * by the ANTLR lexer (a tab advances the column to the next multiple of 8).
+ */
+public class FastLexer implements TokenSource {
+
+	// Classes of characters.
+	private static final byte OTHER = 0;
+	private static final byte LETTER = 1;
+	private static final byte DIGIT = 2;
+	private static final byte SPACE = 3;
+	private static final byte NEWLINE = 4;
+	private static final byte TAB = 5;
+	private static final byte HASH = 6;
+	private static final byte QUOTE = 7;
+	private static final byte DQUOTE = 8;
+	private static final byte SYMBOL = 9;
+	private static final byte RELATION = 10;
+
+	/** Classes of ASCII characters. */
+	private static final byte[] classes = new byte[128];
+
+	/** Token types of single character symbols (and relations not followed by '='). */
+	private static final int[] symbols = new int[128];
+
+	/** Keywords and keyword-like constants. */
+	private static final String[] keywords = { "none", "true", "false", "nil", "bool", "char", "del", "do", "else",
+			"fun", "if", "int", "new", "then", "typ", "var", "void", "where", "while" };
+
+	/** Token types of keywords. */
+	private static final int[] keywordTypes = { PrevLexer.CONST_VOID, PrevLexer.CONST_BOOL, PrevLexer.CONST_BOOL,
+			PrevLexer.CONST_PTR, PrevLexer.BOOL, PrevLexer.CHAR, PrevLexer.DEL, PrevLexer.DO, PrevLexer.ELSE,
+			PrevLexer.FUN, PrevLexer.IF, PrevLexer.INT, PrevLexer.NEW, PrevLexer.THEN, PrevLexer.TYP, PrevLexer.VAR,
+			PrevLexer.VOID, PrevLexer.WHERE, PrevLexer.WHILE };
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++)
+			classes[c] = LETTER;
+		for (char c = 'A'; c <= 'Z'; c++)
+			classes[c] = LETTER;
+		classes['_'] = LETTER;
+		for (char c = '0'; c <= '9'; c++)
+			classes[c] = DIGIT;
+		classes[' '] = SPACE;
+		classes['\r'] = SPACE;
+		classes['\n'] = NEWLINE;
+		classes['\t'] = TAB;
+		classes['#'] = HASH;
+		classes['\''] = QUOTE;
+		classes['"'] = DQUOTE;
+		symbol('(', PrevLexer.LPAREN);
+		symbol(')', PrevLexer.RPAREN);
+		symbol('{', PrevLexer.LCURLY);
+		symbol('}', PrevLexer.RCURLY);
+		symbol('[', PrevLexer.LSQUARE);
+		symbol(']', PrevLexer.RSQUARE);
+		symbol('.', PrevLexer.DOT);
+		symbol(',', PrevLexer.COMMA);
+		symbol(':', PrevLexer.COLON);
+		symbol(';', PrevLexer.SEMI);
+		symbol('&', PrevLexer.AMP);
+		symbol('|', PrevLexer.PIPE);
+		symbol('*', PrevLexer.MULT);
+		symbol('/', PrevLexer.DIV);
+		symbol('%', PrevLexer.MOD);
+		symbol('+', PrevLexer.PLUS);
+		symbol('-', PrevLexer.MINUS);
+		symbol('^', PrevLexer.CARET);
+		symbol('!', PrevLexer.BANG);
+		symbol('=', PrevLexer.ASSIGN);
+		symbol('<', PrevLexer.LT);
+		symbol('>', PrevLexer.GT);
+		classes['!'] = RELATION;
+		classes['='] = RELATION;
+		classes['<'] = RELATION;
+		classes['>'] = RELATION;
+	}
+
+	private static void symbol(char c, int type) {
+		classes[c] = SYMBOL;
+		symbols[c] = type;
+	}
+
+	/** The name of the source file. */
+	private final String srcFileName;
+
+	/** The source file. */
+	private final MappedCharStream input;
+
+	/** The size of the source file in bytes. */
+	private final int size;
+
+	/** The source of all tokens. */
+	private final Pair<TokenSource, CharStream> source;
+
+	/** The token factory. */
+	private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+
+	/** The index of the next character. */
+	private int pos;
+
+	/** The line of the next character. */
+	private int line;
+
+	/** The number of characters in the current line preceding the next one. */
+	private int col;
+
+	/** The index of the first character of the last token. */
+	private int tokenStart;
+
+	/**
+	 * Constructs a new lexer.
+	 *
+	 * @param srcFileName The name of the source file.
+	 * @throws IOException If the source file cannot be read.
+	 */
+	public FastLexer(String srcFileName) throws IOException {
+		this.srcFileName = srcFileName;
+		this.input = new MappedCharStream(srcFileName);
+		this.size = input.size();
+		this.source = new Pair<TokenSource, CharStream>(this, input);
+		reset();
+	}
+
+	/**
+	 * Restarts lexical analysis at the beginning of the source file.
+	 */
+	public void reset() {
+		pos = 0;
+		line = 1;
+		col = 0;
+	}
+
+	@Override
+	public Token nextToken() {
+		int type = scan();
+		int tokenCol = type == Token.EOF ? col : col - (pos - tokenStart);
+		return factory.create(source, type, null, Token.DEFAULT_CHANNEL, tokenStart, pos - 1, line, tokenCol);
+	}
+
+	/**
+	 * Appends the next token to a token buffer without creating a token object.
+	 *
+	 * @param tokens The token buffer.
+	 */
+	public void lex(TokenBuffer tokens) {
+		int type = scan();
+		int column = type == Token.EOF ? col - TokenBuffer.eofText.length() + 1 : col - (pos - tokenStart) + 1;
+		tokens.add(type, tokenStart, pos - 1, line, column);
+	}
+
+	/**
+	 * Recognizes the next token.
+	 *
+	 * @return The type of the token.
+	 */
+	private int scan() {
+		while (pos < size) {
+			int start = pos;
+			char c = (char) input.byteAt(pos);
+			switch (c < 128 ? classes[c] : OTHER) {
+			case LETTER: {
+				while (++pos < size && idChar(input.byteAt(pos)))
+					;
+				return emit(keyword(start), start);
+			}
+			case DIGIT: {
+				boolean digits = true;
+				while (++pos < size && idChar(input.byteAt(pos)))
+					digits &= classes[input.byteAt(pos)] == DIGIT;
+				if (!digits)
+					throw error(start, "Identifiers cannot start with a number");
+				if (c == '0' && pos - start > 1)
+					throw error(start, "Integer constants with leading zeros not allowed");
+				return emit(PrevLexer.CONST_INT, start);
+			}
+			case SPACE:
+				pos++;
+				col++;
+				continue;
+			case NEWLINE:
+				pos++;
+				line++;
+				col = 0;
+				continue;
+			case TAB:
+				pos++;
+				col++;
+				col = col + (7 - (col - 1) % 8);
+				continue;
+			case HASH:
+				while (pos < size && input.byteAt(pos) != '\n' && input.byteAt(pos) != '\r')
+					pos++;
+				col += input.numChars(start, pos);
+				continue;
+			case QUOTE:
+				return charConst(start);
+			case DQUOTE:
+				return strConst(start);
+			case SYMBOL:
+				pos++;
+				return emit(symbols[c], start);
+			case RELATION:
+				pos++;
+				if (pos < size && input.byteAt(pos) == '=') {
+					pos++;
+					return emit(c == '!' ? PrevLexer.NEQ : c == '=' ? PrevLexer.EQ
+							: c == '<' ? PrevLexer.LE : PrevLexer.GE, start);
+				}
+				return emit(symbols[c], start);
+			default:
+				pos += input.charLength(pos);
+				throw error(start, "Unexpected symbol");
+			}
+		}
+		tokenStart = pos;
+		return Token.EOF;
+	}
+
+	/**
+	 * Returns the type of an identifier, a keyword or a keyword-like constant.
+	 *
+	 * @param start The index of the first character.
+	 * @return The type of the token.
+	 */
+	private int keyword(int start) {
+		int length = pos - start;
+		if (length > 5)
+			return PrevLexer.ID;
+		keywords: for (int k = 0; k < keywords.length; k++) {
+			String keyword = keywords[k];
+			if (keyword.length() != length)
+				continue;
+			for (int c = 0; c < length; c++)
+				if (keyword.charAt(c) != input.byteAt(start + c))
+					continue keywords;
+			return keywordTypes[k];
+		}
+		return PrevLexer.ID;
+	}
+
+	/**
+	 * Recognizes a character constant or one of the erroneous character constants
+	 * starting with an apostrophe.
+	 *
+	 * @param start The index of the apostrophe.
+	 * @return The type of the token.
+	 */
+	private int charConst(int start) {
+		int end = start + 1;
+		while (end < size && unescapedChar(input.byteAt(end)))
+			end++;
+		int length = end - start - 1;
+		int next = end < size ? input.byteAt(end) : '\n';
+		switch (length) {
+		case 0:
+			if (next == '\'') {
+				pos = end + 1;
+				throw error(start, "Empty character constant");
+			}
+			break;
+		case 1:
+			if (next == '\'') {
+				pos = input.byteAt(start + 1) == '\\' && end + 1 < size && input.byteAt(end + 1) == '\'' ? end + 2 : end + 1;
+				return emit(PrevLexer.CONST_CHAR, start);
+			}
+			if (next != '\n' && next != '\r') {
+				pos = end + input.charLength(end);
+				throw error(start, "Unclosed character constant");
+			}
+			break;
+		default:
+			if (next == '\'') {
+				pos = end + 1;
+				throw error(start, "Invalid character constant");
+			}
+			pos = next != '\n' && next != '\r' ? end + input.charLength(end) : end;
+			throw error(start, "Unclosed character constant");
+		}
+		pos = start + 1;
+		throw error(start, "Unexpected symbol");
+	}
+
+	/**
+	 * Recognizes a string constant or an unclosed string constant.
+	 *
+	 * @param start The index of the opening quote.
+	 * @return The type of the token.
+	 */
+	private int strConst(int start) {
+		// A quote preceded by a backslash either closes the string or is a part of
+		// it, so the string continues as long as the longer of both matches.
+		int end = start + 1;
+		int closed = -1;
+		while (end < size) {
+			int c = input.byteAt(end);
+			if (c == '"') {
+				closed = end + 1;
+				if (input.byteAt(end - 1) != '\\' || end - 1 == start)
+					break;
+			} else if (c < ' ' || c > '~')
+				break;
+			end++;
+		}
+		if (closed < end) {
+			pos = end;
+			throw error(start, "Unclosed string constant");
+		}
+		pos = closed;
+		return emit(PrevLexer.CONST_STR, start);
+	}
+
+	private static boolean idChar(int c) {
+		return c < 128 && (classes[c] == LETTER || classes[c] == DIGIT);
+	}
+
+	private static boolean unescapedChar(int c) {
+		return c >= ' ' && c <= '~' && c != '\'';
+	}
+
+	/**
+	 * Ends a token just before the next character.
+	 *
+	 * @param type  The type of the token.
+	 * @param start The index of the first character.
+	 * @return The type of the token.
+	 */
+	private int emit(int type, int start) {
+		tokenStart = start;
+		col += pos - start;
+		return type;
+	}
+
+	/**
+	 * Creates a lexical error for characters ending just before the next
+	 * character.
+	 *
+	 * @param start   The index of the first character.
+	 * @param message The error message following the erroneous text.
+	 * @return The error.
+	 */
+	private Report.Error error(int start, String message) {
+		String text = input.getText(Interval.of(start, pos - 1));
+		col += input.numChars(start, pos);
+		return new Report.Error(new Location(line, col - text.length() + 1), text + " : " + message);
+	}
+
+	@Override
+	public int getLine() {
+		return line;
+	}
+
+	@Override
+	public int getCharPositionInLine() {
+		return col;
+	}
+
+	@Override
+	public CharStream getInputStream() {
+		return input;
+	}
+
+	@Override
+	public String getSourceName() {
+		return srcFileName;
+	}
+
+	@Override
+	public void setTokenFactory(TokenFactory<?> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public TokenFactory<?> getTokenFactory() {
+		return factory;
+	}
+
+}
@@ -3,10 +3,9 @@ package prev.phase.lexan;
 import java.io.*;
 
 import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.misc.*;
 
+import prev.Compilation;
 import prev.common.report.*;
-import prev.data.sym.Token;
 import prev.phase.*;
 
 /**
@@ -14,43 +13,69 @@ import prev.phase.*;
  */
 public class LexAn extends Phase {
 
-	/** The ANTLR lexer that actually performs lexical analysis. */
-	public final PrevLexer lexer;
+	/**
+	 * The lexer that actually performs lexical analysis: either the ANTLR lexer
+	 * or, if {@code --lexer=fast} is used, the hand-written one.
+	 */
+	public final TokenSource lexer;
+
+	/** The tokens produced by the lexer (logged as they are produced). */
+	public final TokenBuffer tokens;
 
 	/**
-	 * Phase construction: sets up logging and the ANTLR lexer.
+	 * Phase construction: sets up logging and the lexer.
 	 */
 	public LexAn() {
 		super("lexan");
 
 		String srcFileName = prev.Compiler.cmdLineArgValue("--src-file-name");
 		try {
-			lexer = new PrevLexer(CharStreams.fromFileName(srcFileName));
-			lexer.setTokenFactory(new PrevTokenFactory());
+			if ("fast".equals(prev.Compiler.cmdLineArgValue("--lexer")))
+				lexer = new FastLexer(srcFileName);
+			else
+				lexer = new PrevLexer(new MappedCharStream(srcFileName));
 		} catch (IOException __) {
 			throw new Report.Error("Cannot open file '" + srcFileName + "'.");
 		}
+		tokens = new TokenBuffer(lexer, logger);
 	}
 
 	/**
-	 * A customized token factory which logs tokens.
+	 * Reads all tokens of the source file into the buffer ahead of syntax
+	 * analysis unless tokens are being logged (as they would be logged before
+	 * a syntax error is found). If the source file contains a lexical error,
+	 * the error is not reported yet: lexical analysis is restarted instead, so
+	 * that the error is found again and reported only once the parser reaches
+	 * it.
+	 *
+	 * @return {@code true} if all tokens have been read, {@code false}
+	 *         otherwise.
 	 */
-	private class PrevTokenFactory implements TokenFactory<Token> {
-
-		@Override
-		public Token create(int type, String text) {
-			Token token = new Token(type, text);
-			token.log(logger);
-			return token;
+	public boolean read() {
+		if (logger != null)
+			return false;
+		Compilation compilation = Compilation.current();
+		compilation.reporting = false;
+		try {
+			tokens.fill();
+			return true;
+		} catch (Report.Error __) {
+		} finally {
+			compilation.reporting = true;
 		}
+		reset();
+		return false;
+	}
 
-		@Override
-		public Token create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start,
-				int stop, int line, int charPositionInLine) {
-			Token token = new Token(source, type, channel, start, stop);
-			token.log(logger);
-			return token;
-		}
+	/**
+	 * Restarts lexical analysis at the beginning of the source file.
+	 */
+	public void reset() {
+		if (lexer instanceof FastLexer)
+			((FastLexer) lexer).reset();
+		else
+			((PrevLexer) lexer).reset();
+		tokens.reset();
 	}
 
 }
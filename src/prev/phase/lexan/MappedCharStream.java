@@ -0,0 +1,219 @@
+package prev.phase.lexan;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+
+/**
+ * A character stream reading a source file directly from a memory-mapped byte
+ * buffer.
+ *
+ * PREV'22 programs are written in ASCII, so each character is a single byte
+ * and nothing is decoded or copied before lexical analysis starts. Indices
+ * within the stream are byte offsets. Any other character (which can only
+ * appear within a comment or be reported as an error) is decoded from UTF-8
+ * when it is read and counts as a single character, so lines, columns and
+ * texts of tokens are the same as with a stream of decoded code points.
+ */
+public class MappedCharStream implements CharStream {
+
+	/** The name of the source file. */
+	private final String srcFileName;
+
+	/** The source file. */
+	private final ByteBuffer bytes;
+
+	/** The size of the source file in bytes. */
+	private final int size;
+
+	/** The index of the next character. */
+	private int index = 0;
+
+	/**
+	 * Maps a source file into memory.
+	 *
+	 * @param srcFileName The name of the source file.
+	 * @throws IOException If the source file cannot be mapped.
+	 */
+	public MappedCharStream(String srcFileName) throws IOException {
+		this.srcFileName = srcFileName;
+		try (FileChannel channel = FileChannel.open(Paths.get(srcFileName), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE)
+				throw new IOException("File '" + srcFileName + "' is too large.");
+			bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		size = bytes.limit();
+	}
+
+	/**
+	 * Returns the byte at the specified index (for lexers scanning the source
+	 * file themselves).
+	 *
+	 * @param i The index of the byte.
+	 * @return The byte as an unsigned value.
+	 */
+	public int byteAt(int i) {
+		return bytes.get(i) & 0xFF;
+	}
+
+	/**
+	 * Returns the number of bytes of the character starting at the specified
+	 * index.
+	 *
+	 * @param i The index of the first byte of the character.
+	 * @return The number of bytes of the character.
+	 */
+	public int charLength(int i) {
+		int b = bytes.get(i) & 0xFF;
+		if (b < 0x80)
+			return 1;
+		int length;
+		int min = 0x80;
+		int max = 0xBF;
+		if (b >= 0xC2 && b <= 0xDF)
+			length = 2;
+		else if (b >= 0xE0 && b <= 0xEF) {
+			length = 3;
+			min = b == 0xE0 ? 0xA0 : 0x80;
+			max = b == 0xED ? 0x9F : 0xBF;
+		} else if (b >= 0xF0 && b <= 0xF4) {
+			length = 4;
+			min = b == 0xF0 ? 0x90 : 0x80;
+			max = b == 0xF4 ? 0x8F : 0xBF;
+		} else
+			return 1;
+		for (int c = 1; c < length; c++) {
+			if (i + c >= size)
+				return 1;
+			int cont = bytes.get(i + c) & 0xFF;
+			if (cont < (c == 1 ? min : 0x80) || cont > (c == 1 ? max : 0xBF))
+				return 1;
+		}
+		return length;
+	}
+
+	/**
+	 * Returns the character starting at the specified index.
+	 *
+	 * @param i The index of the first byte of the character.
+	 * @return The code point of the character ({@code U+FFFD} if malformed).
+	 */
+	public int charAt(int i) {
+		int b = bytes.get(i) & 0xFF;
+		if (b < 0x80)
+			return b;
+		int length = charLength(i);
+		if (length == 1)
+			return 0xFFFD;
+		int c = b & (0xFF >> (length + 1));
+		for (int k = 1; k < length; k++)
+			c = (c << 6) | (bytes.get(i + k) & 0x3F);
+		return c;
+	}
+
+	/**
+	 * Returns the number of characters between two indices.
+	 *
+	 * @param from The index of the first byte.
+	 * @param to   The index just past the last byte.
+	 * @return The number of characters.
+	 */
+	public int numChars(int from, int to) {
+		int num = 0;
+		for (int i = from; i < to; i += charLength(i))
+			num++;
+		return num;
+	}
+
+	@Override
+	public void consume() {
+		if (index >= size)
+			throw new IllegalStateException("cannot consume EOF");
+		index += charLength(index);
+	}
+
+	@Override
+	public int LA(int i) {
+		if (i == 0)
+			return 0;
+		int at = index;
+		if (i > 0) {
+			for (int k = 1; k < i && at < size; k++)
+				at += charLength(at);
+		} else {
+			for (int k = 0; k > i; k--) {
+				if (at == 0)
+					return IntStream.EOF;
+				int prev = at - 1;
+				for (int lead = at - 2; lead >= Math.max(0, at - 4); lead--)
+					if (lead + charLength(lead) == at)
+						prev = lead;
+				at = prev;
+			}
+		}
+		return at >= size ? IntStream.EOF : charAt(at);
+	}
+
+	@Override
+	public int mark() {
+		return -1;
+	}
+
+	@Override
+	public void release(int marker) {
+	}
+
+	@Override
+	public int index() {
+		return index;
+	}
+
+	@Override
+	public void seek(int index) {
+		this.index = Math.min(index, size);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String getSourceName() {
+		return srcFileName;
+	}
+
+	@Override
+	public String getText(Interval interval) {
+		int start = interval.a;
+		int stop = Math.min(interval.b, size - 1);
+		if (start >= size || stop < start)
+			return "";
+		byte[] ascii = new byte[stop - start + 1];
+		bytes.get(start, ascii);
+		if (isAscii(ascii))
+			return new String(ascii, StandardCharsets.US_ASCII);
+		StringBuilder text = new StringBuilder(stop - start + 1);
+		for (int i = start; i <= stop; i += charLength(i))
+			text.appendCodePoint(charAt(i));
+		return text.toString();
+	}
+
+	private static boolean isAscii(byte[] bytes) {
+		for (byte b : bytes)
+			if (b < 0)
+				return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return getText(Interval.of(0, size - 1));
+	}
+
+}
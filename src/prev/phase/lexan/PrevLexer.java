@@ -0,0 +1,424 @@
+// Generated from PrevLexer.g4 by ANTLR 4.9.3
+
+	package prev.phase.lexan;
+	import prev.common.report.*;
+	import prev.data.sym.*;
+
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class PrevLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.9.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		CONST_VOID=1, CONST_BOOL=2, CONST_INT=3, CONST_INT_ERR=4, CONST_CHAR=5, 
+		CONST_CHAR_UNCLOSED=6, CONST_CHAR_ERR=7, CONST_CHAR_EMPTY=8, CONST_STR=9, 
+		CONST_STR_UNCLOSED=10, CONST_PTR=11, LPAREN=12, RPAREN=13, LCURLY=14, 
+		RCURLY=15, LSQUARE=16, RSQUARE=17, DOT=18, COMMA=19, COLON=20, SEMI=21, 
+		AMP=22, PIPE=23, BANG=24, EQ=25, NEQ=26, LT=27, GT=28, LE=29, GE=30, MULT=31, 
+		DIV=32, MOD=33, PLUS=34, MINUS=35, CARET=36, ASSIGN=37, BOOL=38, CHAR=39, 
+		DEL=40, DO=41, ELSE=42, FUN=43, IF=44, INT=45, NEW=46, THEN=47, TYP=48, 
+		VAR=49, VOID=50, WHERE=51, WHILE=52, ID=53, ID_ERR=54, COMMENT=55, TAB=56, 
+		WS=57, UNRECOGNIZED=58;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"CONST_VOID", "CONST_BOOL", "CONST_INT", "CONST_INT_ERR", "CONST_CHAR", 
+			"CONST_CHAR_UNCLOSED", "CONST_CHAR_ERR", "CONST_CHAR_EMPTY", "CONST_STR", 
+			"CONST_STR_UNCLOSED", "CONST_PTR", "LPAREN", "RPAREN", "LCURLY", "RCURLY", 
+			"LSQUARE", "RSQUARE", "DOT", "COMMA", "COLON", "SEMI", "AMP", "PIPE", 
+			"BANG", "EQ", "NEQ", "LT", "GT", "LE", "GE", "MULT", "DIV", "MOD", "PLUS", 
+			"MINUS", "CARET", "ASSIGN", "BOOL", "CHAR", "DEL", "DO", "ELSE", "FUN", 
+			"IF", "INT", "NEW", "THEN", "TYP", "VAR", "VOID", "WHERE", "WHILE", "ID", 
+			"ID_ERR", "COMMENT", "TAB", "WS", "UNRECOGNIZED", "CHAR_CHAR", "UNESCAPED_CHAR", 
+			"STR_CHAR"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'none'", null, null, null, null, null, null, "''''", null, null, 
+			"'nil'", "'('", "')'", "'{'", "'}'", "'['", "']'", "'.'", "','", "':'", 
+			"';'", "'&'", "'|'", "'!'", "'=='", "'!='", "'<'", "'>'", "'<='", "'>='", 
+			"'*'", "'/'", "'%'", "'+'", "'-'", "'^'", "'='", "'bool'", "'char'", 
+			"'del'", "'do'", "'else'", "'fun'", "'if'", "'int'", "'new'", "'then'", 
+			"'typ'", "'var'", "'void'", "'where'", "'while'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "CONST_VOID", "CONST_BOOL", "CONST_INT", "CONST_INT_ERR", "CONST_CHAR", 
+			"CONST_CHAR_UNCLOSED", "CONST_CHAR_ERR", "CONST_CHAR_EMPTY", "CONST_STR", 
+			"CONST_STR_UNCLOSED", "CONST_PTR", "LPAREN", "RPAREN", "LCURLY", "RCURLY", 
+			"LSQUARE", "RSQUARE", "DOT", "COMMA", "COLON", "SEMI", "AMP", "PIPE", 
+			"BANG", "EQ", "NEQ", "LT", "GT", "LE", "GE", "MULT", "DIV", "MOD", "PLUS", 
+			"MINUS", "CARET", "ASSIGN", "BOOL", "CHAR", "DEL", "DO", "ELSE", "FUN", 
+			"IF", "INT", "NEW", "THEN", "TYP", "VAR", "VOID", "WHERE", "WHILE", "ID", 
+			"ID_ERR", "COMMENT", "TAB", "WS", "UNRECOGNIZED"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	    @Override
+		public Token nextToken() {
+			return (Token) super.nextToken();
+		}
+
+
+	public PrevLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PrevLexer.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	@Override
+	public void action(RuleContext _localctx, int ruleIndex, int actionIndex) {
+		switch (ruleIndex) {
+		case 3:
+			CONST_INT_ERR_action((RuleContext)_localctx, actionIndex);
+			break;
+		case 5:
+			CONST_CHAR_UNCLOSED_action((RuleContext)_localctx, actionIndex);
+			break;
+		case 6:
+			CONST_CHAR_ERR_action((RuleContext)_localctx, actionIndex);
+			break;
+		case 7:
+			CONST_CHAR_EMPTY_action((RuleContext)_localctx, actionIndex);
+			break;
+		case 9:
+			CONST_STR_UNCLOSED_action((RuleContext)_localctx, actionIndex);
+			break;
+		case 53:
+			ID_ERR_action((RuleContext)_localctx, actionIndex);
+			break;
+		case 55:
+			TAB_action((RuleContext)_localctx, actionIndex);
+			break;
+		case 57:
+			UNRECOGNIZED_action((RuleContext)_localctx, actionIndex);
+			break;
+		}
+	}
+	private void CONST_INT_ERR_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 0:
+
+			    String text = getText();
+			    int line = getLine();
+			    int col = getCharPositionInLine() - text.length() + 1;
+			    Location l = new Location(line, col);
+			    if (true) throw new Report.Error(
+			        l, text + " : Integer constants with leading zeros not allowed"
+			    );
+
+			break;
+		}
+	}
+	private void CONST_CHAR_UNCLOSED_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 1:
+
+			    String text = getText();
+			    int line = getLine();
+			    int col = getCharPositionInLine() - text.length() + 1;
+			    Location l = new Location(line, col);
+			    if (true) throw new Report.Error(
+			        l, text + " : Unclosed character constant"
+			    );
+
+			break;
+		}
+	}
+	private void CONST_CHAR_ERR_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 2:
+
+			    String text = getText();
+			    int line = getLine();
+			    int col = getCharPositionInLine() - text.length() + 1;
+			    Location l = new Location(line, col);
+			    if (true) throw new Report.Error(
+			        l, text + " : Invalid character constant"
+			    );
+
+			break;
+		}
+	}
+	private void CONST_CHAR_EMPTY_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 3:
+
+			    String text = getText();
+			    int line = getLine();
+			    int col = getCharPositionInLine() - text.length() + 1;
+			    Location l = new Location(line, col);
+			    if (true) throw new Report.Error(
+			        l, text + " : Empty character constant"
+			    );
+
+			break;
+		}
+	}
+	private void CONST_STR_UNCLOSED_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 4:
+
+			    String text = getText();
+			    int line = getLine();
+			    int col = getCharPositionInLine() - text.length() + 1;
+			    Location l = new Location(line, col);
+			    if (true) throw new Report.Error(
+			        l, text + " : Unclosed string constant"
+			    );
+
+			break;
+		}
+	}
+	private void ID_ERR_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 5:
+
+			    String text = getText();
+			    int line = getLine();
+			    int col = getCharPositionInLine() - text.length() + 1;
+			    Location l = new Location(line, col);
+			    if (true) throw new Report.Error(
+			        l, text + " : Identifiers cannot start with a number"
+			    );
+
+			break;
+		}
+	}
+	private void TAB_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 6:
+
+			    int old = getCharPositionInLine();
+			    setCharPositionInLine(old + (7 - (old - 1) % 8));
+
+			break;
+		}
+	}
+	private void UNRECOGNIZED_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 7:
+
+			    String text = getText();
+			    int line = getLine();
+			    int col = getCharPositionInLine() - text.length() + 1;
+			    Location l = new Location(line, col);
+			    if (true) throw new Report.Error(
+			        l, text + " : Unexpected symbol"
+			    );
+
+			break;
+		}
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2<\u0180\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3\u008c"+
+		"\n\3\3\4\3\4\7\4\u0090\n\4\f\4\16\4\u0093\13\4\3\4\5\4\u0096\n\4\3\5\3"+
+		"\5\6\5\u009a\n\5\r\5\16\5\u009b\3\5\3\5\3\6\3\6\3\6\3\6\3\7\3\7\6\7\u00a6"+
+		"\n\7\r\7\16\7\u00a7\3\7\3\7\3\7\3\b\3\b\3\b\6\b\u00b0\n\b\r\b\16\b\u00b1"+
+		"\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\n\3\n\7\n\u00be\n\n\f\n\16\n\u00c1"+
+		"\13\n\3\n\3\n\3\13\3\13\7\13\u00c7\n\13\f\13\16\13\u00ca\13\13\3\13\3"+
+		"\13\3\f\3\f\3\f\3\f\3\r\3\r\3\16\3\16\3\17\3\17\3\20\3\20\3\21\3\21\3"+
+		"\22\3\22\3\23\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3\27\3\30\3\30\3"+
+		"\31\3\31\3\32\3\32\3\32\3\33\3\33\3\33\3\34\3\34\3\35\3\35\3\36\3\36\3"+
+		"\36\3\37\3\37\3\37\3 \3 \3!\3!\3\"\3\"\3#\3#\3$\3$\3%\3%\3&\3&\3\'\3\'"+
+		"\3\'\3\'\3\'\3(\3(\3(\3(\3(\3)\3)\3)\3)\3*\3*\3*\3+\3+\3+\3+\3+\3,\3,"+
+		"\3,\3,\3-\3-\3-\3.\3.\3.\3.\3/\3/\3/\3/\3\60\3\60\3\60\3\60\3\60\3\61"+
+		"\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\63\3\63\3\63\3\63\3\63\3\64\3\64"+
+		"\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65\3\65\3\65\3\66\3\66\7\66\u014f"+
+		"\n\66\f\66\16\66\u0152\13\66\3\67\3\67\7\67\u0156\n\67\f\67\16\67\u0159"+
+		"\13\67\3\67\3\67\38\38\78\u015f\n8\f8\168\u0162\138\38\38\39\39\39\39"+
+		"\39\3:\6:\u016c\n:\r:\16:\u016d\3:\3:\3;\3;\3;\3<\3<\3<\5<\u0178\n<\3"+
+		"=\3=\3>\3>\3>\5>\u017f\n>\2\2?\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13"+
+		"\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61"+
+		"\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61"+
+		"a\62c\63e\64g\65i\66k\67m8o9q:s;u<w\2y\2{\2\3\2\13\3\2\63;\3\2\62;\5\2"+
+		"\f\f\17\17))\5\2C\\aac|\6\2\62;C\\aac|\4\2\f\f\17\17\5\2\f\f\17\17\"\""+
+		"\4\2\"(*\u0080\4\2\"#%\u0080\2\u018a\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2"+
+		"\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23"+
+		"\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2"+
+		"\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2"+
+		"\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3"+
+		"\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2"+
+		"\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2"+
+		"\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2["+
+		"\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2"+
+		"\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2"+
+		"\2u\3\2\2\2\3}\3\2\2\2\5\u008b\3\2\2\2\7\u0095\3\2\2\2\t\u0097\3\2\2\2"+
+		"\13\u009f\3\2\2\2\r\u00a3\3\2\2\2\17\u00ac\3\2\2\2\21\u00b6\3\2\2\2\23"+
+		"\u00bb\3\2\2\2\25\u00c4\3\2\2\2\27\u00cd\3\2\2\2\31\u00d1\3\2\2\2\33\u00d3"+
+		"\3\2\2\2\35\u00d5\3\2\2\2\37\u00d7\3\2\2\2!\u00d9\3\2\2\2#\u00db\3\2\2"+
+		"\2%\u00dd\3\2\2\2\'\u00df\3\2\2\2)\u00e1\3\2\2\2+\u00e3\3\2\2\2-\u00e5"+
+		"\3\2\2\2/\u00e7\3\2\2\2\61\u00e9\3\2\2\2\63\u00eb\3\2\2\2\65\u00ee\3\2"+
+		"\2\2\67\u00f1\3\2\2\29\u00f3\3\2\2\2;\u00f5\3\2\2\2=\u00f8\3\2\2\2?\u00fb"+
+		"\3\2\2\2A\u00fd\3\2\2\2C\u00ff\3\2\2\2E\u0101\3\2\2\2G\u0103\3\2\2\2I"+
+		"\u0105\3\2\2\2K\u0107\3\2\2\2M\u0109\3\2\2\2O\u010e\3\2\2\2Q\u0113\3\2"+
+		"\2\2S\u0117\3\2\2\2U\u011a\3\2\2\2W\u011f\3\2\2\2Y\u0123\3\2\2\2[\u0126"+
+		"\3\2\2\2]\u012a\3\2\2\2_\u012e\3\2\2\2a\u0133\3\2\2\2c\u0137\3\2\2\2e"+
+		"\u013b\3\2\2\2g\u0140\3\2\2\2i\u0146\3\2\2\2k\u014c\3\2\2\2m\u0153\3\2"+
+		"\2\2o\u015c\3\2\2\2q\u0165\3\2\2\2s\u016b\3\2\2\2u\u0171\3\2\2\2w\u0177"+
+		"\3\2\2\2y\u0179\3\2\2\2{\u017e\3\2\2\2}~\7p\2\2~\177\7q\2\2\177\u0080"+
+		"\7p\2\2\u0080\u0081\7g\2\2\u0081\4\3\2\2\2\u0082\u0083\7v\2\2\u0083\u0084"+
+		"\7t\2\2\u0084\u0085\7w\2\2\u0085\u008c\7g\2\2\u0086\u0087\7h\2\2\u0087"+
+		"\u0088\7c\2\2\u0088\u0089\7n\2\2\u0089\u008a\7u\2\2\u008a\u008c\7g\2\2"+
+		"\u008b\u0082\3\2\2\2\u008b\u0086\3\2\2\2\u008c\6\3\2\2\2\u008d\u0091\t"+
+		"\2\2\2\u008e\u0090\t\3\2\2\u008f\u008e\3\2\2\2\u0090\u0093\3\2\2\2\u0091"+
+		"\u008f\3\2\2\2\u0091\u0092\3\2\2\2\u0092\u0096\3\2\2\2\u0093\u0091\3\2"+
+		"\2\2\u0094\u0096\7\62\2\2\u0095\u008d\3\2\2\2\u0095\u0094\3\2\2\2\u0096"+
+		"\b\3\2\2\2\u0097\u0099\7\62\2\2\u0098\u009a\t\3\2\2\u0099\u0098\3\2\2"+
+		"\2\u009a\u009b\3\2\2\2\u009b\u0099\3\2\2\2\u009b\u009c\3\2\2\2\u009c\u009d"+
+		"\3\2\2\2\u009d\u009e\b\5\2\2\u009e\n\3\2\2\2\u009f\u00a0\7)\2\2\u00a0"+
+		"\u00a1\5w<\2\u00a1\u00a2\7)\2\2\u00a2\f\3\2\2\2\u00a3\u00a5\7)\2\2\u00a4"+
+		"\u00a6\5y=\2\u00a5\u00a4\3\2\2\2\u00a6\u00a7\3\2\2\2\u00a7\u00a5\3\2\2"+
+		"\2\u00a7\u00a8\3\2\2\2\u00a8\u00a9\3\2\2\2\u00a9\u00aa\n\4\2\2\u00aa\u00ab"+
+		"\b\7\3\2\u00ab\16\3\2\2\2\u00ac\u00ad\7)\2\2\u00ad\u00af\5y=\2\u00ae\u00b0"+
+		"\5y=\2\u00af\u00ae\3\2\2\2\u00b0\u00b1\3\2\2\2\u00b1\u00af\3\2\2\2\u00b1"+
+		"\u00b2\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3\u00b4\7)\2\2\u00b4\u00b5\b\b"+
+		"\4\2\u00b5\20\3\2\2\2\u00b6\u00b7\7)\2\2\u00b7\u00b8\7)\2\2\u00b8\u00b9"+
+		"\3\2\2\2\u00b9\u00ba\b\t\5\2\u00ba\22\3\2\2\2\u00bb\u00bf\7$\2\2\u00bc"+
+		"\u00be\5{>\2\u00bd\u00bc\3\2\2\2\u00be\u00c1\3\2\2\2\u00bf\u00bd\3\2\2"+
+		"\2\u00bf\u00c0\3\2\2\2\u00c0\u00c2\3\2\2\2\u00c1\u00bf\3\2\2\2\u00c2\u00c3"+
+		"\7$\2\2\u00c3\24\3\2\2\2\u00c4\u00c8\7$\2\2\u00c5\u00c7\5{>\2\u00c6\u00c5"+
+		"\3\2\2\2\u00c7\u00ca\3\2\2\2\u00c8\u00c6\3\2\2\2\u00c8\u00c9\3\2\2\2\u00c9"+
+		"\u00cb\3\2\2\2\u00ca\u00c8\3\2\2\2\u00cb\u00cc\b\13\6\2\u00cc\26\3\2\2"+
+		"\2\u00cd\u00ce\7p\2\2\u00ce\u00cf\7k\2\2\u00cf\u00d0\7n\2\2\u00d0\30\3"+
+		"\2\2\2\u00d1\u00d2\7*\2\2\u00d2\32\3\2\2\2\u00d3\u00d4\7+\2\2\u00d4\34"+
+		"\3\2\2\2\u00d5\u00d6\7}\2\2\u00d6\36\3\2\2\2\u00d7\u00d8\7\177\2\2\u00d8"+
+		" \3\2\2\2\u00d9\u00da\7]\2\2\u00da\"\3\2\2\2\u00db\u00dc\7_\2\2\u00dc"+
+		"$\3\2\2\2\u00dd\u00de\7\60\2\2\u00de&\3\2\2\2\u00df\u00e0\7.\2\2\u00e0"+
+		"(\3\2\2\2\u00e1\u00e2\7<\2\2\u00e2*\3\2\2\2\u00e3\u00e4\7=\2\2\u00e4,"+
+		"\3\2\2\2\u00e5\u00e6\7(\2\2\u00e6.\3\2\2\2\u00e7\u00e8\7~\2\2\u00e8\60"+
+		"\3\2\2\2\u00e9\u00ea\7#\2\2\u00ea\62\3\2\2\2\u00eb\u00ec\7?\2\2\u00ec"+
+		"\u00ed\7?\2\2\u00ed\64\3\2\2\2\u00ee\u00ef\7#\2\2\u00ef\u00f0\7?\2\2\u00f0"+
+		"\66\3\2\2\2\u00f1\u00f2\7>\2\2\u00f28\3\2\2\2\u00f3\u00f4\7@\2\2\u00f4"+
+		":\3\2\2\2\u00f5\u00f6\7>\2\2\u00f6\u00f7\7?\2\2\u00f7<\3\2\2\2\u00f8\u00f9"+
+		"\7@\2\2\u00f9\u00fa\7?\2\2\u00fa>\3\2\2\2\u00fb\u00fc\7,\2\2\u00fc@\3"+
+		"\2\2\2\u00fd\u00fe\7\61\2\2\u00feB\3\2\2\2\u00ff\u0100\7\'\2\2\u0100D"+
+		"\3\2\2\2\u0101\u0102\7-\2\2\u0102F\3\2\2\2\u0103\u0104\7/\2\2\u0104H\3"+
+		"\2\2\2\u0105\u0106\7`\2\2\u0106J\3\2\2\2\u0107\u0108\7?\2\2\u0108L\3\2"+
+		"\2\2\u0109\u010a\7d\2\2\u010a\u010b\7q\2\2\u010b\u010c\7q\2\2\u010c\u010d"+
+		"\7n\2\2\u010dN\3\2\2\2\u010e\u010f\7e\2\2\u010f\u0110\7j\2\2\u0110\u0111"+
+		"\7c\2\2\u0111\u0112\7t\2\2\u0112P\3\2\2\2\u0113\u0114\7f\2\2\u0114\u0115"+
+		"\7g\2\2\u0115\u0116\7n\2\2\u0116R\3\2\2\2\u0117\u0118\7f\2\2\u0118\u0119"+
+		"\7q\2\2\u0119T\3\2\2\2\u011a\u011b\7g\2\2\u011b\u011c\7n\2\2\u011c\u011d"+
+		"\7u\2\2\u011d\u011e\7g\2\2\u011eV\3\2\2\2\u011f\u0120\7h\2\2\u0120\u0121"+
+		"\7w\2\2\u0121\u0122\7p\2\2\u0122X\3\2\2\2\u0123\u0124\7k\2\2\u0124\u0125"+
+		"\7h\2\2\u0125Z\3\2\2\2\u0126\u0127\7k\2\2\u0127\u0128\7p\2\2\u0128\u0129"+
+		"\7v\2\2\u0129\\\3\2\2\2\u012a\u012b\7p\2\2\u012b\u012c\7g\2\2\u012c\u012d"+
+		"\7y\2\2\u012d^\3\2\2\2\u012e\u012f\7v\2\2\u012f\u0130\7j\2\2\u0130\u0131"+
+		"\7g\2\2\u0131\u0132\7p\2\2\u0132`\3\2\2\2\u0133\u0134\7v\2\2\u0134\u0135"+
+		"\7{\2\2\u0135\u0136\7r\2\2\u0136b\3\2\2\2\u0137\u0138\7x\2\2\u0138\u0139"+
+		"\7c\2\2\u0139\u013a\7t\2\2\u013ad\3\2\2\2\u013b\u013c\7x\2\2\u013c\u013d"+
+		"\7q\2\2\u013d\u013e\7k\2\2\u013e\u013f\7f\2\2\u013ff\3\2\2\2\u0140\u0141"+
+		"\7y\2\2\u0141\u0142\7j\2\2\u0142\u0143\7g\2\2\u0143\u0144\7t\2\2\u0144"+
+		"\u0145\7g\2\2\u0145h\3\2\2\2\u0146\u0147\7y\2\2\u0147\u0148\7j\2\2\u0148"+
+		"\u0149\7k\2\2\u0149\u014a\7n\2\2\u014a\u014b\7g\2\2\u014bj\3\2\2\2\u014c"+
+		"\u0150\t\5\2\2\u014d\u014f\t\6\2\2\u014e\u014d\3\2\2\2\u014f\u0152\3\2"+
+		"\2\2\u0150\u014e\3\2\2\2\u0150\u0151\3\2\2\2\u0151l\3\2\2\2\u0152\u0150"+
+		"\3\2\2\2\u0153\u0157\t\3\2\2\u0154\u0156\t\6\2\2\u0155\u0154\3\2\2\2\u0156"+
+		"\u0159\3\2\2\2\u0157\u0155\3\2\2\2\u0157\u0158\3\2\2\2\u0158\u015a\3\2"+
+		"\2\2\u0159\u0157\3\2\2\2\u015a\u015b\b\67\7\2\u015bn\3\2\2\2\u015c\u0160"+
+		"\7%\2\2\u015d\u015f\n\7\2\2\u015e\u015d\3\2\2\2\u015f\u0162\3\2\2\2\u0160"+
+		"\u015e\3\2\2\2\u0160\u0161\3\2\2\2\u0161\u0163\3\2\2\2\u0162\u0160\3\2"+
+		"\2\2\u0163\u0164\b8\b\2\u0164p\3\2\2\2\u0165\u0166\7\13\2\2\u0166\u0167"+
+		"\b9\t\2\u0167\u0168\3\2\2\2\u0168\u0169\b9\b\2\u0169r\3\2\2\2\u016a\u016c"+
+		"\t\b\2\2\u016b\u016a\3\2\2\2\u016c\u016d\3\2\2\2\u016d\u016b\3\2\2\2\u016d"+
+		"\u016e\3\2\2\2\u016e\u016f\3\2\2\2\u016f\u0170\b:\b\2\u0170t\3\2\2\2\u0171"+
+		"\u0172\13\2\2\2\u0172\u0173\b;\n\2\u0173v\3\2\2\2\u0174\u0178\5y=\2\u0175"+
+		"\u0176\7^\2\2\u0176\u0178\7)\2\2\u0177\u0174\3\2\2\2\u0177\u0175\3\2\2"+
+		"\2\u0178x\3\2\2\2\u0179\u017a\t\t\2\2\u017az\3\2\2\2\u017b\u017f\t\n\2"+
+		"\2\u017c\u017d\7^\2\2\u017d\u017f\7$\2\2\u017e\u017b\3\2\2\2\u017e\u017c"+
+		"\3\2\2\2\u017f|\3\2\2\2\21\2\u008b\u0091\u0095\u009b\u00a7\u00b1\u00bf"+
+		"\u00c8\u0150\u0157\u0160\u016d\u0177\u017e\13\3\5\2\3\7\3\3\b\4\3\t\5"+
+		"\3\13\6\3\67\7\b\2\2\39\b\3;\t";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
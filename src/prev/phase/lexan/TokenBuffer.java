@@ -0,0 +1,397 @@
+package prev.phase.lexan;
+
+import java.util.*;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+
+import prev.Compilation;
+import prev.common.logger.*;
+import prev.common.report.*;
+import prev.data.sym.Symbols;
+import prev.data.sym.Token;
+
+/**
+ * A compact buffer of tokens read by the parser.
+ *
+ * Tokens are stored as type, start and stop indices within the source file,
+ * line and column in parallel arrays of integers and are fetched from the
+ * lexer only when the parser needs them. The text and the location of a token
+ * are computed from the source file on demand. A token object (see
+ * {@link Token}) is created only when the parser asks for a token rather than
+ * for its type, and is a view of the token within the buffer.
+ *
+ * The buffer is also the factory of tokens produced by the ANTLR lexer: each
+ * token created is appended to the buffer. The hand-written lexer appends
+ * tokens without creating token objects at all (see
+ * {@link FastLexer#lex(TokenBuffer)}).
+ *
+ * Identifiers are interned as they are appended to the buffer (see
+ * {@link Symbols}), so the text of an identifier is created only once for all
+ * its occurrences.
+ */
+public class TokenBuffer implements TokenStream, TokenFactory<Token> {
+
+	/** The text of the end-of-file token. */
+	public static final String eofText = "<EOF>";
+
+	/** The lexer. */
+	private final TokenSource lexer;
+
+	/** The logger tokens are logged to (or {@code null} if not logging). */
+	private final Logger logger;
+
+	/** Symbols of identifiers. */
+	private final Symbols symbols;
+
+	/** The number of tokens in the buffer. */
+	private int size = 0;
+
+	/** Types of tokens. */
+	private int[] types;
+
+	/** Indices of the first characters of tokens. */
+	private int[] starts;
+
+	/** Indices of the last characters of tokens. */
+	private int[] stops;
+
+	/** Lines of tokens. */
+	private int[] lines;
+
+	/** Columns of the first characters of tokens. */
+	private int[] columns;
+
+	/** Symbols of identifiers (undefined for other tokens). */
+	private int[] syms;
+
+	/** Token objects created so far. */
+	private Token[] views;
+
+	/** The index of the current token. */
+	private int index = 0;
+
+	/**
+	 * Constructs a new token buffer and makes it the token factory of the lexer.
+	 *
+	 * @param lexer  The lexer.
+	 * @param logger The logger tokens are logged to (or {@code null}).
+	 */
+	public TokenBuffer(TokenSource lexer, Logger logger) {
+		this.lexer = lexer;
+		this.logger = logger;
+		this.symbols = Compilation.current().symbols;
+		lexer.setTokenFactory(this);
+
+		// Typical programs have about one token per four characters.
+		int capacity = Math.max(1024, lexer.getInputStream().size() / 4);
+		types = new int[capacity];
+		starts = new int[capacity];
+		stops = new int[capacity];
+		lines = new int[capacity];
+		columns = new int[capacity];
+		syms = new int[capacity];
+		views = new Token[capacity];
+	}
+
+	/**
+	 * Empties the buffer (once the lexer has been reset).
+	 */
+	public void reset() {
+		size = 0;
+		index = 0;
+		Arrays.fill(views, null);
+	}
+
+	/**
+	 * Appends a token to the buffer.
+	 *
+	 * @param type   The type of the token.
+	 * @param start  The index of the first character of the token.
+	 * @param stop   The index of the last character of the token.
+	 * @param line   The line of the token.
+	 * @param column The column of the first character of the token.
+	 * @return The index of the token within the buffer.
+	 */
+	public int add(int type, int start, int stop, int line, int column) {
+		if (size == types.length) {
+			types = Arrays.copyOf(types, 2 * size);
+			starts = Arrays.copyOf(starts, 2 * size);
+			stops = Arrays.copyOf(stops, 2 * size);
+			lines = Arrays.copyOf(lines, 2 * size);
+			columns = Arrays.copyOf(columns, 2 * size);
+			syms = Arrays.copyOf(syms, 2 * size);
+			views = Arrays.copyOf(views, 2 * size);
+		}
+		int i = size++;
+		types[i] = type;
+		starts[i] = start;
+		stops[i] = stop;
+		lines[i] = line;
+		columns[i] = column;
+		if (type == PrevLexer.ID) {
+			CharStream input = lexer.getInputStream();
+			if (input instanceof MappedCharStream)
+				syms[i] = symbols.intern((MappedCharStream) input, start, stop);
+			else
+				syms[i] = symbols.intern(input.getText(Interval.of(start, stop)));
+		}
+		if (logger != null)
+			get(i).log(logger);
+		return i;
+	}
+
+	/**
+	 * Makes sure the token at the specified index is in the buffer unless the end
+	 * of the source file comes first.
+	 *
+	 * @param i The index of the token.
+	 */
+	private void sync(int i) {
+		while (size <= i && (size == 0 || types[size - 1] != Token.EOF)) {
+			if (lexer instanceof FastLexer)
+				((FastLexer) lexer).lex(this);
+			else
+				lexer.nextToken();
+		}
+	}
+
+	/**
+	 * Returns whether all tokens up to and including the end-of-file token have
+	 * been read.
+	 *
+	 * @return {@code true} if the end-of-file token has been read, {@code false}
+	 *         otherwise.
+	 */
+	public boolean filled() {
+		return size > 0 && types[size - 1] == Token.EOF;
+	}
+
+	/**
+	 * Reads all tokens up to and including the end-of-file token.
+	 */
+	public void fill() {
+		sync(Integer.MAX_VALUE - 1);
+	}
+
+	// TOKENS
+
+	/**
+	 * Returns the type of a token.
+	 *
+	 * @param i The index of the token.
+	 * @return The type of the token.
+	 */
+	public int type(int i) {
+		return types[i];
+	}
+
+	/**
+	 * Returns the index of the first character of a token.
+	 *
+	 * @param i The index of the token.
+	 * @return The index of the first character.
+	 */
+	public int start(int i) {
+		return starts[i];
+	}
+
+	/**
+	 * Returns the index of the last character of a token.
+	 *
+	 * @param i The index of the token.
+	 * @return The index of the last character.
+	 */
+	public int stop(int i) {
+		return stops[i];
+	}
+
+	/**
+	 * Returns the line of a token.
+	 *
+	 * @param i The index of the token.
+	 * @return The line of the token.
+	 */
+	public int line(int i) {
+		return lines[i];
+	}
+
+	/**
+	 * Returns the column of the first character of a token.
+	 *
+	 * @param i The index of the token.
+	 * @return The column of the first character.
+	 */
+	public int column(int i) {
+		return columns[i];
+	}
+
+	/**
+	 * Returns the symbol of an identifier.
+	 *
+	 * @param i The index of the token.
+	 * @return The symbol of the identifier.
+	 */
+	public int symbol(int i) {
+		if (types[i] != PrevLexer.ID)
+			throw new Report.InternalError();
+		return syms[i];
+	}
+
+	/**
+	 * Returns the text of a token.
+	 *
+	 * @param i The index of the token.
+	 * @return The text of the token.
+	 */
+	public String text(int i) {
+		if (types[i] == Token.EOF)
+			return eofText;
+		if (types[i] == PrevLexer.ID)
+			return symbols.name(syms[i]);
+		return lexer.getInputStream().getText(Interval.of(starts[i], stops[i]));
+	}
+
+	/**
+	 * Returns the location of a token.
+	 *
+	 * @param i The index of the token.
+	 * @return The location of the token.
+	 */
+	public Location location(int i) {
+		return Location.of(position(i));
+	}
+
+	/**
+	 * Returns the position of a token (see {@link Location#pack}).
+	 *
+	 * @param i The index of the token.
+	 * @return The position of the token.
+	 */
+	public long position(int i) {
+		int length = types[i] == Token.EOF ? eofText.length() : stops[i] - starts[i] + 1;
+		return Location.pack(lines[i], columns[i], lines[i], columns[i] + length - 1);
+	}
+
+	// TOKEN FACTORY
+
+	@Override
+	public Token create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start,
+			int stop, int line, int charPositionInLine) {
+		// The lexer has already consumed the token, so its position is just past it.
+		int length = type == Token.EOF ? eofText.length() : stop - start + 1;
+		return get(add(type, start, stop, source.a.getLine(), source.a.getCharPositionInLine() - length + 1));
+	}
+
+	@Override
+	public Token create(int type, String text) {
+		throw new Report.InternalError();
+	}
+
+	// TOKEN STREAM
+
+	@Override
+	public Token get(int i) {
+		if (i < 0 || i >= size)
+			throw new IndexOutOfBoundsException("token index " + i + " out of range 0.." + (size - 1));
+		if (views[i] == null)
+			views[i] = new Token(this, i);
+		return views[i];
+	}
+
+	@Override
+	public Token LT(int k) {
+		if (k == 0)
+			return null;
+		int i = k > 0 ? index + k - 1 : index + k;
+		if (i < 0)
+			return null;
+		sync(i);
+		return get(Math.min(i, size - 1));
+	}
+
+	@Override
+	public int LA(int k) {
+		if (k == 0)
+			return 0;
+		int i = k > 0 ? index + k - 1 : index + k;
+		if (i < 0)
+			return 0;
+		sync(i);
+		return types[Math.min(i, size - 1)];
+	}
+
+	@Override
+	public void consume() {
+		if (LA(1) == Token.EOF)
+			throw new IllegalStateException("cannot consume EOF");
+		index++;
+		sync(index);
+	}
+
+	@Override
+	public int mark() {
+		return 0;
+	}
+
+	@Override
+	public void release(int marker) {
+	}
+
+	@Override
+	public int index() {
+		return index;
+	}
+
+	@Override
+	public void seek(int index) {
+		sync(index);
+		this.index = Math.min(index, size - 1);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String getSourceName() {
+		return lexer.getSourceName();
+	}
+
+	@Override
+	public TokenSource getTokenSource() {
+		return lexer;
+	}
+
+	@Override
+	public String getText(Interval interval) {
+		// As in ANTLR's token streams, all tokens are read first (so that lexical
+		// errors following a syntax error are reported in the same order).
+		if (interval.a < 0 || interval.b < 0)
+			return "";
+		fill();
+		StringBuilder text = new StringBuilder();
+		for (int i = interval.a; i <= Math.min(interval.b, size - 1) && types[i] != Token.EOF; i++)
+			text.append(text(i));
+		return text.toString();
+	}
+
+	@Override
+	public String getText() {
+		return getText(Interval.of(0, size - 1));
+	}
+
+	@Override
+	public String getText(RuleContext ctx) {
+		return getText(ctx.getSourceInterval());
+	}
+
+	@Override
+	public String getText(org.antlr.v4.runtime.Token start, org.antlr.v4.runtime.Token stop) {
+		if (start == null || stop == null)
+			return "";
+		return getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+	}
+
+}
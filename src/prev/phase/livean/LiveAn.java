@@ -1,12 +1,13 @@
 package prev.phase.livean;
 
+import prev.common.stats.*;
 import prev.data.mem.*;
 import prev.data.asm.*;
 import prev.phase.*;
 import prev.phase.asmgen.*;
 
-import java.util.Set;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Vector;
@@ -22,83 +23,91 @@ public class LiveAn extends Phase {
 
 	public void compLifetimes() {
 		// Do liveness analysis for each function
-		for (Code code : AsmGen.codes) {
+		for (Code code : AsmGen.codes()) {
 			compLifetimesFun(code);
 		}
 	}
 
 	public void compLifetimesFun(Code code) {
 		Vector<AsmInstr> instrs = code.instrs;
+		int n = instrs.size();
 
-		// Previous in and out sizes
-		int[] sizesIn = new int[instrs.size()];
-		int[] sizesOut = new int[instrs.size()];
+		// Uses, defs, successors and live sets of every instruction
+		ArrayList<Vector<MemTemp>> defs = new ArrayList<>(n);
+		int[][] succs = new int[n][];
+		ArrayList<LinkedHashSet<MemTemp>> ins = new ArrayList<>(n);
+		ArrayList<LinkedHashSet<MemTemp>> outs = new ArrayList<>(n);
 
-		Map<String, AsmInstr> asmLabels = new HashMap<>();
+		Map<String, Integer> asmLabels = new HashMap<>();
 
 		// Add use to in of every instruction
-		for (int i = 0; i < instrs.size(); ++i) {
+		for (int i = 0; i < n; ++i) {
 			AsmInstr instr = instrs.get(i);
-
-			// Clear in and out
-			((AsmOPER) instr).removeAllFromIn();
-			((AsmOPER) instr).removeAllFromOut();
-
-			instr.addInTemps(new HashSet<>(instr.uses()));
-			sizesIn[i] = instr.in().size();
+			defs.add(instr.defs());
+			ins.add(new LinkedHashSet<>(instr.uses()));
+			outs.add(new LinkedHashSet<>());
 
 			// Save instruction if it is a label
 			if (instr instanceof AsmLABEL) {
-				asmLabels.put(instr.toString(), instr);
+				asmLabels.put(instr.toString(), i);
+			}
+		}
+
+		for (int i = 0; i < n; ++i) {
+			AsmInstr instr = instrs.get(i);
+			if (i + 1 < n) {
+				// If not the last instr, next instr and every jump successor
+				// (not for function calls)
+				Vector<MemLabel> jumps = instr.toString().contains("PUSHJ") ?
+					new Vector<>() : instr.jumps();
+				succs[i] = new int[1 + jumps.size()];
+				succs[i][0] = i + 1;
+				for (int j = 0; j < jumps.size(); ++j) {
+					succs[i][j + 1] = asmLabels.get(jumps.get(j).name);
+				}
+			} else {
+				succs[i] = new int[0];
 			}
 		}
 
 		boolean converged = false;
+		int iterations = 0;
 
+		// Live sets flow backwards, so visit instructions in reverse order
 		do {
 			converged = true;
+			iterations++;
 
-			// Update ins and outs
-			for (int i = 0; i < instrs.size(); ++i) {
-				AsmInstr instr = instrs.get(i);
+			for (int i = n - 1; i >= 0; --i) {
+				// Add in of every successor
+				for (int succ : succs[i]) {
+					converged &= !outs.get(i).addAll(ins.get(succ));
+				}
 
 				// Add out \ def
-				HashSet<MemTemp> outWithoutDef = new HashSet<>(instr.out());
-				outWithoutDef.removeAll(instr.defs());
-				instr.addInTemps(outWithoutDef);
-
-				if (i + 1 < instrs.size()) {
-					// If not the last instr, add in of the next instr
-					instr.addOutTemp(instrs.get(i + 1).in());
-
-					// Add in of every jump successor (not for function calls)
-					if (!instr.toString().contains("PUSHJ")) {
-						for (MemLabel label : instr.jumps()) {
-							instr.addOutTemp(
-								asmLabels.get(label.name).in()
-							);
-						}
+				for (MemTemp temp : outs.get(i)) {
+					if (!defs.get(i).contains(temp)) {
+						converged &= !ins.get(i).add(temp);
 					}
 				}
-
-				converged &= instr.in().size() == sizesIn[i] &&
-							 instr.out().size() == sizesOut[i];
-			}
-
-			if (!converged) {
-				// Save new sizes
-				for (int i = 0; i < instrs.size(); ++i) {
-					sizesIn[i] = instrs.get(i).in().size();
-					sizesOut[i] = instrs.get(i).out().size();
-				}
 			}
 		} while (!converged);
+		Stats.count("liveanIterations", iterations);
+
+		// Save ins and outs
+		for (int i = 0; i < n; ++i) {
+			AsmInstr instr = instrs.get(i);
+			((AsmOPER) instr).removeAllFromIn();
+			((AsmOPER) instr).removeAllFromOut();
+			instr.addInTemps(ins.get(i));
+			instr.addOutTemp(outs.get(i));
+		}
 	}
 
 	public void log() {
 		if (logger == null)
 			return;
-		for (Code code : AsmGen.codes) {
+		for (Code code : AsmGen.codes()) {
 			logger.begElement("code");
 			logger.addAttribute("entrylabel", code.entryLabel.name);
 			logger.addAttribute("exitlabel", code.exitLabel.name);
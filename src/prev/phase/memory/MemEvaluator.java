@@ -1,5 +1,8 @@
 package prev.phase.memory;
 
+import java.util.*;
+
+import prev.common.stats.*;
 import prev.data.ast.tree.*;
 import prev.data.ast.tree.decl.*;
 import prev.data.ast.tree.expr.*;
@@ -26,12 +29,37 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 		int localVarsSize = 0;
 		int paramsSize = 0;
 		int argsSize = 0; 			// Function call arguments + SL
+		Scope scope = new Scope();	// Where block being visited
 	}
 
 	public class RecordContext extends Context {
 		int compsSize = 0;
 	}
 
+	/**
+	 * Local variables declared by a single where block of a function together
+	 * with the where blocks nested within it (but not within nested functions).
+	 *
+	 * Where blocks form a tree and the scopes of two where blocks are either
+	 * nested or disjoint, so variables of sibling where blocks are never alive
+	 * at the same time and can share frame slots. Laying out the tree depth
+	 * first, with all children of a where block starting at the same offset,
+	 * colours the nested scope intervals with the least frame space.
+	 */
+	protected class Scope {
+		final Vector<AstVarDecl> vars = new Vector<>();
+		final Vector<Scope> scopes = new Vector<>();
+		boolean addressed = false;	// Whether it declares a variable whose address is taken
+	}
+
+	/**
+	 * Local variables whose address is taken. A pointer may outlive the where
+	 * block declaring the variable, so where blocks declaring such variables
+	 * (and where blocks enclosing them) never share frame slots with their
+	 * siblings.
+	 */
+	private final HashSet<AstVarDecl> addressed = new HashSet<>();
+
 	// FUNCTION DECLARATIONS
 
 	@Override
@@ -57,17 +85,97 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 			funDecl.expr.accept(this, subContext);
 		}
 
-		// Create frame
-		Memory.frames.put(funDecl, new MemFrame(
+		// Lay out local variables of all where blocks
+		markAddressed(subContext.scope);
+		subContext.localVarsSize = (int) layout(subContext.scope, subContext.depth, 0);
+		Stats.count("sharedFrameBytes", unsharedSize(subContext.scope, 0) - subContext.localVarsSize);
+
+		// Create frame (keeping the stack pointer aligned to an octabyte)
+		Memory.frames().put(funDecl, new MemFrame(
 			funLabel,
 			subContext.depth - 1,
-			subContext.localVarsSize,
+			SemType.align(subContext.localVarsSize, 8),
 			subContext.argsSize
 		));
 
 		return null;
 	}
 
+	// FRAME LAYOUT
+
+	private boolean markAddressed(Scope scope) {
+		for (AstVarDecl varDecl : scope.vars) {
+			scope.addressed |= addressed.contains(varDecl);
+		}
+		for (Scope subScope : scope.scopes) {
+			scope.addressed |= markAddressed(subScope);
+		}
+		return scope.addressed;
+	}
+
+	private long layout(Scope scope, int depth, long size) {
+		// Variables of this where block follow variables of enclosing ones
+		for (AstVarDecl varDecl : scope.vars) {
+			SemType type = SemAn.isType().get(varDecl.type);
+			long typeSize = type.size();
+
+			// We increase offset from FP (aligning the variable)
+			size = SemType.align(size + typeSize, type.alignment());
+
+			Memory.accesses().put(varDecl, new MemRelAccess(
+				typeSize,
+				-size,
+				depth
+			));
+		}
+
+		// Nested where blocks with addressed variables get slots of their own
+		for (Scope subScope : scope.scopes) {
+			if (subScope.addressed) {
+				size = layout(subScope, depth, size);
+			}
+		}
+
+		// Other nested where blocks share slots with each other
+		long maxSize = size;
+		for (Scope subScope : scope.scopes) {
+			if (!subScope.addressed) {
+				maxSize = Math.max(maxSize, layout(subScope, depth, size));
+			}
+		}
+		return maxSize;
+	}
+
+	private long unsharedSize(Scope scope, long size) {
+		for (AstVarDecl varDecl : scope.vars) {
+			SemType type = SemAn.isType().get(varDecl.type);
+			size = SemType.align(size + type.size(), type.alignment());
+		}
+		for (Scope subScope : scope.scopes) {
+			size = unsharedSize(subScope, size);
+		}
+		return size;
+	}
+
+	// WHERE BLOCKS
+
+	@Override
+	public Object visit(AstWhereExpr whereExpr, Context context) {
+		if (!(context instanceof FunctionContext)) {
+			return super.visit(whereExpr, context);
+		}
+
+		// Variables of the where block are collected into a new scope
+		FunctionContext funContext = (FunctionContext) context;
+		Scope scope = funContext.scope;
+		funContext.scope = new Scope();
+		scope.scopes.add(funContext.scope);
+		super.visit(whereExpr, context);
+		funContext.scope = scope;
+
+		return null;
+	}
+
 	// FUNCTION CALLS
 
 	@Override
@@ -81,7 +189,8 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 		int argsSize = 8;
 		for (AstExpr arg : callExpr.args) {
 			arg.accept(this, context);
-			argsSize += SemAn.ofType.get(arg).size();
+			// Every argument takes at least an octabyte
+			argsSize += SemType.align(SemAn.ofType().get(arg).size(), 8);
 		}
 		funContext.argsSize = argsSize > funContext.argsSize ?
 											argsSize : funContext.argsSize;
@@ -91,7 +200,7 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 
 	@Override
 	public Object visit(AstNameExpr nameExpr, Context context) {
-		AstDecl decl = SemAn.declaredAt.get(nameExpr);
+		AstDecl decl = SemAn.declaredAt().get(nameExpr);
 		if (decl instanceof AstFunDecl) {
 			// We only need SL in the frame for this function call
 			FunctionContext funContext = (FunctionContext) context;
@@ -104,6 +213,19 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 
 	@Override
 	public Object visit(AstPfxExpr pfxExpr, Context context) {
+		// Visit subexpression to also take calls and where blocks in it into account
+		pfxExpr.expr.accept(this, context);
+
+		if (pfxExpr.oper == AstPfxExpr.Oper.PTR) {
+			// Find the variable whose address (or address of its part) is taken
+			AstExpr expr = pfxExpr.expr;
+			while (expr instanceof AstArrExpr || expr instanceof AstRecExpr) {
+				expr = expr instanceof AstArrExpr ? ((AstArrExpr) expr).arr : ((AstRecExpr) expr).rec;
+			}
+			if (expr instanceof AstNameExpr && SemAn.declaredAt().get((AstNameExpr) expr) instanceof AstVarDecl) {
+				addressed.add((AstVarDecl) SemAn.declaredAt().get((AstNameExpr) expr));
+			}
+		}
 		if (pfxExpr.oper == AstPfxExpr.Oper.NEW || pfxExpr.oper == AstPfxExpr.Oper.DEL) {
 			FunctionContext funContext = (FunctionContext) context;
 			funContext.argsSize = 16 > funContext.argsSize ? 16 : funContext.argsSize;
@@ -118,24 +240,14 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 	public Object visit(AstVarDecl varDecl, Context context) {
 		// Visit type
 		varDecl.type.accept(this, context);
-		SemType type = SemAn.isType.get(varDecl.type);
+		SemType type = SemAn.isType().get(varDecl.type);
 
 		if (context != null) {
-			// Local variable
-			FunctionContext funContext = (FunctionContext) context;
-			long typeSize = type.size();
-
-			// We increase offset from FP
-			funContext.localVarsSize += typeSize;
-
-			Memory.accesses.put(varDecl, new MemRelAccess(
-				typeSize,
-				-funContext.localVarsSize,
-				funContext.depth
-			));
+			// Local variable, laid out once the whole function is visited
+			((FunctionContext) context).scope.vars.add(varDecl);
 		} else {
 			// Global variable
-			Memory.accesses.put(varDecl, new MemAbsAccess(
+			Memory.accesses().put(varDecl, new MemAbsAccess(
 				type.size(),
 				new MemLabel(varDecl.name)
 			));
@@ -150,14 +262,15 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 	public Object visit(AstParDecl parDecl, Context context) {
 		// Visit type
 		parDecl.type.accept(this, context);
-		SemType type = SemAn.isType.get(parDecl.type);
+		SemType type = SemAn.isType().get(parDecl.type);
 
+		// Every parameter takes at least an octabyte
 		FunctionContext funContext = (FunctionContext) context;
-		long typeSize = type.size();
-		funContext.paramsSize += typeSize;
+		long slotSize = SemType.align(type.size(), 8);
+		funContext.paramsSize += slotSize;
 
-		Memory.accesses.put(parDecl, new MemRelAccess(
-			typeSize,
+		Memory.accesses().put(parDecl, new MemRelAccess(
+			slotSize,
 			funContext.paramsSize,
 			funContext.depth
 		));
@@ -178,10 +291,11 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 	public Object visit(AstCompDecl compDecl, Context context) {
 		// Visit type
 		compDecl.type.accept(this, context);
-		SemType type = SemAn.isType.get(compDecl.type);
+		SemType type = SemAn.isType().get(compDecl.type);
 
 		RecordContext recContext = (RecordContext) context;
-		Memory.accesses.put(compDecl, new MemRelAccess(
+		recContext.compsSize = (int) SemType.align(recContext.compsSize, type.alignment());
+		Memory.accesses().put(compDecl, new MemRelAccess(
 			type.size(),
 			recContext.compsSize,
 			0
@@ -205,9 +319,9 @@ public class MemEvaluator extends AstFullVisitor<Object, MemEvaluator.Context> {
 				.replaceAll("\\\\\"", "\"");
 
 			// Get string size (length * charSize), +1 for \0
-			long strSize = (value.length() + 1) * 8;
+			long strSize = (value.length() + 1) * new SemChar().size();
 
-			Memory.strings.put(atomExpr, new MemAbsAccess(
+			Memory.strings().put(atomExpr, new MemAbsAccess(
 				strSize, new MemLabel(), value
 			));
 		}
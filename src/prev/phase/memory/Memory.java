@@ -1,5 +1,6 @@
 package prev.phase.memory;
 
+import prev.Compilation;
 import prev.data.ast.tree.decl.*;
 import prev.data.ast.tree.expr.*;
 import prev.data.ast.attribute.*;
@@ -11,14 +12,32 @@ import prev.phase.*;
  */
 public class Memory extends Phase {
 
-	/** Maps function declarations to frames. */
-	public static final AstAttribute<AstFunDecl, MemFrame> frames = new AstAttribute<AstFunDecl, MemFrame>(0);
+	/**
+	 * Maps function declarations to frames.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstFunDecl, MemFrame> frames() {
+		return Compilation.current().frames;
+	}
 
-	/** Maps variable declarations to accesses. */
-	public static final AstAttribute<AstMemDecl, MemAccess> accesses = new AstAttribute<AstMemDecl, MemAccess>(0);
+	/**
+	 * Maps variable declarations to accesses.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstMemDecl, MemAccess> accesses() {
+		return Compilation.current().accesses;
+	}
 
-	/** Maps string constants to accesses. */
-	public static final AstAttribute<AstAtomExpr, MemAbsAccess> strings = new AstAttribute<AstAtomExpr, MemAbsAccess>(0);
+	/**
+	 * Maps string constants to accesses.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstAtomExpr, MemAbsAccess> strings() {
+		return Compilation.current().strings;
+	}
 
 	/**
 	 * Constructs a new phase for computing layout.
@@ -2,6 +2,7 @@ package prev.phase.regall;
 
 import java.util.Set;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.LinkedList;
 import java.util.Map;
@@ -23,8 +24,8 @@ public class Graph {
     // Low-degree nodes
     public LinkedList<Node> simplifyWorklist;
 
-    // High-degree nodes
-    public LinkedList<Node> spillWorklist;
+    // High-degree nodes (a set since nodes are removed from the middle)
+    public LinkedHashSet<Node> spillWorklist;
 
     // Stack for removed temps
     private LinkedList<Node> selectStack;
@@ -34,14 +35,18 @@ public class Graph {
 
     public Map<MemTemp, Node> nodes;
 
+    // Number of registers
+    private final int K;
+
     /* Crate a graph for function with instructions [fun] */
     public Graph(Code fun) {
         initial = new LinkedList<>();
         simplifyWorklist = new LinkedList<>();
-        spillWorklist = new LinkedList<>();
+        spillWorklist = new LinkedHashSet<>();
         selectStack = new LinkedList<>();
         spilled = new LinkedList<>();
         nodes = new HashMap<>();
+        K = Integer.decode(Compiler.cmdLineArgValue("--nregs"));
 
         build(fun);
         makeWorklists();
@@ -71,8 +76,9 @@ public class Graph {
 
         // Add edges
         for (AsmInstr instr : fun.instrs) {
-            for (MemTemp u : instr.out()) {
-                for (MemTemp v : instr.out()) {
+            HashSet<MemTemp> out = instr.out();
+            for (MemTemp u : out) {
+                for (MemTemp v : out) {
                     if (u != FP && v != FP && u != v) {
                         addEdge(u, v);
                     }
@@ -83,12 +89,12 @@ public class Graph {
 
     /* Arrange initial nodes into simplify and spill worklists */
     private void makeWorklists() {
-        int K = Integer.decode(Compiler.cmdLineArgValue("--nregs"));
-
         for (Node n : initial) {
             if (n.degree >= K) {
+                n.nodeSet = Node.NodeSet.SPILL;
                 spillWorklist.add(n);
             } else {
+                n.nodeSet = Node.NodeSet.SIMPLIFY;
                 simplifyWorklist.add(n);
             }
         }
@@ -112,7 +118,8 @@ public class Graph {
 
     public void spill() {
         // Select node from spill worklist
-        Node n = spillWorklist.remove();
+        Node n = spillWorklist.iterator().next();
+        spillWorklist.remove(n);
         removeNode(n);
     }
 
@@ -123,7 +130,7 @@ public class Graph {
 
         // Remove edges
         for (Node m : n.adjacent) {
-            if (m.removeEdge(n)) {
+            if (m.removeEdge(n, K)) {
                 spillWorklist.remove(m);
                 simplifyWorklist.add(m);
             }
@@ -132,8 +139,6 @@ public class Graph {
 
     /* Try to assign colors and save actual spills */
     public void assignColors() {
-        int K = Integer.decode(Compiler.cmdLineArgValue("--nregs"));
-
         while (!selectStack.isEmpty()) {
             Node n = selectStack.pop();
 
@@ -1,10 +1,9 @@
 package prev.phase.regall;
 
 import java.util.Set;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 
 import prev.data.mem.MemTemp;
-import prev.Compiler;
 
 public class Node {
 
@@ -32,8 +31,8 @@ public class Node {
         this.temp = temp;
         this.nodeSet = NodeSet.INITIAL;
         this.degree = 0;
-        this.neighbours = new HashSet<>();
-        this.adjacent = new HashSet<>();
+        this.neighbours = new LinkedHashSet<>();
+        this.adjacent = new LinkedHashSet<>();
         this.color = -1;
     }
 
@@ -45,13 +44,12 @@ public class Node {
         }
     }
 
-    /* Remove edge because of graph simplification */
-    public boolean removeEdge(Node node) {
+    /* Remove edge because of graph simplification with [K] registers */
+    public boolean removeEdge(Node node, int K) {
         if (adjacent.remove(node)) {
             --degree;
 
             // Check if node became low-degree
-            int K = Integer.decode(Compiler.cmdLineArgValue("--nregs"));
             if (degree == K - 1 && nodeSet == NodeSet.SPILL) {
                 nodeSet = NodeSet.SIMPLIFY;
 
@@ -2,6 +2,8 @@ package prev.phase.regall;
 
 import java.util.*;
 
+import prev.Compilation;
+import prev.common.stats.*;
 import prev.data.mem.*;
 import prev.data.asm.*;
 import prev.data.imc.code.expr.ImcCONST;
@@ -15,8 +17,14 @@ import prev.phase.livean.LiveAn;
  */
 public class RegAll extends Phase {
 
-	/** Mapping of temporary variables to registers. */
-	public static final HashMap<MemTemp, Integer> tempToReg = new HashMap<MemTemp, Integer>();
+	/**
+	 * Returns the mapping of temporary variables to registers.
+	 *
+	 * @return The mapping of temporary variables to registers.
+	 */
+	public static HashMap<MemTemp, Integer> tempToReg() {
+		return Compilation.current().tempToReg;
+	}
 
 	private final int nregs;
 
@@ -26,10 +34,20 @@ public class RegAll extends Phase {
 	}
 
 	public void allocate() {
-		for (Code fun : AsmGen.codes) {
+		for (Code fun : AsmGen.codes()) {
+			allocate(fun);
+		}
+	}
+
+	/* Allocate registers for a single function (may be called concurrently) */
+	public void allocate(Code fun) {
+		HashMap<MemTemp, Integer> tempToReg = tempToReg();
+		synchronized (tempToReg) {
 			tempToReg.put(fun.frame.FP, 253);
+		}
 
-			while (!allocateFun(fun));
+		while (!allocateFun(fun)) {
+			Stats.count("regallRetries", 1);
 		}
 	}
 
@@ -52,6 +70,7 @@ public class RegAll extends Phase {
 
 		// Change asm instructions if any temp has spilled
 		if (!g.spilled.isEmpty()) {
+			Stats.count("spilledTemps", g.spilled.size());
 			for (MemTemp t : g.spilled) {
 				spillTemp(fun, t);
 			}
@@ -63,8 +82,11 @@ public class RegAll extends Phase {
 		}
 
 		// Save register mapping
-		for (Node n : g.nodes.values()) {
-			tempToReg.put(n.temp, n.color);
+		HashMap<MemTemp, Integer> tempToReg = tempToReg();
+		synchronized (tempToReg) {
+			for (Node n : g.nodes.values()) {
+				tempToReg.put(n.temp, n.color);
+			}
 		}
 
 		return true;
@@ -76,8 +98,9 @@ public class RegAll extends Phase {
 		MemTemp FP = fun.frame.FP;
 		ImcCONST offset = new ImcCONST(-fun.frame.locsSize - 16 - fun.tempSize);
 
-		for (int i = 0; i < fun.instrs.size(); ++i) {
-			AsmInstr instr = fun.instrs.get(i);
+		// Build the new instruction list in a single pass
+		Vector<AsmInstr> spilled = new Vector<>(fun.instrs.size());
+		for (AsmInstr instr : fun.instrs) {
 			boolean inUse = instr.uses().contains(temp);
 			boolean inDef = instr.defs().contains(temp);
 
@@ -85,7 +108,7 @@ public class RegAll extends Phase {
 				Vector<AsmInstr> instrs = new Vector<>();
 				MemTemp newTemp = new MemTemp();
 				MemTemp offsetTemp = offset.accept(new ExprGenerator(), instrs);
-				fun.instrs.set(i, replaceTemp(instr, temp, newTemp));
+				AsmOPER newInstr = replaceTemp(instr, temp, newTemp);
 
 				if (inUse) {
 					// Insert a fetch before use
@@ -95,7 +118,8 @@ public class RegAll extends Phase {
 						new Vector<>(Arrays.asList(new MemTemp[]{ newTemp })),
 						null
 					));
-					fun.instrs.addAll(i, instrs);
+					spilled.addAll(instrs);
+					spilled.add(newInstr);
 				} else if (inDef) {
 					// Insert a store after definition
 					instrs.add(new AsmOPER(
@@ -106,12 +130,16 @@ public class RegAll extends Phase {
 						null,
 						null
 					));
-					fun.instrs.addAll(i + 1, instrs);
+					spilled.add(newInstr);
+					spilled.addAll(instrs);
 				}
-
-				i += instrs.size();
+			} else {
+				spilled.add(instr);
 			}
 		}
+
+		fun.instrs.clear();
+		fun.instrs.addAll(spilled);
 	}
 
 	/* Return new instruction with replaced temp */
@@ -138,7 +166,7 @@ public class RegAll extends Phase {
 	public void log() {
 		if (logger == null)
 			return;
-		for (Code code : AsmGen.codes) {
+		for (Code code : AsmGen.codes()) {
 			logger.begElement("code");
 			logger.addAttribute("entrylabel", code.entryLabel.name);
 			logger.addAttribute("exitlabel", code.exitLabel.name);
@@ -147,7 +175,7 @@ public class RegAll extends Phase {
 			logger.begElement("instructions");
 			for (AsmInstr instr : code.instrs) {
 				logger.begElement("instruction");
-				logger.addAttribute("code", instr.toString(tempToReg));
+				logger.addAttribute("code", instr.toString(tempToReg()));
 				logger.begElement("temps");
 				logger.addAttribute("name", "use");
 				for (MemTemp temp : instr.uses()) {
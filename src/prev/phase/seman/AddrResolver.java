@@ -21,17 +21,17 @@ public class AddrResolver extends AstFullVisitor<Object, Object> {
 	public Object visit(AstArrExpr arrExpr, Object arg) {
         boolean res = (Boolean) arrExpr.arr.accept(this, arg);
         if (res) {
-            SemAn.isAddr.put(arrExpr, true);
+            SemAn.isAddr().put(arrExpr, true);
             return true;
         } else {
-            SemAn.isAddr.put(arrExpr, false);
+            SemAn.isAddr().put(arrExpr, false);
             return false;
         }
 	}
 
 	@Override
 	public Object visit(AstAtomExpr atomExpr, Object arg) {
-        SemAn.isAddr.put(atomExpr, false);
+        SemAn.isAddr().put(atomExpr, false);
         return false;
 	}
 
@@ -39,34 +39,34 @@ public class AddrResolver extends AstFullVisitor<Object, Object> {
 	public Object visit(AstBinExpr binExpr, Object arg) {
         Object fstRes = binExpr.fstExpr.accept(this, arg);
         Object sndRes = binExpr.sndExpr.accept(this, arg);
-        SemAn.isAddr.put(binExpr, false);
+        SemAn.isAddr().put(binExpr, false);
         return false;
 	}
 
 	@Override
 	public Object visit(AstCallExpr callExpr, Object arg) {
         Object res = callExpr.args.accept(this, arg);
-        SemAn.isAddr.put(callExpr, false);
+        SemAn.isAddr().put(callExpr, false);
 		return false;
 	}
 
 	@Override
 	public Object visit(AstCastExpr castExpr, Object arg) {
         Object res = castExpr.expr.accept(this, arg);
-        SemAn.isAddr.put(castExpr, false);
+        SemAn.isAddr().put(castExpr, false);
 		return false;
 	}
 
 	@Override
 	public Object visit(AstNameExpr nameExpr, Object arg) {
-        AstDecl decl = SemAn.declaredAt.get(nameExpr);
+        AstDecl decl = SemAn.declaredAt().get(nameExpr);
 
         // Variables and parameters are l-values
         if (decl instanceof AstVarDecl || decl instanceof AstParDecl) {
-            SemAn.isAddr.put(nameExpr, true);
+            SemAn.isAddr().put(nameExpr, true);
             return true;
         } else {
-            SemAn.isAddr.put(nameExpr, false);
+            SemAn.isAddr().put(nameExpr, false);
             return false;
         }
 	}
@@ -74,14 +74,14 @@ public class AddrResolver extends AstFullVisitor<Object, Object> {
 	@Override
 	public Object visit(AstPfxExpr pfxExpr, Object arg) {
         Object res = pfxExpr.expr.accept(this, arg);
-        SemAn.isAddr.put(pfxExpr, false);
+        SemAn.isAddr().put(pfxExpr, false);
 		return false;
 	}
 
 	@Override
 	public Object visit(AstRecExpr recExpr, Object arg) {
         boolean res = (Boolean) recExpr.rec.accept(this, arg);
-        SemAn.isAddr.put(recExpr, res);
+        SemAn.isAddr().put(recExpr, res);
         return res;
 	}
 
@@ -90,11 +90,11 @@ public class AddrResolver extends AstFullVisitor<Object, Object> {
         Object res = sfxExpr.expr.accept(this, arg);
 
         // Dereferenced pointers are l-values
-        if (SemAn.ofType.get(sfxExpr.expr).actualType() instanceof SemPtr) {
-            SemAn.isAddr.put(sfxExpr, true);
+        if (SemAn.ofType().get(sfxExpr.expr).actualType() instanceof SemPtr) {
+            SemAn.isAddr().put(sfxExpr, true);
             return true;
         } else {
-            SemAn.isAddr.put(sfxExpr, false);
+            SemAn.isAddr().put(sfxExpr, false);
             return false;
         }
 	}
@@ -102,7 +102,7 @@ public class AddrResolver extends AstFullVisitor<Object, Object> {
 	@Override
 	public Object visit(AstStmtExpr stmtExpr, Object arg) {
         Object res = stmtExpr.stmts.accept(this, arg);
-        SemAn.isAddr.put(stmtExpr, false);
+        SemAn.isAddr().put(stmtExpr, false);
 		return false;
 	}
 
@@ -110,7 +110,7 @@ public class AddrResolver extends AstFullVisitor<Object, Object> {
 	public Object visit(AstWhereExpr whereExpr, Object arg) {
         Object resDecls = whereExpr.decls.accept(this, arg);
         Object resExpr = whereExpr.expr.accept(this, arg);
-        SemAn.isAddr.put(whereExpr, false);
+        SemAn.isAddr().put(whereExpr, false);
 		return false;
 	}
 
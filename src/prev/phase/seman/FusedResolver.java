@@ -0,0 +1,237 @@
+package prev.phase.seman;
+
+import java.io.*;
+
+import prev.common.report.*;
+import prev.data.ast.tree.*;
+import prev.data.ast.tree.decl.*;
+import prev.data.ast.tree.expr.*;
+import prev.data.ast.tree.stmt.*;
+import prev.data.ast.tree.type.*;
+import prev.data.typ.*;
+
+/**
+ * Fused name, type and address resolver.
+ *
+ * Fused resolver computes the same attributes as {@link NameResolver},
+ * {@link TypeResolver} and {@link AddrResolver} do, but in a single traversal
+ * of each function body: the traversal is driven by the type resolver, a name
+ * is resolved just before its type is computed, and whether an expression
+ * denotes an lvalue is computed right after its type (except within indices of
+ * arrays, which the address resolver does not visit). Bodies of top-level
+ * functions are checked in parallel as by the type resolver, each group of
+ * bodies with its own symbol table.
+ *
+ * The fused resolver finds an error whenever the separate passes do, but not
+ * necessarily the same one, as the separate passes resolve all names of the
+ * program before checking any type. Hence its messages are suppressed, and
+ * once it fails, the separate passes must be run to report the error (see
+ * {@link #resolve(AstTree)}).
+ */
+public class FusedResolver extends TypeResolver {
+
+	/** The symbol table. */
+	private final SymbTable symbTable = new SymbTable();
+
+	/** Declarations of the outermost scope. */
+	private AstTrees<? extends AstTree> outerDecls = null;
+
+	/** The number of indices of arrays being checked. */
+	private int indices = 0;
+
+	/**
+	 * Constructs a new fused resolver.
+	 */
+	public FusedResolver() {
+		super();
+	}
+
+	/**
+	 * Constructs a new fused resolver for a group of function bodies. Its symbol
+	 * table contains declarations of the outermost scope only.
+	 *
+	 * @param resolver The resolver of the outermost scope.
+	 */
+	private FusedResolver(FusedResolver resolver) {
+		super(resolver);
+		outerDecls = resolver.outerDecls;
+		for (AstTree t : outerDecls) {
+			if (t instanceof AstNameDecl) {
+				declare((AstNameDecl) t);
+			}
+		}
+	}
+
+	/**
+	 * Resolves names, types and addresses of a program with all messages
+	 * suppressed.
+	 *
+	 * @param tree The program.
+	 * @return {@code true} if the program is semantically correct, {@code false}
+	 *         if an error has been found.
+	 */
+	public static boolean resolve(AstTree tree) {
+		PrintStream muted = new PrintStream(OutputStream.nullOutputStream());
+		boolean[] resolved = { false };
+		Report.capture(muted, muted, () -> {
+			try {
+				SemAn.isAddr().reserve();
+				tree.accept(new FusedResolver(), null);
+				resolved[0] = true;
+			} catch (RuntimeException | Error __) {
+			}
+		});
+		return resolved[0];
+	}
+
+	@Override
+	TypeResolver bodyResolver() {
+		return new FusedResolver(this);
+	}
+
+	/**
+	 * Inserts a declaration into the currently active scope.
+	 *
+	 * @param decl The declaration.
+	 */
+	private void declare(AstNameDecl decl) {
+		try {
+			symbTable.ins(decl.symbol, (AstDecl) decl);
+		} catch (SymbTable.CannotInsNameException e) {
+			throw new Report.Error(decl, decl.name + " : Name already declared");
+		}
+	}
+
+	/**
+	 * Connects a node where a name is used with the declaration of the name.
+	 *
+	 * @param node   The node.
+	 * @param name   The name.
+	 * @param symbol The symbol of the name.
+	 */
+	private void resolve(AstName node, String name, int symbol) {
+		try {
+			SemAn.declaredAt().put(node, symbTable.fnd(symbol));
+		} catch (SymbTable.CannotFndNameException e) {
+			throw new Report.Error(node, name + " : Cannot resolve name");
+		}
+	}
+
+	// GENERAL PURPOSE
+
+	@Override
+	public SemType visit(AstTrees<? extends AstTree> trees, Mode mode) {
+		if (outerDecls == null) {
+			outerDecls = trees;
+		}
+		for (AstTree t : trees) {
+			if (t instanceof AstNameDecl) {
+				declare((AstNameDecl) t);
+			}
+		}
+		return super.visit(trees, mode);
+	}
+
+	// TYPES
+
+	@Override
+	public SemType visit(AstNameType nameType, Mode mode) {
+		// Types of parameters are visited again at calls of their functions
+		if (SemAn.declaredAt().get(nameType) == null) {
+			resolve(nameType, nameType.name, nameType.symbol);
+		}
+		return super.visit(nameType, mode);
+	}
+
+	// VALUE EXPRESSIONS
+
+	@Override
+	public SemType visit(AstNameExpr nameExpr, Mode mode) {
+		resolve(nameExpr, nameExpr.name, nameExpr.symbol);
+		SemType type = super.visit(nameExpr, mode);
+
+		// Variables and parameters are lvalues
+		AstDecl decl = SemAn.declaredAt().get(nameExpr);
+		if (indices == 0 && (decl instanceof AstVarDecl || decl instanceof AstParDecl)) {
+			SemAn.isAddr().put(nameExpr, true);
+		}
+		return type;
+	}
+
+	@Override
+	public SemType visit(AstSfxExpr sfxExpr, Mode mode) {
+		SemType type = super.visit(sfxExpr, mode);
+
+		// Dereferenced pointers are lvalues
+		if (indices == 0) {
+			SemAn.isAddr().put(sfxExpr, true);
+		}
+		return type;
+	}
+
+	@Override
+	public SemType visit(AstArrExpr arrExpr, Mode mode) {
+		SemType type = super.visit(arrExpr, mode);
+		SemAn.isAddr().put(arrExpr, SemAn.isAddr().get(arrExpr.arr));
+		return type;
+	}
+
+	@Override
+	SemType index(AstArrExpr arrExpr, Mode mode) {
+		indices++;
+		SemType type = super.index(arrExpr, mode);
+		indices--;
+		return type;
+	}
+
+	@Override
+	public SemType visit(AstRecExpr recExpr, Mode mode) {
+		SemType type = super.visit(recExpr, mode);
+		SemAn.isAddr().put(recExpr, SemAn.isAddr().get(recExpr.rec));
+		return type;
+	}
+
+	@Override
+	public SemType visit(AstCallExpr callExpr, Mode mode) {
+		resolve(callExpr, callExpr.name, callExpr.symbol);
+		return super.visit(callExpr, mode);
+	}
+
+	@Override
+	public SemType visit(AstWhereExpr whereExpr, Mode mode) {
+		symbTable.newScope();
+		SemType type = super.visit(whereExpr, mode);
+		symbTable.oldScope();
+		return type;
+	}
+
+	// STATEMENTS
+
+	@Override
+	public SemType visit(AstAssignStmt assignStmt, Mode mode) {
+		SemType type = super.visit(assignStmt, mode);
+		if (indices == 0 && !SemAn.isAddr().get(assignStmt.dst)) {
+			throw new Report.Error(assignStmt,
+				"Left hand side of assignment needs to be an l-value");
+		}
+		return type;
+	}
+
+	// DECLARATIONS
+
+	@Override
+	public SemType visit(AstFunDecl funDecl, Mode mode) {
+		// Parameters are declared in the scope of the function both when its
+		// head and when its body is checked
+		symbTable.newScope();
+		if (funDecl.pars != null) {
+			for (AstParDecl par : funDecl.pars) {
+				declare(par);
+			}
+		}
+		SemType type = super.visit(funDecl, mode);
+		symbTable.oldScope();
+		return type;
+	}
+
+}
@@ -48,7 +48,7 @@ public class NameResolver extends AstFullVisitor<Object, NameResolver.Mode> {
 		if (mode == Mode.HEAD) {
 			try {
 				// Add function declaration name to dictionary
-				symbTable.ins(funDecl.name, funDecl);
+				symbTable.ins(funDecl.symbol, funDecl);
 			} catch (SymbTable.CannotInsNameException e) {
 				throw new Report.Error(funDecl, funDecl.name + " : Function name already declared");
 			}
@@ -79,7 +79,7 @@ public class NameResolver extends AstFullVisitor<Object, NameResolver.Mode> {
 			if (mode == Mode.HEAD) {
 				try {
 					// Add parameter declaration name to dictionary
-					symbTable.ins(parDecl.name, parDecl);
+					symbTable.ins(parDecl.symbol, parDecl);
 				} catch (SymbTable.CannotInsNameException e) {
 					throw new Report.Error(parDecl, parDecl.name + " : Parameter name already used");
 				}
@@ -97,7 +97,7 @@ public class NameResolver extends AstFullVisitor<Object, NameResolver.Mode> {
 			if (mode == Mode.HEAD) {
 				try {
 					// Add type declaration name to dictionary
-					symbTable.ins(typeDecl.name, typeDecl);
+					symbTable.ins(typeDecl.symbol, typeDecl);
 				} catch (SymbTable.CannotInsNameException e) {
 					throw new Report.Error(typeDecl, typeDecl.name + " : Type already declared");
 				}
@@ -115,7 +115,7 @@ public class NameResolver extends AstFullVisitor<Object, NameResolver.Mode> {
 			if (mode == Mode.HEAD) {
 				try {
 					// Add var declaration name to dictionary
-					symbTable.ins(varDecl.name, varDecl);
+					symbTable.ins(varDecl.symbol, varDecl);
 				} catch (SymbTable.CannotInsNameException e) {
 					throw new Report.Error(varDecl, varDecl.name + " : Variable already declared");
 				}
@@ -134,7 +134,7 @@ public class NameResolver extends AstFullVisitor<Object, NameResolver.Mode> {
 		if (callExpr.args != null) {
 			try {
 				// Find function declaration in dictionary
-				SemAn.declaredAt.put(callExpr, symbTable.fnd(callExpr.name));
+				SemAn.declaredAt().put(callExpr, symbTable.fnd(callExpr.symbol));
 			} catch (SymbTable.CannotFndNameException e) {
 				throw new Report.Error(callExpr, callExpr.name + " : Cannot resolve name");
 			}
@@ -149,7 +149,7 @@ public class NameResolver extends AstFullVisitor<Object, NameResolver.Mode> {
 	public Object visit(AstNameExpr nameExpr, Mode mode) {
 		try {
 			// Find expression name declaraction in dictionary
-			SemAn.declaredAt.put(nameExpr, symbTable.fnd(nameExpr.name));
+			SemAn.declaredAt().put(nameExpr, symbTable.fnd(nameExpr.symbol));
 		} catch (SymbTable.CannotFndNameException e) {
 			throw new Report.Error(nameExpr, nameExpr.name + " : Cannot resolve name");
 		}
@@ -190,7 +190,7 @@ public class NameResolver extends AstFullVisitor<Object, NameResolver.Mode> {
 	public Object visit(AstNameType nameType, Mode mode) {
 		try {
 			// Find type name declaraction in dictionary
-			SemAn.declaredAt.put(nameType, symbTable.fnd(nameType.name));
+			SemAn.declaredAt().put(nameType, symbTable.fnd(nameType.symbol));
 		} catch (SymbTable.CannotFndNameException e) {
 			throw new Report.Error(nameType, nameType.name + " : Cannot resolve name");
 		}
@@ -1,5 +1,6 @@
 package prev.phase.seman;
 
+import prev.Compilation;
 import prev.phase.*;
 import prev.data.ast.attribute.*;
 import prev.data.ast.tree.*;
@@ -15,20 +16,50 @@ public class SemAn extends Phase {
 
 	// === STATIC ===
 
-	/** Maps names to declarations. */
-	public static final AstAttribute<AstName, AstDecl> declaredAt = new AstAttribute<AstName, AstDecl>(0);
+	/**
+	 * Maps names to declarations.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstName, AstDecl> declaredAt() {
+		return Compilation.current().declaredAt;
+	}
 
-	/** Maps type declarations to semantic representations of types. */
-	public static final AstAttribute<AstTypeDecl, SemName> declaresType = new AstAttribute<AstTypeDecl, SemName>(0);
+	/**
+	 * Maps type declarations to semantic representations of types.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstTypeDecl, SemName> declaresType() {
+		return Compilation.current().declaresType;
+	}
 
-	/** Maps syntax types to semantic representations of types. */
-	public static final AstAttribute<AstType, SemType> isType = new AstAttribute<AstType, SemType>(0);
+	/**
+	 * Maps syntax types to semantic representations of types.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstType, SemType> isType() {
+		return Compilation.current().isType;
+	}
 
-	/** Maps syntax expressions to semantic representations of types. */
-	public static final AstAttribute<AstExec, SemType> ofType = new AstAttribute<AstExec, SemType>(0);
+	/**
+	 * Maps syntax expressions to semantic representations of types.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstAttribute<AstExec, SemType> ofType() {
+		return Compilation.current().ofType;
+	}
 
-	/** Indicates which syntax expressions denote lvalues. */
-	public static final AstAttribute<AstExpr, Boolean> isAddr = new AstAttribute<AstExpr, Boolean>(0);
+	/**
+	 * Indicates which syntax expressions denote lvalues.
+	 * 
+	 * @return The mapping within the current compilation.
+	 */
+	public static AstBoolAttribute<AstExpr> isAddr() {
+		return Compilation.current().isAddr;
+	}
 
 	// ==============
 
@@ -1,54 +1,52 @@
 package prev.phase.seman;
 
 import java.util.*;
+import prev.Compilation;
 import prev.common.report.*;
 import prev.data.ast.tree.decl.*;
 
 /**
  * Symbol table.
+ *
+ * Names are identified by their symbols (see {@link prev.data.sym.Symbols}),
+ * so the symbol table consists of arrays indexed by symbols rather than of
+ * hash tables, and inserting or finding a name neither hashes nor allocates.
  */
 public class SymbTable {
 
 	/**
-	 * A symbol table record denoting a declaration of a name within a certain
-	 * scope.
+	 * Declarations of all names within currently active scopes in the order they
+	 * have been inserted, i.e., the declarations of the currently active scope are
+	 * at the top of the stack.
 	 */
-	private class ScopedDecl {
+	private AstDecl[] decls;
 
-		/** The depth of the scope the declaration belongs to. */
-		public final int depth;
+	/** Symbols of declared names of declarations on the stack. */
+	private int[] declSymbols;
 
-		/** The declaration. */
-		public final AstDecl decl;
+	/** Depths of the scopes declarations on the stack belong to. */
+	private int[] declDepths;
 
-		/**
-		 * Constructs a new record denoting a declaration of a name within a certain
-		 * scope.
-		 * 
-		 * @param depth The depth of the scope the declaration belongs to.
-		 * @param decl  The declaration.
-		 */
-		public ScopedDecl(int depth, AstDecl decl) {
-			this.depth = depth;
-			this.decl = decl;
-		}
+	/**
+	 * Indices of declarations (on the stack) of the same names hidden by
+	 * declarations on the stack, or -1 if a declaration hides none.
+	 */
+	private int[] hidden;
 
-	}
+	/** The number of declarations on the stack. */
+	private int numDecls;
 
 	/**
-	 * A mapping of names into lists of records denoting declarations at different
-	 * scopes. At each moment during the lifetime of a symbol table, the declaration
-	 * list corresponding to a particular name contains all declarations that name
-	 * within currently active scopes: the declaration at the inner most scope is
-	 * the first in the list and is visible, the other declarations are hidden.
+	 * Indices of visible declarations (on the stack) of all names, or -1 if a name
+	 * is not declared within currently active scopes.
 	 */
-	private final HashMap<String, LinkedList<ScopedDecl>> allDeclsOfAllNames;
+	private int[] visible;
 
 	/**
-	 * The list of scopes. Each scope is represented by a list of names declared
-	 * within it.
+	 * The stack of scopes. Each scope is represented by the number of
+	 * declarations on the stack of declarations when the scope was constructed.
 	 */
-	private final LinkedList<LinkedList<String>> scopes;
+	private int[] scopes;
 
 	/** The depth of the currently active scope. */
 	private int currDepth;
@@ -60,8 +58,14 @@ public class SymbTable {
 	 * Constructs a new symbol table.
 	 */
 	public SymbTable() {
-		allDeclsOfAllNames = new HashMap<String, LinkedList<ScopedDecl>>();
-		scopes = new LinkedList<LinkedList<String>>();
+		decls = new AstDecl[256];
+		declSymbols = new int[256];
+		declDepths = new int[256];
+		hidden = new int[256];
+		numDecls = 0;
+		visible = new int[Math.max(256, Compilation.current().symbols.size())];
+		Arrays.fill(visible, -1);
+		scopes = new int[64];
 		currDepth = 0;
 		lock = false;
 		newScope();
@@ -82,29 +86,37 @@ public class SymbTable {
 	 * Once the symbol table is locked, any attempt to insert further declarations
 	 * results in an internal error.
 	 * 
-	 * @param name The name.
-	 * @param decl The declaration.
+	 * @param symbol The symbol of the name.
+	 * @param decl   The declaration.
 	 * @throws CannotInsNameException Thrown if this name has already been declared
 	 *                                within the currently active scope.
 	 */
-	public void ins(String name, AstDecl decl) throws CannotInsNameException {
+	public void ins(int symbol, AstDecl decl) throws CannotInsNameException {
 		if (lock)
 			throw new Report.InternalError();
 
-		LinkedList<ScopedDecl> allDeclsOfName = allDeclsOfAllNames.get(name);
-		if (allDeclsOfName == null) {
-			allDeclsOfName = new LinkedList<ScopedDecl>();
-			allDeclsOfAllNames.put(name, allDeclsOfName);
+		if (symbol >= visible.length) {
+			int length = visible.length;
+			visible = Arrays.copyOf(visible, Math.max(2 * length, symbol + 1));
+			Arrays.fill(visible, length, visible.length, -1);
 		}
 
-		if (!allDeclsOfName.isEmpty()) {
-			ScopedDecl declOfName = allDeclsOfName.getFirst();
-			if (declOfName.depth == currDepth)
-				throw new CannotInsNameException();
-		}
+		int declOfName = visible[symbol];
+		if (declOfName != -1 && declDepths[declOfName] == currDepth)
+			throw new CannotInsNameException();
 
-		allDeclsOfName.addFirst(new ScopedDecl(currDepth, decl));
-		scopes.getFirst().addFirst(name);
+		if (numDecls == decls.length) {
+			decls = Arrays.copyOf(decls, 2 * numDecls);
+			declSymbols = Arrays.copyOf(declSymbols, 2 * numDecls);
+			declDepths = Arrays.copyOf(declDepths, 2 * numDecls);
+			hidden = Arrays.copyOf(hidden, 2 * numDecls);
+		}
+		decls[numDecls] = decl;
+		declSymbols[numDecls] = symbol;
+		declDepths[numDecls] = currDepth;
+		hidden[numDecls] = declOfName;
+		visible[symbol] = numDecls;
+		numDecls++;
 	}
 
 	/**
@@ -113,21 +125,17 @@ public class SymbTable {
 	 * enclosing it. If no declaration of the name exists within these scopes, an
 	 * exception is thrown.
 	 * 
-	 * @param name The name.
+	 * @param symbol The symbol of the name.
 	 * @return The declaration.
 	 * @throws CannotFndNameException Thrown if the name is not declared within the
 	 *                                currently active scope or any scope enclosing
 	 *                                it.
 	 */
-	public AstDecl fnd(String name) throws CannotFndNameException {
-		LinkedList<ScopedDecl> allDeclsOfName = allDeclsOfAllNames.get(name);
-		if (allDeclsOfName == null)
-			throw new CannotFndNameException();
-
-		if (allDeclsOfName.isEmpty())
+	public AstDecl fnd(int symbol) throws CannotFndNameException {
+		if (symbol >= visible.length || visible[symbol] == -1)
 			throw new CannotFndNameException();
 
-		return allDeclsOfName.getFirst().decl;
+		return decls[visible[symbol]];
 	}
 
 	/**
@@ -139,7 +147,9 @@ public class SymbTable {
 			throw new Report.InternalError();
 
 		currDepth++;
-		scopes.addFirst(new LinkedList<String>());
+		if (currDepth == scopes.length)
+			scopes = Arrays.copyOf(scopes, 2 * currDepth);
+		scopes[currDepth] = numDecls;
 	}
 
 	/**
@@ -154,10 +164,11 @@ public class SymbTable {
 		if (currDepth == 0)
 			throw new Report.InternalError();
 
-		for (String name : scopes.getFirst()) {
-			allDeclsOfAllNames.get(name).removeFirst();
+		while (numDecls > scopes[currDepth]) {
+			numDecls--;
+			visible[declSymbols[numDecls]] = hidden[numDecls];
+			decls[numDecls] = null;
 		}
-		scopes.removeFirst();
 		currDepth--;
 	}
 
@@ -1,7 +1,10 @@
 	package prev.phase.seman;
 
+	import java.io.*;
 	import java.util.*;
+	import java.util.concurrent.*;
 
+	import prev.Compilation;
 	import prev.common.report.*;
 	import prev.data.ast.tree.*;
 	import prev.data.ast.tree.decl.*;
@@ -24,7 +27,34 @@
 		List<AstRecType> recTypes = new LinkedList<>();
 
 		// To get component names for records
-		Map<SemType, AstRecType> recCompNames = new HashMap<>();
+		final Map<SemType, AstRecType> recCompNames;
+
+		// Structural equivalence classes of types
+		final SemEquivalence equiv;
+
+		// Check function bodies in parallel (false for resolvers of single
+		// function bodies)
+		final boolean parallel;
+
+		// Depth of the scope being resolved (bodies of functions are checked in
+		// parallel at depth 1 only)
+		private int depth = 0;
+
+		public TypeResolver() {
+			recCompNames = new ConcurrentHashMap<>();
+			equiv = new SemEquivalence();
+			parallel = true;
+		}
+
+		/**
+		 * Create a resolver for function bodies that shares record component
+		 * names and equivalence classes with [resolver].
+		 */
+		TypeResolver(TypeResolver resolver) {
+			recCompNames = resolver.recCompNames;
+			equiv = resolver.equiv;
+			parallel = false;
+		}
 
 		public enum Mode {
 			HEAD, BODY, CYCLE_CHECK
@@ -62,71 +92,26 @@
 		}
 
 		/**
-		 * Return true if both classes represent the same type. Use map [c] to
-		 * prevent cycling.
+		 * Return true if both classes represent the same type. All named types
+		 * must have been classified by [equiv] already.
 		 */
-		public boolean sameType(SemType a, SemType b, Map<String, Set<String>> c) {
-			// Check for cycles when using aliases
-			if (a instanceof SemName && b instanceof SemName) {
-				SemName aa = (SemName) a;
-				SemName bb = (SemName) b;
-
-				// Check if we have visited [a] and [b] together already
-				if (c.containsKey(aa.name)) {
-					if (c.get(aa.name).contains(bb.name)) {
-						return true;
-					} else {
-						c.get(aa.name).add(bb.name);
-					}
-				} else if (c.containsKey(bb.name)) {
-					if (c.get(bb.name).contains(aa.name)) {
-						return true;
-					} else {
-						c.get(bb.name).add(aa.name);
-					}
-				} else {
-					c.put(aa.name, new HashSet<>());
-					c.get(aa.name).add(bb.name);
-				}
-			}
-
-			a = a.actualType();
-			b = b.actualType();
-
-			if (a instanceof SemArr && b instanceof SemArr) {
-				SemArr aa = (SemArr) a;
-				SemArr bb = (SemArr) b;
-				return aa.numElems == bb.numElems &&
-					sameType(aa.elemType, bb.elemType, c);
-			} else if (a instanceof SemBool && b instanceof SemBool ||
-					a instanceof SemChar && b instanceof SemChar ||
-					a instanceof SemInt && b instanceof SemInt ||
-					a instanceof SemVoid && b instanceof SemVoid) {
-				return true;
-			} else if (a instanceof SemPtr && b instanceof SemPtr) {
-				SemPtr aa = (SemPtr) a;
-				SemPtr bb = (SemPtr) b;
-				return sameType(aa.baseType, bb.baseType, c);
-			} else if (a instanceof SemRec && b instanceof SemRec) {
-				SemRec aa = (SemRec) a;
-				SemRec bb = (SemRec) b;
-				if (aa.numComps() != bb.numComps()) return false;
-
-				for (int i = 0; i < aa.numComps(); ++i) {
-					if (!sameType(aa.compType(i), bb.compType(i), c)) {
-						return false;
-					}
-				}
+		public boolean sameType(SemType a, SemType b) {
+			return equiv.same(a, b);
+		}
 
-				return true;
-			}
-			return false;
+		/**
+		 * Create a resolver for a group of function bodies checked in parallel.
+		 */
+		TypeResolver bodyResolver() {
+			return new TypeResolver(this);
 		}
 
 		// GENERAL PURPOSE
 
 		@Override
 		public SemType visit(AstTrees<? extends AstTree> trees, Mode mode) {
+			++depth;
+
 			// Add type declarations to the dictionary
 			for (AstTree t : trees) {
 				if (t instanceof AstTypeDecl) {
@@ -143,7 +128,7 @@
 
 			// Make sure array and record types do not include void type
 			for (AstArrType arr : arrTypes) {
-				SemArr type = (SemArr) SemAn.isType.get(arr);
+				SemArr type = (SemArr) SemAn.isType().get(arr);
 				if (type.elemType.actualType() instanceof SemVoid) {
 					throw new Report.Error(arr,
 						"Void array type not allowed");
@@ -151,7 +136,7 @@
 			}
 
 			for (AstRecType rec : recTypes) {
-				SemRec type = (SemRec) SemAn.isType.get(rec);
+				SemRec type = (SemRec) SemAn.isType().get(rec);
 				for (int i = 0; i < type.numComps(); ++i) {
 					if (type.compType(i).actualType() instanceof SemVoid) {
 						throw new Report.Error(rec.comps.get(i),
@@ -161,12 +146,17 @@
 			}
 
 			// Check for cyclic name types
+			List<SemName> names = new LinkedList<>();
 			for (AstTree t : trees) {
 				if (t instanceof AstTypeDecl) {
 					t.accept(this, Mode.CYCLE_CHECK);
+					names.add(SemAn.declaresType().get((AstTypeDecl) t));
 				}
 			}
 
+			// Compute equivalence classes of declared types
+			equiv.classify(names);
+
 			// Variables
 			for (AstTree t : trees) {
 				if (t instanceof AstVarDecl) {
@@ -182,14 +172,131 @@
 			}
 
 			// Type check function body
+			if (parallel && depth == 1) {
+				checkBodies(trees);
+			} else {
+				for (AstTree t : trees) {
+					if (t instanceof AstFunDecl) {
+						t.accept(this, Mode.BODY);
+					}
+				}
+			}
+
+			--depth;
+			return null;
+
+		}
+
+		/**
+		 * Type check bodies of functions in [trees] in parallel on a fork-join
+		 * pool. Bodies are split into consecutive groups, each checked by its own
+		 * resolver until the first error. Messages of each group are captured and
+		 * printed out afterwards in source order up to the first error, so errors
+		 * are reported as if bodies were checked one after another. Array and
+		 * record types of a body are checked for void types by the next scope
+		 * resolved, which may be in another group, so if any group (or [this])
+		 * is left with a void type, all bodies are checked again one after
+		 * another by [this] to report the same error as before.
+		 */
+		private void checkBodies(AstTrees<? extends AstTree> trees) {
+			List<AstFunDecl> funDecls = new ArrayList<>();
 			for (AstTree t : trees) {
 				if (t instanceof AstFunDecl) {
-					t.accept(this, Mode.BODY);
+					funDecls.add((AstFunDecl) t);
 				}
 			}
 
-			return null;
+			// Attributes must not be enlarged while bodies are being checked
+			SemAn.declaredAt().reserve();
+			SemAn.declaresType().reserve();
+			SemAn.isType().reserve();
+			SemAn.ofType().reserve();
+
+			// A few groups per thread to balance the load
+			int numGroups = Math.min(funDecls.size(), 4 * ForkJoinPool.getCommonPoolParallelism());
+			Compilation compilation = Compilation.current();
+			ByteArrayOutputStream[] outs = new ByteArrayOutputStream[numGroups];
+			ByteArrayOutputStream[] errs = new ByteArrayOutputStream[numGroups];
+			Throwable[] failures = new Throwable[numGroups];
+			TypeResolver[] resolvers = new TypeResolver[numGroups];
+			Runnable[] checks = new Runnable[numGroups];
+			List<ForkJoinTask<?>> tasks = new ArrayList<>();
+			for (int i = 0; i < numGroups; ++i) {
+				int group = i;
+				int fst = group * funDecls.size() / numGroups;
+				int lst = (group + 1) * funDecls.size() / numGroups;
+				outs[group] = new ByteArrayOutputStream();
+				errs[group] = new ByteArrayOutputStream();
+				PrintStream out = new PrintStream(outs[group], true);
+				PrintStream err = new PrintStream(errs[group], true);
+				checks[group] = () -> compilation.run(() -> Report.capture(out, err, () -> {
+					TypeResolver resolver = bodyResolver();
+					resolvers[group] = resolver;
+					try {
+						for (AstFunDecl funDecl : funDecls.subList(fst, lst)) {
+							funDecl.accept(resolver, Mode.BODY);
+						}
+					} catch (RuntimeException | Error e) {
+						failures[group] = e;
+					}
+				}));
+				tasks.add(ForkJoinTask.adapt(checks[group]));
+			}
+			ForkJoinTask.invokeAll(tasks);
+
+			// Threads of the pool have smaller stacks than the compiling thread
+			for (int group = 0; group < numGroups; ++group) {
+				if (failures[group] instanceof StackOverflowError) {
+					outs[group].reset();
+					errs[group].reset();
+					failures[group] = null;
+					checks[group].run();
+				}
+			}
 
+			// Void types left unchecked by one group are found by the next one
+			boolean hasVoidTypes = hasVoidTypes();
+			for (TypeResolver resolver : resolvers) {
+				hasVoidTypes |= resolver.hasVoidTypes();
+			}
+			if (hasVoidTypes) {
+				for (AstFunDecl funDecl : funDecls) {
+					funDecl.accept(this, Mode.BODY);
+				}
+				return;
+			}
+
+			// Report messages and the first error in source order
+			for (int group = 0; group < numGroups; ++group) {
+				Report.print(outs[group].toString(), errs[group].toString());
+				if (failures[group] instanceof RuntimeException) {
+					throw (RuntimeException) failures[group];
+				} else if (failures[group] != null) {
+					throw (Error) failures[group];
+				}
+			}
+		}
+
+		/**
+		 * Return true if any of the array and record types to check includes a
+		 * void type.
+		 */
+		private boolean hasVoidTypes() {
+			for (AstArrType arr : arrTypes) {
+				SemArr type = (SemArr) SemAn.isType().get(arr);
+				if (type.elemType.actualType() instanceof SemVoid) {
+					return true;
+				}
+			}
+			for (AstRecType rec : recTypes) {
+				SemRec type = (SemRec) SemAn.isType().get(rec);
+				for (int i = 0; i < type.numComps(); ++i) {
+					if (type.compType(i).actualType() instanceof SemVoid) {
+						return true;
+					}
+				}
+			}
+			return false;
 		}
 
 		// TYPES
@@ -203,7 +310,7 @@
 				case INT  -> new SemInt();
 				case BOOL -> new SemBool();
 			};
-			SemAn.isType.put(atomType, type);
+			SemAn.isType().put(atomType, type);
 			return type;
 		}
 
@@ -244,7 +351,7 @@
 					}
 
 					SemType type = new SemArr(elemType, numElems);
-					SemAn.isType.put(arrType, type);
+					SemAn.isType().put(arrType, type);
 					arrTypes.add(arrType);
 					return type;
 				} catch (Exception e) {
@@ -277,7 +384,7 @@
 			}
 
 			SemType type = new SemRec(compTypes);
-			SemAn.isType.put(recType, type);
+			SemAn.isType().put(recType, type);
 			recTypes.add(recType);
 			recCompNames.put(type, recType);
 			return type;
@@ -289,16 +396,16 @@
 			// Type check base type
 			SemType baseType = ptrType.baseType.accept(this, mode);
 			SemType type = new SemPtr(baseType);
-			SemAn.isType.put(ptrType, type);
+			SemAn.isType().put(ptrType, type);
 			return type;
 		}
 
 		@Override
 		public SemType visit(AstNameType nameType, Mode mode) {
-			AstDecl typeDecl = SemAn.declaredAt.get(nameType);
+			AstDecl typeDecl = SemAn.declaredAt().get(nameType);
 			if (typeDecl instanceof AstTypeDecl) {
-				SemType type = SemAn.declaresType.get((AstTypeDecl) typeDecl);
-				SemAn.isType.put(nameType, type);
+				SemType type = SemAn.declaresType().get((AstTypeDecl) typeDecl);
+				SemAn.isType().put(nameType, type);
 				return type;
 			} else {
 				throw new Report.Error(nameType,
@@ -310,19 +417,19 @@
 
 		@Override
 		public SemType visit(AstNameExpr nameExpr, Mode mode) {
-			AstDecl decl = SemAn.declaredAt.get(nameExpr);
+			AstDecl decl = SemAn.declaredAt().get(nameExpr);
 			SemType type = null;
 
 			// Variable access
 			if (decl instanceof AstVarDecl) {
 				AstVarDecl varDecl = (AstVarDecl) decl;
-				type = SemAn.isType.get(varDecl.type);
+				type = SemAn.isType().get(varDecl.type);
 			}
 
 			// Parameter access
 			if (decl instanceof AstParDecl) {
 				AstParDecl parDecl = (AstParDecl) decl;
-				type = SemAn.isType.get(parDecl.type);
+				type = SemAn.isType().get(parDecl.type);
 			}
 
 			// Parameterless function call
@@ -333,7 +440,7 @@
 					throw new Report.Error(nameExpr,
 						nameExpr.name + " : Incorrect number of arguments provided");
 				}
-				type = SemAn.isType.get(funDecl.type);
+				type = SemAn.isType().get(funDecl.type);
 			}
 
 			if (type == null) {
@@ -341,7 +448,7 @@
 						nameExpr.name + " : Expression expected");
 			}
 
-			SemAn.ofType.put(nameExpr, type);
+			SemAn.ofType().put(nameExpr, type);
 			return type;
 		}
 
@@ -356,7 +463,7 @@
 				case CHAR    -> new SemChar();
 				case INT     -> new SemInt();
 			};
-			SemAn.ofType.put(atomExpr, type);
+			SemAn.ofType().put(atomExpr, type);
 			return type;
 		}
 
@@ -413,7 +520,7 @@
 			}
 
 			if (type != null) {
-				SemAn.ofType.put(pfxExpr, type);
+				SemAn.ofType().put(pfxExpr, type);
 			}
 			return type;
 		}
@@ -447,7 +554,7 @@
 
 				// V6
 				case EQU, NEQ -> {
-					if (!sameType(lhs, rhs, new HashMap<>())) {
+					if (!sameType(lhs, rhs)) {
 						throw new Report.Error(binExpr,
 							"Cannot compare different types");
 					}
@@ -465,7 +572,7 @@
 
 				// V7
 				case LEQ, GEQ, LTH, GTH -> {
-					if (!sameType(lhs, rhs, new HashMap<>())) {
+					if (!sameType(lhs, rhs)) {
 						throw new Report.Error(binExpr,
 							"Cannot compare different types");
 					}
@@ -481,7 +588,7 @@
 				}
 			};
 
-			SemAn.ofType.put(binExpr, type);
+			SemAn.ofType().put(binExpr, type);
 			return type;
 		}
 
@@ -493,7 +600,7 @@
 
 			if (type instanceof SemPtr) {
 				SemType baseType = ((SemPtr) type).baseType;
-				SemAn.ofType.put(sfxExpr, baseType);
+				SemAn.ofType().put(sfxExpr, baseType);
 				return baseType;
 			}
 
@@ -512,17 +619,24 @@
 			}
 
 			// Index must be of integer type
-			SemType idxType = arrExpr.idx.accept(this, mode).actualType();
+			SemType idxType = index(arrExpr, mode).actualType();
 			if (!(idxType instanceof SemInt)) {
 				throw new Report.Error(arrExpr.idx,
 					"Array index needs to be an integer");
 			}
 
 			SemArr arrType = (SemArr) exprType;
-			SemAn.ofType.put(arrExpr, arrType.elemType);
+			SemAn.ofType().put(arrExpr, arrType.elemType);
 			return arrType.elemType;
 		}
 
+		/**
+		 * Type check the index of [arrExpr].
+		 */
+		SemType index(AstArrExpr arrExpr, Mode mode) {
+			return arrExpr.idx.accept(this, mode);
+		}
+
 		// V11
 		@Override
 		public SemType visit(AstRecExpr recExpr, Mode mode) {
@@ -537,9 +651,9 @@
 				for (AstCompDecl comp : recCompType.comps) {
 					if (comp.name.equals(recExpr.comp.name)) {
 						SemType exprType = ((SemRec) nameType).compType(idx);
-						SemAn.ofType.put(recExpr, exprType);
+						SemAn.ofType().put(recExpr, exprType);
 
-						SemAn.declaredAt.put(recExpr.comp, comp);
+						SemAn.declaredAt().put(recExpr.comp, comp);
 
 						return exprType;
 					}
@@ -559,7 +673,7 @@
 		@Override
 		public SemType visit(AstCallExpr callExpr, Mode mode) {
 			// Make sure call is done on a function
-			AstDecl decl = SemAn.declaredAt.get(callExpr);
+			AstDecl decl = SemAn.declaredAt().get(callExpr);
 			if (!(decl instanceof AstFunDecl)) {
 				throw new Report.Error(callExpr,
 					callExpr.name + " : Only functions are callable");
@@ -578,7 +692,7 @@
 				if (argType instanceof SemBool || argType instanceof SemChar ||
 						argType instanceof SemInt || argType instanceof SemPtr) {
 					SemType parType = funDecl.pars.get(i).accept(this, mode).actualType();
-					if (!sameType(parType, argType, new HashMap<>())) {
+					if (!sameType(parType, argType)) {
 						throw new Report.Error(callExpr.args.get(i),
 							"Incorrect type of argument provided");
 					}
@@ -588,8 +702,8 @@
 				}
 			}
 
-			SemType retType = SemAn.isType.get(funDecl.type);
-			SemAn.ofType.put(callExpr, retType);
+			SemType retType = SemAn.isType().get(funDecl.type);
+			SemAn.ofType().put(callExpr, retType);
 			return retType;
 		}
 
@@ -602,7 +716,7 @@
 				type = stmt.accept(this, mode);
 			}
 
-			SemAn.ofType.put(stmtExpr, type);
+			SemAn.ofType().put(stmtExpr, type);
 			return type;
 		}
 
@@ -627,7 +741,7 @@
 					"Only casts to char, int and ptr are legal");
 			}
 
-			SemAn.ofType.put(castExpr, type);
+			SemAn.ofType().put(castExpr, type);
 			return type;
 		}
 
@@ -636,7 +750,7 @@
 		public SemType visit(AstWhereExpr whereExpr, Mode mode) {
 			SemType decls = whereExpr.decls.accept(this, mode);
 			SemType type = whereExpr.expr.accept(this, mode);
-			SemAn.ofType.put(whereExpr, type);
+			SemAn.ofType().put(whereExpr, type);
 			return type;
 		}
 
@@ -648,7 +762,7 @@
 			// Make sure both sides are of the same type
 			SemType lhs = assignStmt.dst.accept(this, mode).actualType();
 			SemType rhs = assignStmt.src.accept(this, mode).actualType();
-			if (!sameType(lhs, rhs, new HashMap<>())) {
+			if (!sameType(lhs, rhs)) {
 				throw new Report.Error(assignStmt,
 					"Cannot assign to a different type");
 			}
@@ -661,14 +775,14 @@
 			}
 
 			SemType type = new SemVoid();
-			SemAn.ofType.put(assignStmt, type);
+			SemAn.ofType().put(assignStmt, type);
 			return type;
 		}
 
 		@Override
 		public SemType visit(AstExprStmt exprStmt, Mode mode) {
 			SemType type = exprStmt.expr.accept(this, mode);
-			SemAn.ofType.put(exprStmt, type);
+			SemAn.ofType().put(exprStmt, type);
 			return type;
 		}
 
@@ -686,7 +800,7 @@
 			}
 
 			SemType type = new SemVoid();
-			SemAn.ofType.put(ifStmt, type);
+			SemAn.ofType().put(ifStmt, type);
 			return type;
 		}
 
@@ -703,7 +817,7 @@
 			SemType body = whileStmt.bodyStmt.accept(this, mode);
 
 			SemType type = new SemVoid();
-			SemAn.ofType.put(whileStmt, type);
+			SemAn.ofType().put(whileStmt, type);
 			return type;
 
 		}
@@ -722,11 +836,11 @@
 			if (mode == Mode.HEAD) {
 				// Save declared type name
 				SemName type = new SemName(typeDecl.name);
-				SemAn.declaresType.put(typeDecl, type);
+				SemAn.declaresType().put(typeDecl, type);
 				return type;
 			} else if (mode == Mode.BODY) {
 				// Type check variable type
-				SemName type = SemAn.declaresType.get(typeDecl);
+				SemName type = SemAn.declaresType().get(typeDecl);
 				type.define(typeDecl.type.accept(this, mode));
 				return type;
 			} else if (mode == Mode.CYCLE_CHECK) {
@@ -734,7 +848,7 @@
 				types.add(typeDecl.name);
 				if (includesType(
 						types,
-						SemAn.declaresType.get(typeDecl).type())) {
+						SemAn.declaresType().get(typeDecl).type())) {
 					throw new Report.Error(typeDecl,
 						typeDecl.name + " : Cyclic type not allowed");
 				}
@@ -782,10 +896,10 @@
 			} else if (mode == Mode.BODY) {
 				// Type check expression if present
 				if (funDecl.expr != null) {
-					SemType retType = SemAn.isType.get(funDecl.type).actualType();
+					SemType retType = SemAn.isType().get(funDecl.type).actualType();
 					SemType bodyType = funDecl.expr.accept(this, mode).actualType();
 					// Expression type need to match return type
-					if (sameType(retType, bodyType, new HashMap<>())) {
+					if (sameType(retType, bodyType)) {
 						return null;
 					}
 
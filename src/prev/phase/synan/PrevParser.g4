@@ -18,12 +18,24 @@ parser grammar PrevParser;
 
 @members {
 
-	private Location loc(Token     tok) { return new Location((prev.data.sym.Token)tok); }
-	private Location loc(Locatable loc) { return new Location(loc                 ); }
-	private Location loc(Token     tok1, Token     tok2) { return new Location((prev.data.sym.Token)tok1, (prev.data.sym.Token)tok2); }
-	private Location loc(Token     tok1, Locatable loc2) { return new Location((prev.data.sym.Token)tok1, loc2); }
-	private Location loc(Locatable loc1, Token     tok2) { return new Location(loc1,                      (prev.data.sym.Token)tok2); }
-	private Location loc(Locatable loc1, Locatable loc2) { return new Location(loc1,                      loc2); }
+	/* Positions of tokens and trees (see Location.pack); locations are constructed only when needed. */
+	private long loc(Token     tok) { return ((prev.data.sym.Token)tok).position(); }
+	private long loc(Locatable loc) { return loc == null ? 0 : loc.position(); }
+	private long loc(Token     tok1, Token     tok2) { return Location.span(loc(tok1), loc(tok2)); }
+	private long loc(Token     tok1, Locatable loc2) { return Location.span(loc(tok1), loc(loc2)); }
+	private long loc(Locatable loc1, Token     tok2) { return Location.span(loc(loc1), loc(tok2)); }
+	private long loc(Locatable loc1, Locatable loc2) { return Location.span(loc(loc1), loc(loc2)); }
+
+	/* The symbol of an identifier. */
+	private int sym(Token tok) { return ((prev.data.sym.Token)tok).symbol(); }
+
+	/* The text of the tokens matched by the current rule so far (the parse tree might not be built). */
+	private String text() {
+		StringBuilder text = new StringBuilder();
+		for (int i = getContext().start.getTokenIndex(); i <= _input.LT(-1).getTokenIndex(); i++)
+			text.append(_input.get(i).getText());
+		return text.toString();
+	}
 
 }
 
@@ -58,22 +70,22 @@ id_exp
     {
         if (true)
             throw new Report.Error(
-                loc(getContext().start),
-                getContext().getText() + " : Identifier expected");
+                Location.of(loc(getContext().start)),
+                text() + " : Identifier expected");
     }
   ;
 
 decl_type
   returns [AstTypeDecl ast]
   : TYP ID ASSIGN type
-    { $ast = new AstTypeDecl(loc($TYP, $type.ast), $ID.text, $type.ast); }
+    { $ast = new AstTypeDecl(loc($TYP, $type.ast), $ID.text, sym($ID), $type.ast); }
   | TYP id_exp
   ;
 
 decl_var
   returns [AstVarDecl ast]
   : VAR ID COLON type
-    { $ast = new AstVarDecl(loc($VAR, $type.ast), $ID.text, $type.ast); }
+    { $ast = new AstVarDecl(loc($VAR, $type.ast), $ID.text, sym($ID), $type.ast); }
   | VAR id_exp
   ;
 
@@ -86,7 +98,7 @@ decl_fun
     FUN ID LPAREN
     ( params { pars = $params.ast; } )? RPAREN COLON type
     ( returned { ret = $returned.ast; } )?
-    { $ast = new AstFunDecl(loc($FUN, ret != null ? ret : $type.ast), $ID.text, pars, $type.ast, ret); }
+    { $ast = new AstFunDecl(loc($FUN, ret != null ? ret : $type.ast), $ID.text, sym($ID), pars, $type.ast, ret); }
   | FUN id_exp
   ;
 
@@ -94,9 +106,9 @@ params
   returns [AstTrees<AstParDecl> ast]
   : { List<AstParDecl> pars = new LinkedList<>(); }
     id1=ID COLON t1=type
-    { pars.add(new AstParDecl(loc($id1, $t1.ast), $id1.text, $t1.ast)); }
+    { pars.add(new AstParDecl(loc($id1, $t1.ast), $id1.text, sym($id1), $t1.ast)); }
     ( COMMA id2=ID COLON t2=type
-      { pars.add(new AstParDecl(loc($id2, $t2.ast), $id2.text, $t2.ast)); }
+      { pars.add(new AstParDecl(loc($id2, $t2.ast), $id2.text, sym($id2), $t2.ast)); }
     )*
     { $ast = new AstTrees<>(pars); }
   | ID COLON type COMMA ( ID COLON type COMMA )* id_exp
@@ -115,7 +127,7 @@ type
   | CHAR { $ast = new AstAtomType(loc($CHAR), AstAtomType.Type.CHAR); }
   | INT { $ast = new AstAtomType(loc($INT), AstAtomType.Type.INT); }
   | BOOL { $ast = new AstAtomType(loc($BOOL), AstAtomType.Type.BOOL); }
-  | ID { $ast = new AstNameType(loc($ID), $ID.text); }
+  | ID { $ast = new AstNameType(loc($ID), $ID.text, sym($ID)); }
   | array_type { $ast = $array_type.ast; }
   | ptr_type { $ast = $ptr_type.ast; }
   | record_type { $ast = $record_type.ast; }
@@ -142,9 +154,9 @@ record_type
   returns [AstRecType ast]
   : { List<AstCompDecl> comps = new LinkedList<>(); } 
     LCURLY id1=ID COLON t1=type
-    { comps.add(new AstCompDecl(loc($id1, $t1.ast), $id1.text, $t1.ast)); }
+    { comps.add(new AstCompDecl(loc($id1, $t1.ast), $id1.text, sym($id1), $t1.ast)); }
     ( COMMA id2=ID COLON t2=type
-      { comps.add(new AstCompDecl(loc($id2, $t2.ast), $id2.text, $t2.ast)); }
+      { comps.add(new AstCompDecl(loc($id2, $t2.ast), $id2.text, sym($id2), $t2.ast)); }
     )*
     RCURLY
     { $ast = new AstRecType(loc($LCURLY, $RCURLY), new AstTrees<>(comps)); }
@@ -152,8 +164,8 @@ record_type
     {
         if (true)
             throw new Report.Error(
-                loc(getContext().start),
-                getContext().getText() + " : Empty record type not allowed");
+                Location.of(loc(getContext().start)),
+                text() + " : Empty record type not allowed");
     }
   ;
 
@@ -166,7 +178,7 @@ expr
   | CONST_CHAR { $ast = new AstAtomExpr(loc($CONST_CHAR), AstAtomExpr.Type.CHAR, $CONST_CHAR.text); }
   | CONST_STR { $ast = new AstAtomExpr(loc($CONST_STR), AstAtomExpr.Type.STRING, $CONST_STR.text); }
   | CONST_PTR { $ast = new AstAtomExpr(loc($CONST_PTR), AstAtomExpr.Type.POINTER, $CONST_PTR.text); }
-  | ID { $ast = new AstNameExpr(loc($ID), $ID.text); }
+  | ID { $ast = new AstNameExpr(loc($ID), $ID.text, sym($ID)); }
   | fun_call { $ast = $fun_call.ast; }
   | compound_expr { $ast = $compound_expr.ast; }
   | typecast_expr { $ast = $typecast_expr.ast; }
@@ -182,7 +194,7 @@ expr
       | CARET
         { $ast = new AstSfxExpr(loc($e1.ast, $CARET), AstSfxExpr.Oper.PTR, $e1.ast ); }
       | DOT ( ID | id_exp )
-        { $ast = new AstRecExpr(loc($e1.ast, $ID), $e1.ast, new AstNameExpr(loc($ID), $ID.text)); }
+        { $ast = new AstRecExpr(loc($e1.ast, $ID), $e1.ast, new AstNameExpr(loc($ID), $ID.text, sym($ID))); }
     )
   | { AstPfxExpr.Oper op; Token start; }
     (
@@ -238,8 +250,8 @@ fun_call
     ID LPAREN
     ( args { arguments = $args.ast; } )? RPAREN
     { $ast = arguments != null
-        ? new AstCallExpr(loc($ID, $RPAREN), $ID.text, arguments)
-        : new AstNameExpr(loc($ID, $RPAREN), $ID.text); }
+        ? new AstCallExpr(loc($ID, $RPAREN), $ID.text, sym($ID), arguments)
+        : new AstNameExpr(loc($ID, $RPAREN), $ID.text, sym($ID)); }
   ;
 
 args
@@ -250,29 +262,19 @@ args
     { $ast = new AstTrees<>(arguments); }
   ;
 
+/* A missing semicolon, then, else or do is reported by the error strategy of SynAn. */
 compound_expr
   returns [AstStmtExpr ast]
   : { List<AstStmt> stmts = new LinkedList<>(); }
     LCURLY s1=stmt { stmts.add($s1.ast); }
     SEMI ( s2=stmt SEMI { stmts.add($s2.ast); } )* RCURLY
     { $ast = new AstStmtExpr(loc($LCURLY, $RCURLY), new AstTrees<>(stmts)); }
-  | LCURLY stmt ( SEMI stmt )* semi_miss 
   | LCURLY RCURLY
     {
         if (true)
             throw new Report.Error(
-                loc(getContext().start),
-                getContext().getText() + " : Empty compound statement not allowed");
-    }
-  ;
-
-semi_miss
-  : ~SEMI
-    {
-        if (true)
-            throw new Report.Error(
-                loc(getContext().start),
-                getContext().getText() + " : Semi colon expected");
+                Location.of(loc(getContext().start)),
+                text() + " : Empty compound statement not allowed");
     }
   ;
 
@@ -293,7 +295,7 @@ stmt
 
 expr_stmt
   returns [AstExprStmt ast]
-  : expr { $ast = new AstExprStmt($expr.ast.location(), $expr.ast); }
+  : expr { $ast = new AstExprStmt($expr.ast.position(), $expr.ast); }
   ;
 
 assign_stmt
@@ -304,43 +306,14 @@ assign_stmt
 
 if_stmt
   returns [AstIfStmt ast]
-  : IF expr ( THEN | then_exp ) t=stmt ( ELSE | else_exp ) e=stmt
+  : IF expr THEN t=stmt ELSE e=stmt
     { $ast = new AstIfStmt(loc($IF, $e.ast), $expr.ast, $t.ast, $e.ast); }
   ;
-  
-then_exp
-  : ~THEN
-    {
-        if (true)
-            throw new Report.Error(
-                loc(getContext().start),
-                getContext().getText() + " : then expected");
-    }
-  ;
- 
-else_exp
-  : ~ELSE
-    {
-        if (true)
-            throw new Report.Error(
-                loc(getContext().start),
-                getContext().getText() + " : else expected");
-    }
-  ;
 
 while_stmt
   returns [AstWhileStmt ast]
-  : WHILE expr ( DO | do_exp ) stmt
+  : WHILE expr DO stmt
     { $ast = new AstWhileStmt(loc($WHILE, $stmt.ast), $expr.ast, $stmt.ast); }
   ;
 
-do_exp
-  : ~DO
-    {
-        if (true)
-            throw new Report.Error(
-                loc(getContext().start),
-                getContext().getText() + " : do expected");
-    }
-  ;
     
@@ -0,0 +1,2382 @@
+// Generated from PrevParser.g4 by ANTLR 4.9.3
+
+
+	package prev.phase.synan;
+	
+	import java.util.*;
+	
+	import prev.common.report.*;
+	import prev.data.ast.tree.*;
+	import prev.data.ast.tree.decl.*;
+	import prev.data.ast.tree.expr.*;
+	import prev.data.ast.tree.stmt.*;
+	import prev.data.ast.tree.type.*;
+	import prev.phase.lexan.*;
+	
+
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class PrevParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.9.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		CONST_VOID=1, CONST_BOOL=2, CONST_INT=3, CONST_INT_ERR=4, CONST_CHAR=5, 
+		CONST_CHAR_UNCLOSED=6, CONST_CHAR_ERR=7, CONST_CHAR_EMPTY=8, CONST_STR=9, 
+		CONST_STR_UNCLOSED=10, CONST_PTR=11, LPAREN=12, RPAREN=13, LCURLY=14, 
+		RCURLY=15, LSQUARE=16, RSQUARE=17, DOT=18, COMMA=19, COLON=20, SEMI=21, 
+		AMP=22, PIPE=23, BANG=24, EQ=25, NEQ=26, LT=27, GT=28, LE=29, GE=30, MULT=31, 
+		DIV=32, MOD=33, PLUS=34, MINUS=35, CARET=36, ASSIGN=37, BOOL=38, CHAR=39, 
+		DEL=40, DO=41, ELSE=42, FUN=43, IF=44, INT=45, NEW=46, THEN=47, TYP=48, 
+		VAR=49, VOID=50, WHERE=51, WHILE=52, ID=53, ID_ERR=54, COMMENT=55, TAB=56, 
+		WS=57, UNRECOGNIZED=58;
+	public static final int
+		RULE_source = 0, RULE_prg = 1, RULE_decl = 2, RULE_id_exp = 3, RULE_decl_type = 4, 
+		RULE_decl_var = 5, RULE_decl_fun = 6, RULE_params = 7, RULE_returned = 8, 
+		RULE_type = 9, RULE_array_type = 10, RULE_ptr_type = 11, RULE_record_type = 12, 
+		RULE_expr = 13, RULE_fun_call = 14, RULE_args = 15, RULE_compound_expr = 16, 
+		RULE_typecast_expr = 17, RULE_stmt = 18, RULE_expr_stmt = 19, RULE_assign_stmt = 20, 
+		RULE_if_stmt = 21, RULE_while_stmt = 22;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"source", "prg", "decl", "id_exp", "decl_type", "decl_var", "decl_fun", 
+			"params", "returned", "type", "array_type", "ptr_type", "record_type", 
+			"expr", "fun_call", "args", "compound_expr", "typecast_expr", "stmt", 
+			"expr_stmt", "assign_stmt", "if_stmt", "while_stmt"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'none'", null, null, null, null, null, null, "''''", null, null, 
+			"'nil'", "'('", "')'", "'{'", "'}'", "'['", "']'", "'.'", "','", "':'", 
+			"';'", "'&'", "'|'", "'!'", "'=='", "'!='", "'<'", "'>'", "'<='", "'>='", 
+			"'*'", "'/'", "'%'", "'+'", "'-'", "'^'", "'='", "'bool'", "'char'", 
+			"'del'", "'do'", "'else'", "'fun'", "'if'", "'int'", "'new'", "'then'", 
+			"'typ'", "'var'", "'void'", "'where'", "'while'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "CONST_VOID", "CONST_BOOL", "CONST_INT", "CONST_INT_ERR", "CONST_CHAR", 
+			"CONST_CHAR_UNCLOSED", "CONST_CHAR_ERR", "CONST_CHAR_EMPTY", "CONST_STR", 
+			"CONST_STR_UNCLOSED", "CONST_PTR", "LPAREN", "RPAREN", "LCURLY", "RCURLY", 
+			"LSQUARE", "RSQUARE", "DOT", "COMMA", "COLON", "SEMI", "AMP", "PIPE", 
+			"BANG", "EQ", "NEQ", "LT", "GT", "LE", "GE", "MULT", "DIV", "MOD", "PLUS", 
+			"MINUS", "CARET", "ASSIGN", "BOOL", "CHAR", "DEL", "DO", "ELSE", "FUN", 
+			"IF", "INT", "NEW", "THEN", "TYP", "VAR", "VOID", "WHERE", "WHILE", "ID", 
+			"ID_ERR", "COMMENT", "TAB", "WS", "UNRECOGNIZED"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "PrevParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+
+
+		/* Positions of tokens and trees (see Location.pack); locations are constructed only when needed. */
+		private long loc(Token     tok) { return ((prev.data.sym.Token)tok).position(); }
+		private long loc(Locatable loc) { return loc == null ? 0 : loc.position(); }
+		private long loc(Token     tok1, Token     tok2) { return Location.span(loc(tok1), loc(tok2)); }
+		private long loc(Token     tok1, Locatable loc2) { return Location.span(loc(tok1), loc(loc2)); }
+		private long loc(Locatable loc1, Token     tok2) { return Location.span(loc(loc1), loc(tok2)); }
+		private long loc(Locatable loc1, Locatable loc2) { return Location.span(loc(loc1), loc(loc2)); }
+
+		/* The symbol of an identifier. */
+		private int sym(Token tok) { return ((prev.data.sym.Token)tok).symbol(); }
+
+		/* The text of the tokens matched by the current rule so far (the parse tree might not be built). */
+		private String text() {
+			StringBuilder text = new StringBuilder();
+			for (int i = getContext().start.getTokenIndex(); i <= _input.LT(-1).getTokenIndex(); i++)
+				text.append(_input.get(i).getText());
+			return text.toString();
+		}
+
+
+	public PrevParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	public static class SourceContext extends ParserRuleContext {
+		public AstTrees<AstDecl> ast;
+		public PrgContext prg;
+		public PrgContext prg() {
+			return getRuleContext(PrgContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(PrevParser.EOF, 0); }
+		public SourceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_source; }
+	}
+
+	public final SourceContext source() throws RecognitionException {
+		SourceContext _localctx = new SourceContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_source);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(46);
+			((SourceContext)_localctx).prg = prg();
+			 ((SourceContext)_localctx).ast =  ((SourceContext)_localctx).prg.ast; 
+			setState(48);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrgContext extends ParserRuleContext {
+		public AstTrees<AstDecl> ast;
+		public DeclContext decl;
+		public List<DeclContext> decl() {
+			return getRuleContexts(DeclContext.class);
+		}
+		public DeclContext decl(int i) {
+			return getRuleContext(DeclContext.class,i);
+		}
+		public PrgContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prg; }
+	}
+
+	public final PrgContext prg() throws RecognitionException {
+		PrgContext _localctx = new PrgContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_prg);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			 List<AstDecl> decls = new LinkedList<>(); 
+			setState(54); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(51);
+				((PrgContext)_localctx).decl = decl();
+				 decls.add(((PrgContext)_localctx).decl.ast); 
+				}
+				}
+				setState(56); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FUN) | (1L << TYP) | (1L << VAR))) != 0) );
+			 ((PrgContext)_localctx).ast =  new AstTrees<>(decls); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DeclContext extends ParserRuleContext {
+		public AstDecl ast;
+		public Decl_typeContext decl_type;
+		public Decl_varContext decl_var;
+		public Decl_funContext decl_fun;
+		public Decl_typeContext decl_type() {
+			return getRuleContext(Decl_typeContext.class,0);
+		}
+		public Decl_varContext decl_var() {
+			return getRuleContext(Decl_varContext.class,0);
+		}
+		public Decl_funContext decl_fun() {
+			return getRuleContext(Decl_funContext.class,0);
+		}
+		public DeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_decl; }
+	}
+
+	public final DeclContext decl() throws RecognitionException {
+		DeclContext _localctx = new DeclContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_decl);
+		try {
+			setState(69);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case TYP:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(60);
+				((DeclContext)_localctx).decl_type = decl_type();
+				 ((DeclContext)_localctx).ast =  ((DeclContext)_localctx).decl_type.ast; 
+				}
+				break;
+			case VAR:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(63);
+				((DeclContext)_localctx).decl_var = decl_var();
+				 ((DeclContext)_localctx).ast =  ((DeclContext)_localctx).decl_var.ast; 
+				}
+				break;
+			case FUN:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(66);
+				((DeclContext)_localctx).decl_fun = decl_fun();
+				 ((DeclContext)_localctx).ast =  ((DeclContext)_localctx).decl_fun.ast; 
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Id_expContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(PrevParser.ID, 0); }
+		public Id_expContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_id_exp; }
+	}
+
+	public final Id_expContext id_exp() throws RecognitionException {
+		Id_expContext _localctx = new Id_expContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_id_exp);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(71);
+			_la = _input.LA(1);
+			if ( _la <= 0 || (_la==ID) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+
+			        if (true)
+			            throw new Report.Error(
+			                Location.of(loc(getContext().start)),
+			                text() + " : Identifier expected");
+			    
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Decl_typeContext extends ParserRuleContext {
+		public AstTypeDecl ast;
+		public Token TYP;
+		public Token ID;
+		public TypeContext type;
+		public TerminalNode TYP() { return getToken(PrevParser.TYP, 0); }
+		public TerminalNode ID() { return getToken(PrevParser.ID, 0); }
+		public TerminalNode ASSIGN() { return getToken(PrevParser.ASSIGN, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public Id_expContext id_exp() {
+			return getRuleContext(Id_expContext.class,0);
+		}
+		public Decl_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_decl_type; }
+	}
+
+	public final Decl_typeContext decl_type() throws RecognitionException {
+		Decl_typeContext _localctx = new Decl_typeContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_decl_type);
+		try {
+			setState(82);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(74);
+				((Decl_typeContext)_localctx).TYP = match(TYP);
+				setState(75);
+				((Decl_typeContext)_localctx).ID = match(ID);
+				setState(76);
+				match(ASSIGN);
+				setState(77);
+				((Decl_typeContext)_localctx).type = type();
+				 ((Decl_typeContext)_localctx).ast =  new AstTypeDecl(loc(((Decl_typeContext)_localctx).TYP, ((Decl_typeContext)_localctx).type.ast), (((Decl_typeContext)_localctx).ID!=null?((Decl_typeContext)_localctx).ID.getText():null), sym(((Decl_typeContext)_localctx).ID), ((Decl_typeContext)_localctx).type.ast); 
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(80);
+				match(TYP);
+				setState(81);
+				id_exp();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Decl_varContext extends ParserRuleContext {
+		public AstVarDecl ast;
+		public Token VAR;
+		public Token ID;
+		public TypeContext type;
+		public TerminalNode VAR() { return getToken(PrevParser.VAR, 0); }
+		public TerminalNode ID() { return getToken(PrevParser.ID, 0); }
+		public TerminalNode COLON() { return getToken(PrevParser.COLON, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public Id_expContext id_exp() {
+			return getRuleContext(Id_expContext.class,0);
+		}
+		public Decl_varContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_decl_var; }
+	}
+
+	public final Decl_varContext decl_var() throws RecognitionException {
+		Decl_varContext _localctx = new Decl_varContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_decl_var);
+		try {
+			setState(92);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(84);
+				((Decl_varContext)_localctx).VAR = match(VAR);
+				setState(85);
+				((Decl_varContext)_localctx).ID = match(ID);
+				setState(86);
+				match(COLON);
+				setState(87);
+				((Decl_varContext)_localctx).type = type();
+				 ((Decl_varContext)_localctx).ast =  new AstVarDecl(loc(((Decl_varContext)_localctx).VAR, ((Decl_varContext)_localctx).type.ast), (((Decl_varContext)_localctx).ID!=null?((Decl_varContext)_localctx).ID.getText():null), sym(((Decl_varContext)_localctx).ID), ((Decl_varContext)_localctx).type.ast); 
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(90);
+				match(VAR);
+				setState(91);
+				id_exp();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Decl_funContext extends ParserRuleContext {
+		public AstFunDecl ast;
+		public Token FUN;
+		public Token ID;
+		public ParamsContext params;
+		public TypeContext type;
+		public ReturnedContext returned;
+		public TerminalNode FUN() { return getToken(PrevParser.FUN, 0); }
+		public TerminalNode ID() { return getToken(PrevParser.ID, 0); }
+		public TerminalNode LPAREN() { return getToken(PrevParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(PrevParser.RPAREN, 0); }
+		public TerminalNode COLON() { return getToken(PrevParser.COLON, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public ParamsContext params() {
+			return getRuleContext(ParamsContext.class,0);
+		}
+		public ReturnedContext returned() {
+			return getRuleContext(ReturnedContext.class,0);
+		}
+		public Id_expContext id_exp() {
+			return getRuleContext(Id_expContext.class,0);
+		}
+		public Decl_funContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_decl_fun; }
+	}
+
+	public final Decl_funContext decl_fun() throws RecognitionException {
+		Decl_funContext _localctx = new Decl_funContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_decl_fun);
+		int _la;
+		try {
+			setState(115);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+
+				        AstTrees<AstParDecl> pars = null;
+				        AstExpr ret = null;
+				    
+				setState(95);
+				((Decl_funContext)_localctx).FUN = match(FUN);
+				setState(96);
+				((Decl_funContext)_localctx).ID = match(ID);
+				setState(97);
+				match(LPAREN);
+				setState(101);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+				case 1:
+					{
+					setState(98);
+					((Decl_funContext)_localctx).params = params();
+					 pars = ((Decl_funContext)_localctx).params.ast; 
+					}
+					break;
+				}
+				setState(103);
+				match(RPAREN);
+				setState(104);
+				match(COLON);
+				setState(105);
+				((Decl_funContext)_localctx).type = type();
+				setState(109);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==ASSIGN) {
+					{
+					setState(106);
+					((Decl_funContext)_localctx).returned = returned();
+					 ret = ((Decl_funContext)_localctx).returned.ast; 
+					}
+				}
+
+				 ((Decl_funContext)_localctx).ast =  new AstFunDecl(loc(((Decl_funContext)_localctx).FUN, ret != null ? ret : ((Decl_funContext)_localctx).type.ast), (((Decl_funContext)_localctx).ID!=null?((Decl_funContext)_localctx).ID.getText():null), sym(((Decl_funContext)_localctx).ID), pars, ((Decl_funContext)_localctx).type.ast, ret); 
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(113);
+				match(FUN);
+				setState(114);
+				id_exp();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ParamsContext extends ParserRuleContext {
+		public AstTrees<AstParDecl> ast;
+		public Token id1;
+		public TypeContext t1;
+		public Token id2;
+		public TypeContext t2;
+		public List<TerminalNode> COLON() { return getTokens(PrevParser.COLON); }
+		public TerminalNode COLON(int i) {
+			return getToken(PrevParser.COLON, i);
+		}
+		public List<TerminalNode> ID() { return getTokens(PrevParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(PrevParser.ID, i);
+		}
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(PrevParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(PrevParser.COMMA, i);
+		}
+		public Id_expContext id_exp() {
+			return getRuleContext(Id_expContext.class,0);
+		}
+		public ParamsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_params; }
+	}
+
+	public final ParamsContext params() throws RecognitionException {
+		ParamsContext _localctx = new ParamsContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_params);
+		int _la;
+		try {
+			setState(152);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				 List<AstParDecl> pars = new LinkedList<>(); 
+				setState(118);
+				((ParamsContext)_localctx).id1 = match(ID);
+				setState(119);
+				match(COLON);
+				setState(120);
+				((ParamsContext)_localctx).t1 = type();
+				 pars.add(new AstParDecl(loc(((ParamsContext)_localctx).id1, ((ParamsContext)_localctx).t1.ast), (((ParamsContext)_localctx).id1!=null?((ParamsContext)_localctx).id1.getText():null), sym(((ParamsContext)_localctx).id1), ((ParamsContext)_localctx).t1.ast)); 
+				setState(130);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(122);
+					match(COMMA);
+					setState(123);
+					((ParamsContext)_localctx).id2 = match(ID);
+					setState(124);
+					match(COLON);
+					setState(125);
+					((ParamsContext)_localctx).t2 = type();
+					 pars.add(new AstParDecl(loc(((ParamsContext)_localctx).id2, ((ParamsContext)_localctx).t2.ast), (((ParamsContext)_localctx).id2!=null?((ParamsContext)_localctx).id2.getText():null), sym(((ParamsContext)_localctx).id2), ((ParamsContext)_localctx).t2.ast)); 
+					}
+					}
+					setState(132);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				 ((ParamsContext)_localctx).ast =  new AstTrees<>(pars); 
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(135);
+				match(ID);
+				setState(136);
+				match(COLON);
+				setState(137);
+				type();
+				setState(138);
+				match(COMMA);
+				setState(146);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==ID) {
+					{
+					{
+					setState(139);
+					match(ID);
+					setState(140);
+					match(COLON);
+					setState(141);
+					type();
+					setState(142);
+					match(COMMA);
+					}
+					}
+					setState(148);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(149);
+				id_exp();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(151);
+				id_exp();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReturnedContext extends ParserRuleContext {
+		public AstExpr ast;
+		public ExprContext expr;
+		public TerminalNode ASSIGN() { return getToken(PrevParser.ASSIGN, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public ReturnedContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_returned; }
+	}
+
+	public final ReturnedContext returned() throws RecognitionException {
+		ReturnedContext _localctx = new ReturnedContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_returned);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(154);
+			match(ASSIGN);
+			setState(155);
+			((ReturnedContext)_localctx).expr = expr(0);
+			 ((ReturnedContext)_localctx).ast =  ((ReturnedContext)_localctx).expr.ast; 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public AstType ast;
+		public Token VOID;
+		public Token CHAR;
+		public Token INT;
+		public Token BOOL;
+		public Token ID;
+		public Array_typeContext array_type;
+		public Ptr_typeContext ptr_type;
+		public Record_typeContext record_type;
+		public Token LPAREN;
+		public TypeContext type;
+		public Token RPAREN;
+		public TerminalNode VOID() { return getToken(PrevParser.VOID, 0); }
+		public TerminalNode CHAR() { return getToken(PrevParser.CHAR, 0); }
+		public TerminalNode INT() { return getToken(PrevParser.INT, 0); }
+		public TerminalNode BOOL() { return getToken(PrevParser.BOOL, 0); }
+		public TerminalNode ID() { return getToken(PrevParser.ID, 0); }
+		public Array_typeContext array_type() {
+			return getRuleContext(Array_typeContext.class,0);
+		}
+		public Ptr_typeContext ptr_type() {
+			return getRuleContext(Ptr_typeContext.class,0);
+		}
+		public Record_typeContext record_type() {
+			return getRuleContext(Record_typeContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(PrevParser.LPAREN, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(PrevParser.RPAREN, 0); }
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_type);
+		try {
+			setState(182);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case VOID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(158);
+				((TypeContext)_localctx).VOID = match(VOID);
+				 ((TypeContext)_localctx).ast =  new AstAtomType(loc(((TypeContext)_localctx).VOID), AstAtomType.Type.VOID); 
+				}
+				break;
+			case CHAR:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(160);
+				((TypeContext)_localctx).CHAR = match(CHAR);
+				 ((TypeContext)_localctx).ast =  new AstAtomType(loc(((TypeContext)_localctx).CHAR), AstAtomType.Type.CHAR); 
+				}
+				break;
+			case INT:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(162);
+				((TypeContext)_localctx).INT = match(INT);
+				 ((TypeContext)_localctx).ast =  new AstAtomType(loc(((TypeContext)_localctx).INT), AstAtomType.Type.INT); 
+				}
+				break;
+			case BOOL:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(164);
+				((TypeContext)_localctx).BOOL = match(BOOL);
+				 ((TypeContext)_localctx).ast =  new AstAtomType(loc(((TypeContext)_localctx).BOOL), AstAtomType.Type.BOOL); 
+				}
+				break;
+			case ID:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(166);
+				((TypeContext)_localctx).ID = match(ID);
+				 ((TypeContext)_localctx).ast =  new AstNameType(loc(((TypeContext)_localctx).ID), (((TypeContext)_localctx).ID!=null?((TypeContext)_localctx).ID.getText():null), sym(((TypeContext)_localctx).ID)); 
+				}
+				break;
+			case LSQUARE:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(168);
+				((TypeContext)_localctx).array_type = array_type();
+				 ((TypeContext)_localctx).ast =  ((TypeContext)_localctx).array_type.ast; 
+				}
+				break;
+			case CARET:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(171);
+				((TypeContext)_localctx).ptr_type = ptr_type();
+				 ((TypeContext)_localctx).ast =  ((TypeContext)_localctx).ptr_type.ast; 
+				}
+				break;
+			case LCURLY:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(174);
+				((TypeContext)_localctx).record_type = record_type();
+				 ((TypeContext)_localctx).ast =  ((TypeContext)_localctx).record_type.ast; 
+				}
+				break;
+			case LPAREN:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(177);
+				((TypeContext)_localctx).LPAREN = match(LPAREN);
+				setState(178);
+				((TypeContext)_localctx).type = type();
+				setState(179);
+				((TypeContext)_localctx).RPAREN = match(RPAREN);
+
+				        ((TypeContext)_localctx).type.ast.relocate(loc(((TypeContext)_localctx).LPAREN, ((TypeContext)_localctx).RPAREN));
+				        ((TypeContext)_localctx).ast =  ((TypeContext)_localctx).type.ast;
+				    
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Array_typeContext extends ParserRuleContext {
+		public AstArrType ast;
+		public Token LSQUARE;
+		public ExprContext expr;
+		public TypeContext type;
+		public TerminalNode LSQUARE() { return getToken(PrevParser.LSQUARE, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode RSQUARE() { return getToken(PrevParser.RSQUARE, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public Array_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_array_type; }
+	}
+
+	public final Array_typeContext array_type() throws RecognitionException {
+		Array_typeContext _localctx = new Array_typeContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_array_type);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(184);
+			((Array_typeContext)_localctx).LSQUARE = match(LSQUARE);
+			setState(185);
+			((Array_typeContext)_localctx).expr = expr(0);
+			setState(186);
+			match(RSQUARE);
+			setState(187);
+			((Array_typeContext)_localctx).type = type();
+			 ((Array_typeContext)_localctx).ast =  new AstArrType(loc(((Array_typeContext)_localctx).LSQUARE, ((Array_typeContext)_localctx).type.ast), ((Array_typeContext)_localctx).type.ast, ((Array_typeContext)_localctx).expr.ast); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Ptr_typeContext extends ParserRuleContext {
+		public AstPtrType ast;
+		public Token CARET;
+		public TypeContext type;
+		public TerminalNode CARET() { return getToken(PrevParser.CARET, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public Ptr_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ptr_type; }
+	}
+
+	public final Ptr_typeContext ptr_type() throws RecognitionException {
+		Ptr_typeContext _localctx = new Ptr_typeContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_ptr_type);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(190);
+			((Ptr_typeContext)_localctx).CARET = match(CARET);
+			setState(191);
+			((Ptr_typeContext)_localctx).type = type();
+			 ((Ptr_typeContext)_localctx).ast =  new AstPtrType(loc(((Ptr_typeContext)_localctx).CARET, ((Ptr_typeContext)_localctx).type.ast), ((Ptr_typeContext)_localctx).type.ast); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Record_typeContext extends ParserRuleContext {
+		public AstRecType ast;
+		public Token LCURLY;
+		public Token id1;
+		public TypeContext t1;
+		public Token id2;
+		public TypeContext t2;
+		public Token RCURLY;
+		public TerminalNode LCURLY() { return getToken(PrevParser.LCURLY, 0); }
+		public List<TerminalNode> COLON() { return getTokens(PrevParser.COLON); }
+		public TerminalNode COLON(int i) {
+			return getToken(PrevParser.COLON, i);
+		}
+		public TerminalNode RCURLY() { return getToken(PrevParser.RCURLY, 0); }
+		public List<TerminalNode> ID() { return getTokens(PrevParser.ID); }
+		public TerminalNode ID(int i) {
+			return getToken(PrevParser.ID, i);
+		}
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(PrevParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(PrevParser.COMMA, i);
+		}
+		public Record_typeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_record_type; }
+	}
+
+	public final Record_typeContext record_type() throws RecognitionException {
+		Record_typeContext _localctx = new Record_typeContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_record_type);
+		int _la;
+		try {
+			setState(217);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				 List<AstCompDecl> comps = new LinkedList<>(); 
+				setState(195);
+				((Record_typeContext)_localctx).LCURLY = match(LCURLY);
+				setState(196);
+				((Record_typeContext)_localctx).id1 = match(ID);
+				setState(197);
+				match(COLON);
+				setState(198);
+				((Record_typeContext)_localctx).t1 = type();
+				 comps.add(new AstCompDecl(loc(((Record_typeContext)_localctx).id1, ((Record_typeContext)_localctx).t1.ast), (((Record_typeContext)_localctx).id1!=null?((Record_typeContext)_localctx).id1.getText():null), sym(((Record_typeContext)_localctx).id1), ((Record_typeContext)_localctx).t1.ast)); 
+				setState(208);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(200);
+					match(COMMA);
+					setState(201);
+					((Record_typeContext)_localctx).id2 = match(ID);
+					setState(202);
+					match(COLON);
+					setState(203);
+					((Record_typeContext)_localctx).t2 = type();
+					 comps.add(new AstCompDecl(loc(((Record_typeContext)_localctx).id2, ((Record_typeContext)_localctx).t2.ast), (((Record_typeContext)_localctx).id2!=null?((Record_typeContext)_localctx).id2.getText():null), sym(((Record_typeContext)_localctx).id2), ((Record_typeContext)_localctx).t2.ast)); 
+					}
+					}
+					setState(210);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(211);
+				((Record_typeContext)_localctx).RCURLY = match(RCURLY);
+				 ((Record_typeContext)_localctx).ast =  new AstRecType(loc(((Record_typeContext)_localctx).LCURLY, ((Record_typeContext)_localctx).RCURLY), new AstTrees<>(comps)); 
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(214);
+				match(LCURLY);
+				setState(215);
+				match(RCURLY);
+
+				        if (true)
+				            throw new Report.Error(
+				                Location.of(loc(getContext().start)),
+				                text() + " : Empty record type not allowed");
+				    
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExprContext extends ParserRuleContext {
+		public AstExpr ast;
+		public ExprContext e1;
+		public ExprContext fst;
+		public ExprContext e;
+		public Token CONST_VOID;
+		public Token CONST_BOOL;
+		public Token CONST_INT;
+		public Token CONST_CHAR;
+		public Token CONST_STR;
+		public Token CONST_PTR;
+		public Token ID;
+		public Fun_callContext fun_call;
+		public Compound_exprContext compound_expr;
+		public Typecast_exprContext typecast_expr;
+		public Token LPAREN;
+		public ExprContext expr;
+		public Token RPAREN;
+		public Token BANG;
+		public Token PLUS;
+		public Token MINUS;
+		public Token CARET;
+		public Token NEW;
+		public Token DEL;
+		public ExprContext snd;
+		public ExprContext e2;
+		public Token RSQUARE;
+		public PrgContext prg;
+		public Token RCURLY;
+		public TerminalNode CONST_VOID() { return getToken(PrevParser.CONST_VOID, 0); }
+		public TerminalNode CONST_BOOL() { return getToken(PrevParser.CONST_BOOL, 0); }
+		public TerminalNode CONST_INT() { return getToken(PrevParser.CONST_INT, 0); }
+		public TerminalNode CONST_CHAR() { return getToken(PrevParser.CONST_CHAR, 0); }
+		public TerminalNode CONST_STR() { return getToken(PrevParser.CONST_STR, 0); }
+		public TerminalNode CONST_PTR() { return getToken(PrevParser.CONST_PTR, 0); }
+		public TerminalNode ID() { return getToken(PrevParser.ID, 0); }
+		public Fun_callContext fun_call() {
+			return getRuleContext(Fun_callContext.class,0);
+		}
+		public Compound_exprContext compound_expr() {
+			return getRuleContext(Compound_exprContext.class,0);
+		}
+		public Typecast_exprContext typecast_expr() {
+			return getRuleContext(Typecast_exprContext.class,0);
+		}
+		public TerminalNode LPAREN() { return getToken(PrevParser.LPAREN, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode RPAREN() { return getToken(PrevParser.RPAREN, 0); }
+		public TerminalNode BANG() { return getToken(PrevParser.BANG, 0); }
+		public TerminalNode PLUS() { return getToken(PrevParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(PrevParser.MINUS, 0); }
+		public TerminalNode CARET() { return getToken(PrevParser.CARET, 0); }
+		public TerminalNode NEW() { return getToken(PrevParser.NEW, 0); }
+		public TerminalNode DEL() { return getToken(PrevParser.DEL, 0); }
+		public TerminalNode MULT() { return getToken(PrevParser.MULT, 0); }
+		public TerminalNode DIV() { return getToken(PrevParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(PrevParser.MOD, 0); }
+		public TerminalNode EQ() { return getToken(PrevParser.EQ, 0); }
+		public TerminalNode NEQ() { return getToken(PrevParser.NEQ, 0); }
+		public TerminalNode LT() { return getToken(PrevParser.LT, 0); }
+		public TerminalNode GT() { return getToken(PrevParser.GT, 0); }
+		public TerminalNode LE() { return getToken(PrevParser.LE, 0); }
+		public TerminalNode GE() { return getToken(PrevParser.GE, 0); }
+		public TerminalNode AMP() { return getToken(PrevParser.AMP, 0); }
+		public TerminalNode PIPE() { return getToken(PrevParser.PIPE, 0); }
+		public TerminalNode LSQUARE() { return getToken(PrevParser.LSQUARE, 0); }
+		public TerminalNode RSQUARE() { return getToken(PrevParser.RSQUARE, 0); }
+		public TerminalNode DOT() { return getToken(PrevParser.DOT, 0); }
+		public Id_expContext id_exp() {
+			return getRuleContext(Id_expContext.class,0);
+		}
+		public TerminalNode WHERE() { return getToken(PrevParser.WHERE, 0); }
+		public TerminalNode LCURLY() { return getToken(PrevParser.LCURLY, 0); }
+		public PrgContext prg() {
+			return getRuleContext(PrgContext.class,0);
+		}
+		public TerminalNode RCURLY() { return getToken(PrevParser.RCURLY, 0); }
+		public ExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr; }
+	}
+
+	public final ExprContext expr() throws RecognitionException {
+		return expr(0);
+	}
+
+	private ExprContext expr(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExprContext _localctx = new ExprContext(_ctx, _parentState);
+		ExprContext _prevctx = _localctx;
+		int _startState = 26;
+		enterRecursionRule(_localctx, 26, RULE_expr, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(266);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			case 1:
+				{
+				setState(220);
+				((ExprContext)_localctx).CONST_VOID = match(CONST_VOID);
+				 ((ExprContext)_localctx).ast =  new AstAtomExpr(loc(((ExprContext)_localctx).CONST_VOID), AstAtomExpr.Type.VOID, (((ExprContext)_localctx).CONST_VOID!=null?((ExprContext)_localctx).CONST_VOID.getText():null)); 
+				}
+				break;
+			case 2:
+				{
+				setState(222);
+				((ExprContext)_localctx).CONST_BOOL = match(CONST_BOOL);
+				 ((ExprContext)_localctx).ast =  new AstAtomExpr(loc(((ExprContext)_localctx).CONST_BOOL), AstAtomExpr.Type.BOOL, (((ExprContext)_localctx).CONST_BOOL!=null?((ExprContext)_localctx).CONST_BOOL.getText():null)); 
+				}
+				break;
+			case 3:
+				{
+				setState(224);
+				((ExprContext)_localctx).CONST_INT = match(CONST_INT);
+				 ((ExprContext)_localctx).ast =  new AstAtomExpr(loc(((ExprContext)_localctx).CONST_INT), AstAtomExpr.Type.INT, (((ExprContext)_localctx).CONST_INT!=null?((ExprContext)_localctx).CONST_INT.getText():null)); 
+				}
+				break;
+			case 4:
+				{
+				setState(226);
+				((ExprContext)_localctx).CONST_CHAR = match(CONST_CHAR);
+				 ((ExprContext)_localctx).ast =  new AstAtomExpr(loc(((ExprContext)_localctx).CONST_CHAR), AstAtomExpr.Type.CHAR, (((ExprContext)_localctx).CONST_CHAR!=null?((ExprContext)_localctx).CONST_CHAR.getText():null)); 
+				}
+				break;
+			case 5:
+				{
+				setState(228);
+				((ExprContext)_localctx).CONST_STR = match(CONST_STR);
+				 ((ExprContext)_localctx).ast =  new AstAtomExpr(loc(((ExprContext)_localctx).CONST_STR), AstAtomExpr.Type.STRING, (((ExprContext)_localctx).CONST_STR!=null?((ExprContext)_localctx).CONST_STR.getText():null)); 
+				}
+				break;
+			case 6:
+				{
+				setState(230);
+				((ExprContext)_localctx).CONST_PTR = match(CONST_PTR);
+				 ((ExprContext)_localctx).ast =  new AstAtomExpr(loc(((ExprContext)_localctx).CONST_PTR), AstAtomExpr.Type.POINTER, (((ExprContext)_localctx).CONST_PTR!=null?((ExprContext)_localctx).CONST_PTR.getText():null)); 
+				}
+				break;
+			case 7:
+				{
+				setState(232);
+				((ExprContext)_localctx).ID = match(ID);
+				 ((ExprContext)_localctx).ast =  new AstNameExpr(loc(((ExprContext)_localctx).ID), (((ExprContext)_localctx).ID!=null?((ExprContext)_localctx).ID.getText():null), sym(((ExprContext)_localctx).ID)); 
+				}
+				break;
+			case 8:
+				{
+				setState(234);
+				((ExprContext)_localctx).fun_call = fun_call();
+				 ((ExprContext)_localctx).ast =  ((ExprContext)_localctx).fun_call.ast; 
+				}
+				break;
+			case 9:
+				{
+				setState(237);
+				((ExprContext)_localctx).compound_expr = compound_expr();
+				 ((ExprContext)_localctx).ast =  ((ExprContext)_localctx).compound_expr.ast; 
+				}
+				break;
+			case 10:
+				{
+				setState(240);
+				((ExprContext)_localctx).typecast_expr = typecast_expr();
+				 ((ExprContext)_localctx).ast =  ((ExprContext)_localctx).typecast_expr.ast; 
+				}
+				break;
+			case 11:
+				{
+				setState(243);
+				((ExprContext)_localctx).LPAREN = match(LPAREN);
+				setState(244);
+				((ExprContext)_localctx).expr = expr(0);
+				setState(245);
+				((ExprContext)_localctx).RPAREN = match(RPAREN);
+
+				        ((ExprContext)_localctx).expr.ast.relocate(loc(((ExprContext)_localctx).LPAREN, ((ExprContext)_localctx).RPAREN));
+				        ((ExprContext)_localctx).ast =  ((ExprContext)_localctx).expr.ast;
+				    
+				}
+				break;
+			case 12:
+				{
+				 AstPfxExpr.Oper op; Token start; 
+				setState(261);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case BANG:
+					{
+					setState(249);
+					((ExprContext)_localctx).BANG = match(BANG);
+					 op = AstPfxExpr.Oper.NOT; start = ((ExprContext)_localctx).BANG;  
+					}
+					break;
+				case PLUS:
+					{
+					setState(251);
+					((ExprContext)_localctx).PLUS = match(PLUS);
+					 op = AstPfxExpr.Oper.ADD; start = ((ExprContext)_localctx).PLUS;  
+					}
+					break;
+				case MINUS:
+					{
+					setState(253);
+					((ExprContext)_localctx).MINUS = match(MINUS);
+					 op = AstPfxExpr.Oper.SUB; start = ((ExprContext)_localctx).MINUS; 
+					}
+					break;
+				case CARET:
+					{
+					setState(255);
+					((ExprContext)_localctx).CARET = match(CARET);
+					 op = AstPfxExpr.Oper.PTR; start = ((ExprContext)_localctx).CARET; 
+					}
+					break;
+				case NEW:
+					{
+					setState(257);
+					((ExprContext)_localctx).NEW = match(NEW);
+					 op = AstPfxExpr.Oper.NEW; start = ((ExprContext)_localctx).NEW;   
+					}
+					break;
+				case DEL:
+					{
+					setState(259);
+					((ExprContext)_localctx).DEL = match(DEL);
+					 op = AstPfxExpr.Oper.DEL; start = ((ExprContext)_localctx).DEL;   
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(263);
+				((ExprContext)_localctx).expr = expr(7);
+				 ((ExprContext)_localctx).ast =  new AstPfxExpr(loc(start, ((ExprContext)_localctx).expr.ast), op, ((ExprContext)_localctx).expr.ast); 
+				}
+				break;
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(346);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(344);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx.fst = _prevctx;
+						_localctx.fst = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(268);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						 AstBinExpr.Oper op; 
+						setState(276);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case MULT:
+							{
+							setState(270);
+							match(MULT);
+							 op = AstBinExpr.Oper.MUL; 
+							}
+							break;
+						case DIV:
+							{
+							setState(272);
+							match(DIV);
+							 op = AstBinExpr.Oper.DIV; 
+							}
+							break;
+						case MOD:
+							{
+							setState(274);
+							match(MOD);
+							 op = AstBinExpr.Oper.MOD; 
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(278);
+						((ExprContext)_localctx).snd = ((ExprContext)_localctx).expr = expr(7);
+						 ((ExprContext)_localctx).ast =  new AstBinExpr(loc(((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast), op, ((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast ); 
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx.fst = _prevctx;
+						_localctx.fst = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(281);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						 AstBinExpr.Oper op; 
+						setState(287);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case PLUS:
+							{
+							setState(283);
+							((ExprContext)_localctx).PLUS = match(PLUS);
+							 op = AstBinExpr.Oper.ADD; 
+							}
+							break;
+						case MINUS:
+							{
+							setState(285);
+							((ExprContext)_localctx).MINUS = match(MINUS);
+							 op = AstBinExpr.Oper.SUB; 
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(289);
+						((ExprContext)_localctx).snd = ((ExprContext)_localctx).expr = expr(6);
+						 ((ExprContext)_localctx).ast =  new AstBinExpr(loc(((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast), op, ((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast ); 
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx.fst = _prevctx;
+						_localctx.fst = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(292);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						 AstBinExpr.Oper op; 
+						setState(306);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case EQ:
+							{
+							setState(294);
+							match(EQ);
+							 op = AstBinExpr.Oper.EQU; 
+							}
+							break;
+						case NEQ:
+							{
+							setState(296);
+							match(NEQ);
+							 op = AstBinExpr.Oper.NEQ; 
+							}
+							break;
+						case LT:
+							{
+							setState(298);
+							match(LT);
+							 op = AstBinExpr.Oper.LTH; 
+							}
+							break;
+						case GT:
+							{
+							setState(300);
+							match(GT);
+							 op = AstBinExpr.Oper.GTH; 
+							}
+							break;
+						case LE:
+							{
+							setState(302);
+							match(LE);
+							 op = AstBinExpr.Oper.LEQ; 
+							}
+							break;
+						case GE:
+							{
+							setState(304);
+							match(GE);
+							 op = AstBinExpr.Oper.GEQ; 
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(308);
+						((ExprContext)_localctx).snd = ((ExprContext)_localctx).expr = expr(5);
+						 ((ExprContext)_localctx).ast =  new AstBinExpr(loc(((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast), op, ((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast ); 
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx.fst = _prevctx;
+						_localctx.fst = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(311);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(312);
+						match(AMP);
+						setState(313);
+						((ExprContext)_localctx).snd = ((ExprContext)_localctx).expr = expr(4);
+						 ((ExprContext)_localctx).ast =  new AstBinExpr(loc(((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast), AstBinExpr.Oper.AND, ((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast ); 
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx.fst = _prevctx;
+						_localctx.fst = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(316);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(317);
+						match(PIPE);
+						setState(318);
+						((ExprContext)_localctx).snd = ((ExprContext)_localctx).expr = expr(3);
+						 ((ExprContext)_localctx).ast =  new AstBinExpr(loc(((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast), AstBinExpr.Oper.OR, ((ExprContext)_localctx).fst.ast, ((ExprContext)_localctx).snd.ast ); 
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx.e1 = _prevctx;
+						_localctx.e1 = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(321);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(335);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case LSQUARE:
+							{
+							setState(322);
+							match(LSQUARE);
+							setState(323);
+							((ExprContext)_localctx).e2 = ((ExprContext)_localctx).expr = expr(0);
+							setState(324);
+							((ExprContext)_localctx).RSQUARE = match(RSQUARE);
+							 ((ExprContext)_localctx).ast =  new AstArrExpr(loc(((ExprContext)_localctx).e1.ast, ((ExprContext)_localctx).RSQUARE), ((ExprContext)_localctx).e1.ast, ((ExprContext)_localctx).e2.ast); 
+							}
+							break;
+						case CARET:
+							{
+							setState(327);
+							((ExprContext)_localctx).CARET = match(CARET);
+							 ((ExprContext)_localctx).ast =  new AstSfxExpr(loc(((ExprContext)_localctx).e1.ast, ((ExprContext)_localctx).CARET), AstSfxExpr.Oper.PTR, ((ExprContext)_localctx).e1.ast ); 
+							}
+							break;
+						case DOT:
+							{
+							setState(329);
+							match(DOT);
+							setState(332);
+							_errHandler.sync(this);
+							switch (_input.LA(1)) {
+							case ID:
+								{
+								setState(330);
+								((ExprContext)_localctx).ID = match(ID);
+								}
+								break;
+							case CONST_VOID:
+							case CONST_BOOL:
+							case CONST_INT:
+							case CONST_INT_ERR:
+							case CONST_CHAR:
+							case CONST_CHAR_UNCLOSED:
+							case CONST_CHAR_ERR:
+							case CONST_CHAR_EMPTY:
+							case CONST_STR:
+							case CONST_STR_UNCLOSED:
+							case CONST_PTR:
+							case LPAREN:
+							case RPAREN:
+							case LCURLY:
+							case RCURLY:
+							case LSQUARE:
+							case RSQUARE:
+							case DOT:
+							case COMMA:
+							case COLON:
+							case SEMI:
+							case AMP:
+							case PIPE:
+							case BANG:
+							case EQ:
+							case NEQ:
+							case LT:
+							case GT:
+							case LE:
+							case GE:
+							case MULT:
+							case DIV:
+							case MOD:
+							case PLUS:
+							case MINUS:
+							case CARET:
+							case ASSIGN:
+							case BOOL:
+							case CHAR:
+							case DEL:
+							case DO:
+							case ELSE:
+							case FUN:
+							case IF:
+							case INT:
+							case NEW:
+							case THEN:
+							case TYP:
+							case VAR:
+							case VOID:
+							case WHERE:
+							case WHILE:
+							case ID_ERR:
+							case COMMENT:
+							case TAB:
+							case WS:
+							case UNRECOGNIZED:
+								{
+								setState(331);
+								id_exp();
+								}
+								break;
+							default:
+								throw new NoViableAltException(this);
+							}
+							 ((ExprContext)_localctx).ast =  new AstRecExpr(loc(((ExprContext)_localctx).e1.ast, ((ExprContext)_localctx).ID), ((ExprContext)_localctx).e1.ast, new AstNameExpr(loc(((ExprContext)_localctx).ID), (((ExprContext)_localctx).ID!=null?((ExprContext)_localctx).ID.getText():null), sym(((ExprContext)_localctx).ID))); 
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExprContext(_parentctx, _parentState);
+						_localctx.e = _prevctx;
+						_localctx.e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(337);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(338);
+						match(WHERE);
+						setState(339);
+						match(LCURLY);
+						setState(340);
+						((ExprContext)_localctx).prg = prg();
+						setState(341);
+						((ExprContext)_localctx).RCURLY = match(RCURLY);
+						 ((ExprContext)_localctx).ast =  new AstWhereExpr(loc(((ExprContext)_localctx).e.ast, ((ExprContext)_localctx).RCURLY), ((ExprContext)_localctx).e.ast, ((ExprContext)_localctx).prg.ast); 
+						}
+						break;
+					}
+					} 
+				}
+				setState(348);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public static class Fun_callContext extends ParserRuleContext {
+		public AstNameExpr ast;
+		public Token ID;
+		public ArgsContext args;
+		public Token RPAREN;
+		public TerminalNode ID() { return getToken(PrevParser.ID, 0); }
+		public TerminalNode LPAREN() { return getToken(PrevParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(PrevParser.RPAREN, 0); }
+		public ArgsContext args() {
+			return getRuleContext(ArgsContext.class,0);
+		}
+		public Fun_callContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fun_call; }
+	}
+
+	public final Fun_callContext fun_call() throws RecognitionException {
+		Fun_callContext _localctx = new Fun_callContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_fun_call);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			 AstTrees<AstExpr> arguments = null; 
+			setState(350);
+			((Fun_callContext)_localctx).ID = match(ID);
+			setState(351);
+			match(LPAREN);
+			setState(355);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CONST_VOID) | (1L << CONST_BOOL) | (1L << CONST_INT) | (1L << CONST_CHAR) | (1L << CONST_STR) | (1L << CONST_PTR) | (1L << LPAREN) | (1L << LCURLY) | (1L << BANG) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << DEL) | (1L << NEW) | (1L << ID))) != 0)) {
+				{
+				setState(352);
+				((Fun_callContext)_localctx).args = args();
+				 arguments = ((Fun_callContext)_localctx).args.ast; 
+				}
+			}
+
+			setState(357);
+			((Fun_callContext)_localctx).RPAREN = match(RPAREN);
+			 ((Fun_callContext)_localctx).ast =  arguments != null
+			        ? new AstCallExpr(loc(((Fun_callContext)_localctx).ID, ((Fun_callContext)_localctx).RPAREN), (((Fun_callContext)_localctx).ID!=null?((Fun_callContext)_localctx).ID.getText():null), sym(((Fun_callContext)_localctx).ID), arguments)
+			        : new AstNameExpr(loc(((Fun_callContext)_localctx).ID, ((Fun_callContext)_localctx).RPAREN), (((Fun_callContext)_localctx).ID!=null?((Fun_callContext)_localctx).ID.getText():null), sym(((Fun_callContext)_localctx).ID)); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ArgsContext extends ParserRuleContext {
+		public AstTrees<AstExpr> ast;
+		public ExprContext e1;
+		public ExprContext e2;
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(PrevParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(PrevParser.COMMA, i);
+		}
+		public ArgsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_args; }
+	}
+
+	public final ArgsContext args() throws RecognitionException {
+		ArgsContext _localctx = new ArgsContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_args);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			 List<AstExpr> arguments = new LinkedList<>(); 
+			setState(361);
+			((ArgsContext)_localctx).e1 = expr(0);
+			 arguments.add(((ArgsContext)_localctx).e1.ast); 
+			setState(369);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(363);
+				match(COMMA);
+				setState(364);
+				((ArgsContext)_localctx).e2 = expr(0);
+				 arguments.add(((ArgsContext)_localctx).e2.ast); 
+				}
+				}
+				setState(371);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			 ((ArgsContext)_localctx).ast =  new AstTrees<>(arguments); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Compound_exprContext extends ParserRuleContext {
+		public AstStmtExpr ast;
+		public Token LCURLY;
+		public StmtContext s1;
+		public StmtContext s2;
+		public Token RCURLY;
+		public TerminalNode LCURLY() { return getToken(PrevParser.LCURLY, 0); }
+		public List<TerminalNode> SEMI() { return getTokens(PrevParser.SEMI); }
+		public TerminalNode SEMI(int i) {
+			return getToken(PrevParser.SEMI, i);
+		}
+		public TerminalNode RCURLY() { return getToken(PrevParser.RCURLY, 0); }
+		public List<StmtContext> stmt() {
+			return getRuleContexts(StmtContext.class);
+		}
+		public StmtContext stmt(int i) {
+			return getRuleContext(StmtContext.class,i);
+		}
+		public Compound_exprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compound_expr; }
+	}
+
+	public final Compound_exprContext compound_expr() throws RecognitionException {
+		Compound_exprContext _localctx = new Compound_exprContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_compound_expr);
+		int _la;
+		try {
+			setState(394);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				 List<AstStmt> stmts = new LinkedList<>(); 
+				setState(375);
+				((Compound_exprContext)_localctx).LCURLY = match(LCURLY);
+				setState(376);
+				((Compound_exprContext)_localctx).s1 = stmt();
+				 stmts.add(((Compound_exprContext)_localctx).s1.ast); 
+				setState(378);
+				match(SEMI);
+				setState(385);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CONST_VOID) | (1L << CONST_BOOL) | (1L << CONST_INT) | (1L << CONST_CHAR) | (1L << CONST_STR) | (1L << CONST_PTR) | (1L << LPAREN) | (1L << LCURLY) | (1L << BANG) | (1L << PLUS) | (1L << MINUS) | (1L << CARET) | (1L << DEL) | (1L << IF) | (1L << NEW) | (1L << WHILE) | (1L << ID))) != 0)) {
+					{
+					{
+					setState(379);
+					((Compound_exprContext)_localctx).s2 = stmt();
+					setState(380);
+					match(SEMI);
+					 stmts.add(((Compound_exprContext)_localctx).s2.ast); 
+					}
+					}
+					setState(387);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(388);
+				((Compound_exprContext)_localctx).RCURLY = match(RCURLY);
+				 ((Compound_exprContext)_localctx).ast =  new AstStmtExpr(loc(((Compound_exprContext)_localctx).LCURLY, ((Compound_exprContext)_localctx).RCURLY), new AstTrees<>(stmts)); 
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(391);
+				match(LCURLY);
+				setState(392);
+				match(RCURLY);
+
+				        if (true)
+				            throw new Report.Error(
+				                Location.of(loc(getContext().start)),
+				                text() + " : Empty compound statement not allowed");
+				    
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Typecast_exprContext extends ParserRuleContext {
+		public AstCastExpr ast;
+		public Token LPAREN;
+		public ExprContext expr;
+		public TypeContext type;
+		public Token RPAREN;
+		public TerminalNode LPAREN() { return getToken(PrevParser.LPAREN, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode COLON() { return getToken(PrevParser.COLON, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(PrevParser.RPAREN, 0); }
+		public Typecast_exprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_typecast_expr; }
+	}
+
+	public final Typecast_exprContext typecast_expr() throws RecognitionException {
+		Typecast_exprContext _localctx = new Typecast_exprContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_typecast_expr);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(396);
+			((Typecast_exprContext)_localctx).LPAREN = match(LPAREN);
+			setState(397);
+			((Typecast_exprContext)_localctx).expr = expr(0);
+			setState(398);
+			match(COLON);
+			setState(399);
+			((Typecast_exprContext)_localctx).type = type();
+			setState(400);
+			((Typecast_exprContext)_localctx).RPAREN = match(RPAREN);
+			 ((Typecast_exprContext)_localctx).ast =  new AstCastExpr(loc(((Typecast_exprContext)_localctx).LPAREN, ((Typecast_exprContext)_localctx).RPAREN), ((Typecast_exprContext)_localctx).expr.ast, ((Typecast_exprContext)_localctx).type.ast); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StmtContext extends ParserRuleContext {
+		public AstStmt ast;
+		public Expr_stmtContext expr_stmt;
+		public Assign_stmtContext assign_stmt;
+		public If_stmtContext if_stmt;
+		public While_stmtContext while_stmt;
+		public Expr_stmtContext expr_stmt() {
+			return getRuleContext(Expr_stmtContext.class,0);
+		}
+		public Assign_stmtContext assign_stmt() {
+			return getRuleContext(Assign_stmtContext.class,0);
+		}
+		public If_stmtContext if_stmt() {
+			return getRuleContext(If_stmtContext.class,0);
+		}
+		public While_stmtContext while_stmt() {
+			return getRuleContext(While_stmtContext.class,0);
+		}
+		public StmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stmt; }
+	}
+
+	public final StmtContext stmt() throws RecognitionException {
+		StmtContext _localctx = new StmtContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_stmt);
+		try {
+			setState(415);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(403);
+				((StmtContext)_localctx).expr_stmt = expr_stmt();
+				 ((StmtContext)_localctx).ast =  ((StmtContext)_localctx).expr_stmt.ast; 
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(406);
+				((StmtContext)_localctx).assign_stmt = assign_stmt();
+				 ((StmtContext)_localctx).ast =  ((StmtContext)_localctx).assign_stmt.ast; 
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(409);
+				((StmtContext)_localctx).if_stmt = if_stmt();
+				 ((StmtContext)_localctx).ast =  ((StmtContext)_localctx).if_stmt.ast; 
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(412);
+				((StmtContext)_localctx).while_stmt = while_stmt();
+				 ((StmtContext)_localctx).ast =  ((StmtContext)_localctx).while_stmt.ast; 
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_stmtContext extends ParserRuleContext {
+		public AstExprStmt ast;
+		public ExprContext expr;
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public Expr_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_stmt; }
+	}
+
+	public final Expr_stmtContext expr_stmt() throws RecognitionException {
+		Expr_stmtContext _localctx = new Expr_stmtContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_expr_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(417);
+			((Expr_stmtContext)_localctx).expr = expr(0);
+			 ((Expr_stmtContext)_localctx).ast =  new AstExprStmt(((Expr_stmtContext)_localctx).expr.ast.position(), ((Expr_stmtContext)_localctx).expr.ast); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Assign_stmtContext extends ParserRuleContext {
+		public AstAssignStmt ast;
+		public ExprContext dst;
+		public ExprContext src;
+		public TerminalNode ASSIGN() { return getToken(PrevParser.ASSIGN, 0); }
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public Assign_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assign_stmt; }
+	}
+
+	public final Assign_stmtContext assign_stmt() throws RecognitionException {
+		Assign_stmtContext _localctx = new Assign_stmtContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_assign_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(420);
+			((Assign_stmtContext)_localctx).dst = expr(0);
+			setState(421);
+			match(ASSIGN);
+			setState(422);
+			((Assign_stmtContext)_localctx).src = expr(0);
+			 ((Assign_stmtContext)_localctx).ast =  new AstAssignStmt(loc(((Assign_stmtContext)_localctx).dst.ast, ((Assign_stmtContext)_localctx).src.ast), ((Assign_stmtContext)_localctx).dst.ast, ((Assign_stmtContext)_localctx).src.ast); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class If_stmtContext extends ParserRuleContext {
+		public AstIfStmt ast;
+		public Token IF;
+		public ExprContext expr;
+		public StmtContext t;
+		public StmtContext e;
+		public TerminalNode IF() { return getToken(PrevParser.IF, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode THEN() { return getToken(PrevParser.THEN, 0); }
+		public TerminalNode ELSE() { return getToken(PrevParser.ELSE, 0); }
+		public List<StmtContext> stmt() {
+			return getRuleContexts(StmtContext.class);
+		}
+		public StmtContext stmt(int i) {
+			return getRuleContext(StmtContext.class,i);
+		}
+		public If_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_if_stmt; }
+	}
+
+	public final If_stmtContext if_stmt() throws RecognitionException {
+		If_stmtContext _localctx = new If_stmtContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_if_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(425);
+			((If_stmtContext)_localctx).IF = match(IF);
+			setState(426);
+			((If_stmtContext)_localctx).expr = expr(0);
+			setState(427);
+			match(THEN);
+			setState(428);
+			((If_stmtContext)_localctx).t = stmt();
+			setState(429);
+			match(ELSE);
+			setState(430);
+			((If_stmtContext)_localctx).e = stmt();
+			 ((If_stmtContext)_localctx).ast =  new AstIfStmt(loc(((If_stmtContext)_localctx).IF, ((If_stmtContext)_localctx).e.ast), ((If_stmtContext)_localctx).expr.ast, ((If_stmtContext)_localctx).t.ast, ((If_stmtContext)_localctx).e.ast); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class While_stmtContext extends ParserRuleContext {
+		public AstWhileStmt ast;
+		public Token WHILE;
+		public ExprContext expr;
+		public StmtContext stmt;
+		public TerminalNode WHILE() { return getToken(PrevParser.WHILE, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode DO() { return getToken(PrevParser.DO, 0); }
+		public StmtContext stmt() {
+			return getRuleContext(StmtContext.class,0);
+		}
+		public While_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_while_stmt; }
+	}
+
+	public final While_stmtContext while_stmt() throws RecognitionException {
+		While_stmtContext _localctx = new While_stmtContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_while_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(433);
+			((While_stmtContext)_localctx).WHILE = match(WHILE);
+			setState(434);
+			((While_stmtContext)_localctx).expr = expr(0);
+			setState(435);
+			match(DO);
+			setState(436);
+			((While_stmtContext)_localctx).stmt = stmt();
+			 ((While_stmtContext)_localctx).ast =  new AstWhileStmt(loc(((While_stmtContext)_localctx).WHILE, ((While_stmtContext)_localctx).stmt.ast), ((While_stmtContext)_localctx).expr.ast, ((While_stmtContext)_localctx).stmt.ast); 
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 13:
+			return expr_sempred((ExprContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expr_sempred(ExprContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 6);
+		case 1:
+			return precpred(_ctx, 5);
+		case 2:
+			return precpred(_ctx, 4);
+		case 3:
+			return precpred(_ctx, 3);
+		case 4:
+			return precpred(_ctx, 2);
+		case 5:
+			return precpred(_ctx, 8);
+		case 6:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3<\u01ba\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\3\2\3\2\3"+
+		"\2\3\2\3\3\3\3\3\3\3\3\6\39\n\3\r\3\16\3:\3\3\3\3\3\4\3\4\3\4\3\4\3\4"+
+		"\3\4\3\4\3\4\3\4\5\4H\n\4\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\5\6U\n\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7_\n\7\3\b\3\b\3\b\3\b\3\b"+
+		"\3\b\3\b\5\bh\n\b\3\b\3\b\3\b\3\b\3\b\3\b\5\bp\n\b\3\b\3\b\3\b\3\b\5\b"+
+		"v\n\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u0083\n\t\f\t\16"+
+		"\t\u0086\13\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u0093\n"+
+		"\t\f\t\16\t\u0096\13\t\3\t\3\t\3\t\5\t\u009b\n\t\3\n\3\n\3\n\3\n\3\13"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\5\13\u00b9\n\13\3\f\3\f"+
+		"\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3"+
+		"\16\3\16\3\16\3\16\3\16\7\16\u00d1\n\16\f\16\16\16\u00d4\13\16\3\16\3"+
+		"\16\3\16\3\16\3\16\3\16\5\16\u00dc\n\16\3\17\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17\u0108\n\17\3\17\3\17\3\17"+
+		"\5\17\u010d\n\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17\u0117\n"+
+		"\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17\u0122\n\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\5\17\u0135\n\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17"+
+		"\3\17\5\17\u014f\n\17\3\17\5\17\u0152\n\17\3\17\3\17\3\17\3\17\3\17\3"+
+		"\17\3\17\7\17\u015b\n\17\f\17\16\17\u015e\13\17\3\20\3\20\3\20\3\20\3"+
+		"\20\3\20\5\20\u0166\n\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21"+
+		"\3\21\7\21\u0172\n\21\f\21\16\21\u0175\13\21\3\21\3\21\3\22\3\22\3\22"+
+		"\3\22\3\22\3\22\3\22\3\22\3\22\7\22\u0182\n\22\f\22\16\22\u0185\13\22"+
+		"\3\22\3\22\3\22\3\22\3\22\3\22\5\22\u018d\n\22\3\23\3\23\3\23\3\23\3\23"+
+		"\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
+		"\5\24\u01a2\n\24\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27"+
+		"\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\30\2\3\34\31"+
+		"\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\2\3\3\2\67\67\2\u01e1"+
+		"\2\60\3\2\2\2\4\64\3\2\2\2\6G\3\2\2\2\bI\3\2\2\2\nT\3\2\2\2\f^\3\2\2\2"+
+		"\16u\3\2\2\2\20\u009a\3\2\2\2\22\u009c\3\2\2\2\24\u00b8\3\2\2\2\26\u00ba"+
+		"\3\2\2\2\30\u00c0\3\2\2\2\32\u00db\3\2\2\2\34\u010c\3\2\2\2\36\u015f\3"+
+		"\2\2\2 \u016a\3\2\2\2\"\u018c\3\2\2\2$\u018e\3\2\2\2&\u01a1\3\2\2\2(\u01a3"+
+		"\3\2\2\2*\u01a6\3\2\2\2,\u01ab\3\2\2\2.\u01b3\3\2\2\2\60\61\5\4\3\2\61"+
+		"\62\b\2\1\2\62\63\7\2\2\3\63\3\3\2\2\2\648\b\3\1\2\65\66\5\6\4\2\66\67"+
+		"\b\3\1\2\679\3\2\2\28\65\3\2\2\29:\3\2\2\2:8\3\2\2\2:;\3\2\2\2;<\3\2\2"+
+		"\2<=\b\3\1\2=\5\3\2\2\2>?\5\n\6\2?@\b\4\1\2@H\3\2\2\2AB\5\f\7\2BC\b\4"+
+		"\1\2CH\3\2\2\2DE\5\16\b\2EF\b\4\1\2FH\3\2\2\2G>\3\2\2\2GA\3\2\2\2GD\3"+
+		"\2\2\2H\7\3\2\2\2IJ\n\2\2\2JK\b\5\1\2K\t\3\2\2\2LM\7\62\2\2MN\7\67\2\2"+
+		"NO\7\'\2\2OP\5\24\13\2PQ\b\6\1\2QU\3\2\2\2RS\7\62\2\2SU\5\b\5\2TL\3\2"+
+		"\2\2TR\3\2\2\2U\13\3\2\2\2VW\7\63\2\2WX\7\67\2\2XY\7\26\2\2YZ\5\24\13"+
+		"\2Z[\b\7\1\2[_\3\2\2\2\\]\7\63\2\2]_\5\b\5\2^V\3\2\2\2^\\\3\2\2\2_\r\3"+
+		"\2\2\2`a\b\b\1\2ab\7-\2\2bc\7\67\2\2cg\7\16\2\2de\5\20\t\2ef\b\b\1\2f"+
+		"h\3\2\2\2gd\3\2\2\2gh\3\2\2\2hi\3\2\2\2ij\7\17\2\2jk\7\26\2\2ko\5\24\13"+
+		"\2lm\5\22\n\2mn\b\b\1\2np\3\2\2\2ol\3\2\2\2op\3\2\2\2pq\3\2\2\2qr\b\b"+
+		"\1\2rv\3\2\2\2st\7-\2\2tv\5\b\5\2u`\3\2\2\2us\3\2\2\2v\17\3\2\2\2wx\b"+
+		"\t\1\2xy\7\67\2\2yz\7\26\2\2z{\5\24\13\2{\u0084\b\t\1\2|}\7\25\2\2}~\7"+
+		"\67\2\2~\177\7\26\2\2\177\u0080\5\24\13\2\u0080\u0081\b\t\1\2\u0081\u0083"+
+		"\3\2\2\2\u0082|\3\2\2\2\u0083\u0086\3\2\2\2\u0084\u0082\3\2\2\2\u0084"+
+		"\u0085\3\2\2\2\u0085\u0087\3\2\2\2\u0086\u0084\3\2\2\2\u0087\u0088\b\t"+
+		"\1\2\u0088\u009b\3\2\2\2\u0089\u008a\7\67\2\2\u008a\u008b\7\26\2\2\u008b"+
+		"\u008c\5\24\13\2\u008c\u0094\7\25\2\2\u008d\u008e\7\67\2\2\u008e\u008f"+
+		"\7\26\2\2\u008f\u0090\5\24\13\2\u0090\u0091\7\25\2\2\u0091\u0093\3\2\2"+
+		"\2\u0092\u008d\3\2\2\2\u0093\u0096\3\2\2\2\u0094\u0092\3\2\2\2\u0094\u0095"+
+		"\3\2\2\2\u0095\u0097\3\2\2\2\u0096\u0094\3\2\2\2\u0097\u0098\5\b\5\2\u0098"+
+		"\u009b\3\2\2\2\u0099\u009b\5\b\5\2\u009aw\3\2\2\2\u009a\u0089\3\2\2\2"+
+		"\u009a\u0099\3\2\2\2\u009b\21\3\2\2\2\u009c\u009d\7\'\2\2\u009d\u009e"+
+		"\5\34\17\2\u009e\u009f\b\n\1\2\u009f\23\3\2\2\2\u00a0\u00a1\7\64\2\2\u00a1"+
+		"\u00b9\b\13\1\2\u00a2\u00a3\7)\2\2\u00a3\u00b9\b\13\1\2\u00a4\u00a5\7"+
+		"/\2\2\u00a5\u00b9\b\13\1\2\u00a6\u00a7\7(\2\2\u00a7\u00b9\b\13\1\2\u00a8"+
+		"\u00a9\7\67\2\2\u00a9\u00b9\b\13\1\2\u00aa\u00ab\5\26\f\2\u00ab\u00ac"+
+		"\b\13\1\2\u00ac\u00b9\3\2\2\2\u00ad\u00ae\5\30\r\2\u00ae\u00af\b\13\1"+
+		"\2\u00af\u00b9\3\2\2\2\u00b0\u00b1\5\32\16\2\u00b1\u00b2\b\13\1\2\u00b2"+
+		"\u00b9\3\2\2\2\u00b3\u00b4\7\16\2\2\u00b4\u00b5\5\24\13\2\u00b5\u00b6"+
+		"\7\17\2\2\u00b6\u00b7\b\13\1\2\u00b7\u00b9\3\2\2\2\u00b8\u00a0\3\2\2\2"+
+		"\u00b8\u00a2\3\2\2\2\u00b8\u00a4\3\2\2\2\u00b8\u00a6\3\2\2\2\u00b8\u00a8"+
+		"\3\2\2\2\u00b8\u00aa\3\2\2\2\u00b8\u00ad\3\2\2\2\u00b8\u00b0\3\2\2\2\u00b8"+
+		"\u00b3\3\2\2\2\u00b9\25\3\2\2\2\u00ba\u00bb\7\22\2\2\u00bb\u00bc\5\34"+
+		"\17\2\u00bc\u00bd\7\23\2\2\u00bd\u00be\5\24\13\2\u00be\u00bf\b\f\1\2\u00bf"+
+		"\27\3\2\2\2\u00c0\u00c1\7&\2\2\u00c1\u00c2\5\24\13\2\u00c2\u00c3\b\r\1"+
+		"\2\u00c3\31\3\2\2\2\u00c4\u00c5\b\16\1\2\u00c5\u00c6\7\20\2\2\u00c6\u00c7"+
+		"\7\67\2\2\u00c7\u00c8\7\26\2\2\u00c8\u00c9\5\24\13\2\u00c9\u00d2\b\16"+
+		"\1\2\u00ca\u00cb\7\25\2\2\u00cb\u00cc\7\67\2\2\u00cc\u00cd\7\26\2\2\u00cd"+
+		"\u00ce\5\24\13\2\u00ce\u00cf\b\16\1\2\u00cf\u00d1\3\2\2\2\u00d0\u00ca"+
+		"\3\2\2\2\u00d1\u00d4\3\2\2\2\u00d2\u00d0\3\2\2\2\u00d2\u00d3\3\2\2\2\u00d3"+
+		"\u00d5\3\2\2\2\u00d4\u00d2\3\2\2\2\u00d5\u00d6\7\21\2\2\u00d6\u00d7\b"+
+		"\16\1\2\u00d7\u00dc\3\2\2\2\u00d8\u00d9\7\20\2\2\u00d9\u00da\7\21\2\2"+
+		"\u00da\u00dc\b\16\1\2\u00db\u00c4\3\2\2\2\u00db\u00d8\3\2\2\2\u00dc\33"+
+		"\3\2\2\2\u00dd\u00de\b\17\1\2\u00de\u00df\7\3\2\2\u00df\u010d\b\17\1\2"+
+		"\u00e0\u00e1\7\4\2\2\u00e1\u010d\b\17\1\2\u00e2\u00e3\7\5\2\2\u00e3\u010d"+
+		"\b\17\1\2\u00e4\u00e5\7\7\2\2\u00e5\u010d\b\17\1\2\u00e6\u00e7\7\13\2"+
+		"\2\u00e7\u010d\b\17\1\2\u00e8\u00e9\7\r\2\2\u00e9\u010d\b\17\1\2\u00ea"+
+		"\u00eb\7\67\2\2\u00eb\u010d\b\17\1\2\u00ec\u00ed\5\36\20\2\u00ed\u00ee"+
+		"\b\17\1\2\u00ee\u010d\3\2\2\2\u00ef\u00f0\5\"\22\2\u00f0\u00f1\b\17\1"+
+		"\2\u00f1\u010d\3\2\2\2\u00f2\u00f3\5$\23\2\u00f3\u00f4\b\17\1\2\u00f4"+
+		"\u010d\3\2\2\2\u00f5\u00f6\7\16\2\2\u00f6\u00f7\5\34\17\2\u00f7\u00f8"+
+		"\7\17\2\2\u00f8\u00f9\b\17\1\2\u00f9\u010d\3\2\2\2\u00fa\u0107\b\17\1"+
+		"\2\u00fb\u00fc\7\32\2\2\u00fc\u0108\b\17\1\2\u00fd\u00fe\7$\2\2\u00fe"+
+		"\u0108\b\17\1\2\u00ff\u0100\7%\2\2\u0100\u0108\b\17\1\2\u0101\u0102\7"+
+		"&\2\2\u0102\u0108\b\17\1\2\u0103\u0104\7\60\2\2\u0104\u0108\b\17\1\2\u0105"+
+		"\u0106\7*\2\2\u0106\u0108\b\17\1\2\u0107\u00fb\3\2\2\2\u0107\u00fd\3\2"+
+		"\2\2\u0107\u00ff\3\2\2\2\u0107\u0101\3\2\2\2\u0107\u0103\3\2\2\2\u0107"+
+		"\u0105\3\2\2\2\u0108\u0109\3\2\2\2\u0109\u010a\5\34\17\t\u010a\u010b\b"+
+		"\17\1\2\u010b\u010d\3\2\2\2\u010c\u00dd\3\2\2\2\u010c\u00e0\3\2\2\2\u010c"+
+		"\u00e2\3\2\2\2\u010c\u00e4\3\2\2\2\u010c\u00e6\3\2\2\2\u010c\u00e8\3\2"+
+		"\2\2\u010c\u00ea\3\2\2\2\u010c\u00ec\3\2\2\2\u010c\u00ef\3\2\2\2\u010c"+
+		"\u00f2\3\2\2\2\u010c\u00f5\3\2\2\2\u010c\u00fa\3\2\2\2\u010d\u015c\3\2"+
+		"\2\2\u010e\u010f\f\b\2\2\u010f\u0116\b\17\1\2\u0110\u0111\7!\2\2\u0111"+
+		"\u0117\b\17\1\2\u0112\u0113\7\"\2\2\u0113\u0117\b\17\1\2\u0114\u0115\7"+
+		"#\2\2\u0115\u0117\b\17\1\2\u0116\u0110\3\2\2\2\u0116\u0112\3\2\2\2\u0116"+
+		"\u0114\3\2\2\2\u0117\u0118\3\2\2\2\u0118\u0119\5\34\17\t\u0119\u011a\b"+
+		"\17\1\2\u011a\u015b\3\2\2\2\u011b\u011c\f\7\2\2\u011c\u0121\b\17\1\2\u011d"+
+		"\u011e\7$\2\2\u011e\u0122\b\17\1\2\u011f\u0120\7%\2\2\u0120\u0122\b\17"+
+		"\1\2\u0121\u011d\3\2\2\2\u0121\u011f\3\2\2\2\u0122\u0123\3\2\2\2\u0123"+
+		"\u0124\5\34\17\b\u0124\u0125\b\17\1\2\u0125\u015b\3\2\2\2\u0126\u0127"+
+		"\f\6\2\2\u0127\u0134\b\17\1\2\u0128\u0129\7\33\2\2\u0129\u0135\b\17\1"+
+		"\2\u012a\u012b\7\34\2\2\u012b\u0135\b\17\1\2\u012c\u012d\7\35\2\2\u012d"+
+		"\u0135\b\17\1\2\u012e\u012f\7\36\2\2\u012f\u0135\b\17\1\2\u0130\u0131"+
+		"\7\37\2\2\u0131\u0135\b\17\1\2\u0132\u0133\7 \2\2\u0133\u0135\b\17\1\2"+
+		"\u0134\u0128\3\2\2\2\u0134\u012a\3\2\2\2\u0134\u012c\3\2\2\2\u0134\u012e"+
+		"\3\2\2\2\u0134\u0130\3\2\2\2\u0134\u0132\3\2\2\2\u0135\u0136\3\2\2\2\u0136"+
+		"\u0137\5\34\17\7\u0137\u0138\b\17\1\2\u0138\u015b\3\2\2\2\u0139\u013a"+
+		"\f\5\2\2\u013a\u013b\7\30\2\2\u013b\u013c\5\34\17\6\u013c\u013d\b\17\1"+
+		"\2\u013d\u015b\3\2\2\2\u013e\u013f\f\4\2\2\u013f\u0140\7\31\2\2\u0140"+
+		"\u0141\5\34\17\5\u0141\u0142\b\17\1\2\u0142\u015b\3\2\2\2\u0143\u0151"+
+		"\f\n\2\2\u0144\u0145\7\22\2\2\u0145\u0146\5\34\17\2\u0146\u0147\7\23\2"+
+		"\2\u0147\u0148\b\17\1\2\u0148\u0152\3\2\2\2\u0149\u014a\7&\2\2\u014a\u0152"+
+		"\b\17\1\2\u014b\u014e\7\24\2\2\u014c\u014f\7\67\2\2\u014d\u014f\5\b\5"+
+		"\2\u014e\u014c\3\2\2\2\u014e\u014d\3\2\2\2\u014f\u0150\3\2\2\2\u0150\u0152"+
+		"\b\17\1\2\u0151\u0144\3\2\2\2\u0151\u0149\3\2\2\2\u0151\u014b\3\2\2\2"+
+		"\u0152\u015b\3\2\2\2\u0153\u0154\f\3\2\2\u0154\u0155\7\65\2\2\u0155\u0156"+
+		"\7\20\2\2\u0156\u0157\5\4\3\2\u0157\u0158\7\21\2\2\u0158\u0159\b\17\1"+
+		"\2\u0159\u015b\3\2\2\2\u015a\u010e\3\2\2\2\u015a\u011b\3\2\2\2\u015a\u0126"+
+		"\3\2\2\2\u015a\u0139\3\2\2\2\u015a\u013e\3\2\2\2\u015a\u0143\3\2\2\2\u015a"+
+		"\u0153\3\2\2\2\u015b\u015e\3\2\2\2\u015c\u015a\3\2\2\2\u015c\u015d\3\2"+
+		"\2\2\u015d\35\3\2\2\2\u015e\u015c\3\2\2\2\u015f\u0160\b\20\1\2\u0160\u0161"+
+		"\7\67\2\2\u0161\u0165\7\16\2\2\u0162\u0163\5 \21\2\u0163\u0164\b\20\1"+
+		"\2\u0164\u0166\3\2\2\2\u0165\u0162\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0167"+
+		"\3\2\2\2\u0167\u0168\7\17\2\2\u0168\u0169\b\20\1\2\u0169\37\3\2\2\2\u016a"+
+		"\u016b\b\21\1\2\u016b\u016c\5\34\17\2\u016c\u0173\b\21\1\2\u016d\u016e"+
+		"\7\25\2\2\u016e\u016f\5\34\17\2\u016f\u0170\b\21\1\2\u0170\u0172\3\2\2"+
+		"\2\u0171\u016d\3\2\2\2\u0172\u0175\3\2\2\2\u0173\u0171\3\2\2\2\u0173\u0174"+
+		"\3\2\2\2\u0174\u0176\3\2\2\2\u0175\u0173\3\2\2\2\u0176\u0177\b\21\1\2"+
+		"\u0177!\3\2\2\2\u0178\u0179\b\22\1\2\u0179\u017a\7\20\2\2\u017a\u017b"+
+		"\5&\24\2\u017b\u017c\b\22\1\2\u017c\u0183\7\27\2\2\u017d\u017e\5&\24\2"+
+		"\u017e\u017f\7\27\2\2\u017f\u0180\b\22\1\2\u0180\u0182\3\2\2\2\u0181\u017d"+
+		"\3\2\2\2\u0182\u0185\3\2\2\2\u0183\u0181\3\2\2\2\u0183\u0184\3\2\2\2\u0184"+
+		"\u0186\3\2\2\2\u0185\u0183\3\2\2\2\u0186\u0187\7\21\2\2\u0187\u0188\b"+
+		"\22\1\2\u0188\u018d\3\2\2\2\u0189\u018a\7\20\2\2\u018a\u018b\7\21\2\2"+
+		"\u018b\u018d\b\22\1\2\u018c\u0178\3\2\2\2\u018c\u0189\3\2\2\2\u018d#\3"+
+		"\2\2\2\u018e\u018f\7\16\2\2\u018f\u0190\5\34\17\2\u0190\u0191\7\26\2\2"+
+		"\u0191\u0192\5\24\13\2\u0192\u0193\7\17\2\2\u0193\u0194\b\23\1\2\u0194"+
+		"%\3\2\2\2\u0195\u0196\5(\25\2\u0196\u0197\b\24\1\2\u0197\u01a2\3\2\2\2"+
+		"\u0198\u0199\5*\26\2\u0199\u019a\b\24\1\2\u019a\u01a2\3\2\2\2\u019b\u019c"+
+		"\5,\27\2\u019c\u019d\b\24\1\2\u019d\u01a2\3\2\2\2\u019e\u019f\5.\30\2"+
+		"\u019f\u01a0\b\24\1\2\u01a0\u01a2\3\2\2\2\u01a1\u0195\3\2\2\2\u01a1\u0198"+
+		"\3\2\2\2\u01a1\u019b\3\2\2\2\u01a1\u019e\3\2\2\2\u01a2\'\3\2\2\2\u01a3"+
+		"\u01a4\5\34\17\2\u01a4\u01a5\b\25\1\2\u01a5)\3\2\2\2\u01a6\u01a7\5\34"+
+		"\17\2\u01a7\u01a8\7\'\2\2\u01a8\u01a9\5\34\17\2\u01a9\u01aa\b\26\1\2\u01aa"+
+		"+\3\2\2\2\u01ab\u01ac\7.\2\2\u01ac\u01ad\5\34\17\2\u01ad\u01ae\7\61\2"+
+		"\2\u01ae\u01af\5&\24\2\u01af\u01b0\7,\2\2\u01b0\u01b1\5&\24\2\u01b1\u01b2"+
+		"\b\27\1\2\u01b2-\3\2\2\2\u01b3\u01b4\7\66\2\2\u01b4\u01b5\5\34\17\2\u01b5"+
+		"\u01b6\7+\2\2\u01b6\u01b7\5&\24\2\u01b7\u01b8\b\30\1\2\u01b8/\3\2\2\2"+
+		"\35:GT^gou\u0084\u0094\u009a\u00b8\u00d2\u00db\u0107\u010c\u0116\u0121"+
+		"\u0134\u014e\u0151\u015a\u015c\u0165\u0173\u0183\u018c\u01a1";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
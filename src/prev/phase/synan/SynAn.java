@@ -1,8 +1,11 @@
 package prev.phase.synan;
 
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.misc.*;
 import org.antlr.v4.runtime.tree.*;
 
+import prev.Compilation;
 import prev.common.report.*;
 import prev.data.sym.Token;
 import prev.phase.*;
@@ -13,30 +16,158 @@ import prev.phase.lexan.*;
  */
 public class SynAn extends Phase {
 	
-	// === STATIC ===
-
-	/** The parse tree. */
-	public static PrevParser.SourceContext tree;
-	
-	// ==============
-	
 	/** The ANTLR parser that actually performs syntax analysis. */
 	public final PrevParser parser;
 
+	/** The lexical analysis the parser reads tokens from. */
+	private final LexAn lexan;
+
+	/** The error listener reporting syntax errors. */
+	private final ANTLRErrorListener errorListener = new BaseErrorListener() {
+		public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+				int charPositionInLine, String msg, RecognitionException e) {
+			throw new Report.Error(new Location(line, charPositionInLine),
+					"Unexpected symbol '" + ((Token) offendingSymbol).getText() + "'.");
+		}
+	};
+
+	/**
+	 * The error strategy reporting a missing semicolon, {@code then}, {@code else}
+	 * or {@code do} where the current token cannot be matched or starts no viable
+	 * alternative but one of them could follow; other syntax errors are reported
+	 * by the error listener. The grammar does not contain productions for these
+	 * errors, so that valid programs can be parsed using SLL prediction.
+	 */
+	private static class ErrorStrategy extends DefaultErrorStrategy {
+
+		/**
+		 * Reports a missing semicolon, {@code then}, {@code else} or {@code do} if
+		 * one of them is expected instead of the current token.
+		 *
+		 * @param recognizer The parser.
+		 */
+		private void reportMissingTerminator(Parser recognizer) {
+			Token token = (Token) recognizer.getCurrentToken();
+			if (token.getType() == Token.EOF)
+				return;
+			IntervalSet expecting = recognizer.getExpectedTokens();
+			String expected = null;
+			if (expecting.contains(PrevParser.SEMI))
+				expected = "Semi colon";
+			else if (expecting.contains(PrevParser.THEN))
+				expected = "then";
+			else if (expecting.contains(PrevParser.ELSE))
+				expected = "else";
+			else if (expecting.contains(PrevParser.DO))
+				expected = "do";
+			if (expected != null)
+				throw new Report.Error(Location.of(token.position()),
+						token.getText() + " : " + expected + " expected");
+		}
+
+		@Override
+		public org.antlr.v4.runtime.Token recoverInline(Parser recognizer) throws RecognitionException {
+			reportMissingTerminator(recognizer);
+			return super.recoverInline(recognizer);
+		}
+
+		@Override
+		protected void reportNoViableAlternative(Parser recognizer, NoViableAltException e) {
+			if (e.getOffendingToken() == e.getStartToken())
+				reportMissingTerminator(recognizer);
+			super.reportNoViableAlternative(recognizer, e);
+		}
+
+	}
+
+	/**
+	 * The prediction of alternatives that does not give up on a syntax error past
+	 * the first token of a decision. As such a decision is made by looking ahead
+	 * to the end of a (possibly nested) construct, the alternative that has been
+	 * viable the longest is predicted instead, so that the syntax error is
+	 * reported by the innermost decision or token it occurs at.
+	 */
+	private static class Interpreter extends ParserATNSimulator {
+
+		public Interpreter(Parser parser) {
+			super(parser, parser.getATN(), parser.getInterpreter().decisionToDFA,
+					new PredictionContextCache());
+		}
+
+		@Override
+		public int adaptivePredict(TokenStream input, int decision, ParserRuleContext outerContext) {
+			try {
+				return super.adaptivePredict(input, decision, outerContext);
+			} catch (NoViableAltException e) {
+				if (e.getOffendingToken() == e.getStartToken())
+					throw e;
+				return e.getDeadEndConfigs().getAlts().nextSetBit(0);
+			}
+		}
+
+	}
+
 	/**
 	 * Phase construction: sets up logging and the ANTLR lexer and parser.
+	 *
+	 * The parse tree is built only if syntax analysis is being logged; otherwise
+	 * the grammar actions build the abstract syntax tree alone and contexts of
+	 * rules become garbage as soon as their rules are parsed.
 	 */
 	public SynAn(LexAn lexan) {
 		super("synan");
-		parser = new PrevParser(new CommonTokenStream(lexan.lexer));
+		this.lexan = lexan;
+		parser = new PrevParser(lexan.tokens);
+		parser.setInterpreter(new Interpreter(parser));
+		parser.setBuildParseTree(logger != null);
 		parser.removeErrorListeners();
-		parser.addErrorListener(new BaseErrorListener() {
-			public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
-					int charPositionInLine, String msg, RecognitionException e) {
-				throw new Report.Error(new Location(line, charPositionInLine),
-						"Unexpected symbol '" + ((Token) offendingSymbol).getText() + "'.");
+		parser.addErrorListener(errorListener);
+		parser.setErrorHandler(new ErrorStrategy());
+	}
+
+	/**
+	 * Parses the source file.
+	 *
+	 * The source file is first parsed using the faster SLL prediction without
+	 * any error recovery or reporting. Only if this fails (due to an error in the
+	 * source file or due to SLL prediction being too weak), the nodes and
+	 * locations created by the first parse are dropped and the source file is
+	 * parsed again from its first token using full LL prediction, which reports
+	 * errors exactly as if it were the only one; the source file is lexed again
+	 * only if not all of its tokens have been read without an error. The first
+	 * parse is skipped if lexical or syntax analysis is being logged.
+	 *
+	 * @return The parse tree (containing the abstract syntax tree).
+	 */
+	public PrevParser.SourceContext parse() {
+		Compilation compilation = Compilation.current();
+		if (logger == null && lexan.logger == null) {
+			int numNodes = compilation.numNodes;
+			int numLocations = compilation.locations.size();
+			parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			parser.removeErrorListeners();
+			parser.setErrorHandler(new BailErrorStrategy());
+			compilation.reporting = false;
+			try {
+				return parser.source();
+			} catch (ParseCancellationException | Report.Error __) {
+			} finally {
+				compilation.reporting = true;
 			}
-		});
+
+			// Start all over again.
+			compilation.numNodes = numNodes;
+			compilation.locations.setSize(numLocations);
+			if (lexan.tokens.filled())
+				lexan.tokens.seek(0);
+			else
+				lexan.reset();
+			parser.setTokenStream(lexan.tokens);
+			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			parser.setErrorHandler(new ErrorStrategy());
+			parser.addErrorListener(errorListener);
+		}
+		return parser.source();
 	}
 
 	/**